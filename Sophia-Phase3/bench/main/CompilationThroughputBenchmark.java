@@ -0,0 +1,97 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//compiles the .sop programs under a directory, or the files given, over and over on pools of 1, 2, 4... threads up to
+//the number of cores, and prints how many compilations a second each pool gets through and how that scales against
+//one thread; every compilation has to print what the same program prints when it is compiled alone.
+//usage: CompilationThroughputBenchmark <directory or file>... [--compilations n] [--warmup n] [--threads n]
+public class CompilationThroughputBenchmark {
+    public static void main(String[] args) throws Exception {
+        int compilations = 10000;
+        int warmUpCompilations = 20000;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--compilations") && i + 1 < args.length)
+                compilations = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--warmup") && i + 1 < args.length)
+                warmUpCompilations = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--threads") && i + 1 < args.length)
+                maxThreads = Integer.parseInt(args[++i]);
+            else if (Files.isDirectory(Paths.get(args[i])))
+                try (Stream<Path> paths = Files.walk(Paths.get(args[i]))) {
+                    files.addAll(paths.filter(file -> file.toString().endsWith(".sop")).sorted().collect(Collectors.toList()));
+                }
+            else
+                files.add(Paths.get(args[i]));
+        }
+
+        List<String> texts = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (Path file : files) {
+            String text = new String(Files.readAllBytes(file));
+            texts.add(text);
+            expected.add(compile(text));
+        }
+
+        System.out.printf("%d cores, %d programs%n", Runtime.getRuntime().availableProcessors(), texts.size());
+        System.out.printf("%-8s %14s %8s %11s%n", "threads", "compilations/s", "speedup", "efficiency");
+        //the first pool measured would otherwise also pay for most of the JIT compilation
+        ExecutorService warmUpPool = Executors.newFixedThreadPool(maxThreads);
+        try {
+            run(warmUpPool, texts, expected, warmUpCompilations);
+        } finally {
+            warmUpPool.shutdown();
+        }
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                run(pool, texts, expected, warmUpCompilations / 10);
+                long start = System.nanoTime();
+                run(pool, texts, expected, compilations);
+                double perSecond = compilations / ((System.nanoTime() - start) / 1e9);
+                if (threads == 1)
+                    single = perSecond;
+                System.out.printf("%-8d %14.1f %7.2fx %10.0f%%%n", threads, perSecond, perSecond / single,
+                        100 * perSecond / single / threads);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    //runs compilations compilations of the programs in turn on the pool and checks what each of them printed
+    private static void run(ExecutorService pool, List<String> texts, List<String> expected, int compilations) throws Exception {
+        List<Future<String>> outputs = new ArrayList<>();
+        for (int i = 0; i < compilations; i++) {
+            String text = texts.get(i % texts.size());
+            outputs.add(pool.submit(() -> compile(text)));
+        }
+        for (int i = 0; i < compilations; i++)
+            if (!outputs.get(i).get().equals(expected.get(i % texts.size())))
+                throw new IllegalStateException("a compilation printed something else when it ran next to others");
+    }
+
+    private static String compile(String text) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true);
+        new SophiaCompiler(out, out).compile(CharStreams.fromString(text));
+        return output.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package main;
+
+import main.compileErrorException.typeErrors.UnsupportedOperandType;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+//checks a generated program in which every statement has a type error, and prints how many diagnostics a second that
+//gets through; then prints what creating a diagnostic costs now and what it cost while every one captured a stack
+//trace, at the depth the type checker creates them at, and what the check would take with stack traces.
+//usage: DiagnosticBenchmark [--statements n] [--runs n] [--warmup n] [--depth n]
+public class DiagnosticBenchmark {
+    public static void main(String[] args) {
+        int statements = 20000;
+        int runs = 10;
+        int warmUpRuns = 10;
+        //the type checker is 20 to 30 frames deep when it reports a diagnostic
+        int depth = 25;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--statements"))
+                statements = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--runs"))
+                runs = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--warmup"))
+                warmUpRuns = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--depth"))
+                depth = Integer.parseInt(args[++i]);
+        }
+
+        StringBuilder text = new StringBuilder("class Main {\n  def Main() {\n    x: int;\n");
+        for (int i = 0; i < statements; i++) {
+            if (i % 3 == 0)
+                text.append("    x = u").append(i).append(";\n");
+            else if (i % 3 == 1)
+                text.append("    x = true;\n");
+            else
+                text.append("    x = x + \"s\";\n");
+        }
+        text.append("  }\n}\n");
+        String program = text.toString();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new SophiaCompiler().analyze(CharStreams.fromString(program), new PrintStream(output, true));
+        long diagnostics = output.toString().lines().count();
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        double[] times = new double[runs];
+        for (int run = -warmUpRuns; run < runs; run++) {
+            long start = System.nanoTime();
+            new SophiaCompiler(discard, discard).analyze(CharStreams.fromString(program), discard);
+            if (run >= 0)
+                times[run] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(times);
+        double check = times[runs / 2];
+
+        int created = 200000;
+        double[] stackless = new double[runs];
+        double[] capturing = new double[runs];
+        for (int run = -warmUpRuns; run < runs; run++) {
+            long start = System.nanoTime();
+            create(depth, created, false);
+            long middle = System.nanoTime();
+            create(depth, created, true);
+            long end = System.nanoTime();
+            if (run >= 0) {
+                stackless[run] = (double) (middle - start) / created;
+                capturing[run] = (double) (end - middle) / created;
+            }
+        }
+        Arrays.sort(stackless);
+        Arrays.sort(capturing);
+        double extra = diagnostics * (capturing[runs / 2] - stackless[runs / 2]) / 1e6;
+
+        System.out.printf("%d statements, %d diagnostics%n", statements, diagnostics);
+        System.out.printf("%-24s %10.2f ms %12.0f diagnostics/s%n", "check", check, diagnostics / (check / 1e3));
+        System.out.printf("%-24s %10.2f ms %12.0f diagnostics/s%n", "check with stack traces", check + extra,
+                diagnostics / ((check + extra) / 1e3));
+        System.out.printf("%-24s %10.1f ns%n", "stackless diagnostic", stackless[runs / 2]);
+        System.out.printf("%-24s %10.1f ns %7.1fx%n", "stack capturing", capturing[runs / 2], capturing[runs / 2] / stackless[runs / 2]);
+    }
+
+    //creates count diagnostics from depth frames down
+    private static void create(int depth, int count, boolean captureStackTrace) {
+        if (depth > 0) {
+            create(depth - 1, count, captureStackTrace);
+            return;
+        }
+        int lines = 0;
+        for (int i = 0; i < count; i++)
+            lines += captureStackTrace ? new StackCapturing(i).getLine() : new UnsupportedOperandType(i, "assign").getLine();
+        if (lines == 1)
+            System.out.println();
+    }
+
+    //a diagnostic as they were before they skipped the stack trace
+    private static class StackCapturing extends Exception {
+        private final int line;
+        private final String message;
+
+        StackCapturing(int line) {
+            this.line = line;
+            this.message = "Unsupported operand type for operator assign";
+        }
+
+        int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return "Line:" + this.line + ":" + this.message;
+        }
+    }
+}
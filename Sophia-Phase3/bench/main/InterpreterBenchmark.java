@@ -0,0 +1,86 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//runs each .sop program under a directory, or each file given, on the naive interpreter, on Interpreter, on
+//VirtualMachine and as class files, and prints the median time of a run on each after some warm up runs, and how many
+//times faster than the naive interpreter the other two interpreters are; the runs of a program have to print the
+//same on all four. usage: InterpreterBenchmark <directory or file>... [--runs n] [--warmup n]
+public class InterpreterBenchmark {
+    private static final SophiaCompiler.Execution[] EXECUTIONS = {
+            SophiaCompiler.Execution.NAIVE_INTERPRETER,
+            SophiaCompiler.Execution.INTERPRETER,
+            SophiaCompiler.Execution.VM,
+            SophiaCompiler.Execution.JVM
+    };
+
+    public static void main(String[] args) throws IOException {
+        int runs = 10;
+        int warmUpRuns = 20;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--runs") && i + 1 < args.length)
+                runs = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--warmup") && i + 1 < args.length)
+                warmUpRuns = Integer.parseInt(args[++i]);
+            else if (Files.isDirectory(Paths.get(args[i])))
+                try (Stream<Path> paths = Files.walk(Paths.get(args[i]))) {
+                    files.addAll(paths.filter(file -> file.toString().endsWith(".sop")).sorted().collect(Collectors.toList()));
+                }
+            else
+                files.add(Paths.get(args[i]));
+        }
+
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        System.out.printf("%-20s %12s %12s %8s %12s %8s %12s%n", "program", "naive ms", "nodes ms", "speedup", "vm ms", "speedup", "jvm ms");
+        for (Path file : files) {
+            CompiledProgram compiledProgram = new SophiaCompiler(discard, discard).analyze(CharStreams.fromPath(file), discard);
+            if (!compiledProgram.isSuccessful()) {
+                System.out.printf("%-20s does not compile%n", file.getFileName());
+                continue;
+            }
+            double[] medians = new double[EXECUTIONS.length];
+            String expected = null;
+            for (int e = 0; e < EXECUTIONS.length; e++) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                if (!run(compiledProgram, EXECUTIONS[e], new PrintStream(output, true)))
+                    throw new IllegalStateException(file + " fails on " + EXECUTIONS[e]);
+                if (expected == null)
+                    expected = output.toString();
+                else if (!expected.equals(output.toString()))
+                    throw new IllegalStateException(file + " prints something else on " + EXECUTIONS[e]);
+                for (int i = 0; i < warmUpRuns; i++)
+                    run(compiledProgram, EXECUTIONS[e], discard);
+                double[] times = new double[runs];
+                for (int i = 0; i < runs; i++) {
+                    long start = System.nanoTime();
+                    run(compiledProgram, EXECUTIONS[e], discard);
+                    times[i] = (System.nanoTime() - start) / 1e6;
+                }
+                Arrays.sort(times);
+                medians[e] = times[runs / 2];
+            }
+            System.out.printf("%-20s %12.2f %12.2f %7.1fx %12.2f %7.1fx %12.2f%n", file.getFileName(), medians[0], medians[1],
+                    medians[0] / medians[1], medians[2], medians[0] / medians[2], medians[3]);
+        }
+    }
+
+    private static boolean run(CompiledProgram compiledProgram, SophiaCompiler.Execution execution, PrintStream out) {
+        SophiaCompiler sophiaCompiler = new SophiaCompiler(out, System.err);
+        sophiaCompiler.setExecution(execution);
+        return sophiaCompiler.execute(compiledProgram);
+    }
+}
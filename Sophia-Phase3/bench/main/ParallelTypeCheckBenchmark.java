@@ -0,0 +1,78 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+//checks a generated program of many classes, some with type errors, one class after another and on the common
+//ForkJoinPool, and prints the median time of each and the speedup; both have to print the same diagnostics in the same
+//order. the size of the pool is set with -Djava.util.concurrent.ForkJoinPool.common.parallelism=n.
+//usage: ParallelTypeCheckBenchmark [--classes n] [--runs n] [--warmup n]
+public class ParallelTypeCheckBenchmark {
+    public static void main(String[] args) {
+        int classes = 5000;
+        int runs = 10;
+        int warmUpRuns = 5;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--classes"))
+                classes = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--runs"))
+                runs = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--warmup"))
+                warmUpRuns = Integer.parseInt(args[++i]);
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < classes; i++) {
+            text.append("class K").append(i);
+            if (i % 10 != 0)
+                text.append(" extends K").append(i - 1);
+            text.append(" {\n  f").append(i).append(": int;\n");
+            text.append("  l").append(i).append(": list(int, string);\n");
+            text.append("  def int m").append(i).append("(a: int) {\n    b: int;\n    j: int;\n    b = a + f").append(i).append(";\n");
+            text.append("    if (b > 3)\n      b = b * 2;\n");
+            text.append("    for (j = 0; j < b; j = j + 1)\n      b = b - l").append(i).append("[0];\n");
+            if (i % 100 == 0)
+                text.append("    b = true;\n");
+            text.append("    return b;\n  }\n");
+            text.append("  def int n").append(i).append("() {\n    k: K").append(i).append(";\n    k = new K").append(i)
+                    .append("();\n    return k.m").append(i).append("(f").append(i).append(") + 1;\n  }\n}\n");
+        }
+        text.append("class Main {\n  def Main() {\n    print(1);\n  }\n}\n");
+        String program = text.toString();
+
+        String expected = null;
+        double[] medians = new double[2];
+        for (int parallel = 0; parallel < 2; parallel++) {
+            SophiaCompiler check = new SophiaCompiler();
+            check.setParallel(parallel == 1);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            check.analyze(CharStreams.fromString(program), new PrintStream(output, true));
+            if (expected == null)
+                expected = output.toString();
+            else if (!expected.equals(output.toString()))
+                throw new IllegalStateException("the parallel check printed something else");
+
+            PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+            SophiaCompiler sophiaCompiler = new SophiaCompiler(discard, discard);
+            sophiaCompiler.setParallel(parallel == 1);
+            double[] times = new double[runs];
+            for (int run = -warmUpRuns; run < runs; run++) {
+                long start = System.nanoTime();
+                sophiaCompiler.analyze(CharStreams.fromString(program), discard);
+                if (run >= 0)
+                    times[run] = (System.nanoTime() - start) / 1e6;
+            }
+            Arrays.sort(times);
+            medians[parallel] = times[runs / 2];
+        }
+        System.out.printf("%d classes, %d diagnostics, %d cores, pool of %d%n", classes, expected.lines().count(),
+                Runtime.getRuntime().availableProcessors(), ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%-12s %10.2f ms%n", "sequential", medians[0]);
+        System.out.printf("%-12s %10.2f ms %7.2fx%n", "parallel", medians[1], medians[0] / medians[1]);
+    }
+}
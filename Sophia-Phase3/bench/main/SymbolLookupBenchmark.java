@@ -0,0 +1,140 @@
+package main;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.single.IntType;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.exceptions.ItemAlreadyExistsException;
+import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.LocalVariableSymbolTableItem;
+import main.symbolTable.utils.symbol.Symbol;
+
+import java.util.*;
+
+//resolves identifiers in a method of a class at the bottom of an inheritance chain, the way the type checker resolved
+//them before SymbolTable.lookup (getItem once per kind, each miss throwing, each call with a fresh visited set) and the
+//way it does now (a single SymbolTable.resolve), and prints the median cost of a resolution on each.
+//usage: SymbolLookupBenchmark [--depth n] [--names n] [--rounds n] [--warmup n]
+public class SymbolLookupBenchmark {
+    public static void main(String[] args) throws ItemAlreadyExistsException {
+        int depth = 4;
+        int names = 10;
+        int rounds = 20;
+        int warmUpRounds = 20;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals("--depth"))
+                depth = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--names"))
+                names = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--rounds"))
+                rounds = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--warmup"))
+                warmUpRounds = Integer.parseInt(args[++i]);
+        }
+
+        //root holds the classes, then one table a class down to the method, as NameCollector chains them
+        SymbolTable root = new SymbolTable();
+        OldTable oldRoot = new OldTable(null);
+        List<String> identifiers = new ArrayList<>();
+        for (int i = 0; i < names; i++) {
+            String name = "C" + i;
+            root.put(new ClassSymbolTableItem(new ClassDeclaration(new Identifier(name))));
+            oldRoot.items.put("Class_" + name, name);
+            identifiers.add(name);
+        }
+        SymbolTable top = root;
+        OldTable oldTop = oldRoot;
+        for (int level = 0; level < depth; level++) {
+            top = new SymbolTable(top);
+            oldTop = new OldTable(oldTop);
+            for (int i = 0; i < names; i++) {
+                String name = "f" + level + "_" + i;
+                top.put(new FieldSymbolTableItem(new FieldDeclaration(new VarDeclaration(new Identifier(name), IntType.INSTANCE))));
+                oldTop.items.put("Field_" + name, name);
+                identifiers.add(name);
+            }
+        }
+        top = new SymbolTable(top);
+        oldTop = new OldTable(oldTop);
+        for (int i = 0; i < names; i++) {
+            String name = "l" + i;
+            top.put(new LocalVariableSymbolTableItem(new VarDeclaration(new Identifier(name), IntType.INSTANCE)));
+            oldTop.items.put("Var_" + name, name);
+            identifiers.add(name);
+        }
+        //identifiers hold their symbol from the parser on, so only the throwing path builds keys per lookup
+        String[] oldNames = identifiers.toArray(new String[0]);
+        Symbol[] symbols = new Symbol[oldNames.length];
+        for (int i = 0; i < symbols.length; i++)
+            symbols[i] = Symbol.of(oldNames[i]);
+
+        int resolutions = 200000;
+        double[] throwing = new double[rounds];
+        double[] lookups = new double[rounds];
+        int found = 0;
+        for (int round = -warmUpRounds; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < resolutions; i++)
+                if (resolveThrowing(oldTop, oldNames[i % oldNames.length]) != null)
+                    found++;
+            long middle = System.nanoTime();
+            for (int i = 0; i < resolutions; i++)
+                if (top.resolve(symbols[i % symbols.length]) != null)
+                    found++;
+            long end = System.nanoTime();
+            if (round >= 0) {
+                throwing[round] = (double) (middle - start) / resolutions;
+                lookups[round] = (double) (end - middle) / resolutions;
+            }
+        }
+        if (found != 2 * (warmUpRounds + rounds) * resolutions)
+            throw new IllegalStateException("an identifier was not resolved");
+        Arrays.sort(throwing);
+        Arrays.sort(lookups);
+        System.out.printf("%d identifiers, %d tables deep%n", oldNames.length, depth + 2);
+        System.out.printf("%-10s %12s%n", "path", "ns/resolve");
+        System.out.printf("%-10s %12.1f%n", "getItem", throwing[rounds / 2]);
+        System.out.printf("%-10s %12.1f %7.1fx%n", "resolve", lookups[rounds / 2], throwing[rounds / 2] / lookups[rounds / 2]);
+    }
+
+    //what ExpressionTypeChecker.visit(Identifier) did: class, field, local variable, then method
+    private static Object resolveThrowing(OldTable top, String name) {
+        for (String prefix : new String[]{"Class_", "Field_", "Var_", "Method_"})
+            try {
+                return top.getItem(prefix + name, true);
+            } catch (ItemNotFoundException ignored) {
+            }
+        return null;
+    }
+
+    //the symbol table as it was: one map of prefixed string keys a table and a visited set a lookup
+    private static class OldTable {
+        private final OldTable pre;
+        private final Map<String, Object> items = new HashMap<>();
+
+        OldTable(OldTable pre) {
+            this.pre = pre;
+        }
+
+        Object getItem(String key, Boolean searchCurrent) throws ItemNotFoundException {
+            Set<OldTable> visitedSymbolTables = new HashSet<>();
+            OldTable currentSymbolTable = this;
+            if (!searchCurrent) {
+                visitedSymbolTables.add(this);
+                currentSymbolTable = this.pre;
+            }
+            while ((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
+                visitedSymbolTables.add(currentSymbolTable);
+                Object symbolTableItem = currentSymbolTable.items.get(key);
+                if (symbolTableItem != null)
+                    return symbolTableItem;
+                currentSymbolTable = currentSymbolTable.pre;
+            }
+            throw new ItemNotFoundException();
+        }
+    }
+}
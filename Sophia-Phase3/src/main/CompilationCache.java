@@ -0,0 +1,115 @@
+package main;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//compiled programs kept in a directory across runs, one file per source text and compiler build
+public class CompilationCache {
+    //a digest of the class files of the compiler and of the antlr runtime it parses with, taken once per run,
+    //so that any rebuild that could change what is printed or serialized starts from an empty cache;
+    //null when they cannot be read, and then nothing is cached
+    private static final byte[] BUILD = digestOf(SophiaCompiler.class, CharStream.class);
+
+    private final Path directory;
+
+    public CompilationCache(Path directory) {
+        this.directory = directory;
+    }
+
+    //null when the build could not be digested
+    public String keyOf(CharStream textStream) {
+        if (BUILD == null)
+            return null;
+        MessageDigest digest = newDigest();
+        digest.update(BUILD);
+        digest.update(textStream.getText(Interval.of(0, textStream.size() - 1)).getBytes(StandardCharsets.UTF_8));
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest())
+            key.append(String.format("%02x", b));
+        return key.toString();
+    }
+
+    private static byte[] digestOf(Class<?>... classes) {
+        MessageDigest digest = newDigest();
+        try {
+            for (Class<?> loaded : classes) {
+                CodeSource codeSource = loaded.getProtectionDomain().getCodeSource();
+                if (codeSource == null || codeSource.getLocation() == null)
+                    return null;
+                Path location = Paths.get(codeSource.getLocation().toURI());
+                if (Files.isDirectory(location)) {
+                    List<Path> files;
+                    try (Stream<Path> paths = Files.walk(location)) {
+                        files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                    }
+                    for (Path file : files) {
+                        digest.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) 0);
+                        digest.update(Files.readAllBytes(file));
+                    }
+                } else {
+                    digest.update(Files.readAllBytes(location));
+                }
+                digest.update((byte) 0);
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException | SecurityException e) {
+            return null;
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //returns null when there is no usable entry for key
+    public CompiledProgram load(String key) {
+        Path file = directory.resolve(key);
+        if (!Files.isRegularFile(file))
+            return null;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file), 65536)))) {
+            return (CompiledProgram) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            //written by a build whose classes differ, or damaged: compile again and overwrite it
+            return null;
+        }
+    }
+
+    //a cache that cannot be written only costs the next run its hit, so failures are not reported
+    public void store(String key, CompiledProgram compiledProgram) {
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, key, ".tmp");
+            try {
+                try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary), 65536)))) {
+                    out.writeObject(compiledProgram);
+                }
+                //readers never see a half written entry
+                Files.move(temporary, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package main;
+
+import main.ast.types.TypeInterner;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.stack.Stack;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.utils.ErrorReporter;
+
+import java.util.Set;
+
+//one per compilation, so several compilations can run side by side in one JVM
+public class CompilationContext {
+    private SymbolTable top;
+    private SymbolTable root;
+    private Stack<SymbolTable> stack = new Stack<>();
+    private final TypeInterner typeInterner;
+    private final ErrorReporter errorReporter;
+    //names resolved while type checking, collected only when someone asked for them
+    private Set<Symbol> references;
+
+    public CompilationContext() {
+        this(new ErrorReporter());
+    }
+
+    public CompilationContext(ErrorReporter errorReporter) {
+        this(errorReporter, new TypeInterner());
+    }
+
+    private CompilationContext(ErrorReporter errorReporter, TypeInterner typeInterner) {
+        this.errorReporter = errorReporter;
+        this.typeInterner = typeInterner;
+    }
+
+    //a context for a task running on another thread: it shares the symbol tables and types of this one,
+    //but has its own scope stack and a forked error reporter
+    public CompilationContext fork() {
+        CompilationContext forked = new CompilationContext(errorReporter.fork(), typeInterner);
+        forked.root = root;
+        forked.top = top;
+        return forked;
+    }
+
+    public void push(SymbolTable symbolTable) {
+        if (top != null)
+            stack.push(top);
+        top = symbolTable;
+    }
+
+    public void pop() {
+        top = stack.pop();
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public void setTop(SymbolTable top) {
+        this.top = top;
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    public void setRoot(SymbolTable root) {
+        this.root = root;
+    }
+
+    public TypeInterner getTypeInterner() {
+        return typeInterner;
+    }
+
+    public ErrorReporter getErrorReporter() {
+        return errorReporter;
+    }
+
+    //starts collecting every name resolved from here on into references; a forked context collects nothing
+    public void recordReferences(Set<Symbol> references) {
+        this.references = references;
+    }
+
+    public void recordReference(Symbol name) {
+        if (references != null)
+            references.add(name);
+    }
+}
@@ -0,0 +1,143 @@
+package main;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.dfa.DFA;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//a compiler that stays up between compilations: the lexer and parser DFA caches are static and the JIT keeps its work,
+//so once a few files went through (or a warm up corpus did), every compilation runs warm.
+//requests are lines, each answered by its output and then a line "end <status>":
+//  compile <file>   what the compiler prints; status 0 when the program compiles, 1 when it has errors
+//  check <file>     what compile prints, compiled incrementally from the last check of the same file: classes whose
+//                   text did not change are not parsed again, and replay their diagnostics unless an edit affects them
+//  run <file>       compiles the file and, when it compiles, runs it in the daemon's JVM the way the daemon was told to
+//                   run programs, or as class files; status 1 also when it throws
+//  stats            the number of DFA states and the heap in use
+//  clear-dfa        drops the DFA caches, which only ever grow; later files rebuild what they need
+//  shutdown         stops the daemon once the request is answered
+//status 2 means the request itself failed
+public class CompileDaemon {
+    private final SophiaCompiler sophiaCompiler;
+    private final boolean mapped;
+    //only used to reach the shared DFA caches
+    private final SophiaLexer sophiaLexer = new SophiaLexer(null);
+    private final SophiaParser sophiaParser = new SophiaParser(null);
+    //the state of the check requests of each file
+    private final Map<String, IncrementalCompiler> incrementalCompilers = new HashMap<>();
+    private boolean running = true;
+
+    //compilations use the settings of sophiaCompiler; mapped reads sources through MappedCharStream
+    public CompileDaemon(SophiaCompiler sophiaCompiler, boolean mapped) {
+        this.sophiaCompiler = sophiaCompiler;
+        this.mapped = mapped;
+    }
+
+    //compiles every .sop file under path, throwing the output away; the cache is bypassed so that files really get parsed
+    public int warmUp(Path path) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(path)) {
+            files = paths.filter(file -> file.toString().endsWith(".sop")).sorted().collect(Collectors.toList());
+        }
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        SophiaCompiler warmUpCompiler = sophiaCompiler.withOutput(discard, discard);
+        warmUpCompiler.setCache(null);
+        for (Path file : files) {
+            try {
+                warmUpCompiler.compile(open(file.toString()));
+            } catch (IOException | RuntimeException ignored) {
+            }
+        }
+        return files.size();
+    }
+
+    //answers requests until the input ends or a shutdown request
+    public void serve(BufferedReader in, PrintStream out) throws IOException {
+        String request;
+        while (running && (request = in.readLine()) != null) {
+            request = request.trim();
+            if (request.isEmpty())
+                continue;
+            out.println("end " + handle(request, out));
+            out.flush();
+        }
+    }
+
+    //serves one local connection at a time on port
+    public void serve(int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            while (running) {
+                try (Socket socket = serverSocket.accept()) {
+                    serve(new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)),
+                            new PrintStream(socket.getOutputStream(), false, StandardCharsets.UTF_8));
+                } catch (IOException ignored) {
+                    //the client went away, wait for the next one
+                }
+            }
+        }
+    }
+
+    private int handle(String request, PrintStream out) {
+        if (request.startsWith("compile ") || request.startsWith("check ") || request.startsWith("run ")) {
+            String fileName = request.substring(request.indexOf(' ') + 1).trim();
+            try {
+                SophiaCompiler requestCompiler = sophiaCompiler.withOutput(out, out);
+                if (request.startsWith("check "))
+                    requestCompiler.setIncrementalCompiler(incrementalCompilers.computeIfAbsent(fileName, name -> new IncrementalCompiler()));
+                if (!request.startsWith("run "))
+                    requestCompiler.setExecution(SophiaCompiler.Execution.NONE);
+                else if (sophiaCompiler.getExecution() == SophiaCompiler.Execution.NONE)
+                    requestCompiler.setExecution(SophiaCompiler.Execution.JVM);
+                return requestCompiler.compile(open(fileName)) ? 0 : 1;
+            } catch (IOException | RuntimeException e) {
+                out.println("error " + e);
+                return 2;
+            }
+        }
+        if (request.equals("stats")) {
+            Runtime runtime = Runtime.getRuntime();
+            out.println("dfa-states " + countDFAStates());
+            out.println("heap-used-mb " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+            return 0;
+        }
+        if (request.equals("clear-dfa")) {
+            out.println("cleared-dfa-states " + countDFAStates());
+            sophiaLexer.getInterpreter().clearDFA();
+            sophiaParser.getInterpreter().clearDFA();
+            return 0;
+        }
+        if (request.equals("shutdown")) {
+            running = false;
+            return 0;
+        }
+        out.println("error unknown request " + request);
+        return 2;
+    }
+
+    private CharStream open(String fileName) throws IOException {
+        return mapped ? MappedCharStream.fromFileName(fileName) : CharStreams.fromFileName(fileName);
+    }
+
+    private int countDFAStates() {
+        int states = 0;
+        for (DFA dfa : sophiaLexer.getInterpreter().decisionToDFA)
+            states += dfa.states.size();
+        for (DFA dfa : sophiaParser.getInterpreter().decisionToDFA)
+            states += dfa.states.size();
+        return states;
+    }
+}
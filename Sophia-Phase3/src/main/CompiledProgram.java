@@ -0,0 +1,73 @@
+package main;
+
+import main.ast.nodes.Program;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.graph.Graph;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+//what compiling one source text gives: the analyzed program with its symbol tables and class hierarchy,
+//and everything the compilation printed
+public class CompiledProgram implements Serializable {
+    //this and every class it reaches stays at serialVersionUID 1: a cache entry is keyed by a digest of the
+    //compiler's class files, so it is only ever read back by the build that wrote it
+    private static final long serialVersionUID = 1L;
+
+    private final Program program;
+    //written with SymbolTable.writeTree
+    private transient SymbolTable root;
+    private final Graph<String> classHierarchy;
+    private final boolean successful;
+    private String output;
+    //set when the lexer or parser reported errors; those go to stderr and are not part of output
+    private final transient boolean hasSyntaxErrors;
+
+    public CompiledProgram(Program program, SymbolTable root, Graph<String> classHierarchy, boolean successful, boolean hasSyntaxErrors) {
+        this.program = program;
+        this.root = root;
+        this.classHierarchy = classHierarchy;
+        this.successful = successful;
+        this.hasSyntaxErrors = hasSyntaxErrors;
+    }
+
+    public Program getProgram() {
+        return program;
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    public Graph<String> getClassHierarchy() {
+        return classHierarchy;
+    }
+
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    public boolean hasSyntaxErrors() {
+        return hasSyntaxErrors;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        SymbolTable.writeTree(root, out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        root = SymbolTable.readTree(in);
+    }
+}
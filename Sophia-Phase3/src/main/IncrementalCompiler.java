@@ -0,0 +1,254 @@
+package main;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.types.Type;
+import main.ast.types.TypeInterner;
+import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.TypeChecker;
+import main.visitor.utils.ErrorReporter;
+import main.visitor.utils.LineShifter;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.Interval;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.PrintStream;
+import java.util.*;
+
+//compiles successive versions of one program, redoing only the work an edit can have changed:
+//classes whose source text did not change keep their tree (moved to their new lines) instead of being parsed again,
+//and classes whose type checking cannot have changed replay their diagnostics from the last compilation.
+//name analysis only walks declarations and runs on the whole program every time.
+public class IncrementalCompiler {
+    //the classes of the last compilation, in declaration order
+    private List<CachedClass> cachedClasses = new ArrayList<>();
+    //names and parent names of the classes of the last program that was type checked
+    private List<String> checkedShape;
+
+    //compiles the next version of the program, printing where compiler prints;
+    //returns false when the program has compile errors
+    public boolean compile(CharStream textStream, SophiaCompiler compiler) {
+        List<CachedClass> classes = parseClasses(textStream);
+        if (classes == null) {
+            //let a normal compilation with the settings of compiler report the syntax errors, and start over after it
+            cachedClasses = new ArrayList<>();
+            checkedShape = null;
+            textStream.seek(0);
+            return compiler.checker().compile(textStream);
+        }
+        PrintStream out = compiler.getOut();
+        List<CachedClass> previousClasses = cachedClasses;
+        cachedClasses = classes;
+
+        Program program = new Program();
+        program.setLine(1);
+        for (CachedClass cachedClass : classes)
+            program.addClass(cachedClass.declaration);
+        ErrorReporter errorReporter = new ErrorReporter(out);
+        CompilationContext context = new CompilationContext(errorReporter);
+
+        NameAnalyzer nameAnalyzer = new NameAnalyzer(program, context);
+        nameAnalyzer.analyze();
+        int numberOfErrors = errorReporter.flush();
+        if (numberOfErrors > 0) {
+            //the next compilation is compared with this one, which was never type checked
+            for (CachedClass cachedClass : classes)
+                cachedClass.typeErrors = null;
+            return false;
+        }
+
+        Graph<String> classHierarchy = nameAnalyzer.getClassHierarchy();
+        List<String> shape = shapeOf(classes);
+        if (!shape.equals(checkedShape))
+            for (CachedClass cachedClass : classes)
+                cachedClass.typeErrors = null;
+        else
+            invalidateDependents(classes, previousClasses);
+        checkedShape = shape;
+
+        TypeChecker typeChecker = new TypeChecker(classHierarchy, context) {
+            @Override
+            protected void checkClasses(List<ClassDeclaration> classDeclarations) {
+                for (CachedClass cachedClass : classes) {
+                    if (cachedClass.typeErrors == null) {
+                        CompilationContext classContext = context.fork();
+                        Set<Symbol> references = new HashSet<>();
+                        classContext.recordReferences(references);
+                        cachedClass.declaration.accept(new TypeChecker(classHierarchy, classContext));
+                        cachedClass.typeErrors = classContext.getErrorReporter();
+                        cachedClass.references = references;
+                    }
+                    errorReporter.merge(cachedClass.typeErrors);
+                }
+            }
+        };
+        program.accept(typeChecker);
+        numberOfErrors = errorReporter.flush();
+        if (numberOfErrors > 0)
+            return false;
+
+        out.println("Compilation successful");
+        return true;
+    }
+
+    //splits the tokens into one run per class and parses only the runs whose text is new,
+    //returns null when the program does not lex or parse cleanly
+    private List<CachedClass> parseClasses(CharStream textStream) {
+        SophiaLexer sophiaLexer = new SophiaLexer(textStream);
+        SyntaxErrorListener lexerErrors = new SyntaxErrorListener();
+        sophiaLexer.removeErrorListeners();
+        sophiaLexer.addErrorListener(lexerErrors);
+        CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
+        tokenStream.fill();
+        if (lexerErrors.hasErrors())
+            return null;
+
+        Map<String, Deque<CachedClass>> previousByText = new HashMap<>();
+        for (CachedClass cachedClass : cachedClasses)
+            previousByText.computeIfAbsent(cachedClass.text, text -> new ArrayDeque<>()).add(cachedClass);
+
+        List<CachedClass> classes = new ArrayList<>();
+        List<Token> classTokens = null;
+        int depth = 0;
+        for (Token token : tokenStream.getTokens()) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL)
+                continue;
+            if (token.getType() == Token.EOF || (depth == 0 && token.getType() == SophiaLexer.CLASS)) {
+                if (classTokens != null) {
+                    CachedClass cachedClass = parseClass(textStream, classTokens, previousByText);
+                    if (cachedClass == null)
+                        return null;
+                    classes.add(cachedClass);
+                }
+                classTokens = new ArrayList<>();
+            } else if (classTokens == null) {
+                return null;
+            }
+            if (token.getType() == SophiaLexer.LBRACE)
+                depth++;
+            else if (token.getType() == SophiaLexer.RBRACE)
+                depth--;
+            classTokens.add(token);
+        }
+        return classes;
+    }
+
+    private CachedClass parseClass(CharStream textStream, List<Token> classTokens, Map<String, Deque<CachedClass>> previousByText) {
+        Token first = classTokens.get(0);
+        String text = textStream.getText(Interval.of(first.getStartIndex(), classTokens.get(classTokens.size() - 1).getStopIndex()));
+        Deque<CachedClass> sameText = previousByText.get(text);
+        CachedClass previous = sameText == null ? null : sameText.poll();
+        if (previous != null) {
+            //name analysis renames redefined classes, so the tree has to get its declared name back
+            previous.declaration.getClassName().setName(previous.declaredName);
+            previous.changed = false;
+            if (previous.line != first.getLine()) {
+                new LineShifter(first.getLine() - previous.line).shift(previous.declaration);
+                previous.line = first.getLine();
+                //cached diagnostics carry the old line numbers
+                if (previous.typeErrors != null && previous.typeErrors.getErrorCount() > 0)
+                    previous.typeErrors = null;
+            }
+            return previous;
+        }
+
+        SophiaParser sophiaParser = new SophiaParser(new CommonTokenStream(new ListTokenSource(classTokens)));
+        sophiaParser.removeErrorListeners();
+        ClassDeclaration classDeclaration = SophiaCompiler.parseSllFirst(sophiaParser, parser -> parser.sophiaClass().sophiaClassRet);
+        if (sophiaParser.getNumberOfSyntaxErrors() > 0 || sophiaParser.getCurrentToken().getType() != Token.EOF)
+            return null;
+        CachedClass cachedClass = new CachedClass(text, first.getLine(), classDeclaration);
+        cachedClass.changed = true;
+        return cachedClass;
+    }
+
+    //a class that was not edited checks the same as before unless an edited class changed the type of,
+    //added or removed a member under a name the class resolved last time, by itself or as a member of an object
+    private void invalidateDependents(List<CachedClass> classes, List<CachedClass> previousClasses) {
+        Map<String, ClassDeclaration> previousByName = new HashMap<>();
+        for (CachedClass cachedClass : previousClasses)
+            previousByName.putIfAbsent(cachedClass.declaredName, cachedClass.declaration);
+        for (CachedClass changedClass : classes) {
+            if (!changedClass.changed)
+                continue;
+            ClassDeclaration previous = previousByName.get(changedClass.declaredName);
+            Set<Symbol> changedMembers = previous == null ? null : changedMembers(previous, changedClass.declaration);
+            for (CachedClass cachedClass : classes) {
+                if (cachedClass.typeErrors == null)
+                    continue;
+                if (changedMembers == null || !Collections.disjoint(cachedClass.references, changedMembers))
+                    cachedClass.typeErrors = null;
+            }
+        }
+    }
+
+    private static Set<Symbol> changedMembers(ClassDeclaration previous, ClassDeclaration current) {
+        TypeInterner typeInterner = new TypeInterner();
+        Map<Symbol, List<Type>> previousMembers = memberTypes(previous, typeInterner);
+        Map<Symbol, List<Type>> currentMembers = memberTypes(current, typeInterner);
+        Set<Symbol> changedMembers = new HashSet<>();
+        for (Map.Entry<Symbol, List<Type>> member : previousMembers.entrySet())
+            if (!member.getValue().equals(currentMembers.get(member.getKey())))
+                changedMembers.add(member.getKey());
+        for (Symbol name : currentMembers.keySet())
+            if (!previousMembers.containsKey(name))
+                changedMembers.add(name);
+        return changedMembers;
+    }
+
+    //member name -> canonical types of the members declared under it, so equal lists mean equal declarations
+    private static Map<Symbol, List<Type>> memberTypes(ClassDeclaration classDeclaration, TypeInterner typeInterner) {
+        Map<Symbol, List<Type>> memberTypes = new HashMap<>();
+        for (FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            VarDeclaration varDeclaration = fieldDeclaration.getVarDeclaration();
+            memberTypes.computeIfAbsent(varDeclaration.getVarName().getSymbol(), name -> new ArrayList<>())
+                    .add(typeInterner.intern(varDeclaration.getType()));
+        }
+        List<MethodDeclaration> methods = new ArrayList<>(classDeclaration.getMethods());
+        if (classDeclaration.getConstructor() != null)
+            methods.add(classDeclaration.getConstructor());
+        for (MethodDeclaration methodDeclaration : methods) {
+            ArrayList<Type> argumentsTypes = new ArrayList<>();
+            for (VarDeclaration argument : methodDeclaration.getArgs())
+                argumentsTypes.add(argument.getType());
+            memberTypes.computeIfAbsent(methodDeclaration.getMethodName().getSymbol(), name -> new ArrayList<>())
+                    .add(typeInterner.fptrType(argumentsTypes, methodDeclaration.getReturnType()));
+        }
+        return memberTypes;
+    }
+
+    private static List<String> shapeOf(List<CachedClass> classes) {
+        List<String> shape = new ArrayList<>(2 * classes.size());
+        for (CachedClass cachedClass : classes) {
+            shape.add(cachedClass.declaredName);
+            Symbol parentName = cachedClass.declaration.getParentClassName() == null ? null : cachedClass.declaration.getParentClassName().getSymbol();
+            shape.add(parentName == null ? null : parentName.getName());
+        }
+        return shape;
+    }
+
+    private static class CachedClass {
+        private final String text;
+        private final ClassDeclaration declaration;
+        private final String declaredName;
+        private int line;
+        //parsed in this compilation rather than reused
+        private boolean changed;
+        //what type checking this class reported, and the names it resolved while doing so; null when it must be checked again
+        private ErrorReporter typeErrors;
+        private Set<Symbol> references;
+
+        private CachedClass(String text, int line, ClassDeclaration declaration) {
+            this.text = text;
+            this.line = line;
+            this.declaration = declaration;
+            this.declaredName = declaration.getClassName().getName();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package main;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+//a CharStream over a memory mapped ASCII file: every byte is one character and is read straight from the mapping,
+//so the source is neither decoded nor copied onto the heap, and the lexer can start as soon as the file is mapped
+public class MappedCharStream implements CharStream {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String sourceName;
+    private int index = 0;
+
+    private MappedCharStream(ByteBuffer buffer, String sourceName) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+        this.sourceName = sourceName;
+    }
+
+    //maps the file when it is ASCII and small enough for int indexes; anything else is decoded as CharStreams does it,
+    //since finding the n-th character of UTF-8 text would take an index as large as the decoded text
+    public static CharStream fromFileName(String fileName) throws IOException {
+        Path path = Paths.get(fileName);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() <= Integer.MAX_VALUE) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (isAscii(buffer))
+                    return new MappedCharStream(buffer, fileName);
+            }
+        }
+        return CharStreams.fromFileName(fileName);
+    }
+
+    private static boolean isAscii(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        int i = 0;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES)
+            if ((buffer.getLong(i) & 0x8080808080808080L) != 0)
+                return false;
+        for (; i < limit; i++)
+            if (buffer.get(i) < 0)
+                return false;
+        return true;
+    }
+
+    @Override
+    public void consume() {
+        if (index >= size)
+            throw new IllegalStateException("cannot consume EOF");
+        index++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if (i > 0) {
+            int position = index + i - 1;
+            return position < size ? buffer.get(position) : IntStream.EOF;
+        }
+        if (i < 0) {
+            int position = index + i;
+            return position >= 0 ? buffer.get(position) : IntStream.EOF;
+        }
+        return 0;
+    }
+
+    //the whole file stays mapped, so marks cost nothing
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void seek(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int stop = Math.min(interval.b, size - 1);
+        if (stop < start)
+            return "";
+        byte[] bytes = new byte[stop - start + 1];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
@@ -3,12 +3,87 @@ package main;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Paths;
 
 public class Sophia {
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
         SophiaCompiler sophiaCompiler = new SophiaCompiler();
-        sophiaCompiler.compile(reader);
+        String fileName = null;
+        boolean mapped = false;
+        boolean daemon = false;
+        int port = -1;
+        String warmUpPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--parallel"))
+                sophiaCompiler.setParallel(true);
+            else if (args[i].equals("--stream"))
+                sophiaCompiler.setStreaming(true);
+            else if (args[i].equals("--mmap"))
+                mapped = true;
+            else if (args[i].equals("--daemon"))
+                daemon = true;
+            else if (args[i].equals("--daemon-port")) {
+                daemon = true;
+                port = i + 1 < args.length ? portOf(args[++i]) : -1;
+                if (port < 0)
+                    exitWithUsage("--daemon-port needs a port number between 0 and 65535");
+            }
+            else if (args[i].equals("--warmup") && i + 1 < args.length)
+                warmUpPath = args[++i];
+            else if (args[i].equals("--cache-dir") && i + 1 < args.length)
+                sophiaCompiler.setCache(new CompilationCache(Paths.get(args[++i])));
+            else if (args[i].equals("--run"))
+                sophiaCompiler.setExecution(SophiaCompiler.Execution.JVM);
+            else if (args[i].equals("--interpret"))
+                sophiaCompiler.setExecution(SophiaCompiler.Execution.INTERPRETER);
+            else if (args[i].equals("--interpret-naive"))
+                sophiaCompiler.setExecution(SophiaCompiler.Execution.NAIVE_INTERPRETER);
+            else if (args[i].equals("--vm"))
+                sophiaCompiler.setExecution(SophiaCompiler.Execution.VM);
+            else if (args[i].equals("--vm-profile")) {
+                sophiaCompiler.setExecution(SophiaCompiler.Execution.VM);
+                sophiaCompiler.setProfiling(true);
+            }
+            else if (args[i].equals("--output-dir") && i + 1 < args.length)
+                sophiaCompiler.setOutputDirectory(Paths.get(args[++i]));
+            else
+                fileName = args[i];
+        }
+        if (daemon) {
+            CompileDaemon compileDaemon = new CompileDaemon(sophiaCompiler, mapped);
+            if (warmUpPath != null)
+                compileDaemon.warmUp(Paths.get(warmUpPath));
+            if (port >= 0)
+                compileDaemon.serve(port);
+            else
+                compileDaemon.serve(new BufferedReader(new InputStreamReader(System.in)), System.out);
+            return;
+        }
+        if (fileName == null)
+            exitWithUsage("no input file");
+        CharStream reader = mapped ? MappedCharStream.fromFileName(fileName) : CharStreams.fromFileName(fileName);
+        if(!sophiaCompiler.compile(reader))
+            System.exit(1);
+    }
+
+    //-1 for anything that is not a port number
+    private static int portOf(String text) {
+        try {
+            int port = Integer.parseInt(text);
+            return port <= 65535 ? port : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void exitWithUsage(String problem) {
+        System.err.println("sophia: " + problem);
+        System.err.println("usage: sophia [--run | --interpret | --interpret-naive | --vm | --vm-profile] [--parallel] [--stream] [--mmap]");
+        System.err.println("              [--cache-dir <dir>] [--output-dir <dir>] <file>");
+        System.err.println("       sophia (--daemon | --daemon-port <port>) [--warmup <path>] [options]");
+        System.exit(1);
     }
 }
@@ -0,0 +1,72 @@
+package main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+//defines the classes the code generator made for one program, straight from memory, and a copy of
+//main.runtime.Console of its own bound to the program's output; everything else, the rest of main.runtime included,
+//comes from the loader that loaded the compiler.
+//each program gets a loader of its own, so two programs with a class of the same name do not meet
+public class SophiaClassLoader extends ClassLoader {
+    static {
+        registerAsParallelCapable();
+    }
+
+    private static final String CONSOLE = "main.runtime.Console";
+
+    //internal name -> class file
+    private final Map<String, byte[]> classFiles;
+    private final PrintStream out;
+
+    public SophiaClassLoader(Map<String, byte[]> classFiles, PrintStream out) {
+        super(SophiaClassLoader.class.getClassLoader());
+        this.classFiles = classFiles;
+        this.out = out;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.equals(CONSOLE))
+            return super.loadClass(name, resolve);
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> console = findLoadedClass(name);
+            if (console == null) {
+                byte[] classFile;
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    if (in == null)
+                        throw new ClassNotFoundException(name);
+                    classFile = in.readAllBytes();
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+                console = defineClass(name, classFile, 0, classFile.length);
+            }
+            if (resolve)
+                resolveClass(console);
+            return console;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] classFile = classFiles.get(name.replace('.', '/'));
+        if (classFile == null)
+            throw new ClassNotFoundException(name);
+        return defineClass(name, classFile, 0, classFile.length);
+    }
+
+    //runs the program, that is its Main's constructor; what the program throws is rethrown as it is
+    public void runMain() throws Throwable {
+        loadClass(CONSOLE).getField("out").set(null, out);
+        Method main = loadClass("Main").getMethod("main", String[].class);
+        try {
+            main.invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,36 +1,296 @@
 package main;
 
 import main.ast.nodes.Program;
+import main.interpreter.Interpreter;
+import main.interpreter.NaiveInterpreter;
+import main.visitor.codeGenerator.CodeGenerator;
+import main.visitor.classLayout.ClassLayouter;
 import main.visitor.nameAnalyzer.NameAnalyzer;
 import main.visitor.typeChecker.TypeChecker;
 import main.visitor.utils.ErrorReporter;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
+import main.vm.CallSite;
+import main.vm.VirtualMachine;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import parsers.SophiaLexer;
 import parsers.SophiaParser;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 
 public class SophiaCompiler {
-    public void compile(CharStream textStream) {
+    //how a program without errors is run once it is compiled
+    public enum Execution {
+        NONE,
+        //as class files defined in this JVM
+        JVM,
+        //on Interpreter
+        INTERPRETER,
+        //on NaiveInterpreter
+        NAIVE_INTERPRETER,
+        //as register code on VirtualMachine
+        VM
+    }
+
+    private final PrintStream out;
+    //where syntax errors go, as antlr's console listener prints them
+    private final PrintStream err;
+    //when set, name collection and type checking run on this pool
+    private ForkJoinPool pool;
+    //when set, compile reuses what it can from the previous call
+    private IncrementalCompiler incrementalCompiler;
+    //when set, a source text compiled before is not compiled again
+    private CompilationCache cache;
+    //when set, tokens are pulled from the lexer as the parser needs them and no parse tree is built
+    private boolean streaming;
+    //when set, a program without errors is compiled to class files under this directory
+    private Path outputDirectory;
+    private Execution execution = Execution.NONE;
+    //when set, a program run on VirtualMachine prints the inline cache counters of each call site to err afterwards
+    private boolean profiling;
+
+    public SophiaCompiler() {
+        this(System.out);
+    }
+
+    public SophiaCompiler(PrintStream out) {
+        this(out, System.err);
+    }
+
+    public SophiaCompiler(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    //a compiler with the same settings that prints elsewhere; it does not share the incremental state of this one
+    public SophiaCompiler withOutput(PrintStream out, PrintStream err) {
+        SophiaCompiler sophiaCompiler = new SophiaCompiler(out, err);
+        sophiaCompiler.pool = pool;
+        sophiaCompiler.cache = cache;
+        sophiaCompiler.streaming = streaming;
+        sophiaCompiler.outputDirectory = outputDirectory;
+        sophiaCompiler.execution = execution;
+        sophiaCompiler.profiling = profiling;
+        return sophiaCompiler;
+    }
+
+    //a compiler with the settings and streams of this one that only checks programs, for the texts an incremental
+    //compilation hands back to a full one
+    SophiaCompiler checker() {
+        SophiaCompiler sophiaCompiler = withOutput(out, err);
+        sophiaCompiler.outputDirectory = null;
+        sophiaCompiler.execution = Execution.NONE;
+        return sophiaCompiler;
+    }
+
+    PrintStream getOut() {
+        return out;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.pool = parallel ? ForkJoinPool.commonPool() : null;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incrementalCompiler = incremental ? new IncrementalCompiler() : null;
+    }
+
+    //compiles on with the state of an incremental compilation that was started elsewhere
+    void setIncrementalCompiler(IncrementalCompiler incrementalCompiler) {
+        this.incrementalCompiler = incrementalCompiler;
+    }
+
+    public void setCache(CompilationCache cache) {
+        this.cache = cache;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    //incremental compilation only checks programs, it does not generate code for them
+    public void setOutputDirectory(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public void setExecution(Execution execution) {
+        this.execution = execution;
+    }
+
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    //returns false when the program has compile errors
+    public boolean compile(CharStream textStream) {
+        if(incrementalCompiler != null)
+            return incrementalCompiler.compile(textStream, this);
+        CompiledProgram compiledProgram;
+        String key = cache == null ? null : cache.keyOf(textStream);
+        if(key == null)
+            compiledProgram = analyze(textStream, out);
+        else {
+            compiledProgram = cache.load(key);
+            if(compiledProgram == null) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                compiledProgram = analyze(textStream, new PrintStream(output, true));
+                compiledProgram.setOutput(output.toString());
+                //syntax errors go to err rather than to out, so such a compilation cannot be replayed
+                if(!compiledProgram.hasSyntaxErrors())
+                    cache.store(key, compiledProgram);
+            }
+            out.print(compiledProgram.getOutput());
+        }
+        if(!compiledProgram.isSuccessful() || (outputDirectory == null && execution == Execution.NONE))
+            return compiledProgram.isSuccessful();
+        return execute(compiledProgram);
+    }
+
+    //writes the class files of a program that passed type checking and runs it, as asked;
+    //returns false when code generation fails or the program throws
+    boolean execute(CompiledProgram compiledProgram) {
+        Map<String, byte[]> classFiles = null;
+        if(outputDirectory != null || execution == Execution.JVM) {
+            CodeGenerator codeGenerator = new CodeGenerator(compiledProgram.getRoot());
+            try {
+                compiledProgram.getProgram().accept(codeGenerator);
+                if(outputDirectory != null)
+                    codeGenerator.write(outputDirectory);
+            } catch (IllegalStateException | IOException e) {
+                err.println(e.getMessage());
+                return false;
+            }
+            classFiles = codeGenerator.getClassFiles();
+        }
+        try {
+            switch(execution) {
+                case JVM:
+                    runClassFiles(classFiles);
+                    break;
+                case INTERPRETER:
+                    new Interpreter(compiledProgram.getProgram(), out).run();
+                    break;
+                case NAIVE_INTERPRETER:
+                    new NaiveInterpreter(compiledProgram.getProgram(), out).run();
+                    break;
+                case VM:
+                    VirtualMachine virtualMachine = new VirtualMachine(compiledProgram.getProgram(), out);
+                    virtualMachine.run();
+                    if (profiling)
+                        for (CallSite callSite : virtualMachine.getCallSites())
+                            err.println(callSite);
+                    break;
+            }
+            return true;
+        } catch (Throwable e) {
+            e.printStackTrace(err);
+            return false;
+        } finally {
+            out.flush();
+        }
+    }
+
+    private void runClassFiles(Map<String, byte[]> classFiles) throws Throwable {
+        new SophiaClassLoader(classFiles, out).runMain();
+    }
+
+    CompiledProgram analyze(CharStream textStream, PrintStream out) {
         SophiaLexer sophiaLexer = new SophiaLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
+        SyntaxErrorListener syntaxErrors = new SyntaxErrorListener(err);
+        sophiaLexer.removeErrorListeners();
+        sophiaLexer.addErrorListener(syntaxErrors);
+        //the grammar's actions build the AST as rules complete, so a streaming parse only keeps the tokens
+        //the parser is still looking ahead over, and the rule contexts of the rules it is inside
+        TokenStream tokenStream = streaming ? new UnbufferedTokenStream<>(sophiaLexer) : new CommonTokenStream(sophiaLexer);
         SophiaParser sophiaParser = new SophiaParser(tokenStream);
-        Program program = sophiaParser.sophia().sophiaProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
+        sophiaParser.setBuildParseTree(!streaming);
+        sophiaParser.removeErrorListeners();
+        sophiaParser.addErrorListener(syntaxErrors);
+        //an unbuffered stream cannot be rewound for a second attempt
+        Program program = streaming ? sophiaParser.sophia().sophiaProgram : parseSllFirst(sophiaParser, parser -> parser.sophia().sophiaProgram);
+        ErrorReporter errorReporter = new ErrorReporter(out);
+        CompilationContext context = new CompilationContext(errorReporter);
 
-        NameAnalyzer nameAnalyzer = new NameAnalyzer(program);
+        NameAnalyzer nameAnalyzer = new NameAnalyzer(program, context, pool);
         nameAnalyzer.analyze();
-        int numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+        boolean successful = errorReporter.flush() == 0;
 
-        TypeChecker typeChecker = new TypeChecker(nameAnalyzer.getClassHierarchy());
-        program.accept(typeChecker);
-        numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+        if(successful) {
+            new ClassLayouter(program, nameAnalyzer.getClassHierarchy()).layOut();
+            TypeChecker typeChecker = new TypeChecker(nameAnalyzer.getClassHierarchy(), context, pool);
+            program.accept(typeChecker);
+            successful = errorReporter.flush() == 0;
+        }
 
-        System.out.println("Compilation successful");
+        if(successful)
+            out.println("Compilation successful");
+        return new CompiledProgram(program, context.getRoot(), nameAnalyzer.getClassHierarchy(), successful, syntaxErrors.hasErrors());
+    }
+
+    //parses with SLL prediction, which is faster but gives up on some input that full LL accepts, and bails out on the
+    //first problem without reporting it; only then the input is parsed again in LL mode with the parser's own
+    //listeners and error strategy, so diagnostics are the ones a plain LL parse gives.
+    //a lexer feeding the parser has lexed past the bail out point by then, so its errors are held back while SLL runs:
+    //they are reported as they were when SLL succeeds, and dropped when the input is lexed again for LL, which
+    //interleaves them with the parser's errors the way a plain LL parse does
+    static <T> T parseSllFirst(SophiaParser sophiaParser, Function<SophiaParser, T> rule) {
+        TokenSource tokenSource = sophiaParser.getTokenStream().getTokenSource();
+        Lexer lexer = tokenSource instanceof Lexer ? (Lexer) tokenSource : null;
+        List<ANTLRErrorListener> lexerListeners = lexer == null ? null : new ArrayList<>(lexer.getErrorListeners());
+        List<Runnable> lexerErrors = new ArrayList<>();
+        if (lexer != null) {
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(new BaseErrorListener() {
+                @Override
+                public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                        String msg, RecognitionException e) {
+                    for (ANTLRErrorListener errorListener : lexerListeners)
+                        lexerErrors.add(() -> errorListener.syntaxError(recognizer, offendingSymbol, line, charPositionInLine, msg, e));
+                }
+            });
+        }
+        List<ANTLRErrorListener> errorListeners = new ArrayList<>(sophiaParser.getErrorListeners());
+        ANTLRErrorStrategy errorHandler = sophiaParser.getErrorHandler();
+        sophiaParser.removeErrorListeners();
+        sophiaParser.setErrorHandler(new BailErrorStrategy());
+        sophiaParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            T result = rule.apply(sophiaParser);
+            if (lexer != null) {
+                restoreErrorListeners(lexer, lexerListeners);
+                lexerErrors.forEach(Runnable::run);
+            }
+            return result;
+        } catch (ParseCancellationException e) {
+            if (lexer != null) {
+                restoreErrorListeners(lexer, lexerListeners);
+                lexer.reset();
+                sophiaParser.setTokenStream(new CommonTokenStream(lexer));
+            } else
+                sophiaParser.reset();
+            restoreErrorListeners(sophiaParser, errorListeners);
+            sophiaParser.setErrorHandler(errorHandler);
+            sophiaParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(sophiaParser);
+        }
+    }
 
+    private static void restoreErrorListeners(Recognizer<?, ?> recognizer, List<ANTLRErrorListener> errorListeners) {
+        recognizer.removeErrorListeners();
+        for (ANTLRErrorListener errorListener : errorListeners)
+            recognizer.addErrorListener(errorListener);
     }
 }
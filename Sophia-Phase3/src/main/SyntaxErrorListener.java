@@ -0,0 +1,33 @@
+package main;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.io.PrintStream;
+
+//notes that a lexer or parser hit a syntax error, and prints it the way antlr's console listener does if given a stream
+class SyntaxErrorListener extends BaseErrorListener {
+    private final PrintStream err;
+    private boolean hasErrors;
+
+    SyntaxErrorListener() {
+        this(null);
+    }
+
+    SyntaxErrorListener(PrintStream err) {
+        this.err = err;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        hasErrors = true;
+        if (err != null)
+            err.println("line " + line + ":" + charPositionInLine + " " + msg);
+    }
+
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+}
@@ -1,30 +1,13 @@
 package main.ast.nodes;
 
-import main.compileErrorException.CompileErrorException;
 import main.visitor.IVisitor;
 
-import java.util.ArrayList;
+import java.io.Serializable;
 
-public abstract class Node {
-    private int line;
-    private ArrayList<CompileErrorException> errors = new ArrayList<>();
-    public static boolean isCatchErrorsActive = true;
-
-    public ArrayList<CompileErrorException> flushErrors() {
-        ArrayList<CompileErrorException> errors = this.errors;
-        this.errors = new ArrayList<>();
-        return errors;
-    }
+public abstract class Node implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-    public void addError(CompileErrorException e) {
-        if(Node.isCatchErrorsActive) {
-            this.errors.add(e);
-        }
-    }
-
-    public boolean hasError() {
-        return this.errors.size() != 0;
-    }
+    private int line;
 
     public int getLine() {
         return line;
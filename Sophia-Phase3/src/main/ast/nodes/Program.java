@@ -7,6 +7,8 @@ import java.util.ArrayList;
 
 //line -> 1
 public class Program extends Node {
+    private static final long serialVersionUID = 1L;
+
     private ArrayList<ClassDeclaration> classes = new ArrayList<>();
 
     public Program() {
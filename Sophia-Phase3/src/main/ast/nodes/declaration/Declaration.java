@@ -3,4 +3,5 @@ package main.ast.nodes.declaration;
 import main.ast.nodes.Node;
 
 public abstract class Declaration extends Node {
+    private static final long serialVersionUID = 1L;
 }
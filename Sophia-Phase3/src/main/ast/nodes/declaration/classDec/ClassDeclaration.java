@@ -6,16 +6,21 @@ import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.ast.nodes.expression.Identifier;
 import main.visitor.IVisitor;
+import main.visitor.classLayout.ClassLayout;
 
 import java.util.ArrayList;
 
 //line -> CLASS
 public class ClassDeclaration extends Declaration {
+    private static final long serialVersionUID = 1L;
+
     private Identifier className;
     private Identifier parentClassName;
     private ArrayList<FieldDeclaration> fields = new ArrayList<>();
     private ConstructorDeclaration constructor;
     private ArrayList<MethodDeclaration> methods = new ArrayList<>();
+    //set by ClassLayouter once name analysis passes
+    private ClassLayout layout;
 
     public ClassDeclaration(Identifier className) {
         this.className = className;
@@ -61,6 +66,14 @@ public class ClassDeclaration extends Declaration {
         this.fields = fields;
     }
 
+    public ClassLayout getLayout() {
+        return layout;
+    }
+
+    public void setLayout(ClassLayout layout) {
+        this.layout = layout;
+    }
+
     public void addMethod(MethodDeclaration methodDeclaration) {
         this.methods.add(methodDeclaration);
     }
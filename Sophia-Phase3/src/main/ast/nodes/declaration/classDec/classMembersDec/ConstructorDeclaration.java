@@ -6,9 +6,10 @@ import main.visitor.IVisitor;
 
 //line -> DEF
 public class ConstructorDeclaration extends MethodDeclaration{
+    private static final long serialVersionUID = 1L;
 
     public ConstructorDeclaration(Identifier methodName) {
-        super(methodName, new NullType());
+        super(methodName, NullType.INSTANCE);
     }
 
     @Override
@@ -6,6 +6,8 @@ import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class FieldDeclaration extends Declaration {
+    private static final long serialVersionUID = 1L;
+
     VarDeclaration varDeclaration;
 
     public FieldDeclaration(VarDeclaration varDeclaration) {
@@ -11,6 +11,8 @@ import java.util.ArrayList;
 
 //line -> DEF
 public class MethodDeclaration extends Declaration {
+    private static final long serialVersionUID = 1L;
+
     protected Identifier methodName;
     protected Type returnType;
     protected ArrayList<VarDeclaration> args = new ArrayList<>();
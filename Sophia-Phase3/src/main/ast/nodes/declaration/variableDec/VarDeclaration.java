@@ -7,6 +7,8 @@ import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class VarDeclaration extends Declaration {
+    private static final long serialVersionUID = 1L;
+
     private Identifier varName;
     private Type type;
 
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> ASSIGN or OR or AND or EQUAL or NOT_EQUAL or GREATER_THAN or LESS_THAN or PLUS or MINUS or MULT or DIVIDE or MOD
 public class BinaryExpression extends Expression {
+    private static final long serialVersionUID = 1L;
+
     private Expression firstOperand;
     private Expression secondOperand;
     private BinaryOperator binaryOperator;
@@ -2,6 +2,19 @@ package main.ast.nodes.expression;
 
 
 import main.ast.nodes.Node;
+import main.ast.types.Type;
 
 public abstract class Expression extends Node {
+    private static final long serialVersionUID = 1L;
+
+    //the static type ExpressionTypeChecker gave this expression, null until it is checked
+    private Type type;
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
 }
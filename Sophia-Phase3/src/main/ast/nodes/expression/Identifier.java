@@ -1,26 +1,33 @@
 package main.ast.nodes.expression;
 
+import main.symbolTable.utils.symbol.Symbol;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class Identifier extends Expression{
-    private String name;
+    private static final long serialVersionUID = 1L;
+
+    private Symbol symbol;
 
     public Identifier(String name) {
-        this.name = name;
+        this.symbol = Symbol.of(name);
     }
 
     public String getName() {
-        return name;
+        return symbol.getName();
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.symbol = Symbol.of(name);
+    }
+
+    public Symbol getSymbol() {
+        return symbol;
     }
 
     @Override
     public String toString() {
-        return "Identifier_" + this.name;
+        return "Identifier_" + this.getName();
     }
 
     @Override
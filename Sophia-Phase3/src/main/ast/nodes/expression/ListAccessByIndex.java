@@ -4,6 +4,8 @@ import main.visitor.IVisitor;
 
 //line -> LBRACK before index
 public class ListAccessByIndex extends Expression {
+    private static final long serialVersionUID = 1L;
+
     private Expression instance;
     private Expression index;
 
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 
 //line -> LPAR before arguments
 public class MethodCall extends Expression {
+    private static final long serialVersionUID = 1L;
+
     private Expression instance;
     private ArrayList<Expression> args = new ArrayList<>();
 
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 
 //line -> NEW
 public class NewClassInstance extends Expression{
+    private static final long serialVersionUID = 1L;
+
     private ClassType classType;
     private ArrayList<Expression> args = new ArrayList<>();
 
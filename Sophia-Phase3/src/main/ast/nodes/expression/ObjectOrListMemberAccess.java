@@ -4,6 +4,8 @@ import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class ObjectOrListMemberAccess extends Expression{
+    private static final long serialVersionUID = 1L;
+
     private Expression instance;
     private Identifier memberName;
 
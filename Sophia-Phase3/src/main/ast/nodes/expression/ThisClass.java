@@ -4,6 +4,8 @@ import main.visitor.IVisitor;
 
 //line -> THIS
 public class ThisClass extends Expression {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public String toString() {
         return "ThisClass";
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> NOT or MINUS or INCREMENT or DECREMENT
 public class UnaryExpression extends Expression{
+    private static final long serialVersionUID = 1L;
+
     private Expression operand;
     private UnaryOperator operator;
 
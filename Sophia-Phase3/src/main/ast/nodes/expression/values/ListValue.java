@@ -7,6 +7,8 @@ import java.util.ArrayList;
 
 //line -> LBRACK before elements
 public class ListValue extends Value{
+    private static final long serialVersionUID = 1L;
+
     private ArrayList<Expression> elements = new ArrayList<>();
 
     public ListValue() {
@@ -4,6 +4,7 @@ import main.visitor.IVisitor;
 
 //line -> NULL
 public class NullValue extends Value{
+    private static final long serialVersionUID = 1L;
 
     @Override
     public String toString() {
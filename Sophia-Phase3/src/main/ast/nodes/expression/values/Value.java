@@ -3,4 +3,5 @@ package main.ast.nodes.expression.values;
 import main.ast.nodes.expression.Expression;
 
 public abstract class Value extends Expression {
+    private static final long serialVersionUID = 1L;
 }
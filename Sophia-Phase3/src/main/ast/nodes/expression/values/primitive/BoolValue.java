@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> TRUE or FALSE
 public class BoolValue extends Value {
+    private static final long serialVersionUID = 1L;
+
     private boolean constant;
 
     public BoolValue(boolean constant) {
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> INT_VALUE
 public class IntValue extends Value {
+    private static final long serialVersionUID = 1L;
+
     private int constant;
 
     public IntValue(int constant) {
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> STRING_VALUE
 public class StringValue extends Value {
+    private static final long serialVersionUID = 1L;
+
     private String constant;
 
     public StringValue(String constant) {
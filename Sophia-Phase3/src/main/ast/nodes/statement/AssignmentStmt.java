@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> ASSIGN
 public class AssignmentStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private Expression lValue;
     private Expression rValue;
 
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 
 //line -> LBRACE
 public class BlockStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private ArrayList<Statement> statements = new ArrayList<>();
 
     public BlockStmt() {
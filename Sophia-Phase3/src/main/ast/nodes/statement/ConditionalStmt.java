@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> IF
 public class ConditionalStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private Expression condition;
     private Statement thenBody;
     private Statement elseBody;
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> LPAR before arguments
 public class MethodCallStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private MethodCall methodCall;
 
     public MethodCallStmt(MethodCall methodCall) {
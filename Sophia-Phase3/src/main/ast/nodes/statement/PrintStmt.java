@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> PRINT
 public class PrintStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private Expression arg;
 
     public PrintStmt(Expression arg) {
@@ -6,6 +6,8 @@ import main.visitor.IVisitor;
 
 //line -> RETURN
 public class ReturnStmt extends Statement{
+    private static final long serialVersionUID = 1L;
+
     private Expression returnedExpr = new NullValue();
 
     public ReturnStmt() {
@@ -3,4 +3,5 @@ package main.ast.nodes.statement;
 import main.ast.nodes.Node;
 
 public abstract class Statement extends Node {
+    private static final long serialVersionUID = 1L;
 }
@@ -5,6 +5,8 @@ import main.visitor.IVisitor;
 
 //line -> CONTINUE
 public class ContinueStmt extends Statement {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public String toString() {
         return "ContinueStmt";
@@ -7,6 +7,8 @@ import main.visitor.IVisitor;
 
 //line -> FOR
 public class ForStmt extends Statement {
+    private static final long serialVersionUID = 1L;
+
     private AssignmentStmt initialize;
     private Expression condition;
     private AssignmentStmt update;
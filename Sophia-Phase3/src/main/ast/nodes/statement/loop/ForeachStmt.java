@@ -7,6 +7,8 @@ import main.visitor.IVisitor;
 
 //line -> FOREACH
 public class ForeachStmt extends Statement {
+    private static final long serialVersionUID = 1L;
+
     private Identifier variable;
     private Expression list;
     private Statement body;
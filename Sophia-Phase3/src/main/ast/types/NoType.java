@@ -1,6 +1,19 @@
 package main.ast.types;
 
 public class NoType extends Type {
+    private static final long serialVersionUID = 1L;
+
+    //stateless types are flyweights: use INSTANCE, equal types are then the same object
+    public static final NoType INSTANCE = new NoType();
+
+    private NoType() {
+    }
+
+    //deserialization makes a new object, which has to be swapped for the flyweight
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "NoType";
@@ -1,6 +1,17 @@
 package main.ast.types;
 
 public class NullType extends Type {
+    private static final long serialVersionUID = 1L;
+
+    public static final NullType INSTANCE = new NullType();
+
+    private NullType() {
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "NullType";
@@ -1,5 +1,9 @@
 package main.ast.types;
 
-public abstract class Type {
+import java.io.Serializable;
+
+public abstract class Type implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public abstract String toString();
 }
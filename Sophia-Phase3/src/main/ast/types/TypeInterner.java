@@ -0,0 +1,137 @@
+package main.ast.types;
+
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.utils.symbol.Symbol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//hash-conses the structural types of one compilation, so structurally equal types are one object
+//canonical types are shared and must not be changed after they are handed out
+public class TypeInterner {
+    private final Map<Symbol, ClassType> classTypes = new ConcurrentHashMap<>();
+    //list types are keyed by (element name, canonical element type) pairs, or by (size, name, type) when repeated;
+    //fptr types by return type then argument types
+    private final Map<List<Object>, ListType> listTypes = new ConcurrentHashMap<>();
+    private final Map<List<Type>, FptrType> fptrTypes = new ConcurrentHashMap<>();
+    //every type seen so far (by identity) -> its canonical type, so declared types are interned once
+    private final Map<Type, Type> canonical = new ConcurrentHashMap<>();
+    private final Map<MethodSymbolTableItem, FptrType> methodTypes = new ConcurrentHashMap<>();
+
+    public Type intern(Type type) {
+        if (!isStructural(type))
+            return type;
+        Type known = canonical.get(type);
+        if (known != null)
+            return known;
+        Type result;
+        if (type instanceof ClassType)
+            result = classType(((ClassType) type).getClassName());
+        else if (type instanceof ListType)
+            result = listType((ListType) type);
+        else
+            result = fptrType(((FptrType) type).getArgumentsTypes(), ((FptrType) type).getReturnType());
+        canonical.put(type, result);
+        return result;
+    }
+
+    public ClassType classType(Identifier className) {
+        ClassType classType = classTypes.get(className.getSymbol());
+        if (classType != null)
+            return classType;
+        classType = new ClassType(className);
+        ClassType previous = classTypes.putIfAbsent(className.getSymbol(), classType);
+        if (previous != null)
+            return previous;
+        canonical.put(classType, classType);
+        return classType;
+    }
+
+    public FptrType fptrType(ArrayList<Type> argumentsTypes, Type returnType) {
+        List<Type> key = new ArrayList<>(argumentsTypes.size() + 1);
+        key.add(intern(returnType));
+        for (Type argumentType : argumentsTypes)
+            key.add(intern(argumentType));
+        FptrType fptrType = fptrTypes.get(key);
+        if (fptrType != null)
+            return fptrType;
+        fptrType = new FptrType(new ArrayList<>(key.subList(1, key.size())), key.get(0));
+        FptrType previous = fptrTypes.putIfAbsent(key, fptrType);
+        if (previous != null)
+            return previous;
+        canonical.put(fptrType, fptrType);
+        return fptrType;
+    }
+
+    //the type of a method used as a value, built once per method
+    public FptrType methodType(MethodSymbolTableItem methodSymbolTableItem) {
+        FptrType fptrType = methodTypes.get(methodSymbolTableItem);
+        if (fptrType == null) {
+            fptrType = fptrType(methodSymbolTableItem.getArgTypes(), methodSymbolTableItem.getReturnType());
+            methodTypes.put(methodSymbolTableItem, fptrType);
+        }
+        return fptrType;
+    }
+
+    //interns a list type without remembering the given instance, for types built during checking
+    //lists whose elements all agree are interned in the repeated (N, element) form, whichever way they were written
+    public ListType listType(ListType type) {
+        int size = type.getSize();
+        List<Object> key;
+        if (type.isRepeated() || isHomogeneous(type)) {
+            key = new ArrayList<>(3);
+            key.add(size);
+            if (size > 0) {
+                key.add(type.getElementType(0).getName().getSymbol());
+                key.add(intern(type.getElementType(0).getType()));
+            }
+        } else {
+            key = new ArrayList<>(2 * size);
+            for (int i = 0; i < size; i++) {
+                key.add(type.getElementType(i).getName().getSymbol());
+                key.add(intern(type.getElementType(i).getType()));
+            }
+        }
+        ListType listType = listTypes.get(key);
+        if (listType != null)
+            return listType;
+        if (key.size() == 1)
+            listType = new ListType();
+        else if (key.get(0) instanceof Integer)
+            listType = new ListType(size, new ListNameType(type.getElementType(0).getName(), (Type) key.get(2)));
+        else {
+            listType = new ListType();
+            for (int i = 0; i < size; i++)
+                listType.addElementType(new ListNameType(type.getElementType(i).getName(), (Type) key.get(2 * i + 1)));
+        }
+        ListType previous = listTypes.putIfAbsent(key, listType);
+        if (previous != null)
+            return previous;
+        canonical.put(listType, listType);
+        return listType;
+    }
+
+    private boolean isHomogeneous(ListType type) {
+        if (type.getSize() == 0)
+            return true;
+        ListNameType first = type.getElementType(0);
+        Type firstType = intern(first.getType());
+        for (int i = 1; i < type.getSize(); i++) {
+            ListNameType element = type.getElementType(i);
+            if (element.getName().getSymbol() != first.getName().getSymbol() || intern(element.getType()) != firstType)
+                return false;
+        }
+        return true;
+    }
+
+    private boolean isStructural(Type type) {
+        return type instanceof ClassType || type instanceof ListType || type instanceof FptrType;
+    }
+}
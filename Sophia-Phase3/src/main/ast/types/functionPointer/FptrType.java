@@ -5,6 +5,8 @@ import main.ast.types.Type;
 import java.util.ArrayList;
 
 public class FptrType extends Type {
+    private static final long serialVersionUID = 1L;
+
     private ArrayList<Type> argumentsTypes = new ArrayList<>();
     private Type returnType;
 
@@ -4,7 +4,11 @@ import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.nodes.expression.Identifier;
 import main.ast.types.Type;
 
-public class ListNameType {
+import java.io.Serializable;
+
+public class ListNameType implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Identifier name;
     private Type type;
 
@@ -1,11 +1,19 @@
 package main.ast.types.list;
 
 import main.ast.types.Type;
+import main.symbolTable.utils.symbol.Symbol;
 
 import java.util.ArrayList;
 
 public class ListType extends Type {
+    private static final long serialVersionUID = 1L;
+
     private ArrayList<ListNameType> elementsTypes = new ArrayList<>();
+    //list(N # T) is kept as (N, element) instead of N entries; repeatedElement is null for explicit lists
+    private int repeatCount;
+    private ListNameType repeatedElement;
+    //N copies of repeatedElement, built only when someone asks for the whole element list
+    private transient ArrayList<ListNameType> repeatedElements;
 
     public ListType() {
     }
@@ -15,20 +23,66 @@ public class ListType extends Type {
     }
 
     public ListType(int listSize, ListNameType listNameType) {
-        for(int i=0; i < listSize; i++) {
-            elementsTypes.add(listNameType);
-        }
+        this.repeatCount = Math.max(listSize, 0);
+        this.repeatedElement = listNameType;
+    }
+
+    public boolean isRepeated() {
+        return repeatedElement != null;
     }
 
-    public ArrayList<ListNameType> getElementsTypes() {
-        return elementsTypes;
+    public int getSize() {
+        return isRepeated() ? repeatCount : elementsTypes.size();
+    }
+
+    public ListNameType getElementType(int index) {
+        if (!isRepeated())
+            return elementsTypes.get(index);
+        if (index < 0 || index >= repeatCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + repeatCount);
+        return repeatedElement;
+    }
+
+    //the position of the element called name, -1 when there is none
+    public int indexOf(Symbol name) {
+        if (isRepeated())
+            return repeatCount > 0 && repeatedElement.getName().getSymbol() == name ? 0 : -1;
+        for (int i = 0; i < elementsTypes.size(); i++)
+            if (elementsTypes.get(i).getName().getSymbol() == name)
+                return i;
+        return -1;
+    }
+
+    //how many leading elements a pairwise check against other (of the same size) has to look at:
+    //two repeated lists agree everywhere once their first elements agree
+    public int getComparedSize(ListType other) {
+        if (isRepeated() && other.isRepeated())
+            return Math.min(repeatCount, 1);
+        return getSize();
+    }
+
+    //costs O(N) on a repeated list, prefer getSize and getElementType
+    public synchronized ArrayList<ListNameType> getElementsTypes() {
+        if (!isRepeated())
+            return elementsTypes;
+        if (repeatedElements == null) {
+            ArrayList<ListNameType> elements = new ArrayList<>(repeatCount);
+            for (int i = 0; i < repeatCount; i++)
+                elements.add(repeatedElement);
+            repeatedElements = elements;
+        }
+        return repeatedElements;
     }
 
-    public void setElementsTypes(ArrayList<ListNameType> elementsTypes) {
+    public synchronized void setElementsTypes(ArrayList<ListNameType> elementsTypes) {
         this.elementsTypes = elementsTypes;
+        this.repeatedElement = null;
+        this.repeatedElements = null;
     }
 
-    public void addElementType(ListNameType listNameType) {
+    public synchronized void addElementType(ListNameType listNameType) {
+        if (isRepeated())
+            setElementsTypes(new ArrayList<>(getElementsTypes()));
         this.elementsTypes.add(listNameType);
     }
 
@@ -3,6 +3,17 @@ package main.ast.types.single;
 import main.ast.types.Type;
 
 public class BoolType extends Type {
+    private static final long serialVersionUID = 1L;
+
+    public static final BoolType INSTANCE = new BoolType();
+
+    private BoolType() {
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "BoolType";
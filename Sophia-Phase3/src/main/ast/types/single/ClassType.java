@@ -4,6 +4,8 @@ import main.ast.nodes.expression.Identifier;
 import main.ast.types.Type;
 
 public class ClassType extends Type {
+    private static final long serialVersionUID = 1L;
+
     private Identifier className;
 
     public ClassType(Identifier className) {
@@ -3,6 +3,17 @@ package main.ast.types.single;
 import main.ast.types.Type;
 
 public class IntType extends Type {
+    private static final long serialVersionUID = 1L;
+
+    public static final IntType INSTANCE = new IntType();
+
+    private IntType() {
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "IntType";
@@ -3,6 +3,17 @@ package main.ast.types.single;
 import main.ast.types.Type;
 
 public class StringType extends Type {
+    private static final long serialVersionUID = 1L;
+
+    public static final StringType INSTANCE = new StringType();
+
+    private StringType() {
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "StringType";
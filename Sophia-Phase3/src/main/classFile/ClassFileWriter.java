@@ -0,0 +1,97 @@
+package main.classFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+//writes one class file; version 49 needs no stack map frames, so branches cost nothing to emit
+public class ClassFileWriter {
+    private static final int VERSION = 49;
+
+    private final ConstantPool constantPool = new ConstantPool();
+    private final int access;
+    private final String name;
+    private final String superName;
+    private final ArrayList<Member> fields = new ArrayList<>();
+    private final ArrayList<Member> methods = new ArrayList<>();
+
+    //names are internal names, as in java/lang/Object
+    public ClassFileWriter(int access, String name, String superName) {
+        this.access = access;
+        this.name = name;
+        this.superName = superName;
+    }
+
+    public ConstantPool getConstantPool() {
+        return constantPool;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void addField(int access, String name, String descriptor) {
+        fields.add(new Member(access, constantPool.utf8(name), constantPool.utf8(descriptor), null));
+    }
+
+    //the returned writer takes the method's code; argumentSlots counts this for instance methods
+    public CodeWriter addMethod(int access, String name, String descriptor, int argumentSlots) {
+        CodeWriter code = new CodeWriter(constantPool, argumentSlots);
+        methods.add(new Member(access, constantPool.utf8(name), constantPool.utf8(descriptor), code));
+        return code;
+    }
+
+    public byte[] toByteArray() {
+        int thisIndex = constantPool.classRef(name);
+        int superIndex = constantPool.classRef(superName);
+        //Code attributes name their attribute through the pool, so it has to be complete before it is written
+        if (!methods.isEmpty())
+            constantPool.utf8("Code");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xcafebabe);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            constantPool.write(out);
+            out.writeShort(access);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(0);
+            out.writeShort(fields.size());
+            for (Member field : fields) {
+                out.writeShort(field.access);
+                out.writeShort(field.name);
+                out.writeShort(field.descriptor);
+                out.writeShort(0);
+            }
+            out.writeShort(methods.size());
+            for (Member method : methods) {
+                out.writeShort(method.access);
+                out.writeShort(method.name);
+                out.writeShort(method.descriptor);
+                out.writeShort(1);
+                method.code.write(out);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    //pool indexes of a field or method, and the code of a method
+    private static class Member {
+        final int access;
+        final int name;
+        final int descriptor;
+        final CodeWriter code;
+
+        Member(int access, int name, int descriptor, CodeWriter code) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package main.classFile;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static main.classFile.Opcodes.*;
+
+//the bytecode of one method, with the operand stack depth and the local slots it needs tracked as it is written
+public class CodeWriter {
+    private static final int WIDE = 0xc4;
+
+    private final ConstantPool constantPool;
+    private byte[] code = new byte[256];
+    private int length;
+    private int stack;
+    private int maxStack;
+    private int maxLocals;
+    //false right after a goto or a return, until a label is placed
+    private boolean reachable = true;
+
+    //argumentSlots counts this for instance methods
+    public CodeWriter(ConstantPool constantPool, int argumentSlots) {
+        this.constantPool = constantPool;
+        this.maxLocals = argumentSlots;
+    }
+
+    //instructions without operands
+    public void op(int opcode) {
+        emit(opcode);
+        switch (opcode) {
+            case ACONST_NULL: case ICONST_M1: case ICONST_0: case ICONST_1: case DUP: case DUP_X1: case DUP_X2:
+                grow(1);
+                break;
+            case DUP2:
+                grow(2);
+                break;
+            case AALOAD: case POP: case IADD: case ISUB: case IMUL: case IDIV: case IREM: case IXOR:
+                grow(-1);
+                break;
+            case AASTORE:
+                grow(-3);
+                break;
+            case IRETURN: case ARETURN:
+                grow(-1);
+                reachable = false;
+                break;
+            case RETURN:
+                reachable = false;
+                break;
+            case SWAP: case INEG:
+                break;
+            default:
+                throw new IllegalArgumentException("unknown instruction " + opcode);
+        }
+    }
+
+    public void pushInt(int value) {
+        if (value >= -1 && value <= 5)
+            emit(ICONST_0 + value);
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            emit(BIPUSH);
+            emit(value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            emit(SIPUSH);
+            emitShort(value);
+        } else {
+            pushConstant(constantPool.integer(value));
+            return;
+        }
+        grow(1);
+    }
+
+    public void pushString(String value) {
+        pushConstant(constantPool.string(value));
+    }
+
+    private void pushConstant(int index) {
+        if (index <= 0xff) {
+            emit(LDC);
+            emit(index);
+        } else {
+            emit(LDC_W);
+            emitShort(index);
+        }
+        grow(1);
+    }
+
+    //ILOAD, ALOAD, ISTORE or ASTORE
+    public void local(int opcode, int slot) {
+        if (slot > 0xff) {
+            emit(WIDE);
+            emit(opcode);
+            emitShort(slot);
+        } else {
+            emit(opcode);
+            emit(slot);
+        }
+        grow(opcode == ILOAD || opcode == ALOAD ? 1 : -1);
+        maxLocals = Math.max(maxLocals, slot + 1);
+    }
+
+    public void iinc(int slot, int amount) {
+        if (slot > 0xff) {
+            emit(WIDE);
+            emit(IINC);
+            emitShort(slot);
+            emitShort(amount);
+        } else {
+            emit(IINC);
+            emit(slot);
+            emit(amount);
+        }
+        maxLocals = Math.max(maxLocals, slot + 1);
+    }
+
+    //a slot no argument or variable uses yet, for values the generated code keeps for itself
+    public int newLocal() {
+        return maxLocals++;
+    }
+
+    //GETSTATIC, GETFIELD or PUTFIELD on a field of one slot
+    public void field(int opcode, String owner, String name, String descriptor) {
+        emit(opcode);
+        emitShort(constantPool.fieldRef(owner, name, descriptor));
+        grow(opcode == GETSTATIC ? 1 : opcode == GETFIELD ? 0 : -2);
+    }
+
+    public void invoke(int opcode, String owner, String name, String descriptor) {
+        emit(opcode);
+        emitShort(constantPool.methodRef(owner, name, descriptor));
+        //every value the generated code handles takes one slot
+        int arguments = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            while (c == '[')
+                c = descriptor.charAt(++i);
+            i = c == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+            arguments++;
+        }
+        grow(-arguments - (opcode == INVOKESTATIC ? 0 : 1) + (descriptor.endsWith(")V") ? 0 : 1));
+    }
+
+    //NEW, CHECKCAST or ANEWARRAY
+    public void type(int opcode, String internalName) {
+        emit(opcode);
+        emitShort(constantPool.classRef(internalName));
+        if (opcode == NEW)
+            grow(1);
+    }
+
+    public void jump(int opcode, Label target) {
+        int start = length;
+        emit(opcode);
+        grow(opcode == GOTO ? 0 : opcode == IFEQ || opcode == IFNE ? -1 : -2);
+        if (target.stack < 0)
+            target.stack = stack;
+        if (target.position >= 0)
+            emitShort(offset(start, target.position));
+        else {
+            target.pendingJumps.add(new int[]{start, length});
+            emitShort(0);
+        }
+        if (opcode == GOTO)
+            reachable = false;
+    }
+
+    public void place(Label label) {
+        label.position = length;
+        for (int[] jump : label.pendingJumps) {
+            int offset = offset(jump[0], length);
+            code[jump[1]] = (byte) (offset >> 8);
+            code[jump[1] + 1] = (byte) offset;
+        }
+        label.pendingJumps.clear();
+        if (!reachable)
+            stack = Math.max(label.stack, 0);
+        else if (label.stack < 0)
+            label.stack = stack;
+        reachable = true;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    private int offset(int from, int to) {
+        int offset = to - from;
+        if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE)
+            throw new IllegalStateException("method too large for the jumps it makes");
+        return offset;
+    }
+
+    private void grow(int change) {
+        stack += change;
+        maxStack = Math.max(maxStack, stack);
+    }
+
+    private void emit(int b) {
+        if (length == code.length)
+            code = Arrays.copyOf(code, length * 2);
+        code[length++] = (byte) b;
+    }
+
+    private void emitShort(int s) {
+        emit(s >> 8);
+        emit(s);
+    }
+
+    //the Code attribute, without exception handlers or attributes of its own
+    void write(DataOutputStream out) throws IOException {
+        if (length > 0xffff)
+            throw new IllegalStateException("method too large");
+        out.writeShort(constantPool.utf8("Code"));
+        out.writeInt(12 + length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(length);
+        out.write(code, 0, length);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+}
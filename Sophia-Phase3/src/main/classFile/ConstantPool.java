@@ -0,0 +1,102 @@
+package main.classFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+//the constant pool of one class file; equal constants share an entry
+public class ConstantPool {
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELDREF = 9;
+    private static final int METHODREF = 10;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    //keyed by tag and contents
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private int count = 1;
+
+    public int utf8(String value) {
+        String key = UTF8 + ":" + value;
+        Integer index = indexes.get(key);
+        if (index != null)
+            return index;
+        try {
+            out.writeByte(UTF8);
+            out.writeUTF(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add(key);
+    }
+
+    public int integer(int value) {
+        String key = INTEGER + ":" + value;
+        Integer index = indexes.get(key);
+        if (index != null)
+            return index;
+        try {
+            out.writeByte(INTEGER);
+            out.writeInt(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add(key);
+    }
+
+    public int string(String value) {
+        return reference(STRING, utf8(value));
+    }
+
+    //internalName as in java/lang/Object
+    public int classRef(String internalName) {
+        return reference(CLASS, utf8(internalName));
+    }
+
+    public int fieldRef(String owner, String name, String descriptor) {
+        return reference(FIELDREF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    public int methodRef(String owner, String name, String descriptor) {
+        return reference(METHODREF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        return reference(NAME_AND_TYPE, utf8(name), utf8(descriptor));
+    }
+
+    private int reference(int tag, int... operands) {
+        StringBuilder key = new StringBuilder().append(tag);
+        for (int operand : operands)
+            key.append(':').append(operand);
+        Integer index = indexes.get(key.toString());
+        if (index != null)
+            return index;
+        try {
+            out.writeByte(tag);
+            for (int operand : operands)
+                out.writeShort(operand);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return add(key.toString());
+    }
+
+    private int add(String key) {
+        if (count > 0xffff)
+            throw new IllegalStateException("too many constants in one class");
+        indexes.put(key, count);
+        return count++;
+    }
+
+    public void write(DataOutputStream classOut) throws IOException {
+        classOut.writeShort(count);
+        bytes.writeTo(classOut);
+    }
+}
@@ -0,0 +1,12 @@
+package main.classFile;
+
+import java.util.ArrayList;
+
+//a position in the code of a method; jumps to it can be emitted before it is placed
+public class Label {
+    int position = -1;
+    //operand stack depth on arrival, taken from the first jump here
+    int stack = -1;
+    //where offsets to this label still have to be written: pairs of instruction start and operand position
+    final ArrayList<int[]> pendingJumps = new ArrayList<>();
+}
@@ -4,11 +4,17 @@ public class CompileErrorException extends Exception {
     private int line;
     private String message;
 
+    //diagnostics are handed to ErrorReporter, never thrown, so they skip capturing a stack trace
     public CompileErrorException(int line, String message) {
+        super(null, null, false, false);
         this.line = line;
         this.message = message;
     }
 
+    public int getLine() {
+        return line;
+    }
+
     public String getMessage() {
         return "Line:" + this.line + ":" + this.message;
     }
@@ -1,5 +1,6 @@
 package main.compileErrorException.nameErrors;
 
+import main.CompilationContext;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.compileErrorException.CompileErrorException;
 import main.symbolTable.SymbolTable;
@@ -14,15 +15,15 @@ public class ClassRedefinition extends CompileErrorException {
         this.classDeclaration = classDeclaration;
     }
 
-    public void handleException() {
+    public void handleException(CompilationContext context, SymbolTable classSymbolTable) {
         String newName = this.classDeclaration.getClassName().getName() + "_";
         this.classDeclaration.getClassName().setName(newName);
         ClassSymbolTableItem symbolTableActorItem = new ClassSymbolTableItem(this.classDeclaration);
-        symbolTableActorItem.setClassSymbolTable(SymbolTable.top);
+        symbolTableActorItem.setClassSymbolTable(classSymbolTable);
         try {
-            SymbolTable.root.put(symbolTableActorItem);
+            context.getRoot().put(symbolTableActorItem);
         } catch (ItemAlreadyExistsException exception) {
-            this.handleException();
+            this.handleException(context, classSymbolTable);
         }
     }
 
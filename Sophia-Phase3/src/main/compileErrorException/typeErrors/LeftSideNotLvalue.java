@@ -5,7 +5,7 @@ import main.compileErrorException.CompileErrorException;
 public class LeftSideNotLvalue extends CompileErrorException {
 
     public LeftSideNotLvalue(int line) {
-        super(line, "Left side of assignment must be a valid lvalue");
+        super(line, "Left side of assignment is not a valid lvalue");
     }
 
 }
@@ -45,38 +45,43 @@ sophiaClass returns[ClassDeclaration sophiaClassRet]:
         EXTENDS parentName=identifier
         { $sophiaClassRet.setParentClassName($parentName.idRet); }
     )?
-    LBRACE (((v1=varDeclaration
-    {
-        FieldDeclaration f1 = new FieldDeclaration($v1.varDeclarationRet);
-        f1.setLine($v1.line);
-        $sophiaClassRet.addField(f1);
+    //fields and methods, then at most one constructor followed by more fields and methods; each member is decided
+    //in a few tokens, where alternatives with and without a constructor had to look through the whole class.
+    //a member that failed to parse before its node was made is left out, its syntax error has been reported
+    LBRACE (v1=varDeclaration
+    {
+        if($v1.varDeclarationRet != null) {
+            FieldDeclaration f1 = new FieldDeclaration($v1.varDeclarationRet);
+            f1.setLine($v1.line);
+            $sophiaClassRet.addField(f1);
+        }
     }
     | m1=method
-    { $sophiaClassRet.addMethod($m1.methodRet); }
+    {
+        if($m1.methodRet != null)
+            $sophiaClassRet.addMethod($m1.methodRet);
+    }
     )*
     (c=constructor
-    { $sophiaClassRet.setConstructor($c.constructorRet); }
-    )
-    (v2=varDeclaration
     {
-        FieldDeclaration f2 = new FieldDeclaration($v2.varDeclarationRet);
-        f2.setLine($v2.line);
-        $sophiaClassRet.addField(f2);
+        if($c.constructorRet != null)
+            $sophiaClassRet.setConstructor($c.constructorRet);
     }
-    | m2=method
-    { $sophiaClassRet.addMethod($m2.methodRet); }
-    )*)
-    | (
     (v2=varDeclaration
     {
-        FieldDeclaration f2 = new FieldDeclaration($v2.varDeclarationRet);
-        f2.setLine($v2.line);
-        $sophiaClassRet.addField(f2);
+        if($v2.varDeclarationRet != null) {
+            FieldDeclaration f2 = new FieldDeclaration($v2.varDeclarationRet);
+            f2.setLine($v2.line);
+            $sophiaClassRet.addField(f2);
+        }
     }
     | m2=method
-    { $sophiaClassRet.addMethod($m2.methodRet); }
+    {
+        if($m2.methodRet != null)
+            $sophiaClassRet.addMethod($m2.methodRet);
+    }
     )*
-    ))
+    )?
     RBRACE
     ;
 
@@ -95,7 +100,7 @@ method returns[MethodDeclaration methodRet]
     d=DEF ((t=type
     { $returnType = $t.typeRet; }
     ) | (VOID
-    { $returnType = new NullType(); }
+    { $returnType = NullType.INSTANCE; }
     ))
     name=identifier
     {
@@ -200,7 +205,7 @@ functionPointerType returns[FptrType fptrTypeRet]:
     { $fptrTypeRet.setArgumentsTypes($types.typesWithCommaRet); }
     ) ARROW
     (VOID
-    { $fptrTypeRet.setReturnType(new NullType()); }
+    { $fptrTypeRet.setReturnType(NullType.INSTANCE); }
     | t=type
     { $fptrTypeRet.setReturnType($t.typeRet); }
     ) GREATER_THAN
@@ -217,11 +222,11 @@ typesWithComma returns[ArrayList<Type> typesWithCommaRet]:
 
 primitiveDataType returns[Type primitiveTypeRet]:
     INT
-    { $primitiveTypeRet = new IntType(); }
+    { $primitiveTypeRet = IntType.INSTANCE; }
     | STRING
-    { $primitiveTypeRet = new StringType(); }
+    { $primitiveTypeRet = StringType.INSTANCE; }
     | BOOLEAN
-    { $primitiveTypeRet = new BoolType(); }
+    { $primitiveTypeRet = BoolType.INSTANCE; }
     ;
 
 methodBody returns[ArrayList<VarDeclaration> localVars, ArrayList<Statement> statements]:
@@ -403,79 +408,60 @@ expression returns[Expression exprRet]:
     )?
     ;
 
-orExpression returns[Expression orExprRet]:
-    ael=andExpression
-    { $orExprRet = $ael.andExprRet; }
-    (o=OR aer=andExpression
+//every binary and prefix operator in one left recursive rule; alternatives go from the tightest binding operators
+//down to or, so parsing an operand no longer descends through a rule per precedence level
+orExpression returns[Expression orExprRet]
+    locals[UnaryOperator uop, BinaryOperator op, int line]:
+    (not=NOT
     {
-        BinaryOperator op = BinaryOperator.or;
-        $orExprRet = new BinaryExpression($orExprRet, $aer.andExprRet, op);
-        $orExprRet.setLine($o.getLine());
+        $uop = UnaryOperator.not;
+        $line = $not.getLine();
     }
-    )*
-    ;
-
-andExpression returns[Expression andExprRet]:
-    eel=equalityExpression
-    { $andExprRet = $eel.eqExprRet; }
-    (a=AND ee2=equalityExpression
+    | minus=MINUS
     {
-        BinaryOperator op = BinaryOperator.and;
-        $andExprRet = new BinaryExpression($andExprRet, $ee2.eqExprRet, op);
-        $andExprRet.setLine($a.getLine());
+        $uop = UnaryOperator.minus;
+        $line = $minus.getLine();
     }
-    )*
-    ;
-
-equalityExpression returns[Expression eqExprRet]
-    locals[BinaryOperator op, int line]:
-    rel=relationalExpression
-    { $eqExprRet = $rel.relExprRet; }
-    ((eq=EQUAL
+    | preinc=INCREMENT
     {
-        $op = BinaryOperator.eq;
-        $line = $eq.getLine();
+        $uop = UnaryOperator.preinc;
+        $line = $preinc.getLine();
     }
-    | neq=NOT_EQUAL
+    | predec=DECREMENT
     {
-        $op = BinaryOperator.neq;
-        $line = $neq.getLine();
+        $uop = UnaryOperator.predec;
+        $line = $predec.getLine();
     }
-    ) rer=relationalExpression
+    ) pre=orExpression
     {
-        $eqExprRet = new BinaryExpression($eqExprRet, $rer.relExprRet, $op);
-        $eqExprRet.setLine($line);
+        $orExprRet = new UnaryExpression($pre.orExprRet, $uop);
+        $orExprRet.setLine($line);
     }
-    )*
-    ;
-
-relationalExpression returns[Expression relExprRet]
-    locals[BinaryOperator op, int line]:
-    ael=additiveExpression
-    { $relExprRet = $ael.addExprRet; }
-    ((gt=GREATER_THAN
+    | post=postUnaryExpression
+    { $orExprRet = $post.postUnaryExprRet; }
+    | l=orExpression
+    (mult=MULT
     {
-        $op = BinaryOperator.gt;
-        $line = $gt.getLine();
+        $op = BinaryOperator.mult;
+        $line = $mult.getLine();
     }
-    | lt=LESS_THAN
+    | div=DIVIDE
     {
-        $op = BinaryOperator.lt;
-        $line = $lt.getLine();
+        $op = BinaryOperator.div;
+        $line = $div.getLine();
     }
-    ) aer=additiveExpression
+    | mod=MOD
     {
-        $relExprRet = new BinaryExpression($relExprRet, $aer.addExprRet, $op);
-        $relExprRet.setLine($line);
+        $op = BinaryOperator.mod;
+        $line = $mod.getLine();
     }
-    )*
-    ;
-
-additiveExpression returns[Expression addExprRet]
-    locals[BinaryOperator op, int line]:
-    mel=multiplicativeExpression
-    { $addExprRet = $mel.multExprRet; }
-    ((add=PLUS
+    ) r=orExpression
+    {
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, $op);
+        $orExprRet.setLine($line);
+    }
+    | l=orExpression
+    (add=PLUS
     {
         $op = BinaryOperator.add;
         $line = $add.getLine();
@@ -485,70 +471,53 @@ additiveExpression returns[Expression addExprRet]
         $op = BinaryOperator.sub;
         $line = $sub.getLine();
     }
-    ) mer=multiplicativeExpression
+    ) r=orExpression
     {
-        $addExprRet = new BinaryExpression($addExprRet, $mer.multExprRet, $op);
-        $addExprRet.setLine($line);
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, $op);
+        $orExprRet.setLine($line);
     }
-    )*
-    ;
-
-multiplicativeExpression returns[Expression multExprRet]
-    locals[BinaryOperator op, int line]:
-    pel=preUnaryExpression
-    { $multExprRet = $pel.preUnaryExprRet; }
-    ((mult=MULT
+    | l=orExpression
+    (gt=GREATER_THAN
     {
-        $op = BinaryOperator.mult;
-        $line = $mult.getLine();
-    }
-    | div=DIVIDE
-    {
-        $op = BinaryOperator.div;
-        $line = $div.getLine();
+        $op = BinaryOperator.gt;
+        $line = $gt.getLine();
     }
-    | mod=MOD
+    | lt=LESS_THAN
     {
-        $op = BinaryOperator.mod;
-        $line = $mod.getLine();
+        $op = BinaryOperator.lt;
+        $line = $lt.getLine();
     }
-    ) per=preUnaryExpression
+    ) r=orExpression
     {
-        $multExprRet = new BinaryExpression($multExprRet, $per.preUnaryExprRet, $op);
-        $multExprRet.setLine($line);
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, $op);
+        $orExprRet.setLine($line);
     }
-    )*
-    ;
-
-preUnaryExpression returns[Expression preUnaryExprRet]
-    locals[UnaryOperator op, int line]:
-    (not=NOT
+    | l=orExpression
+    (eq=EQUAL
     {
-        $op = UnaryOperator.not;
-        $line = $not.getLine();
+        $op = BinaryOperator.eq;
+        $line = $eq.getLine();
     }
-    | minus=MINUS
+    | neq=NOT_EQUAL
     {
-        $op = UnaryOperator.minus;
-        $line = $minus.getLine();
+        $op = BinaryOperator.neq;
+        $line = $neq.getLine();
     }
-    | preinc=INCREMENT
+    ) r=orExpression
     {
-        $op = UnaryOperator.preinc;
-        $line = $preinc.getLine();
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, $op);
+        $orExprRet.setLine($line);
     }
-    | predec=DECREMENT
+    | l=orExpression a=AND r=orExpression
     {
-        $op = UnaryOperator.predec;
-        $line = $predec.getLine();
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, BinaryOperator.and);
+        $orExprRet.setLine($a.getLine());
     }
-    ) pre=preUnaryExpression
+    | l=orExpression o=OR r=orExpression
     {
-        $preUnaryExprRet = new UnaryExpression($pre.preUnaryExprRet, $op);
-        $preUnaryExprRet.setLine($line);
+        $orExprRet = new BinaryExpression($l.orExprRet, $r.orExprRet, BinaryOperator.or);
+        $orExprRet.setLine($o.getLine());
     }
-    | post=postUnaryExpression
-    { $preUnaryExprRet = $post.postUnaryExprRet; }
     ;
 
 postUnaryExpression returns[Expression postUnaryExprRet]:
@@ -0,0 +1,22 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+
+//the value of a func<...> expression: a method together with the object it is called on
+public class BoundMethod {
+    private final SophiaObject receiver;
+    private final MethodDeclaration method;
+
+    public BoundMethod(SophiaObject receiver, MethodDeclaration method) {
+        this.receiver = receiver;
+        this.method = method;
+    }
+
+    public SophiaObject getReceiver() {
+        return receiver;
+    }
+
+    public MethodDeclaration getMethod() {
+        return method;
+    }
+}
@@ -0,0 +1,100 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+
+//method calls and object creation
+final class CallNodes {
+    private CallNodes() {
+    }
+
+    //a call of a method named directly or through an object; which method runs is known when the node is made
+    static final class DirectCall extends ExpressionNode {
+        private final CallTarget target;
+        private final boolean[] copies;
+
+        //children are the receiver and then the arguments
+        DirectCall(ExpressionNode[] children, CallTarget target, boolean[] copies) {
+            super(children);
+            this.target = target;
+            this.copies = copies;
+        }
+
+        private Frame call(Frame frame) {
+            SophiaObject receiver = (SophiaObject) children[0].execute(frame);
+            if (receiver == null)
+                throw new NullPointerException("call of " + target.getMethod().getMethodName().getName() + " on null");
+            Frame callee = target.newFrame(receiver);
+            for (int i = 1; i < children.length; i++)
+                target.setArgument(callee, i - 1, children[i], frame, copies[i - 1]);
+            target.call(callee);
+            return callee;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            return target.getResult(call(frame));
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return call(frame).intResult;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return call(frame).intResult != 0;
+        }
+    }
+
+    //a call through a func<...> value, which is only known when the call runs
+    static final class PointerCall extends ExpressionNode {
+        private final Interpreter interpreter;
+        private final boolean[] copies;
+
+        //children are the function pointer and then the arguments
+        PointerCall(ExpressionNode[] children, Interpreter interpreter, boolean[] copies) {
+            super(children);
+            this.interpreter = interpreter;
+            this.copies = copies;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            BoundMethod method = (BoundMethod) children[0].execute(frame);
+            CallTarget target = interpreter.getCallTarget(method.getMethod());
+            Frame callee = target.newFrame(method.getReceiver());
+            for (int i = 1; i < children.length; i++)
+                target.setArgument(callee, i - 1, children[i], frame, copies[i - 1]);
+            target.call(callee);
+            return target.getResult(callee);
+        }
+    }
+
+    static final class NewObject extends ExpressionNode {
+        private final ClassTable classTable;
+        private final ClassDeclaration classDeclaration;
+        //null when the class has no constructor
+        private final CallTarget constructor;
+        private final boolean[] copies;
+
+        NewObject(ExpressionNode[] arguments, ClassTable classTable, ClassDeclaration classDeclaration, CallTarget constructor, boolean[] copies) {
+            super(arguments);
+            this.classTable = classTable;
+            this.classDeclaration = classDeclaration;
+            this.constructor = constructor;
+            this.copies = copies;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            SophiaObject object = classTable.newObject(classDeclaration);
+            if (constructor != null) {
+                Frame callee = constructor.newFrame(object);
+                for (int i = 0; i < children.length; i++)
+                    constructor.setArgument(callee, i, children[i], frame, copies[i]);
+                constructor.call(callee);
+            }
+            return object;
+        }
+    }
+}
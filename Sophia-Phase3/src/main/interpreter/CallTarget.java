@@ -0,0 +1,134 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.types.Type;
+import main.ast.types.list.ListType;
+import main.ast.types.single.StringType;
+import main.symbolTable.utils.symbol.Symbol;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//a method as Interpreter runs it. where each argument and local variable lives in a frame is settled when the target
+//is made; the statements become nodes on the first call
+final class CallTarget {
+    private static final byte INT = 0;
+    private static final byte BOOL = 1;
+    private static final byte OBJECT = 2;
+
+    private final Interpreter interpreter;
+    private final ClassDeclaration owner;
+    private final MethodDeclaration method;
+    private final Map<Symbol, Integer> slots = new HashMap<>();
+    private final byte[] argumentKinds;
+    private final int[] argumentSlots;
+    //local variables that do not start as 0 or null, and their types
+    private final List<Integer> initializedSlots = new ArrayList<>();
+    private final List<Type> initializedTypes = new ArrayList<>();
+    private final byte resultKind;
+    private int intSlots;
+    private int objectSlots;
+    private StatementNode[] body;
+
+    CallTarget(Interpreter interpreter, ClassDeclaration owner, MethodDeclaration method) {
+        this.interpreter = interpreter;
+        this.owner = owner;
+        this.method = method;
+        argumentKinds = new byte[method.getArgs().size()];
+        argumentSlots = new int[method.getArgs().size()];
+        for (int i = 0; i < argumentKinds.length; i++) {
+            VarDeclaration argument = method.getArgs().get(i);
+            argumentKinds[i] = kindOf(argument.getType());
+            argumentSlots[i] = allocate(argument.getVarName().getSymbol(), argument.getType());
+        }
+        for (VarDeclaration localVar : method.getLocalVars()) {
+            int slot = allocate(localVar.getVarName().getSymbol(), localVar.getType());
+            if (localVar.getType() instanceof StringType || localVar.getType() instanceof ListType) {
+                initializedSlots.add(slot);
+                initializedTypes.add(localVar.getType());
+            }
+        }
+        resultKind = kindOf(method.getReturnType());
+    }
+
+    private static byte kindOf(Type type) {
+        return Values.isInt(type) ? INT : Values.isBool(type) ? BOOL : OBJECT;
+    }
+
+    private int allocate(Symbol name, Type type) {
+        int slot = kindOf(type) == OBJECT ? objectSlots++ : intSlots++;
+        slots.put(name, slot);
+        return slot;
+    }
+
+    ClassDeclaration getOwner() {
+        return owner;
+    }
+
+    MethodDeclaration getMethod() {
+        return method;
+    }
+
+    boolean isConstructor() {
+        return method instanceof ConstructorDeclaration;
+    }
+
+    //the slot of an argument or local variable, null for any other name
+    Integer getSlot(Symbol name) {
+        return slots.get(name);
+    }
+
+    //a slot in objects no variable uses; only while the body is being made
+    int newObjectSlot() {
+        return objectSlots++;
+    }
+
+    Frame newFrame(SophiaObject self) {
+        if (body == null)
+            body = new NodeFactory(interpreter, this).createBody();
+        Frame frame = new Frame(self, intSlots, objectSlots);
+        for (int i = 0; i < initializedSlots.size(); i++)
+            frame.objects[initializedSlots.get(i)] = Values.defaultValue(initializedTypes.get(i));
+        return frame;
+    }
+
+    //evaluates argument in the caller's frame and passes it as argument index of a call about to run in callee
+    void setArgument(Frame callee, int index, ExpressionNode argument, Frame caller, boolean copy) {
+        switch (argumentKinds[index]) {
+            case INT:
+                callee.ints[argumentSlots[index]] = argument.executeInt(caller);
+                break;
+            case BOOL:
+                callee.ints[argumentSlots[index]] = argument.executeBool(caller) ? 1 : 0;
+                break;
+            default:
+                Object value = argument.execute(caller);
+                callee.objects[argumentSlots[index]] = copy ? Values.copy(value) : value;
+        }
+    }
+
+    //runs the method in frame, made by newFrame and given its arguments; the result is left in the frame
+    void call(Frame frame) {
+        for (StatementNode statement : body)
+            if (statement.execute(frame) == StatementNode.RETURN)
+                return;
+        if (resultKind == OBJECT)
+            frame.objectResult = Values.defaultValue(method.getReturnType());
+    }
+
+    Object getResult(Frame frame) {
+        switch (resultKind) {
+            case INT:
+                return frame.intResult;
+            case BOOL:
+                return frame.intResult != 0;
+            default:
+                return frame.objectResult;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package main.interpreter;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.classLayout.ClassLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+
+//the classes of a program, as the interpreters and VirtualMachine look them up while it runs
+public final class ClassTable {
+    private final Map<Symbol, ClassDeclaration> classes = new HashMap<>();
+    //the class that declares each method and constructor
+    private final Map<MethodDeclaration, ClassDeclaration> owners = new HashMap<>();
+
+    public ClassTable(Program program) {
+        for (ClassDeclaration classDeclaration : program.getClasses()) {
+            classes.put(classDeclaration.getClassName().getSymbol(), classDeclaration);
+            if (classDeclaration.getConstructor() != null)
+                owners.put(classDeclaration.getConstructor(), classDeclaration);
+            for (MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+                owners.put(methodDeclaration, classDeclaration);
+        }
+    }
+
+    public ClassDeclaration getClass(Symbol name) {
+        return classes.get(name);
+    }
+
+    public ClassDeclaration getOwner(MethodDeclaration methodDeclaration) {
+        return owners.get(methodDeclaration);
+    }
+
+    public ClassDeclaration getParent(ClassDeclaration classDeclaration) {
+        return classDeclaration.getParentClassName() == null ? null : classes.get(classDeclaration.getParentClassName().getSymbol());
+    }
+
+    //searches the class and then its ancestors; a method cannot be redefined below the class that declares it,
+    //so the static type of a receiver already settles which method a call runs
+    public MethodDeclaration findMethod(ClassDeclaration classDeclaration, Symbol name) {
+        for (ClassDeclaration current = classDeclaration; current != null; current = getParent(current))
+            for (MethodDeclaration methodDeclaration : current.getMethods())
+                if (methodDeclaration.getMethodName().getSymbol() == name)
+                    return methodDeclaration;
+        return null;
+    }
+
+    //a new object with every field at its default value; constructors run afterwards
+    public SophiaObject newObject(ClassDeclaration classDeclaration) {
+        SophiaObject object = new SophiaObject(classDeclaration);
+        ClassLayout layout = classDeclaration.getLayout();
+        for (int slot = 0; slot < layout.getFieldCount(); slot++)
+            object.setField(slot, Values.defaultValue(layout.getField(slot).getType()));
+        return object;
+    }
+}
@@ -0,0 +1,49 @@
+package main.interpreter;
+
+//evaluates an expression. a node that knows its value is an int or a bool overrides executeInt or executeBool so
+//that its parent can take the value without boxing it
+abstract class ExpressionNode extends Node {
+    ExpressionNode(ExpressionNode... children) {
+        super(children);
+    }
+
+    abstract Object execute(Frame frame);
+
+    int executeInt(Frame frame) {
+        return (Integer) execute(frame);
+    }
+
+    boolean executeBool(Frame frame) {
+        return (Boolean) execute(frame);
+    }
+
+    //an int valued expression
+    abstract static class IntNode extends ExpressionNode {
+        IntNode(ExpressionNode... children) {
+            super(children);
+        }
+
+        @Override
+        abstract int executeInt(Frame frame);
+
+        @Override
+        Object execute(Frame frame) {
+            return executeInt(frame);
+        }
+    }
+
+    //a bool valued expression
+    abstract static class BoolNode extends ExpressionNode {
+        BoolNode(ExpressionNode... children) {
+            super(children);
+        }
+
+        @Override
+        abstract boolean executeBool(Frame frame);
+
+        @Override
+        Object execute(Frame frame) {
+            return executeBool(frame);
+        }
+    }
+}
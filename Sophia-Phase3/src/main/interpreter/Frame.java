@@ -0,0 +1,17 @@
+package main.interpreter;
+
+//the variables of one call: int and bool ones (a bool as 0 or 1) in ints, all others in objects
+final class Frame {
+    final SophiaObject self;
+    final int[] ints;
+    final Object[] objects;
+    //what the call returned, by the kind of its return type
+    int intResult;
+    Object objectResult;
+
+    Frame(SophiaObject self, int intSlots, int objectSlots) {
+        this.self = self;
+        this.ints = new int[intSlots];
+        this.objects = new Object[objectSlots];
+    }
+}
@@ -0,0 +1,51 @@
+package main.interpreter;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.symbolTable.utils.symbol.Symbol;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+
+//runs a program that passed type checking on a tree of nodes made from its AST. each expression node is made when it
+//first runs, as the node for its static type, so ints and bools stay unboxed in frames and between nodes, and a call
+//finds its method once rather than every time it runs
+public class Interpreter {
+    private final ClassTable classTable;
+    private final PrintStream out;
+    private final Map<MethodDeclaration, CallTarget> callTargets = new HashMap<>();
+
+    public Interpreter(Program program, PrintStream out) {
+        this.classTable = new ClassTable(program);
+        this.out = out;
+    }
+
+    //runs the constructor of Main
+    public void run() {
+        ClassDeclaration main = classTable.getClass(Symbol.of("Main"));
+        SophiaObject object = classTable.newObject(main);
+        if (main.getConstructor() != null) {
+            CallTarget constructor = getCallTarget(main.getConstructor());
+            constructor.call(constructor.newFrame(object));
+        }
+    }
+
+    CallTarget getCallTarget(MethodDeclaration methodDeclaration) {
+        CallTarget callTarget = callTargets.get(methodDeclaration);
+        if (callTarget == null) {
+            callTarget = new CallTarget(this, classTable.getOwner(methodDeclaration), methodDeclaration);
+            callTargets.put(methodDeclaration, callTarget);
+        }
+        return callTarget;
+    }
+
+    ClassTable getClassTable() {
+        return classTable;
+    }
+
+    PrintStream getOut() {
+        return out;
+    }
+}
@@ -0,0 +1,368 @@
+package main.interpreter;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.list.ListType;
+import main.runtime.SophiaList;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.Visitor;
+
+import java.io.PrintStream;
+import java.util.*;
+
+//runs a program that passed type checking by walking its AST: every value is boxed, variables live in a map per call
+//and each call looks its method up by name. it is the baseline Interpreter is measured against.
+//statements evaluate to null, or to BREAK, CONTINUE or RETURN when they end the way those do
+public class NaiveInterpreter extends Visitor<Object> {
+    private static final Object BREAK = new Object();
+    private static final Object CONTINUE = new Object();
+    //the value returned is in returnValue
+    private static final Object RETURN = new Object();
+
+    private final ClassTable classTable;
+    private final PrintStream out;
+    private Map<Symbol, Object> locals;
+    private SophiaObject self;
+    private MethodDeclaration currentMethod;
+    private Object returnValue;
+
+    public NaiveInterpreter(Program program, PrintStream out) {
+        this.classTable = new ClassTable(program);
+        this.out = out;
+    }
+
+    //runs the constructor of Main
+    public void run() {
+        newObject(classTable.getClass(Symbol.of("Main")), Collections.emptyList());
+    }
+
+    private SophiaObject newObject(ClassDeclaration classDeclaration, List<Expression> arguments) {
+        SophiaObject object = classTable.newObject(classDeclaration);
+        if (classDeclaration.getConstructor() != null)
+            call(object, classDeclaration.getConstructor(), evaluateArguments(arguments));
+        return object;
+    }
+
+    private List<Object> evaluateArguments(List<Expression> arguments) {
+        List<Object> values = new ArrayList<>();
+        for (Expression argument : arguments)
+            values.add(Values.copy(argument.accept(this)));
+        return values;
+    }
+
+    private Object call(SophiaObject receiver, MethodDeclaration method, List<Object> arguments) {
+        Map<Symbol, Object> callerLocals = locals;
+        SophiaObject callerSelf = self;
+        MethodDeclaration callerMethod = currentMethod;
+        locals = new HashMap<>();
+        self = receiver;
+        currentMethod = method;
+        for (int i = 0; i < method.getArgs().size(); i++)
+            locals.put(method.getArgs().get(i).getVarName().getSymbol(), arguments.get(i));
+        for (VarDeclaration varDeclaration : method.getLocalVars())
+            locals.put(varDeclaration.getVarName().getSymbol(), Values.defaultValue(varDeclaration.getType()));
+        Object result = Values.defaultValue(method.getReturnType());
+        for (Statement statement : method.getBody())
+            if (statement.accept(this) == RETURN) {
+                result = returnValue;
+                break;
+            }
+        locals = callerLocals;
+        self = callerSelf;
+        currentMethod = callerMethod;
+        return result;
+    }
+
+    private ClassDeclaration currentClass() {
+        return classTable.getOwner(currentMethod);
+    }
+
+    //lists do not carry the names of their elements, the type the checker gave the list does
+    private static int memberIndex(ObjectOrListMemberAccess access) {
+        if (!(access.getInstance().getType() instanceof ListType))
+            throw new IllegalStateException("Line:" + access.getLine() + ":cannot interpret " + access);
+        return ((ListType) access.getInstance().getType()).indexOf(access.getMemberName().getSymbol());
+    }
+
+    //stores the value of rvalue to lvalue and returns it; whatever lvalue is inside is evaluated first
+    private Object assign(Expression lvalue, Expression rvalue) {
+        if (lvalue instanceof Identifier) {
+            Object value = Values.copy(rvalue.accept(this));
+            assignName(((Identifier) lvalue).getSymbol(), value);
+            return value;
+        }
+        if (lvalue instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) lvalue;
+            Object instance = access.getInstance().accept(this);
+            Object value = Values.copy(rvalue.accept(this));
+            if (instance instanceof SophiaList)
+                ((SophiaList) instance).set(memberIndex(access), value);
+            else
+                ((SophiaObject) instance).setField(access.getMemberName().getSymbol(), value);
+            return value;
+        }
+        ListAccessByIndex access = (ListAccessByIndex) lvalue;
+        SophiaList list = (SophiaList) access.getInstance().accept(this);
+        int index = (Integer) access.getIndex().accept(this);
+        Object value = Values.copy(rvalue.accept(this));
+        list.set(index, value);
+        return value;
+    }
+
+    private void assignName(Symbol name, Object value) {
+        if (locals.containsKey(name))
+            locals.put(name, value);
+        else
+            self.setField(name, value);
+    }
+
+    //++ and -- on a variable, field or element, which is found once
+    private Object incDec(UnaryExpression unaryExpression) {
+        UnaryOperator operator = unaryExpression.getOperator();
+        int change = operator == UnaryOperator.preinc || operator == UnaryOperator.postinc ? 1 : -1;
+        boolean post = operator == UnaryOperator.postinc || operator == UnaryOperator.postdec;
+        Expression lvalue = unaryExpression.getOperand();
+        int old;
+        if (lvalue instanceof Identifier) {
+            Symbol name = ((Identifier) lvalue).getSymbol();
+            old = (Integer) lvalue.accept(this);
+            assignName(name, old + change);
+        } else if (lvalue instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) lvalue;
+            Object instance = access.getInstance().accept(this);
+            if (instance instanceof SophiaList) {
+                int index = memberIndex(access);
+                old = (Integer) ((SophiaList) instance).get(index);
+                ((SophiaList) instance).set(index, old + change);
+            } else {
+                Symbol name = access.getMemberName().getSymbol();
+                old = (Integer) ((SophiaObject) instance).getField(name);
+                ((SophiaObject) instance).setField(name, old + change);
+            }
+        } else {
+            ListAccessByIndex access = (ListAccessByIndex) lvalue;
+            SophiaList list = (SophiaList) access.getInstance().accept(this);
+            int index = (Integer) access.getIndex().accept(this);
+            old = (Integer) list.get(index);
+            list.set(index, old + change);
+        }
+        return post ? old : old + change;
+    }
+
+    @Override
+    public Object visit(AssignmentStmt assignmentStmt) {
+        assign(assignmentStmt.getlValue(), assignmentStmt.getrValue());
+        return null;
+    }
+
+    @Override
+    public Object visit(BlockStmt blockStmt) {
+        for (Statement statement : blockStmt.getStatements()) {
+            Object signal = statement.accept(this);
+            if (signal != null)
+                return signal;
+        }
+        return null;
+    }
+
+    @Override
+    public Object visit(ConditionalStmt conditionalStmt) {
+        if ((Boolean) conditionalStmt.getCondition().accept(this))
+            return conditionalStmt.getThenBody().accept(this);
+        if (conditionalStmt.getElseBody() != null)
+            return conditionalStmt.getElseBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Object visit(MethodCallStmt methodCallStmt) {
+        methodCallStmt.getMethodCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Object visit(PrintStmt print) {
+        out.println(print.getArg().accept(this));
+        return null;
+    }
+
+    @Override
+    public Object visit(ReturnStmt returnStmt) {
+        returnValue = returnStmt.getReturnedExpr() == null ? null : Values.copy(returnStmt.getReturnedExpr().accept(this));
+        return RETURN;
+    }
+
+    @Override
+    public Object visit(BreakStmt breakStmt) {
+        return BREAK;
+    }
+
+    @Override
+    public Object visit(ContinueStmt continueStmt) {
+        return CONTINUE;
+    }
+
+    @Override
+    public Object visit(ForeachStmt foreachStmt) {
+        SophiaList list = (SophiaList) foreachStmt.getList().accept(this);
+        for (int i = 0; i < list.size(); i++) {
+            assignName(foreachStmt.getVariable().getSymbol(), Values.copy(list.get(i)));
+            Object signal = foreachStmt.getBody().accept(this);
+            if (signal == BREAK)
+                break;
+            if (signal == RETURN)
+                return signal;
+        }
+        return null;
+    }
+
+    @Override
+    public Object visit(ForStmt forStmt) {
+        if (forStmt.getInitialize() != null)
+            forStmt.getInitialize().accept(this);
+        while (forStmt.getCondition() == null || (Boolean) forStmt.getCondition().accept(this)) {
+            Object signal = forStmt.getBody().accept(this);
+            if (signal == BREAK)
+                break;
+            if (signal == RETURN)
+                return signal;
+            if (forStmt.getUpdate() != null)
+                forStmt.getUpdate().accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Object visit(BinaryExpression binaryExpression) {
+        Expression first = binaryExpression.getFirstOperand();
+        Expression second = binaryExpression.getSecondOperand();
+        switch (binaryExpression.getBinaryOperator()) {
+            case assign:
+                return assign(first, second);
+            case and:
+                return (Boolean) first.accept(this) && (Boolean) second.accept(this);
+            case or:
+                return (Boolean) first.accept(this) || (Boolean) second.accept(this);
+            case eq:
+                return Values.equal(first.accept(this), second.accept(this));
+            case neq:
+                return !Values.equal(first.accept(this), second.accept(this));
+        }
+        int left = (Integer) first.accept(this);
+        int right = (Integer) second.accept(this);
+        switch (binaryExpression.getBinaryOperator()) {
+            case add:
+                return left + right;
+            case sub:
+                return left - right;
+            case mult:
+                return left * right;
+            case div:
+                return left / right;
+            case mod:
+                return left % right;
+            case lt:
+                return left < right;
+            default:
+                return left > right;
+        }
+    }
+
+    @Override
+    public Object visit(UnaryExpression unaryExpression) {
+        switch (unaryExpression.getOperator()) {
+            case minus:
+                return -(Integer) unaryExpression.getOperand().accept(this);
+            case not:
+                return !(Boolean) unaryExpression.getOperand().accept(this);
+            default:
+                return incDec(unaryExpression);
+        }
+    }
+
+    @Override
+    public Object visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        Object instance = objectOrListMemberAccess.getInstance().accept(this);
+        if (instance instanceof SophiaList)
+            return ((SophiaList) instance).get(memberIndex(objectOrListMemberAccess));
+        SophiaObject object = (SophiaObject) instance;
+        Symbol name = objectOrListMemberAccess.getMemberName().getSymbol();
+        if (object.hasField(name))
+            return object.getField(name);
+        return new BoundMethod(object, classTable.findMethod(object.getClassDeclaration(), name));
+    }
+
+    @Override
+    public Object visit(Identifier identifier) {
+        Symbol name = identifier.getSymbol();
+        if (locals.containsKey(name))
+            return locals.get(name);
+        if (self.hasField(name))
+            return self.getField(name);
+        return new BoundMethod(self, classTable.findMethod(currentClass(), name));
+    }
+
+    @Override
+    public Object visit(ListAccessByIndex listAccessByIndex) {
+        SophiaList list = (SophiaList) listAccessByIndex.getInstance().accept(this);
+        return list.get((Integer) listAccessByIndex.getIndex().accept(this));
+    }
+
+    @Override
+    public Object visit(MethodCall methodCall) {
+        BoundMethod method = (BoundMethod) methodCall.getInstance().accept(this);
+        return call(method.getReceiver(), method.getMethod(), evaluateArguments(methodCall.getArgs()));
+    }
+
+    @Override
+    public Object visit(NewClassInstance newClassInstance) {
+        return newObject(classTable.getClass(newClassInstance.getClassType().getClassName().getSymbol()), newClassInstance.getArgs());
+    }
+
+    @Override
+    public Object visit(ThisClass thisClass) {
+        return self;
+    }
+
+    @Override
+    public Object visit(ListValue listValue) {
+        Object[] elements = new Object[listValue.getElements().size()];
+        for (int i = 0; i < elements.length; i++)
+            elements[i] = Values.copy(listValue.getElements().get(i).accept(this));
+        return new SophiaList(elements);
+    }
+
+    @Override
+    public Object visit(NullValue nullValue) {
+        return null;
+    }
+
+    @Override
+    public Object visit(IntValue intValue) {
+        return intValue.getConstant();
+    }
+
+    @Override
+    public Object visit(BoolValue boolValue) {
+        return boolValue.getConstant();
+    }
+
+    @Override
+    public Object visit(StringValue stringValue) {
+        return stringValue.getConstant();
+    }
+}
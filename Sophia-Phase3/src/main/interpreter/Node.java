@@ -0,0 +1,27 @@
+package main.interpreter;
+
+//a node of the tree Interpreter runs. expression nodes are the children of a node; one can put another node in its
+//place, which is how an expression specializes itself when it first runs
+abstract class Node {
+    private Node parent;
+    private int index;
+    protected final ExpressionNode[] children;
+
+    Node(ExpressionNode... children) {
+        this.children = children;
+        for (int i = 0; i < children.length; i++) {
+            Node child = children[i];
+            child.parent = this;
+            child.index = i;
+        }
+    }
+
+    //puts node where this is in the tree and returns it
+    <T extends ExpressionNode> T replace(T node) {
+        Node replacement = node;
+        replacement.parent = parent;
+        replacement.index = index;
+        parent.children[index] = node;
+        return node;
+    }
+}
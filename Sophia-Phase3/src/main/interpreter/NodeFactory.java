@@ -0,0 +1,408 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.StringType;
+import main.interpreter.CallNodes.*;
+import main.interpreter.OperatorNodes.*;
+import main.interpreter.StatementNodes.*;
+import main.interpreter.ValueNodes.*;
+import main.interpreter.VariableNodes.*;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.Visitor;
+import main.visitor.classLayout.ClassLayout;
+
+import java.util.List;
+
+//makes the nodes of one method. the static type of an expression picks its node: an addition of ints becomes an
+//IntAdd and a read of an int variable an IntLocalRead, neither of which boxes. the operands of an expression start
+//as UninitializedNodes, each of which asks for its own node when it first runs
+final class NodeFactory extends Visitor<Node> {
+    private final Interpreter interpreter;
+    private final CallTarget callTarget;
+
+    NodeFactory(Interpreter interpreter, CallTarget callTarget) {
+        this.interpreter = interpreter;
+        this.callTarget = callTarget;
+    }
+
+    StatementNode[] createBody() {
+        List<Statement> body = callTarget.getMethod().getBody();
+        StatementNode[] statements = new StatementNode[body.size()];
+        for (int i = 0; i < statements.length; i++)
+            statements[i] = statement(body.get(i));
+        return statements;
+    }
+
+    ExpressionNode create(Expression expression) {
+        return (ExpressionNode) expression.accept(this);
+    }
+
+    private ExpressionNode lazy(Expression expression) {
+        return new UninitializedNode(expression, this);
+    }
+
+    private StatementNode statement(Statement statement) {
+        return (StatementNode) statement.accept(this);
+    }
+
+    //the type the checker gave expression
+    private Type typeOf(Expression expression) {
+        Type type = expression.getType();
+        if (type == null || type instanceof NoType)
+            throw new IllegalStateException("Line:" + expression.getLine() + ":cannot interpret " + expression);
+        return type;
+    }
+
+    //lists are values: one that lives somewhere else is copied when it is stored or passed on
+    private boolean copies(Expression expression) {
+        return !(expression instanceof ListValue) && typeOf(expression) instanceof ListType;
+    }
+
+    private ExpressionNode[] lazy(List<Expression> expressions, ExpressionNode first) {
+        int offset = first == null ? 0 : 1;
+        ExpressionNode[] nodes = new ExpressionNode[expressions.size() + offset];
+        if (first != null)
+            nodes[0] = first;
+        for (int i = 0; i < expressions.size(); i++)
+            nodes[i + offset] = lazy(expressions.get(i));
+        return nodes;
+    }
+
+    private boolean[] copies(List<Expression> expressions) {
+        boolean[] copies = new boolean[expressions.size()];
+        for (int i = 0; i < copies.length; i++)
+            copies[i] = copies(expressions.get(i));
+        return copies;
+    }
+
+    private ClassLayout currentLayout() {
+        return callTarget.getOwner().getLayout();
+    }
+
+    private ClassLayout layoutOf(Type classType) {
+        return interpreter.getClassTable().getClass(((ClassType) classType).getClassName().getSymbol()).getLayout();
+    }
+
+    //the slot of a field in objects of a class, or -1 when name is a method
+    private int fieldSlot(ClassLayout layout, Symbol name) {
+        return layout.getFieldSlot(name);
+    }
+
+    private int fieldSlot(Expression instance, Symbol name) {
+        return fieldSlot(layoutOf(typeOf(instance)), name);
+    }
+
+    private MethodDeclaration method(ClassLayout layout, Symbol name) {
+        return layout.getMethod(layout.getMethodSlot(name));
+    }
+
+    //expression run for its effects
+    private StatementNode evaluate(ExpressionNode expression, Type type) {
+        if (Values.isInt(type))
+            return new IntEvaluate(expression);
+        if (Values.isBool(type))
+            return new BoolEvaluate(expression);
+        return new Evaluate(expression);
+    }
+
+    //stores value to lvalue; whatever lvalue is inside is evaluated before value
+    private ExpressionNode assignment(Expression lvalue, ExpressionNode value, boolean copy) {
+        if (lvalue instanceof Identifier) {
+            Symbol name = ((Identifier) lvalue).getSymbol();
+            Integer slot = callTarget.getSlot(name);
+            if (slot == null)
+                return new FieldAssign(new Self(), fieldSlot(currentLayout(), name), value, copy);
+            Type type = typeOf(lvalue);
+            if (Values.isInt(type))
+                return new IntLocalAssign(slot, value);
+            if (Values.isBool(type))
+                return new BoolLocalAssign(slot, value);
+            return new ObjectLocalAssign(slot, value, copy);
+        }
+        if (lvalue instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) lvalue;
+            Type instanceType = typeOf(access.getInstance());
+            if (instanceType instanceof ListType)
+                return new ElementAssign(lazy(access.getInstance()), new IntConstant(memberIndex(access, (ListType) instanceType)), value, copy);
+            return new FieldAssign(lazy(access.getInstance()), fieldSlot(access.getInstance(), access.getMemberName().getSymbol()), value, copy);
+        }
+        if (lvalue instanceof ListAccessByIndex) {
+            ListAccessByIndex access = (ListAccessByIndex) lvalue;
+            return new ElementAssign(lazy(access.getInstance()), lazy(access.getIndex()), value, copy);
+        }
+        throw new IllegalStateException("Line:" + lvalue.getLine() + ":cannot assign to " + lvalue);
+    }
+
+    private static int memberIndex(ObjectOrListMemberAccess access, ListType listType) {
+        return listType.indexOf(access.getMemberName().getSymbol());
+    }
+
+    @Override
+    public Node visit(AssignmentStmt assignmentStmt) {
+        Expression rvalue = assignmentStmt.getrValue();
+        return evaluate(assignment(assignmentStmt.getlValue(), lazy(rvalue), copies(rvalue)), typeOf(assignmentStmt.getlValue()));
+    }
+
+    @Override
+    public Node visit(BlockStmt blockStmt) {
+        StatementNode[] statements = new StatementNode[blockStmt.getStatements().size()];
+        for (int i = 0; i < statements.length; i++)
+            statements[i] = statement(blockStmt.getStatements().get(i));
+        return new Block(statements);
+    }
+
+    @Override
+    public Node visit(ConditionalStmt conditionalStmt) {
+        StatementNode elseBody = conditionalStmt.getElseBody() == null ? null : statement(conditionalStmt.getElseBody());
+        return new If(lazy(conditionalStmt.getCondition()), statement(conditionalStmt.getThenBody()), elseBody);
+    }
+
+    @Override
+    public Node visit(MethodCallStmt methodCallStmt) {
+        return evaluate(lazy(methodCallStmt.getMethodCall()), typeOf(methodCallStmt.getMethodCall()));
+    }
+
+    @Override
+    public Node visit(PrintStmt print) {
+        Type type = typeOf(print.getArg());
+        if (Values.isInt(type))
+            return new IntPrint(lazy(print.getArg()), interpreter.getOut());
+        if (Values.isBool(type))
+            return new BoolPrint(lazy(print.getArg()), interpreter.getOut());
+        return new ObjectPrint(lazy(print.getArg()), interpreter.getOut());
+    }
+
+    @Override
+    public Node visit(ReturnStmt returnStmt) {
+        Type returnType = callTarget.getMethod().getReturnType();
+        if (callTarget.isConstructor() || returnType instanceof NullType)
+            return new Return();
+        Expression value = returnStmt.getReturnedExpr();
+        if (Values.isInt(returnType))
+            return new IntReturn(lazy(value));
+        if (Values.isBool(returnType))
+            return new BoolReturn(lazy(value));
+        return new ObjectReturn(lazy(value), copies(value));
+    }
+
+    @Override
+    public Node visit(BreakStmt breakStmt) {
+        return new Break();
+    }
+
+    @Override
+    public Node visit(ContinueStmt continueStmt) {
+        return new Continue();
+    }
+
+    @Override
+    public Node visit(ForeachStmt foreachStmt) {
+        int elementSlot = callTarget.newObjectSlot();
+        Type variableType = typeOf(foreachStmt.getVariable());
+        ExpressionNode assignElement = assignment(foreachStmt.getVariable(), new ObjectLocalRead(elementSlot), variableType instanceof ListType);
+        return new Foreach(lazy(foreachStmt.getList()), elementSlot, evaluate(assignElement, variableType), statement(foreachStmt.getBody()));
+    }
+
+    @Override
+    public Node visit(ForStmt forStmt) {
+        StatementNode initialize = forStmt.getInitialize() == null ? null : statement(forStmt.getInitialize());
+        ExpressionNode condition = forStmt.getCondition() == null ? null : lazy(forStmt.getCondition());
+        StatementNode update = forStmt.getUpdate() == null ? null : statement(forStmt.getUpdate());
+        return new For(initialize, condition, update, statement(forStmt.getBody()));
+    }
+
+    @Override
+    public Node visit(BinaryExpression binaryExpression) {
+        Expression first = binaryExpression.getFirstOperand();
+        Expression second = binaryExpression.getSecondOperand();
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        switch (operator) {
+            case assign:
+                return assignment(first, lazy(second), copies(second));
+            case add:
+                return new IntAdd(lazy(first), lazy(second));
+            case sub:
+                return new IntSubtract(lazy(first), lazy(second));
+            case mult:
+                return new IntMultiply(lazy(first), lazy(second));
+            case div:
+                return new IntDivide(lazy(first), lazy(second));
+            case mod:
+                return new IntModulo(lazy(first), lazy(second));
+            case lt:
+                return new IntLess(lazy(first), lazy(second));
+            case gt:
+                return new IntGreater(lazy(first), lazy(second));
+            case and:
+                return new And(lazy(first), lazy(second));
+            case or:
+                return new Or(lazy(first), lazy(second));
+        }
+        //eq and neq: the operand that is not the literal null tells what is compared
+        boolean negated = operator == BinaryOperator.neq;
+        Type type = typeOf(first);
+        if (type instanceof NullType)
+            type = typeOf(second);
+        if (Values.isInt(type))
+            return new IntEqual(lazy(first), lazy(second), negated);
+        if (Values.isBool(type))
+            return new BoolEqual(lazy(first), lazy(second), negated);
+        if (type instanceof StringType)
+            return new StringEqual(lazy(first), lazy(second), negated);
+        return new ReferenceEqual(lazy(first), lazy(second), negated);
+    }
+
+    @Override
+    public Node visit(UnaryExpression unaryExpression) {
+        UnaryOperator operator = unaryExpression.getOperator();
+        Expression operand = unaryExpression.getOperand();
+        if (operator == UnaryOperator.minus)
+            return new IntNegate(lazy(operand));
+        if (operator == UnaryOperator.not)
+            return new Not(lazy(operand));
+        int change = operator == UnaryOperator.preinc || operator == UnaryOperator.postinc ? 1 : -1;
+        boolean post = operator == UnaryOperator.postinc || operator == UnaryOperator.postdec;
+        if (operand instanceof Identifier) {
+            Symbol name = ((Identifier) operand).getSymbol();
+            Integer slot = callTarget.getSlot(name);
+            return slot == null ? new FieldIncrement(new Self(), fieldSlot(currentLayout(), name), change, post) : new IntLocalIncrement(slot, change, post);
+        }
+        if (operand instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) operand;
+            Type instanceType = typeOf(access.getInstance());
+            if (instanceType instanceof ListType)
+                return new ElementIncrement(lazy(access.getInstance()), new IntConstant(memberIndex(access, (ListType) instanceType)), change, post);
+            return new FieldIncrement(lazy(access.getInstance()), fieldSlot(access.getInstance(), access.getMemberName().getSymbol()), change, post);
+        }
+        if (operand instanceof ListAccessByIndex) {
+            ListAccessByIndex access = (ListAccessByIndex) operand;
+            return new ElementIncrement(lazy(access.getInstance()), lazy(access.getIndex()), change, post);
+        }
+        throw new IllegalStateException("Line:" + operand.getLine() + ":cannot assign to " + operand);
+    }
+
+    @Override
+    public Node visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        Expression instance = objectOrListMemberAccess.getInstance();
+        Symbol name = objectOrListMemberAccess.getMemberName().getSymbol();
+        Type instanceType = typeOf(instance);
+        if (instanceType instanceof ListType)
+            return new ElementRead(lazy(instance), new IntConstant(memberIndex(objectOrListMemberAccess, (ListType) instanceType)));
+        ClassLayout layout = layoutOf(instanceType);
+        int field = fieldSlot(layout, name);
+        if (field != -1)
+            return new FieldRead(lazy(instance), field);
+        return new BoundMethodRead(lazy(instance), method(layout, name));
+    }
+
+    @Override
+    public Node visit(Identifier identifier) {
+        Symbol name = identifier.getSymbol();
+        Integer slot = callTarget.getSlot(name);
+        if (slot != null) {
+            Type type = typeOf(identifier);
+            if (Values.isInt(type))
+                return new IntLocalRead(slot);
+            if (Values.isBool(type))
+                return new BoolLocalRead(slot);
+            return new ObjectLocalRead(slot);
+        }
+        int field = fieldSlot(currentLayout(), name);
+        if (field != -1)
+            return new FieldRead(new Self(), field);
+        return new BoundMethodRead(new Self(), method(currentLayout(), name));
+    }
+
+    @Override
+    public Node visit(ListAccessByIndex listAccessByIndex) {
+        return new ElementRead(lazy(listAccessByIndex.getInstance()), lazy(listAccessByIndex.getIndex()));
+    }
+
+    @Override
+    public Node visit(MethodCall methodCall) {
+        Expression instance = methodCall.getInstance();
+        List<Expression> arguments = methodCall.getArgs();
+        //a method named directly, or through an object, is found now; anything else is a function pointer
+        ExpressionNode receiver = null;
+        MethodDeclaration method = null;
+        if (instance instanceof Identifier && callTarget.getSlot(((Identifier) instance).getSymbol()) == null
+                && fieldSlot(currentLayout(), ((Identifier) instance).getSymbol()) == -1) {
+            receiver = new Self();
+            method = method(currentLayout(), ((Identifier) instance).getSymbol());
+        } else if (instance instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) instance;
+            Type instanceType = typeOf(access.getInstance());
+            if (instanceType instanceof ClassType) {
+                ClassLayout layout = layoutOf(instanceType);
+                if (fieldSlot(layout, access.getMemberName().getSymbol()) == -1) {
+                    receiver = lazy(access.getInstance());
+                    method = method(layout, access.getMemberName().getSymbol());
+                }
+            }
+        }
+        if (method != null) {
+            CallTarget target = interpreter.getCallTarget(method);
+            return new DirectCall(lazy(arguments, receiver), target, copies(arguments));
+        }
+        return new PointerCall(lazy(arguments, lazy(instance)), interpreter, copies(arguments));
+    }
+
+    @Override
+    public Node visit(NewClassInstance newClassInstance) {
+        ClassTable classTable = interpreter.getClassTable();
+        ClassDeclaration classDeclaration = classTable.getClass(newClassInstance.getClassType().getClassName().getSymbol());
+        MethodDeclaration constructor = classDeclaration.getConstructor();
+        List<Expression> arguments = newClassInstance.getArgs();
+        return new NewObject(lazy(arguments, null), classTable, classDeclaration,
+                constructor == null ? null : interpreter.getCallTarget(constructor), copies(arguments));
+    }
+
+    @Override
+    public Node visit(ThisClass thisClass) {
+        return new Self();
+    }
+
+    @Override
+    public Node visit(ListValue listValue) {
+        return new NewList(lazy(listValue.getElements(), null), copies(listValue.getElements()));
+    }
+
+    @Override
+    public Node visit(NullValue nullValue) {
+        return new ObjectConstant(null);
+    }
+
+    @Override
+    public Node visit(IntValue intValue) {
+        return new IntConstant(intValue.getConstant());
+    }
+
+    @Override
+    public Node visit(BoolValue boolValue) {
+        return new BoolConstant(boolValue.getConstant());
+    }
+
+    @Override
+    public Node visit(StringValue stringValue) {
+        return new ObjectConstant(stringValue.getConstant());
+    }
+}
@@ -0,0 +1,191 @@
+package main.interpreter;
+
+import main.interpreter.ExpressionNode.BoolNode;
+import main.interpreter.ExpressionNode.IntNode;
+
+import java.util.Objects;
+
+//operators, one node per operator and operand type
+final class OperatorNodes {
+    private OperatorNodes() {
+    }
+
+    static final class IntAdd extends IntNode {
+        IntAdd(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return children[0].executeInt(frame) + children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntSubtract extends IntNode {
+        IntSubtract(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return children[0].executeInt(frame) - children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntMultiply extends IntNode {
+        IntMultiply(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return children[0].executeInt(frame) * children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntDivide extends IntNode {
+        IntDivide(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return children[0].executeInt(frame) / children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntModulo extends IntNode {
+        IntModulo(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return children[0].executeInt(frame) % children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntNegate extends IntNode {
+        IntNegate(ExpressionNode operand) {
+            super(operand);
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return -children[0].executeInt(frame);
+        }
+    }
+
+    static final class IntLess extends BoolNode {
+        IntLess(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return children[0].executeInt(frame) < children[1].executeInt(frame);
+        }
+    }
+
+    static final class IntGreater extends BoolNode {
+        IntGreater(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return children[0].executeInt(frame) > children[1].executeInt(frame);
+        }
+    }
+
+    //== on ints, or != when negated; the other equalities work the same way
+    static final class IntEqual extends BoolNode {
+        private final boolean negated;
+
+        IntEqual(ExpressionNode left, ExpressionNode right, boolean negated) {
+            super(left, right);
+            this.negated = negated;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return (children[0].executeInt(frame) == children[1].executeInt(frame)) != negated;
+        }
+    }
+
+    static final class BoolEqual extends BoolNode {
+        private final boolean negated;
+
+        BoolEqual(ExpressionNode left, ExpressionNode right, boolean negated) {
+            super(left, right);
+            this.negated = negated;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return (children[0].executeBool(frame) == children[1].executeBool(frame)) != negated;
+        }
+    }
+
+    static final class StringEqual extends BoolNode {
+        private final boolean negated;
+
+        StringEqual(ExpressionNode left, ExpressionNode right, boolean negated) {
+            super(left, right);
+            this.negated = negated;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return Objects.equals(children[0].execute(frame), children[1].execute(frame)) != negated;
+        }
+    }
+
+    //objects, lists and function pointers are equal only when they are the same one
+    static final class ReferenceEqual extends BoolNode {
+        private final boolean negated;
+
+        ReferenceEqual(ExpressionNode left, ExpressionNode right, boolean negated) {
+            super(left, right);
+            this.negated = negated;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return (children[0].execute(frame) == children[1].execute(frame)) != negated;
+        }
+    }
+
+    static final class And extends BoolNode {
+        And(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return children[0].executeBool(frame) && children[1].executeBool(frame);
+        }
+    }
+
+    static final class Or extends BoolNode {
+        Or(ExpressionNode left, ExpressionNode right) {
+            super(left, right);
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return children[0].executeBool(frame) || children[1].executeBool(frame);
+        }
+    }
+
+    static final class Not extends BoolNode {
+        Not(ExpressionNode operand) {
+            super(operand);
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return !children[0].executeBool(frame);
+        }
+    }
+}
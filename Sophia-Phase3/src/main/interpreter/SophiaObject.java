@@ -0,0 +1,42 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.classLayout.ClassLayout;
+
+//an object while a program is interpreted; it has every field of its class and of the classes above it,
+//each in the slot the layout of its class gives it
+public class SophiaObject {
+    private final ClassDeclaration classDeclaration;
+    private final Object[] fields;
+
+    public SophiaObject(ClassDeclaration classDeclaration) {
+        this.classDeclaration = classDeclaration;
+        this.fields = new Object[classDeclaration.getLayout().getFieldCount()];
+    }
+
+    public ClassDeclaration getClassDeclaration() {
+        return classDeclaration;
+    }
+
+    public Object getField(int slot) {
+        return fields[slot];
+    }
+
+    public void setField(int slot, Object value) {
+        fields[slot] = value;
+    }
+
+    //by name, for NaiveInterpreter, which looks every member up as it runs
+    public boolean hasField(Symbol name) {
+        return classDeclaration.getLayout().getFieldSlot(name) != -1;
+    }
+
+    public Object getField(Symbol name) {
+        return fields[classDeclaration.getLayout().getFieldSlot(name)];
+    }
+
+    public void setField(Symbol name, Object value) {
+        fields[classDeclaration.getLayout().getFieldSlot(name)] = value;
+    }
+}
@@ -0,0 +1,16 @@
+package main.interpreter;
+
+//executes a statement and tells how it ended
+abstract class StatementNode extends Node {
+    static final int NORMAL = 0;
+    static final int BREAK = 1;
+    static final int CONTINUE = 2;
+    //the value returned is in the frame
+    static final int RETURN = 3;
+
+    StatementNode(ExpressionNode... children) {
+        super(children);
+    }
+
+    abstract int execute(Frame frame);
+}
@@ -0,0 +1,252 @@
+package main.interpreter;
+
+import main.runtime.SophiaList;
+
+import java.io.PrintStream;
+
+//statements; nodes that hold statements hold them directly, only expressions are ever replaced
+final class StatementNodes {
+    private StatementNodes() {
+    }
+
+    static final class Block extends StatementNode {
+        private final StatementNode[] statements;
+
+        Block(StatementNode[] statements) {
+            this.statements = statements;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            for (StatementNode statement : statements) {
+                int status = statement.execute(frame);
+                if (status != NORMAL)
+                    return status;
+            }
+            return NORMAL;
+        }
+    }
+
+    static final class If extends StatementNode {
+        private final StatementNode thenBody;
+        //null when there is no else
+        private final StatementNode elseBody;
+
+        If(ExpressionNode condition, StatementNode thenBody, StatementNode elseBody) {
+            super(condition);
+            this.thenBody = thenBody;
+            this.elseBody = elseBody;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            if (children[0].executeBool(frame))
+                return thenBody.execute(frame);
+            return elseBody == null ? NORMAL : elseBody.execute(frame);
+        }
+    }
+
+    static final class For extends StatementNode {
+        //either may be null
+        private final StatementNode initialize;
+        private final StatementNode update;
+        private final StatementNode body;
+
+        //condition is null when the loop has none
+        For(StatementNode initialize, ExpressionNode condition, StatementNode update, StatementNode body) {
+            super(condition == null ? new ExpressionNode[0] : new ExpressionNode[]{condition});
+            this.initialize = initialize;
+            this.update = update;
+            this.body = body;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            if (initialize != null)
+                initialize.execute(frame);
+            while (children.length == 0 || children[0].executeBool(frame)) {
+                int status = body.execute(frame);
+                if (status == BREAK)
+                    break;
+                if (status == RETURN)
+                    return RETURN;
+                if (update != null)
+                    update.execute(frame);
+            }
+            return NORMAL;
+        }
+    }
+
+    //each element is put in a hidden slot, from which assignElement stores it to the loop variable
+    static final class Foreach extends StatementNode {
+        private final int elementSlot;
+        private final StatementNode assignElement;
+        private final StatementNode body;
+
+        Foreach(ExpressionNode list, int elementSlot, StatementNode assignElement, StatementNode body) {
+            super(list);
+            this.elementSlot = elementSlot;
+            this.assignElement = assignElement;
+            this.body = body;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            SophiaList list = (SophiaList) children[0].execute(frame);
+            for (int i = 0; i < list.size(); i++) {
+                frame.objects[elementSlot] = list.get(i);
+                assignElement.execute(frame);
+                int status = body.execute(frame);
+                if (status == BREAK)
+                    break;
+                if (status == RETURN)
+                    return RETURN;
+            }
+            return NORMAL;
+        }
+    }
+
+    static final class IntPrint extends StatementNode {
+        private final PrintStream out;
+
+        IntPrint(ExpressionNode value, PrintStream out) {
+            super(value);
+            this.out = out;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            out.println(children[0].executeInt(frame));
+            return NORMAL;
+        }
+    }
+
+    static final class BoolPrint extends StatementNode {
+        private final PrintStream out;
+
+        BoolPrint(ExpressionNode value, PrintStream out) {
+            super(value);
+            this.out = out;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            out.println(children[0].executeBool(frame));
+            return NORMAL;
+        }
+    }
+
+    static final class ObjectPrint extends StatementNode {
+        private final PrintStream out;
+
+        ObjectPrint(ExpressionNode value, PrintStream out) {
+            super(value);
+            this.out = out;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            out.println(children[0].execute(frame));
+            return NORMAL;
+        }
+    }
+
+    static final class IntReturn extends StatementNode {
+        IntReturn(ExpressionNode value) {
+            super(value);
+        }
+
+        @Override
+        int execute(Frame frame) {
+            frame.intResult = children[0].executeInt(frame);
+            return RETURN;
+        }
+    }
+
+    static final class BoolReturn extends StatementNode {
+        BoolReturn(ExpressionNode value) {
+            super(value);
+        }
+
+        @Override
+        int execute(Frame frame) {
+            frame.intResult = children[0].executeBool(frame) ? 1 : 0;
+            return RETURN;
+        }
+    }
+
+    static final class ObjectReturn extends StatementNode {
+        private final boolean copy;
+
+        ObjectReturn(ExpressionNode value, boolean copy) {
+            super(value);
+            this.copy = copy;
+        }
+
+        @Override
+        int execute(Frame frame) {
+            Object value = children[0].execute(frame);
+            frame.objectResult = copy ? Values.copy(value) : value;
+            return RETURN;
+        }
+    }
+
+    //return from a void method or a constructor
+    static final class Return extends StatementNode {
+        @Override
+        int execute(Frame frame) {
+            return RETURN;
+        }
+    }
+
+    static final class Break extends StatementNode {
+        @Override
+        int execute(Frame frame) {
+            return BREAK;
+        }
+    }
+
+    static final class Continue extends StatementNode {
+        @Override
+        int execute(Frame frame) {
+            return CONTINUE;
+        }
+    }
+
+    //an expression run for its effects; the int and bool ones do not box the value they throw away
+    static final class IntEvaluate extends StatementNode {
+        IntEvaluate(ExpressionNode expression) {
+            super(expression);
+        }
+
+        @Override
+        int execute(Frame frame) {
+            children[0].executeInt(frame);
+            return NORMAL;
+        }
+    }
+
+    static final class BoolEvaluate extends StatementNode {
+        BoolEvaluate(ExpressionNode expression) {
+            super(expression);
+        }
+
+        @Override
+        int execute(Frame frame) {
+            children[0].executeBool(frame);
+            return NORMAL;
+        }
+    }
+
+    static final class Evaluate extends StatementNode {
+        Evaluate(ExpressionNode expression) {
+            super(expression);
+        }
+
+        @Override
+        int execute(Frame frame) {
+            children[0].execute(frame);
+            return NORMAL;
+        }
+    }
+}
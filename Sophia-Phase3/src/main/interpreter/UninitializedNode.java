@@ -0,0 +1,34 @@
+package main.interpreter;
+
+import main.ast.nodes.expression.Expression;
+
+//stands for an expression that has not run yet; when it first does, it puts the node NodeFactory picks for the
+//expression in its place, so code that never runs is never specialized
+final class UninitializedNode extends ExpressionNode {
+    private final Expression expression;
+    private final NodeFactory nodeFactory;
+
+    UninitializedNode(Expression expression, NodeFactory nodeFactory) {
+        this.expression = expression;
+        this.nodeFactory = nodeFactory;
+    }
+
+    private ExpressionNode specialize() {
+        return replace(nodeFactory.create(expression));
+    }
+
+    @Override
+    Object execute(Frame frame) {
+        return specialize().execute(frame);
+    }
+
+    @Override
+    int executeInt(Frame frame) {
+        return specialize().executeInt(frame);
+    }
+
+    @Override
+    boolean executeBool(Frame frame) {
+        return specialize().executeBool(frame);
+    }
+}
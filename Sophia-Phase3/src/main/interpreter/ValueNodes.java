@@ -0,0 +1,70 @@
+package main.interpreter;
+
+import main.interpreter.ExpressionNode.BoolNode;
+import main.interpreter.ExpressionNode.IntNode;
+import main.runtime.SophiaList;
+
+//constants and list literals
+final class ValueNodes {
+    private ValueNodes() {
+    }
+
+    static final class IntConstant extends IntNode {
+        private final int value;
+
+        IntConstant(int value) {
+            this.value = value;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return value;
+        }
+    }
+
+    static final class BoolConstant extends BoolNode {
+        private final boolean value;
+
+        BoolConstant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return value;
+        }
+    }
+
+    //a string, or null
+    static final class ObjectConstant extends ExpressionNode {
+        private final Object value;
+
+        ObjectConstant(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            return value;
+        }
+    }
+
+    static final class NewList extends ExpressionNode {
+        private final boolean[] copies;
+
+        NewList(ExpressionNode[] elements, boolean[] copies) {
+            super(elements);
+            this.copies = copies;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            Object[] elements = new Object[children.length];
+            for (int i = 0; i < elements.length; i++) {
+                Object element = children[i].execute(frame);
+                elements[i] = copies[i] ? Values.copy(element) : element;
+            }
+            return new SophiaList(elements);
+        }
+    }
+}
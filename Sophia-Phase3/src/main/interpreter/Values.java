@@ -0,0 +1,59 @@
+package main.interpreter;
+
+import main.ast.types.Type;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.runtime.SophiaList;
+
+import java.util.Objects;
+
+//values while a program is interpreted, the same as compiled code uses: Integer, Boolean, String, SophiaList,
+//SophiaObject and BoundMethod, or null
+public final class Values {
+    private Values() {
+    }
+
+    //what a variable of type holds before it is first assigned: 0, false, "", a list of such values, or null
+    public static Object defaultValue(Type type) {
+        if (type instanceof IntType)
+            return 0;
+        if (type instanceof BoolType)
+            return false;
+        if (type instanceof StringType)
+            return "";
+        if (type instanceof ListType)
+            return defaultList((ListType) type);
+        return null;
+    }
+
+    private static SophiaList defaultList(ListType listType) {
+        if (listType.isRepeated())
+            return SophiaList.repeat(listType.getSize(), defaultValue(listType.getElementType(0).getType()));
+        Object[] elements = new Object[listType.getSize()];
+        for (int i = 0; i < elements.length; i++)
+            elements[i] = defaultValue(listType.getElementType(i).getType());
+        return new SophiaList(elements);
+    }
+
+    //lists are values: one that is stored or passed on is copied
+    public static Object copy(Object value) {
+        return value instanceof SophiaList ? ((SophiaList) value).copy() : value;
+    }
+
+    //ints, bools and strings compare by value, everything else by reference
+    public static boolean equal(Object first, Object second) {
+        if (first instanceof Integer || first instanceof Boolean || first instanceof String)
+            return Objects.equals(first, second);
+        return first == second;
+    }
+
+    public static boolean isInt(Type type) {
+        return type instanceof IntType;
+    }
+
+    public static boolean isBool(Type type) {
+        return type instanceof BoolType;
+    }
+}
@@ -0,0 +1,253 @@
+package main.interpreter;
+
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.interpreter.ExpressionNode.BoolNode;
+import main.interpreter.ExpressionNode.IntNode;
+import main.runtime.SophiaList;
+
+//reading and writing local variables, fields and list elements
+final class VariableNodes {
+    private VariableNodes() {
+    }
+
+    static final class IntLocalRead extends IntNode {
+        private final int slot;
+
+        IntLocalRead(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            return frame.ints[slot];
+        }
+    }
+
+    static final class BoolLocalRead extends BoolNode {
+        private final int slot;
+
+        BoolLocalRead(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            return frame.ints[slot] != 0;
+        }
+    }
+
+    static final class ObjectLocalRead extends ExpressionNode {
+        private final int slot;
+
+        ObjectLocalRead(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            return frame.objects[slot];
+        }
+    }
+
+    static final class IntLocalAssign extends IntNode {
+        private final int slot;
+
+        IntLocalAssign(int slot, ExpressionNode value) {
+            super(value);
+            this.slot = slot;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            int value = children[0].executeInt(frame);
+            frame.ints[slot] = value;
+            return value;
+        }
+    }
+
+    static final class BoolLocalAssign extends BoolNode {
+        private final int slot;
+
+        BoolLocalAssign(int slot, ExpressionNode value) {
+            super(value);
+            this.slot = slot;
+        }
+
+        @Override
+        boolean executeBool(Frame frame) {
+            boolean value = children[0].executeBool(frame);
+            frame.ints[slot] = value ? 1 : 0;
+            return value;
+        }
+    }
+
+    static final class ObjectLocalAssign extends ExpressionNode {
+        private final int slot;
+        private final boolean copy;
+
+        ObjectLocalAssign(int slot, ExpressionNode value, boolean copy) {
+            super(value);
+            this.slot = slot;
+            this.copy = copy;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            Object value = children[0].execute(frame);
+            if (copy)
+                value = Values.copy(value);
+            frame.objects[slot] = value;
+            return value;
+        }
+    }
+
+    //++ and -- on an int variable
+    static final class IntLocalIncrement extends IntNode {
+        private final int slot;
+        private final int change;
+        private final boolean post;
+
+        IntLocalIncrement(int slot, int change, boolean post) {
+            this.slot = slot;
+            this.change = change;
+            this.post = post;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            int old = frame.ints[slot];
+            frame.ints[slot] = old + change;
+            return post ? old : old + change;
+        }
+    }
+
+    static final class Self extends ExpressionNode {
+        @Override
+        Object execute(Frame frame) {
+            return frame.self;
+        }
+    }
+
+    static final class FieldRead extends ExpressionNode {
+        private final int slot;
+
+        FieldRead(ExpressionNode receiver, int slot) {
+            super(receiver);
+            this.slot = slot;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            return ((SophiaObject) children[0].execute(frame)).getField(slot);
+        }
+    }
+
+    static final class FieldAssign extends ExpressionNode {
+        private final int slot;
+        private final boolean copy;
+
+        FieldAssign(ExpressionNode receiver, int slot, ExpressionNode value, boolean copy) {
+            super(receiver, value);
+            this.slot = slot;
+            this.copy = copy;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            SophiaObject object = (SophiaObject) children[0].execute(frame);
+            Object value = children[1].execute(frame);
+            if (copy)
+                value = Values.copy(value);
+            object.setField(slot, value);
+            return value;
+        }
+    }
+
+    static final class FieldIncrement extends IntNode {
+        private final int slot;
+        private final int change;
+        private final boolean post;
+
+        FieldIncrement(ExpressionNode receiver, int slot, int change, boolean post) {
+            super(receiver);
+            this.slot = slot;
+            this.change = change;
+            this.post = post;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            SophiaObject object = (SophiaObject) children[0].execute(frame);
+            int old = (Integer) object.getField(slot);
+            object.setField(slot, old + change);
+            return post ? old : old + change;
+        }
+    }
+
+    static final class ElementRead extends ExpressionNode {
+        ElementRead(ExpressionNode list, ExpressionNode index) {
+            super(list, index);
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            SophiaList list = (SophiaList) children[0].execute(frame);
+            return list.get(children[1].executeInt(frame));
+        }
+    }
+
+    static final class ElementAssign extends ExpressionNode {
+        private final boolean copy;
+
+        ElementAssign(ExpressionNode list, ExpressionNode index, ExpressionNode value, boolean copy) {
+            super(list, index, value);
+            this.copy = copy;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            SophiaList list = (SophiaList) children[0].execute(frame);
+            int index = children[1].executeInt(frame);
+            Object value = children[2].execute(frame);
+            if (copy)
+                value = Values.copy(value);
+            list.set(index, value);
+            return value;
+        }
+    }
+
+    static final class ElementIncrement extends IntNode {
+        private final int change;
+        private final boolean post;
+
+        ElementIncrement(ExpressionNode list, ExpressionNode index, int change, boolean post) {
+            super(list, index);
+            this.change = change;
+            this.post = post;
+        }
+
+        @Override
+        int executeInt(Frame frame) {
+            SophiaList list = (SophiaList) children[0].execute(frame);
+            int index = children[1].executeInt(frame);
+            int old = (Integer) list.get(index);
+            list.set(index, old + change);
+            return post ? old : old + change;
+        }
+    }
+
+    //a method used as a value
+    static final class BoundMethodRead extends ExpressionNode {
+        private final MethodDeclaration method;
+
+        BoundMethodRead(ExpressionNode receiver, MethodDeclaration method) {
+            super(receiver);
+            this.method = method;
+        }
+
+        @Override
+        Object execute(Frame frame) {
+            return new BoundMethod((SophiaObject) children[0].execute(frame), method);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package main.runtime;
+
+import java.io.PrintStream;
+
+//where the print statements of a generated program go.
+//SophiaClassLoader gives each program it runs a copy of this class of its own and sets out to that run's stream,
+//so runs in parallel never share it; class files written to disk and run with java keep System.out
+public class Console {
+    public static PrintStream out = System.out;
+}
@@ -0,0 +1,45 @@
+package main.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+//a Sophia function pointer at run time: a method of one object, called with boxed arguments
+//calls the compiler can resolve statically never get here; these are for values of a func type
+public class Fptr {
+    private final Object instance;
+    private final String methodName;
+    private Method method;
+
+    public Fptr(Object instance, String methodName) {
+        this.instance = instance;
+        this.methodName = methodName;
+    }
+
+    //returns the boxed result, null for a void method
+    public Object invoke(Object[] arguments) {
+        if (method == null)
+            method = find();
+        try {
+            return method.invoke(instance, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //Sophia has no overloading, so the name alone picks the method; Object's methods are not Sophia's
+    private Method find() {
+        for (Method candidate : instance.getClass().getMethods())
+            if (candidate.getName().equals(methodName) && !Modifier.isStatic(candidate.getModifiers())
+                    && candidate.getDeclaringClass() != Object.class)
+                return candidate;
+        throw new IllegalStateException("no method " + methodName + " in " + instance.getClass().getName());
+    }
+}
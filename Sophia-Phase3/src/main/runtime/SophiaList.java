@@ -0,0 +1,40 @@
+package main.runtime;
+
+//a Sophia list at run time: ints and bools are boxed, other values are kept as they are
+//lists are values in Sophia, so compiled code copies one wherever it is stored or passed on
+public class SophiaList {
+    private final Object[] elements;
+
+    public SophiaList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    //list(count # T) with every element starting as element
+    public static SophiaList repeat(int count, Object element) {
+        Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++)
+            elements[i] = element instanceof SophiaList ? ((SophiaList) element).copy() : element;
+        return new SophiaList(elements);
+    }
+
+    public Object get(int index) {
+        return elements[index];
+    }
+
+    public void set(int index, Object element) {
+        elements[index] = element;
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    //copies nested lists too; objects are shared
+    public SophiaList copy() {
+        Object[] copied = elements.clone();
+        for (int i = 0; i < copied.length; i++)
+            if (copied[i] instanceof SophiaList)
+                copied[i] = ((SophiaList) copied[i]).copy();
+        return new SophiaList(copied);
+    }
+}
@@ -3,38 +3,30 @@ package main.symbolTable;
 
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.stack.Stack;
+import main.symbolTable.utils.symbol.Symbol;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
 
 
 
-public class SymbolTable {
+public class SymbolTable implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-    //Start of static members
+    private static final int KINDS = SymbolKind.values().length;
 
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
-    }
-
-    public static void pop() {
-        top = stack.pop();
-    }
-
-    //End of static members
-
-    public SymbolTable pre;
-    private Map<String, SymbolTableItem> items;
+    //left out of serialization, see writeTree
+    public transient SymbolTable pre;
+    //name -> the item bound to that name for each kind, indexed by SymbolKind ordinal
+    //symbols are interned, so probing this map hashes an int and compares references
+    private Map<Symbol, SymbolTableItem[]> items;
 
     public SymbolTable() {
         this(null);
@@ -46,26 +38,122 @@ public class SymbolTable {
     }
 
     public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
-        if (items.containsKey(item.getKey()))
+        SymbolTableItem[] entry = items.get(item.getKey());
+        if (entry == null) {
+            entry = new SymbolTableItem[KINDS];
+            items.put(item.getKey(), entry);
+        }
+        int kind = item.getKind().ordinal();
+        if (entry[kind] != null)
             throw new ItemAlreadyExistsException();
-        items.put(item.getKey(), item);
+        entry[kind] = item;
     }
 
-    public SymbolTableItem getItem(String key, Boolean searchCurrent) throws ItemNotFoundException {
-        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
-        SymbolTable currentSymbolTable = this;
-        if(!searchCurrent) {
-            visitedSymbolTables.add(this);
-            currentSymbolTable = this.pre;
+    public SymbolTableItem getItem(SymbolKind kind, Symbol name, Boolean searchCurrent) throws ItemNotFoundException {
+        SymbolTableItem symbolTableItem = lookup(kind, name, searchCurrent);
+        if (symbolTableItem == null)
+            throw new ItemNotFoundException();
+        return symbolTableItem;
+    }
+
+    //same search as getItem but returns null when the name is not found
+    //pre chains can be cyclic on inheritance cycle errors: a slower pointer follows the walk at half speed,
+    //and meeting it (or this table) means every table on the chain has already been searched
+    public SymbolTableItem lookup(SymbolKind kind, Symbol name, boolean searchCurrent) {
+        int index = kind.ordinal();
+        SymbolTable currentSymbolTable = searchCurrent ? this : this.pre;
+        SymbolTable slowSymbolTable = currentSymbolTable;
+        boolean moveSlow = false;
+        while (currentSymbolTable != null) {
+            SymbolTableItem[] entry = currentSymbolTable.items.get(name);
+            if (entry != null && entry[index] != null)
+                return entry[index];
+            currentSymbolTable = currentSymbolTable.pre;
+            if (moveSlow)
+                slowSymbolTable = slowSymbolTable.pre;
+            moveSlow = !moveSlow;
+            if (currentSymbolTable == slowSymbolTable || currentSymbolTable == this)
+                break;
         }
-        while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
-            visitedSymbolTables.add( currentSymbolTable );
-            SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
-            if( symbolTableItem != null )
-                return symbolTableItem;
+        return null;
+    }
+
+    //resolves an identifier with a single walk of the chain, starting at this table, the way the backends bind a name:
+    //the nearest local variable, then the nearest field, then the nearest method, and a class only when nothing else is
+    public SymbolTableItem resolve(Symbol name) {
+        SymbolTableItem local = null;
+        SymbolTableItem field = null;
+        SymbolTableItem method = null;
+        SymbolTableItem classItem = null;
+        SymbolTable currentSymbolTable = this;
+        SymbolTable slowSymbolTable = this;
+        boolean moveSlow = false;
+        while (currentSymbolTable != null) {
+            SymbolTableItem[] entry = currentSymbolTable.items.get(name);
+            if (entry != null) {
+                if (local == null)
+                    local = entry[SymbolKind.LOCAL_VARIABLE.ordinal()];
+                if (field == null)
+                    field = entry[SymbolKind.FIELD.ordinal()];
+                if (method == null)
+                    method = entry[SymbolKind.METHOD.ordinal()];
+                if (classItem == null)
+                    classItem = entry[SymbolKind.CLASS.ordinal()];
+            }
             currentSymbolTable = currentSymbolTable.pre;
+            if (moveSlow)
+                slowSymbolTable = slowSymbolTable.pre;
+            moveSlow = !moveSlow;
+            if (currentSymbolTable == slowSymbolTable || currentSymbolTable == this)
+                break;
         }
-        throw new ItemNotFoundException();
+        if (local != null)
+            return local;
+        if (field != null)
+            return field;
+        if (method != null)
+            return method;
+        return classItem;
     }
 
+    //writes root and every table under it; pre chains are as long as the longest inheritance chain and the serializer
+    //would follow them recursively, so the tables are written one by one and pre is written as an index into them
+    public static void writeTree(SymbolTable root, ObjectOutputStream out) throws IOException {
+        ArrayList<SymbolTable> symbolTables = new ArrayList<>();
+        Map<SymbolTable, Integer> indexes = new IdentityHashMap<>();
+        symbolTables.add(root);
+        indexes.put(root, 0);
+        for (int i = 0; i < symbolTables.size(); i++)
+            for (SymbolTableItem[] entry : symbolTables.get(i).items.values())
+                for (SymbolTableItem item : entry) {
+                    SymbolTable inner = null;
+                    if (item instanceof ClassSymbolTableItem)
+                        inner = ((ClassSymbolTableItem) item).getClassSymbolTable();
+                    else if (item instanceof MethodSymbolTableItem)
+                        inner = ((MethodSymbolTableItem) item).getMethodSymbolTable();
+                    if (inner != null && !indexes.containsKey(inner)) {
+                        indexes.put(inner, symbolTables.size());
+                        symbolTables.add(inner);
+                    }
+                }
+        int[] pres = new int[symbolTables.size()];
+        for (int i = 0; i < pres.length; i++) {
+            Integer pre = indexes.get(symbolTables.get(i).pre);
+            pres[i] = pre == null ? -1 : pre;
+        }
+        out.writeInt(symbolTables.size());
+        for (SymbolTable symbolTable : symbolTables)
+            out.writeObject(symbolTable);
+        out.writeObject(pres);
+    }
+
+    public static SymbolTable readTree(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        SymbolTable[] symbolTables = new SymbolTable[in.readInt()];
+        for (int i = 0; i < symbolTables.length; i++)
+            symbolTables[i] = (SymbolTable) in.readObject();
+        int[] pres = (int[]) in.readObject();
+        for (int i = 0; i < symbolTables.length; i++)
+            symbolTables[i].pre = pres[i] < 0 ? null : symbolTables[pres[i]];
+        return symbolTables[0];
+    }
 }
@@ -5,13 +5,14 @@ import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.symbolTable.SymbolTable;
 
 public class ClassSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Class_";
+    private static final long serialVersionUID = 1L;
+
     private SymbolTable classSymbolTable;
     private ClassDeclaration classDeclaration;
 
     public ClassSymbolTableItem(ClassDeclaration classDeclaration) {
         this.classDeclaration = classDeclaration;
-        this.name = classDeclaration.getClassName().getName();
+        this.symbol = classDeclaration.getClassName().getSymbol();
     }
 
     public SymbolTable getClassSymbolTable() {
@@ -31,7 +32,7 @@ public class ClassSymbolTableItem extends SymbolTableItem {
     }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKind getKind() {
+        return SymbolKind.CLASS;
     }
 }
@@ -5,18 +5,15 @@ import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.types.Type;
 
 public class FieldSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Field_";
+    private static final long serialVersionUID = 1L;
+
     protected Type type;
 
     public FieldSymbolTableItem(FieldDeclaration fieldDeclaration) {
-        this.name = fieldDeclaration.getVarDeclaration().getVarName().getName();
+        this.symbol = fieldDeclaration.getVarDeclaration().getVarName().getSymbol();
         this.type = fieldDeclaration.getVarDeclaration().getType();
     }
 
-    public String getKey() {
-        return START_KEY + this.name;
-    }
-
     public Type getType() {
         return type;
     }
@@ -25,4 +22,8 @@ public class FieldSymbolTableItem extends SymbolTableItem {
         this.type = type;
     }
 
+    @Override
+    public SymbolKind getKind() {
+        return SymbolKind.FIELD;
+    }
 }
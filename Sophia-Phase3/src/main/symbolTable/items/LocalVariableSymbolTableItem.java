@@ -5,18 +5,15 @@ import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.types.Type;
 
 public class LocalVariableSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Var_";
+    private static final long serialVersionUID = 1L;
+
     protected Type type;
 
     public LocalVariableSymbolTableItem(VarDeclaration varDeclaration) {
-        this.name = varDeclaration.getVarName().getName();
+        this.symbol = varDeclaration.getVarName().getSymbol();
         this.type = varDeclaration.getType();
     }
 
-    public String getKey() {
-        return START_KEY + this.name;
-    }
-
     public Type getType() {
         return type;
     }
@@ -25,4 +22,8 @@ public class LocalVariableSymbolTableItem extends SymbolTableItem {
         this.type = type;
     }
 
+    @Override
+    public SymbolKind getKind() {
+        return SymbolKind.LOCAL_VARIABLE;
+    }
 }
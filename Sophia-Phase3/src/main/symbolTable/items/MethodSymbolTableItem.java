@@ -9,7 +9,8 @@ import main.symbolTable.SymbolTable;
 import java.util.ArrayList;
 
 public class MethodSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Method_";
+    private static final long serialVersionUID = 1L;
+
     private MethodDeclaration methodDeclaration;
     private Type returnType;
     private ArrayList<Type> argTypes = new ArrayList<>();
@@ -21,7 +22,7 @@ public class MethodSymbolTableItem extends SymbolTableItem {
         for(VarDeclaration varDeclaration : methodDeclaration.getArgs()) {
             this.argTypes.add(varDeclaration.getType());
         }
-        this.name = methodDeclaration.getMethodName().getName();
+        this.symbol = methodDeclaration.getMethodName().getSymbol();
     }
 
     public MethodDeclaration getMethodDeclaration() {
@@ -57,8 +58,7 @@ public class MethodSymbolTableItem extends SymbolTableItem {
     }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public SymbolKind getKind() {
+        return SymbolKind.METHOD;
     }
-
 }
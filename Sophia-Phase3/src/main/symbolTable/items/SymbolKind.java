@@ -0,0 +1,9 @@
+package main.symbolTable.items;
+
+//declared in identifier resolution order: a class name hides a field, a field hides a local and so on
+public enum SymbolKind {
+    CLASS,
+    FIELD,
+    LOCAL_VARIABLE,
+    METHOD
+}
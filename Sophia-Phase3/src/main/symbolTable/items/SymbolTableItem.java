@@ -1,16 +1,26 @@
 package main.symbolTable.items;
 
-public abstract class SymbolTableItem {
+import main.symbolTable.utils.symbol.Symbol;
 
-    protected String name;
+import java.io.Serializable;
 
-    public abstract String getKey();
+public abstract class SymbolTableItem implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    protected Symbol symbol;
+
+    //items are keyed by their interned name, one slot per kind
+    public Symbol getKey() {
+        return symbol;
+    }
+
+    public abstract SymbolKind getKind();
 
     public String getName() {
-        return name;
+        return symbol.getName();
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.symbol = Symbol.of(name);
     }
 }
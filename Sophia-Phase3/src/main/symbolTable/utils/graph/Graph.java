@@ -3,15 +3,31 @@ package main.symbolTable.utils.graph;
 import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
 import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
 
+import java.io.Serializable;
 import java.util.*;
 
-public class Graph<N> {
+public class Graph<N> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Map<N, Set<N>> parentShipRelation = new HashMap<>();
 
+    //ancestor index, built by freeze() and dropped by any later change to the graph
+    //nodes are numbered, then grouped into strongly connected components so inheritance cycles collapse into one component
+    private Map<N, Integer> nodeIds;
+    private int[] componentOf;
+    private boolean[] cyclicComponent;
+    //when every component has at most one parent component (single inheritance) the components form a forest,
+    //and "is an ancestor" becomes nesting of [enter, exit] intervals of a depth first walk over it
+    private int[] enter;
+    private int[] exit;
+    //otherwise each component keeps the set of its strict ancestor components
+    private BitSet[] ancestorComponents;
+
     public void addNode(N desired) throws NodeAlreadyExistsException {
         if (parentShipRelation.containsKey(desired))
             throw new NodeAlreadyExistsException();
         parentShipRelation.put(desired, new HashSet<>());
+        thaw();
     }
 
     public boolean doesGraphContainNode(N desired) {
@@ -22,8 +38,11 @@ public class Graph<N> {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
         parentShipRelation.get(desired).add(parentNode);
+        thaw();
     }
 
+    //the parents themselves, not a copy: a parent added or removed through them reaches isSecondNodeAncestorOf
+    //once the graph is frozen again
     public Collection<N> getParentsOfNode(N desired) throws GraphDoesNotContainNodeException {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
@@ -31,8 +50,23 @@ public class Graph<N> {
     }
 
     public boolean isSecondNodeAncestorOf(N first , N second) {
-        Set<N> visitedNodes = new HashSet<>();
-        return _isSecondNodeAncestorOf(first,second, visitedNodes);
+        if(first.equals(second))
+            return true;
+        if(nodeIds == null) {
+            Set<N> visitedNodes = new HashSet<>();
+            return _isSecondNodeAncestorOf(first,second, visitedNodes);
+        }
+        Integer firstId = nodeIds.get(first);
+        Integer secondId = nodeIds.get(second);
+        if(firstId == null || secondId == null)
+            return false;
+        int firstComponent = componentOf[firstId];
+        int secondComponent = componentOf[secondId];
+        if(firstComponent == secondComponent)
+            return cyclicComponent[firstComponent];
+        if(ancestorComponents != null)
+            return ancestorComponents[firstComponent].get(secondComponent);
+        return enter[secondComponent] < enter[firstComponent] && exit[firstComponent] < exit[secondComponent];
     }
 
     private boolean _isSecondNodeAncestorOf(N first, N second, Set<N> visitedNodes) {
@@ -55,4 +89,205 @@ public class Graph<N> {
         return false;
     }
 
+    public boolean isFrozen() {
+        return nodeIds != null;
+    }
+
+    //precomputes the ancestor relation so isSecondNodeAncestorOf answers in constant time without allocating
+    public void freeze() {
+        Map<N, Integer> ids = new HashMap<>();
+        List<N> nodes = new ArrayList<>();
+        for (Map.Entry<N, Set<N>> relation : parentShipRelation.entrySet()) {
+            numberNode(relation.getKey(), ids, nodes);
+            for (N parent : relation.getValue())
+                numberNode(parent, ids, nodes);
+        }
+        int nodeCount = nodes.size();
+        int[][] parents = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            Set<N> parentNodes = parentShipRelation.get(nodes.get(node));
+            parents[node] = new int[parentNodes == null ? 0 : parentNodes.size()];
+            int i = 0;
+            if (parentNodes != null)
+                for (N parent : parentNodes)
+                    parents[node][i++] = ids.get(parent);
+        }
+
+        int[] components = new int[nodeCount];
+        int componentCount = findComponents(parents, components);
+        boolean[] cyclic = new boolean[componentCount];
+        int[] componentSizes = new int[componentCount];
+        for (int node = 0; node < nodeCount; node++)
+            componentSizes[components[node]]++;
+        //parent component of each component, -1 for none, -2 when there is more than one
+        int[] parentComponent = new int[componentCount];
+        Arrays.fill(parentComponent, -1);
+        boolean forest = true;
+        for (int node = 0; node < nodeCount; node++) {
+            int component = components[node];
+            if (componentSizes[component] > 1)
+                cyclic[component] = true;
+            for (int parent : parents[node]) {
+                int other = components[parent];
+                if (other == component) {
+                    cyclic[component] = true;
+                } else if (parentComponent[component] == -1) {
+                    parentComponent[component] = other;
+                } else if (parentComponent[component] != other) {
+                    parentComponent[component] = -2;
+                    forest = false;
+                }
+            }
+        }
+
+        if (forest) {
+            numberForest(parentComponent);
+            ancestorComponents = null;
+        } else {
+            //findComponents numbers every component after all of its ancestors
+            BitSet[] ancestors = new BitSet[componentCount];
+            for (int component = 0; component < componentCount; component++)
+                ancestors[component] = new BitSet(component);
+            for (int node = 0; node < nodeCount; node++)
+                for (int parent : parents[node]) {
+                    int component = components[node];
+                    int other = components[parent];
+                    if (other != component)
+                        ancestors[component].set(other);
+                }
+            for (int component = 0; component < componentCount; component++) {
+                BitSet direct = (BitSet) ancestors[component].clone();
+                for (int other = direct.nextSetBit(0); other >= 0; other = direct.nextSetBit(other + 1))
+                    ancestors[component].or(ancestors[other]);
+            }
+            ancestorComponents = ancestors;
+            enter = null;
+            exit = null;
+        }
+        componentOf = components;
+        cyclicComponent = cyclic;
+        nodeIds = ids;
+    }
+
+    //every node, parents named but never added included, with each node after all of its ancestors;
+    //the members of an inheritance cycle come next to each other in no particular order
+    public List<N> getTopologicalOrder() {
+        if (!isFrozen())
+            freeze();
+        List<N> nodes = new ArrayList<>(nodeIds.keySet());
+        nodes.sort(Comparator.comparingInt(node -> componentOf[nodeIds.get(node)]));
+        return nodes;
+    }
+
+    private void thaw() {
+        nodeIds = null;
+        componentOf = null;
+        cyclicComponent = null;
+        enter = null;
+        exit = null;
+        ancestorComponents = null;
+    }
+
+    private void numberNode(N node, Map<N, Integer> ids, List<N> nodes) {
+        if (!ids.containsKey(node)) {
+            ids.put(node, nodes.size());
+            nodes.add(node);
+        }
+    }
+
+    //iterative Tarjan over parent edges; a component is numbered only after every component it can reach
+    private int findComponents(int[][] parents, int[] components) {
+        int nodeCount = parents.length;
+        int[] index = new int[nodeCount];
+        int[] lowLink = new int[nodeCount];
+        int[] nextEdge = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        int[] stack = new int[nodeCount];
+        int[] callStack = new int[nodeCount];
+        Arrays.fill(index, -1);
+        int stackSize = 0;
+        int nextIndex = 0;
+        int componentCount = 0;
+        for (int start = 0; start < nodeCount; start++) {
+            if (index[start] != -1)
+                continue;
+            int depth = 0;
+            callStack[depth++] = start;
+            index[start] = lowLink[start] = nextIndex++;
+            stack[stackSize++] = start;
+            onStack[start] = true;
+            while (depth > 0) {
+                int node = callStack[depth - 1];
+                if (nextEdge[node] < parents[node].length) {
+                    int parent = parents[node][nextEdge[node]++];
+                    if (index[parent] == -1) {
+                        index[parent] = lowLink[parent] = nextIndex++;
+                        stack[stackSize++] = parent;
+                        onStack[parent] = true;
+                        callStack[depth++] = parent;
+                    } else if (onStack[parent]) {
+                        lowLink[node] = Math.min(lowLink[node], index[parent]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) {
+                    int caller = callStack[depth - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        components[member] = componentCount;
+                    } while (member != node);
+                    componentCount++;
+                }
+            }
+        }
+        return componentCount;
+    }
+
+    private void numberForest(int[] parentComponent) {
+        int componentCount = parentComponent.length;
+        int[] childCount = new int[componentCount + 1];
+        for (int component = 0; component < componentCount; component++)
+            if (parentComponent[component] >= 0)
+                childCount[parentComponent[component] + 1]++;
+        for (int component = 0; component < componentCount; component++)
+            childCount[component + 1] += childCount[component];
+        int[] children = new int[componentCount];
+        int[] filled = Arrays.copyOf(childCount, componentCount);
+        for (int component = 0; component < componentCount; component++)
+            if (parentComponent[component] >= 0)
+                children[filled[parentComponent[component]]++] = component;
+
+        int[] enter = new int[componentCount];
+        int[] exit = new int[componentCount];
+        int[] nextChild = Arrays.copyOf(childCount, componentCount);
+        int[] walk = new int[componentCount];
+        int clock = 0;
+        for (int root = 0; root < componentCount; root++) {
+            if (parentComponent[root] >= 0)
+                continue;
+            int depth = 0;
+            walk[depth++] = root;
+            enter[root] = clock++;
+            while (depth > 0) {
+                int component = walk[depth - 1];
+                if (nextChild[component] < childCount[component + 1]) {
+                    int child = children[nextChild[component]++];
+                    enter[child] = clock++;
+                    walk[depth++] = child;
+                } else {
+                    exit[component] = clock++;
+                    depth--;
+                }
+            }
+        }
+        this.enter = enter;
+        this.exit = exit;
+    }
+
 }
@@ -0,0 +1,82 @@
+package main.symbolTable.utils.symbol;
+
+import java.io.Serializable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//interned name: there is exactly one Symbol per distinct string, so symbols compare and hash by identity.
+//the pool only holds symbols weakly, so one that no AST or symbol table refers to any more is collected instead of
+//staying on the heap for as long as a CompileDaemon runs; the next of for its name makes a new one
+public final class Symbol implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final ConcurrentMap<String, SymbolReference> symbols = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Symbol> collected = new ReferenceQueue<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final String name;
+    private final int id;
+
+    private Symbol(String name) {
+        this.name = name;
+        this.id = nextId.getAndIncrement();
+    }
+
+    //a deserialized symbol is replaced by the interned one with its name, ids differ between runs
+    private Object readResolve() {
+        return of(name);
+    }
+
+    public static Symbol of(String name) {
+        SymbolReference reference = symbols.get(name);
+        Symbol symbol = reference == null ? null : reference.get();
+        if (symbol != null)
+            return symbol;
+        removeCollected();
+        Symbol[] interned = new Symbol[1];
+        symbols.compute(name, (key, current) -> {
+            interned[0] = current == null ? null : current.get();
+            if (interned[0] != null)
+                return current;
+            interned[0] = new Symbol(key);
+            return new SymbolReference(interned[0]);
+        });
+        return interned[0];
+    }
+
+    //drops the entries of collected symbols, unless a new symbol has taken the name already
+    private static void removeCollected() {
+        for (SymbolReference reference; (reference = (SymbolReference) collected.poll()) != null; )
+            symbols.remove(reference.name, reference);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static final class SymbolReference extends WeakReference<Symbol> {
+        private final String name;
+
+        SymbolReference(Symbol symbol) {
+            super(symbol, collected);
+            this.name = symbol.name;
+        }
+    }
+}
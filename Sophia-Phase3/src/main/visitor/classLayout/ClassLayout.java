@@ -0,0 +1,108 @@
+package main.visitor.classLayout;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.symbolTable.utils.symbol.Symbol;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+//where the members of one class live at run time: each field, inherited ones first, has a slot in the fields of an
+//object, and each method, inherited ones first, a slot in the vtable. a class starts with the layout of its parent,
+//so a slot means the same member in the class and every class below it
+public final class ClassLayout implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ClassDeclaration classDeclaration;
+    //null for a class without a (known) parent
+    private final ClassLayout parent;
+    //the position of the class in the topological order it was laid out in, a parent before its children
+    private final int index;
+    private final VarDeclaration[] fields;
+    private final Map<Symbol, Integer> fieldSlots;
+    private final MethodDeclaration[] vtable;
+    private final Map<Symbol, Integer> methodSlots;
+
+    ClassLayout(ClassDeclaration classDeclaration, ClassLayout parent, int index,
+                VarDeclaration[] fields, Map<Symbol, Integer> fieldSlots, MethodDeclaration[] vtable, Map<Symbol, Integer> methodSlots) {
+        this.classDeclaration = classDeclaration;
+        this.parent = parent;
+        this.index = index;
+        this.fields = fields;
+        this.fieldSlots = fieldSlots;
+        this.vtable = vtable;
+        this.methodSlots = methodSlots;
+    }
+
+    public ClassDeclaration getClassDeclaration() {
+        return classDeclaration;
+    }
+
+    public ClassLayout getParent() {
+        return parent;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    public VarDeclaration getField(int slot) {
+        return fields[slot];
+    }
+
+    //-1 when the class has no such field
+    public int getFieldSlot(Symbol name) {
+        Integer slot = fieldSlots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public int getMethodCount() {
+        return vtable.length;
+    }
+
+    public MethodDeclaration getMethod(int slot) {
+        return vtable[slot];
+    }
+
+    //-1 when the class has no such method
+    public int getMethodSlot(Symbol name) {
+        Integer slot = methodSlots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    static ClassLayout of(ClassDeclaration classDeclaration, ClassLayout parent, int index) {
+        int inheritedFields = parent == null ? 0 : parent.fields.length;
+        Map<Symbol, Integer> fieldSlots = parent == null ? new HashMap<>() : new HashMap<>(parent.fieldSlots);
+        VarDeclaration[] fields = new VarDeclaration[inheritedFields + classDeclaration.getFields().size()];
+        if (parent != null)
+            System.arraycopy(parent.fields, 0, fields, 0, inheritedFields);
+        for (int i = 0; i < classDeclaration.getFields().size(); i++) {
+            VarDeclaration field = classDeclaration.getFields().get(i).getVarDeclaration();
+            fields[inheritedFields + i] = field;
+            fieldSlots.put(field.getVarName().getSymbol(), inheritedFields + i);
+        }
+
+        Map<Symbol, Integer> methodSlots = parent == null ? new HashMap<>() : new HashMap<>(parent.methodSlots);
+        MethodDeclaration[] vtable = parent == null ? new MethodDeclaration[0] : parent.vtable;
+        int size = vtable.length;
+        vtable = Arrays.copyOf(vtable, size + classDeclaration.getMethods().size());
+        for (MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
+            Symbol name = methodDeclaration.getMethodName().getSymbol();
+            //a redefinition is reported by name analysis; it still takes over the slot of the method it redefines
+            Integer slot = methodSlots.get(name);
+            if (slot == null) {
+                slot = size++;
+                methodSlots.put(name, slot);
+            }
+            vtable[slot] = methodDeclaration;
+        }
+        return new ClassLayout(classDeclaration, parent, index, fields, fieldSlots, Arrays.copyOf(vtable, size), methodSlots);
+    }
+}
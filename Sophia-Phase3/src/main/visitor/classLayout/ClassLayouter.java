@@ -0,0 +1,46 @@
+package main.visitor.classLayout;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.symbolTable.utils.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//gives every class of a program its ClassLayout, once, after name analysis. classes are laid out in topological
+//order over the class hierarchy, so the layout of a parent is always there before its children copy it
+public class ClassLayouter {
+    private final Program program;
+    private final Graph<String> classHierarchy;
+    private final List<ClassLayout> layouts = new ArrayList<>();
+
+    public ClassLayouter(Program program, Graph<String> classHierarchy) {
+        this.program = program;
+        this.classHierarchy = classHierarchy;
+    }
+
+    public void layOut() {
+        //a class declared twice is reported by name analysis; the first declaration is the one laid out
+        Map<String, ClassDeclaration> classes = new HashMap<>();
+        for (ClassDeclaration classDeclaration : program.getClasses())
+            classes.putIfAbsent(classDeclaration.getClassName().getName(), classDeclaration);
+        for (String className : classHierarchy.getTopologicalOrder()) {
+            ClassDeclaration classDeclaration = classes.get(className);
+            if (classDeclaration == null)
+                continue;
+            //the parent of a class in an inheritance cycle may not be laid out yet; such a program never runs
+            ClassDeclaration parent = classDeclaration.getParentClassName() == null ? null
+                    : classes.get(classDeclaration.getParentClassName().getName());
+            ClassLayout layout = ClassLayout.of(classDeclaration, parent == null ? null : parent.getLayout(), layouts.size());
+            classDeclaration.setLayout(layout);
+            layouts.add(layout);
+        }
+    }
+
+    //every layout, by index
+    public List<ClassLayout> getLayouts() {
+        return layouts;
+    }
+}
@@ -0,0 +1,326 @@
+package main.visitor.codeGenerator;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.single.ClassType;
+import main.classFile.ClassFileWriter;
+import main.classFile.CodeWriter;
+import main.classFile.Label;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.Visitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static main.classFile.Opcodes.*;
+
+//compiles a program that passed type checking to class files, one per Sophia class and of the same name,
+//so that "java -cp <dir> Main" runs it:
+//  a field is a public field, a method a public method; main.runtime.SophiaList and Fptr hold lists and
+//  function pointers
+//  <init>() only gives fields their initial values; a Sophia constructor is the static method $new, which
+//  allocates the object and runs the constructor body on it, so no constructor ever runs another class's body
+//  Main gets a static main(String[]) that runs new Main()
+public class CodeGenerator extends Visitor<Void> {
+    //the name of the static method standing for a class's constructor; $ cannot start a Sophia name
+    public static final String FACTORY = "$new";
+    //copied next to the generated classes
+    private static final String[] RUNTIME_CLASSES = {"main/runtime/SophiaList", "main/runtime/Fptr", "main/runtime/Console"};
+
+    private final ExpressionCodeGenerator expressionCodeGenerator;
+    //internal name -> class file, in declaration order
+    private final Map<String, byte[]> classFiles = new LinkedHashMap<>();
+    private ClassFileWriter classFile;
+    private CodeWriter code;
+    private MethodDeclaration currentMethod;
+    private int thisSlot;
+    //innermost loop last: where break and continue go
+    private final ArrayDeque<Label[]> loops = new ArrayDeque<>();
+
+    public CodeGenerator(SymbolTable root) {
+        this.expressionCodeGenerator = new ExpressionCodeGenerator(root);
+    }
+
+    public Map<String, byte[]> getClassFiles() {
+        return classFiles;
+    }
+
+    //writes the generated classes and the runtime classes they use under directory
+    public void write(Path directory) throws IOException {
+        for (Map.Entry<String, byte[]> classFile : classFiles.entrySet())
+            writeClass(directory, classFile.getKey(), classFile.getValue());
+        for (String runtimeClass : RUNTIME_CLASSES)
+            writeClass(directory, runtimeClass, runtimeClass(runtimeClass));
+    }
+
+    //the bytes of a runtime class, as the compiler itself was loaded with them
+    private static byte[] runtimeClass(String internalName) throws IOException {
+        try (InputStream in = CodeGenerator.class.getResourceAsStream("/" + internalName + ".class")) {
+            if (in == null)
+                throw new IOException("runtime class " + internalName + " not found");
+            return in.readAllBytes();
+        }
+    }
+
+    private static void writeClass(Path directory, String internalName, byte[] bytes) throws IOException {
+        Path file = directory.resolve(internalName + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes);
+    }
+
+    @Override
+    public Void visit(Program program) {
+        for (ClassDeclaration classDeclaration : program.getClasses())
+            classDeclaration.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        expressionCodeGenerator.setCurrentClass(classDeclaration);
+        String className = classDeclaration.getClassName().getName();
+        String superName = classDeclaration.getParentClassName() == null ? JvmTypes.OBJECT : classDeclaration.getParentClassName().getName();
+        classFile = new ClassFileWriter(ACC_PUBLIC | ACC_SUPER, className, superName);
+
+        for (FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+            fieldDeclaration.accept(this);
+
+        code = classFile.addMethod(ACC_PUBLIC, "<init>", "()V", 1);
+        code.local(ALOAD, 0);
+        code.invoke(INVOKESPECIAL, superName, "<init>", "()V");
+        for (FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            Type type = fieldDeclaration.getVarDeclaration().getType();
+            if (!JvmTypes.needsInitialValue(type))
+                continue;
+            code.local(ALOAD, 0);
+            JvmTypes.pushDefault(code, type);
+            code.field(PUTFIELD, className, fieldDeclaration.getVarDeclaration().getVarName().getName(), JvmTypes.descriptor(type));
+        }
+        code.op(RETURN);
+
+        ConstructorDeclaration constructor = classDeclaration.getConstructor();
+        if (constructor == null)
+            constructor = new ConstructorDeclaration(classDeclaration.getClassName());
+        constructor.accept(this);
+        for (MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+            methodDeclaration.accept(this);
+
+        if (className.equals("Main")) {
+            code = classFile.addMethod(ACC_PUBLIC | ACC_STATIC, "main", "([Ljava/lang/String;)V", 1);
+            //the type checker makes sure Main's constructor has no arguments
+            code.invoke(INVOKESTATIC, className, FACTORY, "()L" + className + ";");
+            code.op(POP);
+            code.op(RETURN);
+        }
+        classFiles.put(className, classFile.toByteArray());
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        VarDeclaration varDeclaration = fieldDeclaration.getVarDeclaration();
+        classFile.addField(ACC_PUBLIC, varDeclaration.getVarName().getName(), JvmTypes.descriptor(varDeclaration.getType()));
+        return null;
+    }
+
+    //arguments take the first slots; the object is in the slot after them
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        String className = classFile.getName();
+        ClassType classType = new ClassType(expressionCodeGenerator.getCurrentClass().getClassName());
+        List<Type> argumentTypes = new ArrayList<>();
+        for (VarDeclaration varDeclaration : constructorDeclaration.getArgs())
+            argumentTypes.add(varDeclaration.getType());
+        code = classFile.addMethod(ACC_PUBLIC | ACC_STATIC, FACTORY, JvmTypes.methodDescriptor(argumentTypes, classType), argumentTypes.size());
+        thisSlot = argumentTypes.size();
+        code.type(NEW, className);
+        code.op(DUP);
+        code.invoke(INVOKESPECIAL, className, "<init>", "()V");
+        code.local(ASTORE, thisSlot);
+        generateBody(constructorDeclaration, 0);
+        if (code.isReachable()) {
+            code.local(ALOAD, thisSlot);
+            code.op(ARETURN);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        List<Type> argumentTypes = new ArrayList<>();
+        for (VarDeclaration varDeclaration : methodDeclaration.getArgs())
+            argumentTypes.add(varDeclaration.getType());
+        code = classFile.addMethod(ACC_PUBLIC, methodDeclaration.getMethodName().getName(),
+                JvmTypes.methodDescriptor(argumentTypes, methodDeclaration.getReturnType()), argumentTypes.size() + 1);
+        thisSlot = 0;
+        generateBody(methodDeclaration, 1);
+        //a method the checker let through without a return on every path still has to end in one
+        if (code.isReachable()) {
+            Type returnType = methodDeclaration.getReturnType();
+            if (returnType instanceof NullType)
+                code.op(RETURN);
+            else {
+                JvmTypes.pushDefault(code, returnType);
+                code.op(JvmTypes.isInt(returnType) ? IRETURN : ARETURN);
+            }
+        }
+        return null;
+    }
+
+    private void generateBody(MethodDeclaration methodDeclaration, int firstArgumentSlot) {
+        currentMethod = methodDeclaration;
+        Map<Symbol, Integer> slots = new HashMap<>();
+        int slot = firstArgumentSlot;
+        for (VarDeclaration varDeclaration : methodDeclaration.getArgs())
+            slots.put(varDeclaration.getVarName().getSymbol(), slot++);
+        if (slot == thisSlot)
+            slot++;
+        for (VarDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
+            slots.put(varDeclaration.getVarName().getSymbol(), slot);
+            JvmTypes.pushDefault(code, varDeclaration.getType());
+            code.local(JvmTypes.isInt(varDeclaration.getType()) ? ISTORE : ASTORE, slot++);
+        }
+        expressionCodeGenerator.setMethod(code, slots, thisSlot);
+        for (Statement statement : methodDeclaration.getBody())
+            statement.accept(this);
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        expressionCodeGenerator.assign(assignmentStmt.getlValue(), assignmentStmt.getrValue(), false);
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        for (Statement statement : blockStmt.getStatements())
+            statement.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        Label elseLabel = new Label();
+        Label end = new Label();
+        expressionCodeGenerator.branchIfFalse(conditionalStmt.getCondition(), elseLabel);
+        conditionalStmt.getThenBody().accept(this);
+        if (conditionalStmt.getElseBody() != null) {
+            if (code.isReachable())
+                code.jump(GOTO, end);
+            code.place(elseLabel);
+            conditionalStmt.getElseBody().accept(this);
+        } else
+            code.place(elseLabel);
+        code.place(end);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        expressionCodeGenerator.discard(methodCallStmt.getMethodCall());
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        code.field(GETSTATIC, "main/runtime/Console", "out", "Ljava/io/PrintStream;");
+        print.getArg().accept(expressionCodeGenerator);
+        Type type = ExpressionCodeGenerator.typeOf(print.getArg());
+        code.invoke(INVOKEVIRTUAL, "java/io/PrintStream", "println", "(" + JvmTypes.descriptor(type) + ")V");
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        if (currentMethod instanceof ConstructorDeclaration) {
+            code.local(ALOAD, thisSlot);
+            code.op(ARETURN);
+        } else if (currentMethod.getReturnType() instanceof NullType)
+            code.op(RETURN);
+        else {
+            expressionCodeGenerator.generateValue(returnStmt.getReturnedExpr());
+            code.op(JvmTypes.isInt(currentMethod.getReturnType()) ? IRETURN : ARETURN);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(BreakStmt breakStmt) {
+        code.jump(GOTO, loops.peekLast()[0]);
+        return null;
+    }
+
+    @Override
+    public Void visit(ContinueStmt continueStmt) {
+        code.jump(GOTO, loops.peekLast()[1]);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        int listSlot = code.newLocal();
+        int indexSlot = code.newLocal();
+        Label condition = new Label();
+        Label next = new Label();
+        Label end = new Label();
+        //the list is evaluated once; assigning to it in the body does not change what is iterated
+        foreachStmt.getList().accept(expressionCodeGenerator);
+        code.local(ASTORE, listSlot);
+        code.pushInt(0);
+        code.local(ISTORE, indexSlot);
+        code.place(condition);
+        code.local(ILOAD, indexSlot);
+        code.local(ALOAD, listSlot);
+        code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "size", "()I");
+        code.jump(IF_ICMPGE, end);
+        expressionCodeGenerator.assignElement(foreachStmt.getVariable(), () -> {
+            code.local(ALOAD, listSlot);
+            code.local(ILOAD, indexSlot);
+            code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "get", "(I)Ljava/lang/Object;");
+        });
+        loops.addLast(new Label[]{end, next});
+        foreachStmt.getBody().accept(this);
+        loops.removeLast();
+        code.place(next);
+        code.iinc(indexSlot, 1);
+        code.jump(GOTO, condition);
+        code.place(end);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        Label condition = new Label();
+        Label update = new Label();
+        Label end = new Label();
+        if (forStmt.getInitialize() != null)
+            forStmt.getInitialize().accept(this);
+        code.place(condition);
+        if (forStmt.getCondition() != null)
+            expressionCodeGenerator.branchIfFalse(forStmt.getCondition(), end);
+        loops.addLast(new Label[]{end, update});
+        forStmt.getBody().accept(this);
+        loops.removeLast();
+        code.place(update);
+        if (forStmt.getUpdate() != null)
+            forStmt.getUpdate().accept(this);
+        code.jump(GOTO, condition);
+        code.place(end);
+        return null;
+    }
+}
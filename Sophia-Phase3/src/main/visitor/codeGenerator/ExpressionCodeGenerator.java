@@ -0,0 +1,575 @@
+package main.visitor.codeGenerator;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.StringType;
+import main.classFile.CodeWriter;
+import main.classFile.Label;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.Visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static main.classFile.Opcodes.*;
+
+//emits code that leaves the value of an expression on the operand stack; a call of a void method leaves nothing
+public class ExpressionCodeGenerator extends Visitor<Void> {
+    private final SymbolTable root;
+    private ClassDeclaration currentClass;
+    private CodeWriter code;
+    //slots of the arguments and local variables of the current method
+    private Map<Symbol, Integer> slots;
+    private int thisSlot;
+
+    public ExpressionCodeGenerator(SymbolTable root) {
+        this.root = root;
+    }
+
+    public ClassDeclaration getCurrentClass() {
+        return currentClass;
+    }
+
+    public void setCurrentClass(ClassDeclaration currentClass) {
+        this.currentClass = currentClass;
+    }
+
+    public void setMethod(CodeWriter code, Map<Symbol, Integer> slots, int thisSlot) {
+        this.code = code;
+        this.slots = slots;
+        this.thisSlot = thisSlot;
+    }
+
+    private String currentClassName() {
+        return currentClass.getClassName().getName();
+    }
+
+    //the type the checker gave expression; without one there is no telling what code it needs
+    static Type typeOf(Expression expression) {
+        Type type = expression.getType();
+        if (type == null || type instanceof NoType)
+            throw new IllegalStateException("Line:" + expression.getLine() + ":cannot generate code for " + expression);
+        return type;
+    }
+
+    private ClassSymbolTableItem classOf(String className) {
+        return (ClassSymbolTableItem) root.lookup(SymbolKind.CLASS, Symbol.of(className), true);
+    }
+
+    //searches the class and then its ancestors
+    private boolean hasField(String className, Symbol name) {
+        ClassSymbolTableItem classSymbolTableItem = classOf(className);
+        return classSymbolTableItem != null && classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.FIELD, name, true) != null;
+    }
+
+    private MethodSymbolTableItem methodOf(String className, Symbol name) {
+        ClassSymbolTableItem classSymbolTableItem = classOf(className);
+        if (classSymbolTableItem == null)
+            return null;
+        return (MethodSymbolTableItem) classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.METHOD, name, true);
+    }
+
+    //a value about to be stored or passed on: lists are values, so one that lives somewhere else is copied
+    public void generateValue(Expression expression) {
+        expression.accept(this);
+        if (!(expression instanceof ListValue) && typeOf(expression) instanceof ListType)
+            code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "copy", "()L" + JvmTypes.LIST + ";");
+    }
+
+    //evaluates expression for its effects only
+    public void discard(Expression expression) {
+        if (expression instanceof BinaryExpression && ((BinaryExpression) expression).getBinaryOperator() == BinaryOperator.assign) {
+            assign(((BinaryExpression) expression).getFirstOperand(), ((BinaryExpression) expression).getSecondOperand(), false);
+            return;
+        }
+        if (expression instanceof UnaryExpression && isIncDec(((UnaryExpression) expression).getOperator())) {
+            incDec((UnaryExpression) expression, false);
+            return;
+        }
+        expression.accept(this);
+        if (!(typeOf(expression) instanceof NullType))
+            code.op(POP);
+    }
+
+    public void branchIfFalse(Expression condition, Label target) {
+        if (condition instanceof BoolValue) {
+            if (!((BoolValue) condition).getConstant())
+                code.jump(GOTO, target);
+            return;
+        }
+        if (condition instanceof UnaryExpression && ((UnaryExpression) condition).getOperator() == UnaryOperator.not) {
+            branchIfTrue(((UnaryExpression) condition).getOperand(), target);
+            return;
+        }
+        if (condition instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) condition;
+            switch (binaryExpression.getBinaryOperator()) {
+                case and:
+                    branchIfFalse(binaryExpression.getFirstOperand(), target);
+                    branchIfFalse(binaryExpression.getSecondOperand(), target);
+                    return;
+                case or:
+                    Label done = new Label();
+                    branchIfTrue(binaryExpression.getFirstOperand(), done);
+                    branchIfFalse(binaryExpression.getSecondOperand(), target);
+                    code.place(done);
+                    return;
+                case lt:
+                    compareInts(binaryExpression, IF_ICMPGE, target);
+                    return;
+                case gt:
+                    compareInts(binaryExpression, IF_ICMPLE, target);
+                    return;
+                case eq:
+                    compareForEquality(binaryExpression, false, target);
+                    return;
+                case neq:
+                    compareForEquality(binaryExpression, true, target);
+                    return;
+            }
+        }
+        condition.accept(this);
+        code.jump(IFEQ, target);
+    }
+
+    public void branchIfTrue(Expression condition, Label target) {
+        if (condition instanceof BoolValue) {
+            if (((BoolValue) condition).getConstant())
+                code.jump(GOTO, target);
+            return;
+        }
+        if (condition instanceof UnaryExpression && ((UnaryExpression) condition).getOperator() == UnaryOperator.not) {
+            branchIfFalse(((UnaryExpression) condition).getOperand(), target);
+            return;
+        }
+        if (condition instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) condition;
+            switch (binaryExpression.getBinaryOperator()) {
+                case and:
+                    Label done = new Label();
+                    branchIfFalse(binaryExpression.getFirstOperand(), done);
+                    branchIfTrue(binaryExpression.getSecondOperand(), target);
+                    code.place(done);
+                    return;
+                case or:
+                    branchIfTrue(binaryExpression.getFirstOperand(), target);
+                    branchIfTrue(binaryExpression.getSecondOperand(), target);
+                    return;
+                case lt:
+                    compareInts(binaryExpression, IF_ICMPLT, target);
+                    return;
+                case gt:
+                    compareInts(binaryExpression, IF_ICMPGT, target);
+                    return;
+                case eq:
+                    compareForEquality(binaryExpression, true, target);
+                    return;
+                case neq:
+                    compareForEquality(binaryExpression, false, target);
+                    return;
+            }
+        }
+        condition.accept(this);
+        code.jump(IFNE, target);
+    }
+
+    private void compareInts(BinaryExpression binaryExpression, int jump, Label target) {
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        code.jump(jump, target);
+    }
+
+    //jumps when the operands are equal, or when they differ if jumpIfEqual is false;
+    //ints and bools compare by value, strings by contents and everything else by reference
+    private void compareForEquality(BinaryExpression binaryExpression, boolean jumpIfEqual, Label target) {
+        Type type = typeOf(binaryExpression.getFirstOperand());
+        if (type instanceof NullType)
+            type = typeOf(binaryExpression.getSecondOperand());
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        if (JvmTypes.isInt(type))
+            code.jump(jumpIfEqual ? IF_ICMPEQ : IF_ICMPNE, target);
+        else if (type instanceof StringType) {
+            code.invoke(INVOKESTATIC, "java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z");
+            code.jump(jumpIfEqual ? IFNE : IFEQ, target);
+        } else
+            code.jump(jumpIfEqual ? IF_ACMPEQ : IF_ACMPNE, target);
+    }
+
+    //a condition used as a value
+    private void pushCondition(Expression condition) {
+        Label isFalse = new Label();
+        Label done = new Label();
+        branchIfFalse(condition, isFalse);
+        code.pushInt(1);
+        code.jump(GOTO, done);
+        code.place(isFalse);
+        code.pushInt(0);
+        code.place(done);
+    }
+
+    //the places a value can be stored to
+    private enum Place { LOCAL, FIELD, ELEMENT }
+
+    private Place placeOf(Expression lvalue) {
+        if (lvalue instanceof Identifier)
+            return slots.containsKey(((Identifier) lvalue).getSymbol()) ? Place.LOCAL : Place.FIELD;
+        if (lvalue instanceof ObjectOrListMemberAccess)
+            return typeOf(((ObjectOrListMemberAccess) lvalue).getInstance()) instanceof ListType ? Place.ELEMENT : Place.FIELD;
+        if (lvalue instanceof ListAccessByIndex)
+            return Place.ELEMENT;
+        throw new IllegalStateException("Line:" + lvalue.getLine() + ":cannot assign to " + lvalue);
+    }
+
+    //pushes what a store to lvalue needs under the value: the object of a field, the list and index of an element;
+    //returns how many slots that takes
+    private int prepare(Expression lvalue) {
+        switch (placeOf(lvalue)) {
+            case LOCAL:
+                return 0;
+            case FIELD:
+                if (lvalue instanceof Identifier)
+                    code.local(ALOAD, thisSlot);
+                else
+                    ((ObjectOrListMemberAccess) lvalue).getInstance().accept(this);
+                return 1;
+            default:
+                if (lvalue instanceof ListAccessByIndex) {
+                    ((ListAccessByIndex) lvalue).getInstance().accept(this);
+                    ((ListAccessByIndex) lvalue).getIndex().accept(this);
+                } else {
+                    ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) lvalue;
+                    access.getInstance().accept(this);
+                    code.pushInt(((ListType) typeOf(access.getInstance())).indexOf(access.getMemberName().getSymbol()));
+                }
+                return 2;
+        }
+    }
+
+    //loads the current value of lvalue, consuming what prepare pushed
+    private void loadPrepared(Expression lvalue) {
+        Type type = typeOf(lvalue);
+        switch (placeOf(lvalue)) {
+            case LOCAL:
+                code.local(JvmTypes.isInt(type) ? ILOAD : ALOAD, slots.get(((Identifier) lvalue).getSymbol()));
+                break;
+            case FIELD:
+                code.field(GETFIELD, fieldOwner(lvalue), fieldName(lvalue), JvmTypes.descriptor(type));
+                break;
+            default:
+                code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "get", "(I)Ljava/lang/Object;");
+                JvmTypes.unbox(code, type);
+        }
+    }
+
+    //stores the value on top of the stack to lvalue, consuming what prepare pushed
+    private void storePrepared(Expression lvalue) {
+        Type type = typeOf(lvalue);
+        switch (placeOf(lvalue)) {
+            case LOCAL:
+                code.local(JvmTypes.isInt(type) ? ISTORE : ASTORE, slots.get(((Identifier) lvalue).getSymbol()));
+                break;
+            case FIELD:
+                code.field(PUTFIELD, fieldOwner(lvalue), fieldName(lvalue), JvmTypes.descriptor(type));
+                break;
+            default:
+                JvmTypes.box(code, type);
+                code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "set", "(ILjava/lang/Object;)V");
+        }
+    }
+
+    private String fieldOwner(Expression lvalue) {
+        if (lvalue instanceof Identifier)
+            return currentClassName();
+        return JvmTypes.internalName(typeOf(((ObjectOrListMemberAccess) lvalue).getInstance()));
+    }
+
+    private String fieldName(Expression lvalue) {
+        if (lvalue instanceof Identifier)
+            return ((Identifier) lvalue).getName();
+        return ((ObjectOrListMemberAccess) lvalue).getMemberName().getName();
+    }
+
+    //copies the value on top of the stack under the receiver slots prepare pushed
+    private void duplicateUnder(int receiverSlots) {
+        code.op(receiverSlots == 0 ? DUP : receiverSlots == 1 ? DUP_X1 : DUP_X2);
+    }
+
+    public void assign(Expression lvalue, Expression rvalue, boolean keepValue) {
+        Type type = typeOf(lvalue);
+        Type valueType = typeOf(rvalue);
+        //the checker only lets through values that fit the place; anything else would not pass verification
+        if (JvmTypes.isInt(valueType) != JvmTypes.isInt(type) || !(valueType instanceof NullType || valueType.getClass() == type.getClass()))
+            throw new IllegalStateException("Line:" + lvalue.getLine() + ":cannot assign " + rvalue + " to " + lvalue);
+        int receiverSlots = prepare(lvalue);
+        generateValue(rvalue);
+        if (keepValue)
+            duplicateUnder(receiverSlots);
+        storePrepared(lvalue);
+    }
+
+    //stores the element on top of the stack (an Object, as a list holds it) to lvalue
+    public void assignElement(Expression lvalue, Runnable pushElement) {
+        prepare(lvalue);
+        pushElement.run();
+        Type type = typeOf(lvalue);
+        JvmTypes.unbox(code, type);
+        if (type instanceof ListType)
+            code.invoke(INVOKEVIRTUAL, JvmTypes.LIST, "copy", "()L" + JvmTypes.LIST + ";");
+        storePrepared(lvalue);
+    }
+
+    private static boolean isIncDec(UnaryOperator operator) {
+        return operator == UnaryOperator.preinc || operator == UnaryOperator.predec
+                || operator == UnaryOperator.postinc || operator == UnaryOperator.postdec;
+    }
+
+    private void incDec(UnaryExpression unaryExpression, boolean keepValue) {
+        UnaryOperator operator = unaryExpression.getOperator();
+        int change = operator == UnaryOperator.preinc || operator == UnaryOperator.postinc ? 1 : -1;
+        boolean post = operator == UnaryOperator.postinc || operator == UnaryOperator.postdec;
+        Expression lvalue = unaryExpression.getOperand();
+        if (placeOf(lvalue) == Place.LOCAL) {
+            int slot = slots.get(((Identifier) lvalue).getSymbol());
+            if (keepValue && post)
+                code.local(ILOAD, slot);
+            code.iinc(slot, change);
+            if (keepValue && !post)
+                code.local(ILOAD, slot);
+            return;
+        }
+        int receiverSlots = prepare(lvalue);
+        code.op(receiverSlots == 1 ? DUP : DUP2);
+        loadPrepared(lvalue);
+        if (keepValue && post)
+            duplicateUnder(receiverSlots);
+        code.pushInt(change);
+        code.op(IADD);
+        if (keepValue && !post)
+            duplicateUnder(receiverSlots);
+        storePrepared(lvalue);
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        switch (binaryExpression.getBinaryOperator()) {
+            case assign:
+                assign(binaryExpression.getFirstOperand(), binaryExpression.getSecondOperand(), true);
+                return null;
+            case add: case sub: case mult: case div: case mod:
+                binaryExpression.getFirstOperand().accept(this);
+                binaryExpression.getSecondOperand().accept(this);
+                code.op(arithmetic(binaryExpression.getBinaryOperator()));
+                return null;
+            default:
+                pushCondition(binaryExpression);
+                return null;
+        }
+    }
+
+    private static int arithmetic(BinaryOperator operator) {
+        switch (operator) {
+            case add: return IADD;
+            case sub: return ISUB;
+            case mult: return IMUL;
+            case div: return IDIV;
+            default: return IREM;
+        }
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        switch (unaryExpression.getOperator()) {
+            case minus:
+                unaryExpression.getOperand().accept(this);
+                code.op(INEG);
+                return null;
+            case not:
+                unaryExpression.getOperand().accept(this);
+                code.pushInt(1);
+                code.op(IXOR);
+                return null;
+            default:
+                incDec(unaryExpression, true);
+                return null;
+        }
+    }
+
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        Type instanceType = typeOf(objectOrListMemberAccess.getInstance());
+        Symbol memberName = objectOrListMemberAccess.getMemberName().getSymbol();
+        if (instanceType instanceof ClassType && !hasField(((ClassType) instanceType).getClassName().getName(), memberName)) {
+            newFptr(objectOrListMemberAccess.getInstance(), objectOrListMemberAccess.getMemberName().getName());
+            return null;
+        }
+        prepare(objectOrListMemberAccess);
+        loadPrepared(objectOrListMemberAccess);
+        return null;
+    }
+
+    private void newFptr(Expression instance, String methodName) {
+        code.type(NEW, JvmTypes.FPTR);
+        code.op(DUP);
+        if (instance == null)
+            code.local(ALOAD, thisSlot);
+        else
+            instance.accept(this);
+        code.pushString(methodName);
+        code.invoke(INVOKESPECIAL, JvmTypes.FPTR, "<init>", "(Ljava/lang/Object;Ljava/lang/String;)V");
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        if (!slots.containsKey(identifier.getSymbol()) && !hasField(currentClassName(), identifier.getSymbol())) {
+            newFptr(null, identifier.getName());
+            return null;
+        }
+        prepare(identifier);
+        loadPrepared(identifier);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        prepare(listAccessByIndex);
+        loadPrepared(listAccessByIndex);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        Expression instance = methodCall.getInstance();
+        //a method named directly is called directly; anything else evaluates to an Fptr
+        Expression receiver = null;
+        String owner = null;
+        Symbol methodName = null;
+        if (instance instanceof Identifier && !slots.containsKey(((Identifier) instance).getSymbol())
+                && !hasField(currentClassName(), ((Identifier) instance).getSymbol())) {
+            owner = currentClassName();
+            methodName = ((Identifier) instance).getSymbol();
+        } else if (instance instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) instance;
+            Type instanceType = typeOf(access.getInstance());
+            if (instanceType instanceof ClassType
+                    && !hasField(((ClassType) instanceType).getClassName().getName(), access.getMemberName().getSymbol())) {
+                receiver = access.getInstance();
+                owner = ((ClassType) instanceType).getClassName().getName();
+                methodName = access.getMemberName().getSymbol();
+            }
+        }
+        MethodSymbolTableItem method = owner == null ? null : methodOf(owner, methodName);
+        if (method != null) {
+            if (receiver == null)
+                code.local(ALOAD, thisSlot);
+            else
+                receiver.accept(this);
+            for (Expression argument : methodCall.getArgs())
+                generateValue(argument);
+            code.invoke(INVOKEVIRTUAL, owner, methodName.getName(), JvmTypes.methodDescriptor(method.getArgTypes(), method.getReturnType()));
+            return null;
+        }
+
+        FptrType fptrType = (FptrType) typeOf(instance);
+        instance.accept(this);
+        code.pushInt(methodCall.getArgs().size());
+        code.type(ANEWARRAY, JvmTypes.OBJECT);
+        for (int i = 0; i < methodCall.getArgs().size(); i++) {
+            code.op(DUP);
+            code.pushInt(i);
+            generateValue(methodCall.getArgs().get(i));
+            JvmTypes.box(code, typeOf(methodCall.getArgs().get(i)));
+            code.op(AASTORE);
+        }
+        code.invoke(INVOKEVIRTUAL, JvmTypes.FPTR, "invoke", "([Ljava/lang/Object;)Ljava/lang/Object;");
+        if (fptrType.getReturnType() instanceof NullType)
+            code.op(POP);
+        else
+            JvmTypes.unbox(code, fptrType.getReturnType());
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        String className = newClassInstance.getClassType().getClassName().getName();
+        ClassSymbolTableItem classSymbolTableItem = classOf(className);
+        ClassDeclaration classDeclaration = classSymbolTableItem == null ? null : classSymbolTableItem.getClassDeclaration();
+        ConstructorDeclaration constructor = classDeclaration == null ? null : classDeclaration.getConstructor();
+        List<Type> argumentTypes = new ArrayList<>();
+        if (constructor != null)
+            for (VarDeclaration varDeclaration : constructor.getArgs())
+                argumentTypes.add(varDeclaration.getType());
+        for (Expression argument : newClassInstance.getArgs())
+            generateValue(argument);
+        code.invoke(INVOKESTATIC, className, CodeGenerator.FACTORY, JvmTypes.methodDescriptor(argumentTypes, newClassInstance.getClassType()));
+        return null;
+    }
+
+    @Override
+    public Void visit(ThisClass thisClass) {
+        code.local(ALOAD, thisSlot);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        code.type(NEW, JvmTypes.LIST);
+        code.op(DUP);
+        code.pushInt(listValue.getElements().size());
+        code.type(ANEWARRAY, JvmTypes.OBJECT);
+        for (int i = 0; i < listValue.getElements().size(); i++) {
+            Expression element = listValue.getElements().get(i);
+            code.op(DUP);
+            code.pushInt(i);
+            generateValue(element);
+            JvmTypes.box(code, typeOf(element));
+            code.op(AASTORE);
+        }
+        code.invoke(INVOKESPECIAL, JvmTypes.LIST, "<init>", "([Ljava/lang/Object;)V");
+        return null;
+    }
+
+    @Override
+    public Void visit(NullValue nullValue) {
+        code.op(ACONST_NULL);
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue intValue) {
+        code.pushInt(intValue.getConstant());
+        return null;
+    }
+
+    @Override
+    public Void visit(BoolValue boolValue) {
+        code.pushInt(boolValue.getConstant() ? 1 : 0);
+        return null;
+    }
+
+    @Override
+    public Void visit(StringValue stringValue) {
+        code.pushString(stringValue.getConstant());
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package main.visitor.codeGenerator;
+
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.classFile.CodeWriter;
+
+import java.util.List;
+
+import static main.classFile.Opcodes.*;
+
+//how Sophia types are represented on the JVM: int and bool as int, a class as the class of the same name,
+//lists and function pointers as the runtime classes in main.runtime; inside lists and calls through
+//function pointers ints and bools are boxed
+final class JvmTypes {
+    static final String OBJECT = "java/lang/Object";
+    static final String STRING = "java/lang/String";
+    static final String LIST = "main/runtime/SophiaList";
+    static final String FPTR = "main/runtime/Fptr";
+
+    private JvmTypes() {
+    }
+
+    //NullType stands for void, as a method's return type
+    static String descriptor(Type type) {
+        if (type instanceof IntType)
+            return "I";
+        if (type instanceof BoolType)
+            return "Z";
+        if (type instanceof NullType)
+            return "V";
+        return "L" + internalName(type) + ";";
+    }
+
+    static String internalName(Type type) {
+        if (type instanceof StringType)
+            return STRING;
+        if (type instanceof ListType)
+            return LIST;
+        if (type instanceof FptrType)
+            return FPTR;
+        if (type instanceof ClassType)
+            return ((ClassType) type).getClassName().getName();
+        throw new IllegalStateException("no JVM type for " + type);
+    }
+
+    static String methodDescriptor(List<Type> argumentTypes, Type returnType) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Type argumentType : argumentTypes)
+            descriptor.append(descriptor(argumentType));
+        return descriptor.append(')').append(descriptor(returnType)).toString();
+    }
+
+    //values of these types are ints on the operand stack
+    static boolean isInt(Type type) {
+        return type instanceof IntType || type instanceof BoolType;
+    }
+
+    static void box(CodeWriter code, Type type) {
+        if (type instanceof IntType)
+            code.invoke(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;");
+        else if (type instanceof BoolType)
+            code.invoke(INVOKESTATIC, "java/lang/Boolean", "valueOf", "(Z)Ljava/lang/Boolean;");
+    }
+
+    //turns an Object on the stack into a value of type
+    static void unbox(CodeWriter code, Type type) {
+        if (type instanceof IntType) {
+            code.type(CHECKCAST, "java/lang/Integer");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I");
+        } else if (type instanceof BoolType) {
+            code.type(CHECKCAST, "java/lang/Boolean");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z");
+        } else if (!(type instanceof NullType))
+            code.type(CHECKCAST, internalName(type));
+    }
+
+    //what a variable of type holds before it is first assigned: 0, false, "", a list of such values, or null
+    static void pushDefault(CodeWriter code, Type type) {
+        if (isInt(type))
+            code.pushInt(0);
+        else if (type instanceof StringType)
+            code.pushString("");
+        else if (type instanceof ListType)
+            pushDefaultList(code, (ListType) type);
+        else
+            code.op(ACONST_NULL);
+    }
+
+    //false when the JVM's own default for a field of type is already right
+    static boolean needsInitialValue(Type type) {
+        return type instanceof StringType || type instanceof ListType;
+    }
+
+    private static void pushDefaultList(CodeWriter code, ListType listType) {
+        if (listType.isRepeated()) {
+            Type elementType = listType.getElementType(0).getType();
+            code.pushInt(listType.getSize());
+            pushDefault(code, elementType);
+            box(code, elementType);
+            code.invoke(INVOKESTATIC, LIST, "repeat", "(ILjava/lang/Object;)L" + LIST + ";");
+            return;
+        }
+        code.type(NEW, LIST);
+        code.op(DUP);
+        code.pushInt(listType.getSize());
+        code.type(ANEWARRAY, OBJECT);
+        for (int i = 0; i < listType.getSize(); i++) {
+            Type elementType = listType.getElementType(i).getType();
+            code.op(DUP);
+            code.pushInt(i);
+            pushDefault(code, elementType);
+            box(code, elementType);
+            code.op(AASTORE);
+        }
+        code.invoke(INVOKESPECIAL, LIST, "<init>", "([Ljava/lang/Object;)V");
+    }
+}
@@ -1,27 +1,37 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
 import main.symbolTable.utils.graph.Graph;
 import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
 import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
 
+import java.util.concurrent.ForkJoinPool;
+
 public class NameAnalyzer {
     private Program program;
+    private CompilationContext context;
     private Graph<String> classHierarchy;
+    private ForkJoinPool pool;
+
+    public NameAnalyzer(Program program, CompilationContext context) {
+        this(program, context, null);
+    }
 
-    public NameAnalyzer(Program program) {
+    public NameAnalyzer(Program program, CompilationContext context, ForkJoinPool pool) {
         this.program = program;
+        this.context = context;
+        this.pool = pool;
     }
 
     public void analyze() {
-        NameCollector nameCollector = new NameCollector();
+        NameCollector nameCollector = new NameCollector(context, pool);
         this.program.accept(nameCollector);
         this.linkParentSymbolTables();
-        NameChecker nameChecker = new NameChecker(classHierarchy);
+        NameChecker nameChecker = new NameChecker(classHierarchy, context);
         this.program.accept(nameChecker);
     }
 
@@ -37,13 +47,15 @@ public class NameAnalyzer {
             String parentName = classDeclaration.getParentClassName().getName();
             try {
                 classHierarchy.addNodeAsParentOf(className, parentName);
-                ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + parentName, true);
-                ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + className, true);
+            } catch (GraphDoesNotContainNodeException ignored) { }
+            ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) context.getRoot()
+                    .lookup(SymbolKind.CLASS, classDeclaration.getParentClassName().getSymbol(), true);
+            ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) context.getRoot()
+                    .lookup(SymbolKind.CLASS, classDeclaration.getClassName().getSymbol(), true);
+            if (parentSTI != null && thisClassSTI != null)
                 thisClassSTI.getClassSymbolTable().pre = parentSTI.getClassSymbolTable();
-            } catch (ItemNotFoundException | GraphDoesNotContainNodeException ignored) { }
         }
+        classHierarchy.freeze();
         this.classHierarchy = classHierarchy;
     }
 
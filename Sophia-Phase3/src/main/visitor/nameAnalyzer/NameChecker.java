@@ -1,5 +1,6 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -10,48 +11,79 @@ import main.compileErrorException.nameErrors.FieldRedefinition;
 import main.compileErrorException.nameErrors.MethodNameConflictWithField;
 import main.compileErrorException.nameErrors.MethodRedefinition;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
-import main.symbolTable.items.FieldSymbolTableItem;
-import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
 import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.utils.symbol.Symbol;
 import main.visitor.Visitor;
+import main.visitor.utils.ErrorReporter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 public class NameChecker extends Visitor<Void> {
-    private String currentClassName;
+    private Symbol currentClassSymbol;
     private Graph<String> classHierarchy;
-    Program root;
+    private final CompilationContext context;
+    private final ErrorReporter errorReporter;
+    //class symbol table -> names of the fields declared in that class or in any of its subclasses
+    private Map<SymbolTable, Set<Symbol>> subtreeFieldNames;
 
-    public NameChecker(Graph<String> classHierarchy) {
+    public NameChecker(Graph<String> classHierarchy, CompilationContext context) {
         this.classHierarchy = classHierarchy;
+        this.context = context;
+        this.errorReporter = context.getErrorReporter();
     }
 
     private SymbolTable getCurrentClassSymbolTable() {
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
-            return classSymbolTableItem.getClassSymbolTable();
-        } catch (ItemNotFoundException ignored) {
+        ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
+                context.getRoot().lookup(SymbolKind.CLASS, this.currentClassSymbol, true);
+        if (classSymbolTableItem == null)
             return null;
-        }
+        return classSymbolTableItem.getClassSymbolTable();
     }
 
     @Override
     public Void visit(Program program) {
-        this.root = program;
+        this.collectSubtreeFieldNames(program);
         for(ClassDeclaration classDeclaration : program.getClasses()) {
-            this.currentClassName = classDeclaration.getClassName().getName();
+            this.currentClassSymbol = classDeclaration.getClassName().getSymbol();
             classDeclaration.accept(this);
         }
         return null;
     }
 
+    //every class adds its field names to its own table and to each table up its parent chain,
+    //which after linkParentSymbolTables follows the class hierarchy
+    private void collectSubtreeFieldNames(Program program) {
+        this.subtreeFieldNames = new IdentityHashMap<>();
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            if(classDeclaration.getFields().isEmpty())
+                continue;
+            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
+                    context.getRoot().lookup(SymbolKind.CLASS, classDeclaration.getClassName().getSymbol(), true);
+            if(classSymbolTableItem == null)
+                continue;
+            Set<SymbolTable> visitedSymbolTables = Collections.newSetFromMap(new IdentityHashMap<>());
+            SymbolTable symbolTable = classSymbolTableItem.getClassSymbolTable();
+            while(symbolTable != null && visitedSymbolTables.add(symbolTable)) {
+                Set<Symbol> fieldNames = subtreeFieldNames.computeIfAbsent(symbolTable, key -> new HashSet<>());
+                for(FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+                    fieldNames.add(fieldDeclaration.getVarDeclaration().getVarName().getSymbol());
+                symbolTable = symbolTable.pre;
+            }
+        }
+    }
+
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
         if(classDeclaration.getParentClassName() != null) {
             if (this.classHierarchy.isSecondNodeAncestorOf(classDeclaration.getParentClassName().getName(), classDeclaration.getClassName().getName())) {
                 ClassInCyclicInheritance exception = new ClassInCyclicInheritance(classDeclaration);
-                classDeclaration.addError(exception);
+                errorReporter.report(classDeclaration, exception);
             }
         }
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
@@ -74,51 +106,38 @@ public class NameChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
-        if(!methodDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), false);
+        Symbol methodName = methodDeclaration.getMethodName().getSymbol();
+        if(!errorReporter.hasError(methodDeclaration)) {
+            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+            if (classSymbolTable.lookup(SymbolKind.METHOD, methodName, false) != null) {
                 MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
-                methodDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
+                errorReporter.report(methodDeclaration, exception);
             }
         }
         boolean errored = false;
-        try {
-            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-            classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
+        SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+        if (classSymbolTable.lookup(SymbolKind.FIELD, methodName, true) != null) {
             MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
-            methodDeclaration.addError(exception);
+            errorReporter.report(methodDeclaration, exception);
             errored = true;
-        } catch (ItemNotFoundException ignored) {
         }
-        if(!errored)
-            for(ClassDeclaration classDeclaration : root.getClasses()) {
-                String childName = classDeclaration.getClassName().getName();
-                if(classHierarchy.isSecondNodeAncestorOf(childName, currentClassName)) {
-                    try {
-                        ClassSymbolTableItem childSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + childName, true);
-                        SymbolTable childSymbolTable = childSymbolTableItem.getClassSymbolTable();
-                        childSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
-                        MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
-                        methodDeclaration.addError(exception);
-                        break;
-                    } catch (ItemNotFoundException ignored) {
-                    }
-                }
+        if(!errored) {
+            Set<Symbol> fieldNames = subtreeFieldNames.get(classSymbolTable);
+            if(fieldNames != null && fieldNames.contains(methodName)) {
+                MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
+                errorReporter.report(methodDeclaration, exception);
             }
+        }
         return null;
     }
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
-        if(!fieldDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + fieldDeclaration.getVarDeclaration().getVarName().getName(), false);
+        if(!errorReporter.hasError(fieldDeclaration)) {
+            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+            if (classSymbolTable.lookup(SymbolKind.FIELD, fieldDeclaration.getVarDeclaration().getVarName().getSymbol(), false) != null) {
                 FieldRedefinition exception = new FieldRedefinition(fieldDeclaration);
-                fieldDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
+                errorReporter.report(fieldDeclaration, exception);
             }
         }
         return null;
@@ -1,5 +1,6 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -17,31 +18,72 @@ import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.LocalVariableSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
 import main.visitor.Visitor;
+import main.visitor.utils.ErrorReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class NameCollector extends Visitor<Void> {
+    private final CompilationContext context;
+    private final ErrorReporter errorReporter;
+    //collects classes concurrently when set, one after another otherwise
+    private final ForkJoinPool pool;
+
+    public NameCollector(CompilationContext context) {
+        this(context, null);
+    }
+
+    public NameCollector(CompilationContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.errorReporter = context.getErrorReporter();
+        this.pool = pool;
+    }
 
     @Override
     public Void visit(Program program) {
-        SymbolTable.push(new SymbolTable());
-        SymbolTable.root = SymbolTable.top;
+        context.push(new SymbolTable());
+        context.setRoot(context.getTop());
+        if(pool != null) {
+            collectClassesInParallel(program.getClasses());
+            return null;
+        }
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             classDeclaration.accept(this);
         }
         return null;
     }
 
+    //a class's own symbol table only depends on the class, so the tables are filled concurrently on forked contexts
+    //registering the classes in the root table stays in declaration order, so redefined classes get the same names
+    private void collectClassesInParallel(List<ClassDeclaration> classes) {
+        List<CompilationContext> classContexts = new ArrayList<>();
+        List<ForkJoinTask<ClassSymbolTableItem>> tasks = new ArrayList<>();
+        for(ClassDeclaration classDeclaration : classes) {
+            CompilationContext classContext = context.fork();
+            classContexts.add(classContext);
+            tasks.add(pool.submit(() -> new NameCollector(classContext).collectClass(classDeclaration)));
+        }
+        for(int i = 0; i < tasks.size(); i++) {
+            ClassSymbolTableItem classSymbolTableItem = tasks.get(i).join();
+            errorReporter.merge(classContexts.get(i).getErrorReporter());
+            registerClass(classSymbolTableItem);
+        }
+    }
+
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
+        registerClass(collectClass(classDeclaration));
+        return null;
+    }
+
+    private ClassSymbolTableItem collectClass(ClassDeclaration classDeclaration) {
+        //NameChecker reports on classes, fields and methods after this pass, so they keep their place in the tree
+        errorReporter.mark(classDeclaration);
         ClassSymbolTableItem classSymbolTableItem = new ClassSymbolTableItem(classDeclaration);
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        classSymbolTableItem.setClassSymbolTable(SymbolTable.top);
-        try {
-            SymbolTable.root.put(classSymbolTableItem);
-        } catch (ItemAlreadyExistsException e) {
-            ClassRedefinition exception = new ClassRedefinition(classDeclaration);
-            classDeclaration.addError(exception);
-            exception.handleException();
-        }
+        context.push(new SymbolTable(context.getTop()));
+        classSymbolTableItem.setClassSymbolTable(context.getTop());
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
             fieldDeclaration.accept(this);
         }
@@ -51,8 +93,19 @@ public class NameCollector extends Visitor<Void> {
         for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
             methodDeclaration.accept(this);
         }
-        SymbolTable.pop();
-        return null;
+        context.pop();
+        return classSymbolTableItem;
+    }
+
+    private void registerClass(ClassSymbolTableItem classSymbolTableItem) {
+        try {
+            context.getRoot().put(classSymbolTableItem);
+        } catch (ItemAlreadyExistsException e) {
+            ClassDeclaration classDeclaration = classSymbolTableItem.getClassDeclaration();
+            ClassRedefinition exception = new ClassRedefinition(classDeclaration);
+            errorReporter.report(classDeclaration, exception);
+            exception.handleException(context, classSymbolTableItem.getClassSymbolTable());
+        }
     }
 
     @Override
@@ -63,33 +116,35 @@ public class NameCollector extends Visitor<Void> {
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
+        errorReporter.mark(methodDeclaration);
         MethodSymbolTableItem methodSymbolTableItem = new MethodSymbolTableItem(methodDeclaration);
-        SymbolTable methodSymbolTable = new SymbolTable(SymbolTable.top);
+        SymbolTable methodSymbolTable = new SymbolTable(context.getTop());
         methodSymbolTableItem.setMethodSymbolTable(methodSymbolTable);
         try {
-            SymbolTable.top.put(methodSymbolTableItem);
+            context.getTop().put(methodSymbolTableItem);
         } catch (ItemAlreadyExistsException e) {
             MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
-            methodDeclaration.addError(exception);
+            errorReporter.report(methodDeclaration, exception);
         }
-        SymbolTable.push(methodSymbolTable);
+        context.push(methodSymbolTable);
         for(VarDeclaration varDeclaration : methodDeclaration.getArgs()) {
             varDeclaration.accept(this);
         }
         for(VarDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
             varDeclaration.accept(this);
         }
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
+        errorReporter.mark(fieldDeclaration);
         try {
-            SymbolTable.top.put(new FieldSymbolTableItem(fieldDeclaration));
+            context.getTop().put(new FieldSymbolTableItem(fieldDeclaration));
         } catch (ItemAlreadyExistsException e) {
             FieldRedefinition exception = new FieldRedefinition(fieldDeclaration);
-            fieldDeclaration.addError(exception);
+            errorReporter.report(fieldDeclaration, exception);
         }
         return null;
     }
@@ -97,10 +152,10 @@ public class NameCollector extends Visitor<Void> {
     @Override
     public Void visit(VarDeclaration varDeclaration) {
         try {
-            SymbolTable.top.put(new LocalVariableSymbolTableItem(varDeclaration));
+            context.getTop().put(new LocalVariableSymbolTableItem(varDeclaration));
         } catch (ItemAlreadyExistsException e) {
             LocalVarRedefinition exception = new LocalVarRedefinition(varDeclaration);
-            varDeclaration.addError(exception);
+            errorReporter.report(varDeclaration, exception);
         }
         return null;
     }
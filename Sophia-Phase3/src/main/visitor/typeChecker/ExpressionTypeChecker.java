@@ -1,6 +1,10 @@
 package main.visitor.typeChecker;
 
+import main.CompilationContext;
+import main.ast.nodes.Node;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.expression.operators.BinaryOperator;
 import main.ast.nodes.expression.operators.UnaryOperator;
@@ -12,6 +16,7 @@ import main.ast.nodes.expression.values.primitive.StringValue;
 import main.ast.types.NoType;
 import main.ast.types.NullType;
 import main.ast.types.Type;
+import main.ast.types.TypeInterner;
 import main.ast.types.functionPointer.FptrType;
 import main.ast.types.list.ListNameType;
 import main.ast.types.list.ListType;
@@ -20,33 +25,114 @@ import main.ast.types.single.ClassType;
 import main.ast.types.single.IntType;
 import main.ast.types.single.StringType;
 import main.compileErrorException.typeErrors.*;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.LocalVariableSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
+import main.symbolTable.items.SymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
 import main.visitor.Visitor;
+import main.visitor.utils.ErrorReporter;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.List;
 
 
+//types expressions and records on each one the type it gets, which is what the interpreters, the vm and the code
+//generator run on: a program that passes type checking has a type other than NoType on every expression
 public class ExpressionTypeChecker extends Visitor<Type> {
     private final Graph<String> classHierarchy;
-    public static ClassDeclaration currentClass;
+    private final CompilationContext context;
+    //every type this checker returns is canonical, so equal types can be compared by reference
+    private final TypeInterner typeInterner;
+    private final ErrorReporter errorReporter;
+    private ClassDeclaration currentClass;
 
-    public ExpressionTypeChecker(Graph<String> classHierarchy) {
+    public ExpressionTypeChecker(Graph<String> classHierarchy, CompilationContext context) {
         this.classHierarchy = classHierarchy;
+        this.context = context;
+        this.typeInterner = context.getTypeInterner();
+        this.errorReporter = context.getErrorReporter();
+    }
+
+    public ClassDeclaration getCurrentClass() {
+        return currentClass;
+    }
+
+    public void setCurrentClass(ClassDeclaration currentClass) {
+        this.currentClass = currentClass;
+    }
+
+    //the type of an expression whose value is used, which a call to a void method does not have
+    public Type typeOf(Expression expression) {
+        int position = errorReporter.mark();
+        Type type = typeOfEffect(expression);
+        if (type instanceof NullType && expression instanceof MethodCall) {
+            errorReporter.report(position, expression, new CantUseValueOfVoidMethod(expression.getLine()));
+            return NoType.INSTANCE;
+        }
+        return type;
+    }
+
+    //the type of an expression evaluated only for its effects, such as a method call statement
+    public Type typeOfEffect(Expression expression) {
+        Type type = expression.accept(this);
+        expression.setType(type);
+        return type;
+    }
+
+    //checks a store of a value of type rType to lvalue; returns the type of the assignment
+    public Type checkAssignment(int position, Node node, Expression lvalue, Type lType, Type rType) {
+        if (!isLvalue(lvalue)) {
+            errorReporter.report(position, node, new LeftSideNotLvalue(node.getLine()));
+            return NoType.INSTANCE;
+        }
+        if (lType instanceof NoType || rType instanceof NoType)
+            return NoType.INSTANCE;
+        if (!isSubType(rType, lType)) {
+            errorReporter.report(position, node, new UnsupportedOperandType(node.getLine(), BinaryOperator.assign.name()));
+            return NoType.INSTANCE;
+        }
+        return lType;
+    }
+
+    //a variable, a field or a list element; a name nothing declares counts, its error is already reported
+    private boolean isLvalue(Expression expression) {
+        if (expression instanceof Identifier) {
+            SymbolTableItem symbolTableItem = context.getTop().resolve(((Identifier) expression).getSymbol());
+            return symbolTableItem instanceof LocalVariableSymbolTableItem || symbolTableItem instanceof FieldSymbolTableItem
+                    || symbolTableItem == null || symbolTableItem instanceof ClassSymbolTableItem;
+        }
+        if (expression instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) expression;
+            Type instanceType = access.getInstance().getType();
+            if (instanceType instanceof ListType)
+                return true;
+            if (instanceType instanceof ClassType) {
+                ClassSymbolTableItem classSymbolTableItem = classOf((ClassType) instanceType);
+                return classSymbolTableItem == null
+                        || classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.FIELD, access.getMemberName().getSymbol(), true) != null
+                        || classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.METHOD, access.getMemberName().getSymbol(), true) == null;
+            }
+            return false;
+        }
+        return expression instanceof ListAccessByIndex;
+    }
+
+    private ClassSymbolTableItem classOf(ClassType classType) {
+        return (ClassSymbolTableItem) context.getTop().lookup(SymbolKind.CLASS, classType.getClassName().getSymbol(), true);
     }
 
     @Override
     public Type visit(BinaryExpression binaryExpression) {
-        Type firstOperandType = binaryExpression.getFirstOperand().accept(this);
-        Type secondOperandType = binaryExpression.getSecondOperand().accept(this);
+        int position = errorReporter.mark();
+        Type firstOperandType = typeOf(binaryExpression.getFirstOperand());
+        Type secondOperandType = typeOf(binaryExpression.getSecondOperand());
+        if (binaryExpression.getBinaryOperator().equals(BinaryOperator.assign))
+            return checkAssignment(position, binaryExpression, binaryExpression.getFirstOperand(), firstOperandType, secondOperandType);
         if ((firstOperandType instanceof NoType) && (secondOperandType instanceof NoType)) {
-            return new NoType();
+            return NoType.INSTANCE;
         }
         if (binaryExpression.getBinaryOperator().equals(BinaryOperator.add) ||
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.sub) ||
@@ -54,207 +140,257 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.div) ||
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.mod)) {
             if (firstOperandType instanceof IntType && secondOperandType instanceof IntType)
-                return new IntType();
+                return IntType.INSTANCE;
             if ((firstOperandType instanceof IntType || firstOperandType instanceof NoType) &&
                     (secondOperandType instanceof IntType || secondOperandType instanceof NoType))
-                return new NoType();
+                return NoType.INSTANCE;
         } else if (binaryExpression.getBinaryOperator().equals(BinaryOperator.and) ||
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.or)) {
             if (firstOperandType instanceof BoolType && secondOperandType instanceof BoolType)
-                return new BoolType();
+                return BoolType.INSTANCE;
             if ((firstOperandType instanceof BoolType || firstOperandType instanceof NoType) &&
                     (secondOperandType instanceof BoolType || secondOperandType instanceof NoType))
-                return new NoType();
+                return NoType.INSTANCE;
         } else if (binaryExpression.getBinaryOperator().equals(BinaryOperator.eq) ||
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.neq)) {
-            return new NoType();
-            // TODO
+            if (firstOperandType instanceof NoType || secondOperandType instanceof NoType)
+                return NoType.INSTANCE;
+            if (isComparable(firstOperandType, secondOperandType))
+                return BoolType.INSTANCE;
         } else if (binaryExpression.getBinaryOperator().equals(BinaryOperator.gt) ||
                 binaryExpression.getBinaryOperator().equals(BinaryOperator.lt)){
             if (firstOperandType instanceof IntType && secondOperandType instanceof IntType)
-                return new BoolType();
+                return BoolType.INSTANCE;
             if ((firstOperandType instanceof IntType || firstOperandType instanceof NoType) &&
                     (secondOperandType instanceof IntType || secondOperandType instanceof NoType))
-                return new NoType();
+                return NoType.INSTANCE;
         }
-        binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryExpression.getBinaryOperator().name()));
-        return new NoType();
+        errorReporter.report(position, binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryExpression.getBinaryOperator().name()));
+        return NoType.INSTANCE;
+    }
+
+    //values == and != can compare: ints, bools or strings with each other, objects of related classes, and
+    //function pointers of the same type; null with an object or a function pointer. lists are never compared
+    private boolean isComparable(Type a, Type b) {
+        if (a instanceof IntType || a instanceof BoolType || a instanceof StringType)
+            return isSame(a, b);
+        if (a instanceof ClassType && b instanceof ClassType)
+            return isSubType(a, b) || isSubType(b, a);
+        if (a instanceof FptrType && b instanceof FptrType)
+            return isSame(a, b);
+        if (a instanceof NullType)
+            return b instanceof NullType || b instanceof ClassType || b instanceof FptrType;
+        if (b instanceof NullType)
+            return a instanceof ClassType || a instanceof FptrType;
+        return false;
     }
 
     @Override
     public Type visit(UnaryExpression unaryExpression) {
-        Type expressionType = unaryExpression.getOperand().accept(this);
+        int position = errorReporter.mark();
+        Type expressionType = typeOf(unaryExpression.getOperand());
+        if (!unaryExpression.getOperator().equals(UnaryOperator.not) && !unaryExpression.getOperator().equals(UnaryOperator.minus)
+                && !isLvalue(unaryExpression.getOperand()))
+            errorReporter.report(position, unaryExpression, new IncDecOperandNotLvalue(unaryExpression.getLine(), unaryExpression.getOperator().name()));
         if (expressionType instanceof NoType)
-            return new NoType();
+            return NoType.INSTANCE;
         if (!unaryExpression.getOperator().equals(UnaryOperator.not)) {
             if (expressionType instanceof IntType)
-                return new IntType();
+                return IntType.INSTANCE;
             else
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), unaryExpression.getOperator().name()));
+                errorReporter.report(position, unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), unaryExpression.getOperator().name()));
         } else {
             if (expressionType instanceof BoolType)
-                return new BoolType();
+                return BoolType.INSTANCE;
             else
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), unaryExpression.getOperator().name()));
+                errorReporter.report(position, unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), unaryExpression.getOperator().name()));
         }
-        return new NoType();
+        return NoType.INSTANCE;
     }
 
+    //a field, then a method, of the class of an object, inherited ones included; an element of a list by its name
     @Override
     public Type visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
-        Type instanceType = objectOrListMemberAccess.getInstance().accept(this);
+        int position = errorReporter.mark();
+        Type instanceType = typeOf(objectOrListMemberAccess.getInstance());
         if (instanceType instanceof NoType) {
-            return new NoType();
+            return NoType.INSTANCE;
+        }
+        Identifier memberName = objectOrListMemberAccess.getMemberName();
+        context.recordReference(memberName.getSymbol());
+        if (instanceType instanceof ClassType) {
+            ClassSymbolTableItem classSymbolTableItem = classOf((ClassType) instanceType);
+            if (classSymbolTableItem != null) {
+                SymbolTableItem member = classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.FIELD, memberName.getSymbol(), true);
+                if (member != null)
+                    return typeInterner.intern(((FieldSymbolTableItem) member).getType());
+                member = classSymbolTableItem.getClassSymbolTable().lookup(SymbolKind.METHOD, memberName.getSymbol(), true);
+                if (member != null)
+                    return typeInterner.methodType((MethodSymbolTableItem) member);
+            }
+            errorReporter.report(position, objectOrListMemberAccess, new MemberNotAvailableInClass(objectOrListMemberAccess.getLine(),
+                    memberName.getName(), ((ClassType) instanceType).getClassName().getName()));
+            return NoType.INSTANCE;
+        }
+        if (instanceType instanceof ListType) {
+            ListType listType = (ListType) instanceType;
+            int index = listType.indexOf(memberName.getSymbol());
+            if (index != -1)
+                return typeInterner.intern(listType.getElementType(index).getType());
+            errorReporter.report(position, objectOrListMemberAccess, new ListMemberNotFound(objectOrListMemberAccess.getLine(), memberName.getName()));
+            return NoType.INSTANCE;
         }
-        return new NoType();
+        errorReporter.report(position, objectOrListMemberAccess, new MemberAccessOnNoneObjOrListType(objectOrListMemberAccess.getLine()));
+        return NoType.INSTANCE;
     }
 
+    //a local variable or argument, then a field, then a method; a class is not a value
     @Override
     public Type visit(Identifier identifier) {
-        int counter = 0;
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.top.getItem(ClassSymbolTableItem.START_KEY + identifier.getName(), true);
-            return new ClassType(classSymbolTableItem.getClassDeclaration().getClassName());
-        } catch (ItemNotFoundException itemNotFoundException) {
-            counter += 1;
-        }
-
-        try {
-            FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem) SymbolTable.top.getItem(FieldSymbolTableItem.START_KEY + identifier.getName(), true);
-            return fieldSymbolTableItem.getType();
-        } catch (ItemNotFoundException itemNotFoundException) {
-            counter += 1;
-        }
-
-        try {
-            LocalVariableSymbolTableItem localVariableSymbolTableItem = (LocalVariableSymbolTableItem) SymbolTable.top.getItem(LocalVariableSymbolTableItem.START_KEY + identifier.getName(), true);
-            return localVariableSymbolTableItem.getType();
-        } catch (ItemNotFoundException itemNotFoundException) {
-            counter += 1;
-        }
-
-        try {
-            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) SymbolTable.top.getItem(MethodSymbolTableItem.START_KEY + identifier.getName(), true);
-            return new FptrType(methodSymbolTableItem.getArgTypes(), methodSymbolTableItem.getReturnType());
-        } catch (ItemNotFoundException itemNotFoundException) {
-            counter += 1;
-        }
-        // TODO: Error 1
-        return null;
+        context.recordReference(identifier.getSymbol());
+        SymbolTableItem symbolTableItem = context.getTop().resolve(identifier.getSymbol());
+        if (symbolTableItem instanceof LocalVariableSymbolTableItem)
+            return typeInterner.intern(((LocalVariableSymbolTableItem) symbolTableItem).getType());
+        if (symbolTableItem instanceof FieldSymbolTableItem)
+            return typeInterner.intern(((FieldSymbolTableItem) symbolTableItem).getType());
+        if (symbolTableItem instanceof MethodSymbolTableItem)
+            return typeInterner.methodType((MethodSymbolTableItem) symbolTableItem);
+        errorReporter.report(identifier, new VarNotDeclared(identifier.getLine(), identifier.getName()));
+        return NoType.INSTANCE;
     }
 
     @Override
     public Type visit(ListAccessByIndex listAccessByIndex) {
-        Type indexType = listAccessByIndex.getIndex().accept(this);
-        Type instanceType = listAccessByIndex.getInstance().accept(this);
+        int position = errorReporter.mark();
+        Type instanceType = typeOf(listAccessByIndex.getInstance());
+        Type indexType = typeOf(listAccessByIndex.getIndex());
         if (indexType instanceof NoType || instanceType instanceof NoType)
-            return new NoType();
+            return NoType.INSTANCE;
 
         boolean wasNotInt = false;
         if (!(indexType instanceof IntType)) {
-            listAccessByIndex.addError(new ListIndexNotInt(listAccessByIndex.getLine()));
+            errorReporter.report(position, listAccessByIndex, new ListIndexNotInt(listAccessByIndex.getLine()));
             wasNotInt = true;
         }
         if (!(instanceType instanceof ListType)) {
-            listAccessByIndex.addError(new ListAccessByIndexOnNoneList(listAccessByIndex.getLine()));
-            return new NoType();
+            errorReporter.report(position, listAccessByIndex, new ListAccessByIndexOnNoneList(listAccessByIndex.getLine()));
+            return NoType.INSTANCE;
         }
 
+        ListType listType = (ListType) instanceType;
+        //an empty list is reported where it is declared
+        if (listType.getSize() == 0)
+            return NoType.INSTANCE;
         boolean same = true;
-        Type first = ((ListType) instanceType).getElementsTypes().get(0).getType();
-        for (ListNameType listNameType : ((ListType) instanceType).getElementsTypes())
-            if (!isSame(first, listNameType.getType())) {
-                same = false;
-                break;
-            }
-        if (!same && !(listAccessByIndex.getInstance() instanceof IntValue)) {
-            listAccessByIndex.addError(new CantUseExprAsIndexOfMultiTypeList(listAccessByIndex.getLine()));
-            return new NoType();
+        Type first = listType.getElementType(0).getType();
+        //a repeated list is homogeneous by construction
+        if (!listType.isRepeated())
+            for (int i = 1; i < listType.getSize(); i++)
+                if (!isSame(first, listType.getElementType(i).getType())) {
+                    same = false;
+                    break;
+                }
+        if (!same && !(listAccessByIndex.getIndex() instanceof IntValue)) {
+            errorReporter.report(position, listAccessByIndex, new CantUseExprAsIndexOfMultiTypeList(listAccessByIndex.getLine()));
+            return NoType.INSTANCE;
         } else if (wasNotInt) {
-            return new NoType();
+            return NoType.INSTANCE;
         } else {
             Expression index = listAccessByIndex.getIndex();
-            if (same && index instanceof IntValue) {
-                if (((IntValue) index).getConstant() < ((ListType) instanceType).getElementsTypes().size())
-                    return ((ListType) instanceType).getElementsTypes().get(((IntValue) index).getConstant()).getType();
+            if (index instanceof IntValue) {
+                if (((IntValue) index).getConstant() < listType.getSize())
+                    return listType.getElementType(((IntValue) index).getConstant()).getType();
             } else {
-                return ((ListType) instanceType).getElementsTypes().get(0).getType();
+                return first;
             }
         }
-        return ((ListType) instanceType).getElementsTypes().get(0).getType();
+        return first;
     }
 
     @Override
     public Type visit(MethodCall methodCall) {
-        Type instanceType = methodCall.getInstance().accept(this);
+        int position = errorReporter.mark();
+        Type instanceType = typeOf(methodCall.getInstance());
         if (instanceType instanceof NoType)
-            return new NoType();
+            return NoType.INSTANCE;
         if (!(instanceType instanceof FptrType)) {
-            methodCall.addError(new CallOnNoneFptrType(methodCall.getLine()));
-            return new NoType();
+            errorReporter.report(position, methodCall, new CallOnNoneFptrType(methodCall.getLine()));
+            return NoType.INSTANCE;
         }
         if (((FptrType) instanceType).getArgumentsTypes().size() != methodCall.getArgs().size()) {
-            methodCall.addError(new MethodCallNotMatchDefinition(methodCall.getLine()));
-            return new NoType();
+            errorReporter.report(position, methodCall, new MethodCallNotMatchDefinition(methodCall.getLine()));
+            return NoType.INSTANCE;
         }
         for (int i = 0; i < methodCall.getArgs().size(); i += 1) {
-            Type argType = methodCall.getArgs().get(i).accept(this);
+            Type argType = typeOf(methodCall.getArgs().get(i));
             if (!isSubType(argType, ((FptrType) instanceType).getArgumentsTypes().get(i))) {
-                methodCall.addError(new MethodCallNotMatchDefinition(methodCall.getLine()));
-                return new NoType();
+                errorReporter.report(position, methodCall, new MethodCallNotMatchDefinition(methodCall.getLine()));
+                return NoType.INSTANCE;
             }
         }
         return ((FptrType) instanceType).getReturnType();
     }
 
+    //the arguments go to the constructor the class declares itself, or there are none
     @Override
     public Type visit(NewClassInstance newClassInstance) {
-        // new A(3, 2)
-        try {
-            SymbolTable.top.getItem(ClassSymbolTableItem.START_KEY + newClassInstance.getClassType().getClassName().getName(), true);
-
-            // TODO : Check arguments types
-        } catch (ItemNotFoundException itemNotFoundException) {
-            newClassInstance.addError(new ClassNotDeclared(newClassInstance.getLine(), currentClass.getClassName().getName()));
-            return new NoType();
+        int position = errorReporter.mark();
+        List<Type> argTypes = new ArrayList<>();
+        for (Expression arg : newClassInstance.getArgs())
+            argTypes.add(typeOf(arg));
+        Identifier className = newClassInstance.getClassType().getClassName();
+        context.recordReference(className.getSymbol());
+        ClassSymbolTableItem classSymbolTableItem = classOf(newClassInstance.getClassType());
+        if (classSymbolTableItem == null) {
+            errorReporter.report(position, newClassInstance, new ClassNotDeclared(newClassInstance.getLine(), className.getName()));
+            return NoType.INSTANCE;
+        }
+        ConstructorDeclaration constructor = classSymbolTableItem.getClassDeclaration().getConstructor();
+        List<VarDeclaration> parameters = constructor == null ? new ArrayList<>() : constructor.getArgs();
+        boolean matches = parameters.size() == argTypes.size();
+        for (int i = 0; matches && i < argTypes.size(); i++)
+            matches = isSubType(argTypes.get(i), typeInterner.intern(parameters.get(i).getType()));
+        if (!matches) {
+            errorReporter.report(position, newClassInstance, new ConstructorArgsNotMatchDefinition(newClassInstance));
+            return NoType.INSTANCE;
         }
-        return newClassInstance.getClassType();
+        return typeInterner.classType(className);
     }
 
     @Override
     public Type visit(ThisClass thisClass) {
-        return new ClassType(currentClass.getClassName());
+        return typeInterner.classType(currentClass.getClassName());
     }
 
     @Override
     public Type visit(ListValue listValue) {
         ListType listType = new ListType();
         for (Expression expression : listValue.getElements()) {
-            Type expressionType = expression.accept(this);
+            Type expressionType = typeOf(expression);
             ListNameType listElementType = new ListNameType(expressionType);
             listType.addElementType(listElementType);
         }
-        return listType;
+        return typeInterner.listType(listType);
     }
 
     @Override
     public Type visit(NullValue nullValue) {
-        return new NullType();
+        return NullType.INSTANCE;
     }
 
     @Override
     public Type visit(IntValue intValue) {
-        return new IntType();
+        return IntType.INSTANCE;
     }
 
     @Override
     public Type visit(BoolValue boolValue) {
-        return new BoolType();
+        return BoolType.INSTANCE;
     }
 
     @Override
     public Type visit(StringValue stringValue) {
-        return new StringType();
+        return StringType.INSTANCE;
     }
 
     public boolean isSubType(Type a, Type b) {
@@ -274,12 +410,13 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             return false;
         }
         if (a instanceof ListType && b instanceof ListType) {
-            ArrayList<ListNameType> aList = ((ListType) a).getElementsTypes();
-            ArrayList<ListNameType> bList = ((ListType) b).getElementsTypes();
-            if (aList.size() != bList.size())
+            ListType aList = (ListType) a;
+            ListType bList = (ListType) b;
+            if (aList.getSize() != bList.getSize())
                 return false;
-            for (int i = 0; i < aList.size(); i += 1)
-                if (!isSubType(aList.get(i).getType(), bList.get(i).getType()))
+            int comparedSize = aList.getComparedSize(bList);
+            for (int i = 0; i < comparedSize; i += 1)
+                if (!isSubType(aList.getElementType(i).getType(), bList.getElementType(i).getType()))
                     return false;
             return true;
         }
@@ -301,6 +438,8 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     }
 
     public boolean isSame(Type a, Type b) {
+        if (a == b)
+            return true;
         if (a instanceof NoType || b instanceof NoType)
             return true;
         if (a instanceof BoolType && b instanceof BoolType)
@@ -312,12 +451,13 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         if (a instanceof ClassType && b instanceof ClassType && ((ClassType) a).getClassName().getName().equals(((ClassType) b).getClassName().getName()))
             return true;
         if (a instanceof ListType && b instanceof ListType) {
-            ArrayList<ListNameType> aList = ((ListType) a).getElementsTypes();
-            ArrayList<ListNameType> bList = ((ListType) b).getElementsTypes();
-            if (aList.size() != bList.size())
+            ListType aList = (ListType) a;
+            ListType bList = (ListType) b;
+            if (aList.getSize() != bList.getSize())
                 return false;
-            for (int i = 0; i < aList.size(); i += 1)
-                if (!isSame(aList.get(i).getType(), bList.get(i).getType()))
+            int comparedSize = aList.getComparedSize(bList);
+            for (int i = 0; i < comparedSize; i += 1)
+                if (!isSame(aList.getElementType(i).getType(), bList.getElementType(i).getType()))
                     return false;
             return true;
         }
@@ -1,5 +1,6 @@
 package main.visitor.typeChecker;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -23,56 +24,92 @@ import main.ast.types.single.ClassType;
 import main.ast.types.single.IntType;
 import main.ast.types.single.StringType;
 import main.compileErrorException.typeErrors.*;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolKind;
 import main.symbolTable.utils.graph.Graph;
 import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
 import main.visitor.Visitor;
+import main.visitor.utils.ErrorReporter;
 
 import javax.swing.plaf.nimbus.State;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class TypeChecker extends Visitor<Void> {
     private final Graph<String> classHierarchy;
+    private final CompilationContext context;
     private final ExpressionTypeChecker expressionTypeChecker;
-    public static MethodDeclaration currentMethod;
-    public static int loopCnt;
+    private final ErrorReporter errorReporter;
+    //checks classes concurrently when set, one after another otherwise
+    private final ForkJoinPool pool;
+    private MethodDeclaration currentMethod;
+    private int loopCnt;
+
+    public TypeChecker(Graph<String> classHierarchy, CompilationContext context) {
+        this(classHierarchy, context, null);
+    }
 
-    public TypeChecker(Graph<String> classHierarchy) {
+    public TypeChecker(Graph<String> classHierarchy, CompilationContext context, ForkJoinPool pool) {
         this.classHierarchy = classHierarchy;
-        this.expressionTypeChecker = new ExpressionTypeChecker(classHierarchy);
-        ExpressionTypeChecker.currentClass = null;
+        this.pool = pool;
+        this.context = context;
+        this.expressionTypeChecker = new ExpressionTypeChecker(classHierarchy, context);
+        this.errorReporter = context.getErrorReporter();
         currentMethod = null;
         loopCnt = 0;
     }
 
     @Override
     public Void visit(Program program) {
-        SymbolTable.top = SymbolTable.root;
+        int position = errorReporter.mark();
+        context.setTop(context.getRoot());
         boolean hasMain = false;
-        for (ClassDeclaration classDeclaration : program.getClasses()) {
+        for (ClassDeclaration classDeclaration : program.getClasses())
             if (classDeclaration.getClassName().getName().equals("Main"))
                 hasMain = true;
-            classDeclaration.accept(this);
-        }
+        checkClasses(program.getClasses());
 
         if (!hasMain)
-            program.addError(new NoMainClass());
+            errorReporter.report(position, program, new NoMainClass());
         return null;
     }
 
+    protected void checkClasses(List<ClassDeclaration> classes) {
+        if (pool != null) {
+            checkClassesInParallel(classes);
+            return;
+        }
+        for (ClassDeclaration classDeclaration : classes)
+            classDeclaration.accept(this);
+    }
+
+    //symbol tables and the class hierarchy are only read from here on, so classes can be checked independently:
+    //each gets its own checker and forked context, and their errors are merged back in declaration order
+    //a fork starts with no node positions, as this reporter does once name analysis has flushed, so the merged errors
+    //come out in the order a sequential walk reports them
+    private void checkClassesInParallel(List<ClassDeclaration> classes) {
+        List<ForkJoinTask<CompilationContext>> tasks = new ArrayList<>();
+        for (ClassDeclaration classDeclaration : classes) {
+            CompilationContext classContext = context.fork();
+            tasks.add(pool.submit(() -> {
+                classDeclaration.accept(new TypeChecker(classHierarchy, classContext));
+                return classContext;
+            }));
+        }
+        for (ForkJoinTask<CompilationContext> task : tasks)
+            errorReporter.merge(task.join().getErrorReporter());
+    }
+
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
-        try {
-            ExpressionTypeChecker.currentClass = classDeclaration;
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.top.getItem(ClassSymbolTableItem.START_KEY + classDeclaration.getClassName().getName(), true);
-            SymbolTable.push(classSymbolTableItem.getClassSymbolTable());
-        } catch (ItemNotFoundException ignored) {
-        }
+        expressionTypeChecker.setCurrentClass(classDeclaration);
+        ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) context.getTop().lookup(SymbolKind.CLASS, classDeclaration.getClassName().getSymbol(), true);
+        if (classSymbolTableItem != null)
+            context.push(classSymbolTableItem.getClassSymbolTable());
 
         // Main
         if (classDeclaration.getClassName().getName().equals("Main")) {
@@ -80,11 +117,11 @@ public class TypeChecker extends Visitor<Void> {
                 Collection<String> collection = classHierarchy.getParentsOfNode(classDeclaration.getClassName().getName());
 
                 if (!collection.isEmpty())
-                    classDeclaration.addError(new MainClassCantExtend(classDeclaration.getLine()));
+                    errorReporter.report(classDeclaration, new MainClassCantExtend(classDeclaration.getLine()));
 
 
                 if (classDeclaration.getConstructor() == null)
-                    classDeclaration.addError(new NoConstructorInMainClass(classDeclaration));
+                    errorReporter.report(classDeclaration, new NoConstructorInMainClass(classDeclaration));
 
             } catch (GraphDoesNotContainNodeException ignored) {
             } // Cause it can't.
@@ -92,8 +129,10 @@ public class TypeChecker extends Visitor<Void> {
             // Other
 
             if (classDeclaration.getParentClassName() != null && classDeclaration.getParentClassName().getName().equals("Main"))
-                classDeclaration.addError(new CannotExtendFromMainClass(classDeclaration.getLine()));
+                errorReporter.report(classDeclaration, new CannotExtendFromMainClass(classDeclaration.getLine()));
         }
+        for (FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+            fieldDeclaration.accept(this);
         if (classDeclaration.getConstructor() != null) {
             currentMethod = classDeclaration.getConstructor();
             classDeclaration.getConstructor().accept(this);
@@ -102,29 +141,25 @@ public class TypeChecker extends Visitor<Void> {
             currentMethod = methodDeclaration;
             methodDeclaration.accept(this);
         }
-        for (FieldDeclaration fieldDeclaration : classDeclaration.getFields())
-            fieldDeclaration.accept(this);
 
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     @Override
     public Void visit(ConstructorDeclaration constructorDeclaration) {
-        try {
-            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) SymbolTable.top.getItem(MethodSymbolTableItem.START_KEY + constructorDeclaration.getMethodName().getName(), true);
-            SymbolTable.push(methodSymbolTableItem.getMethodSymbolTable());
-        } catch (ItemNotFoundException ignored) {
-        }
+        MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) context.getTop().lookup(SymbolKind.METHOD, constructorDeclaration.getMethodName().getSymbol(), true);
+        if (methodSymbolTableItem != null)
+            context.push(methodSymbolTableItem.getMethodSymbolTable());
 
-        if (ExpressionTypeChecker.currentClass.getClassName().getName().equals("Main")) {
+        if (expressionTypeChecker.getCurrentClass().getClassName().getName().equals("Main")) {
             if (!constructorDeclaration.getArgs().isEmpty()) {
-                constructorDeclaration.addError(new MainConstructorCantHaveArgs(constructorDeclaration.getLine()));
+                errorReporter.report(constructorDeclaration, new MainConstructorCantHaveArgs(constructorDeclaration.getLine()));
             }
         }
 
-        if(!ExpressionTypeChecker.currentClass.getClassName().getName().equals(constructorDeclaration.getMethodName().getName()))
-            constructorDeclaration.addError(new ConstructorNotSameNameAsClass(constructorDeclaration.getLine()));
+        if(!expressionTypeChecker.getCurrentClass().getClassName().getName().equals(constructorDeclaration.getMethodName().getName()))
+            errorReporter.report(constructorDeclaration, new ConstructorNotSameNameAsClass(constructorDeclaration.getLine()));
 
         for (VarDeclaration varDeclaration : constructorDeclaration.getArgs())
             varDeclaration.accept(this);
@@ -132,17 +167,15 @@ public class TypeChecker extends Visitor<Void> {
             varDeclaration.accept(this);
         for (Statement statement : constructorDeclaration.getBody())
             statement.accept(this);
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
-        try {
-            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) SymbolTable.top.getItem(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
-            SymbolTable.push(methodSymbolTableItem.getMethodSymbolTable());
-        } catch (ItemNotFoundException ignored) {
-        }
+        MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) context.getTop().lookup(SymbolKind.METHOD, methodDeclaration.getMethodName().getSymbol(), true);
+        if (methodSymbolTableItem != null)
+            context.push(methodSymbolTableItem.getMethodSymbolTable());
 
         for (VarDeclaration varDeclaration : methodDeclaration.getArgs())
             varDeclaration.accept(this);
@@ -150,7 +183,7 @@ public class TypeChecker extends Visitor<Void> {
             varDeclaration.accept(this);
         for (Statement statement : methodDeclaration.getBody())
             statement.accept(this);
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
@@ -166,8 +199,19 @@ public class TypeChecker extends Visitor<Void> {
         if (identifierType instanceof ListType) {
             ListType listType = (ListType) identifierType;
 
-            if (listType.getElementsTypes().isEmpty())
-                varDeclaration.addError(new CannotHaveEmptyList(varDeclaration.getLine()));
+            if (listType.getSize() == 0)
+                errorReporter.report(varDeclaration, new CannotHaveEmptyList(varDeclaration.getLine()));
+            if (listType.isRepeated()) {
+                if (listType.getSize() == 0)
+                    return null;
+                //every element is the same one, so a name repeats as soon as there are two of them
+                ListNameType element = listType.getElementType(0);
+                if (element.getType() instanceof ListType)
+                    element.getName().accept(this);
+                if (!element.getName().getName().equals("") && listType.getSize() > 1)
+                    errorReporter.report(varDeclaration, new DuplicateListId(varDeclaration.getLine()));
+                return null;
+            }
             ArrayList<ListNameType> elements = listType.getElementsTypes();
             boolean findSame = false;
             for(int i = 0; i < elements.size(); i++) {
@@ -183,16 +227,17 @@ public class TypeChecker extends Visitor<Void> {
                 }
             }
             if(findSame)
-                varDeclaration.addError(new DuplicateListId(varDeclaration.getLine()));
+                errorReporter.report(varDeclaration, new DuplicateListId(varDeclaration.getLine()));
         }
         return null;
     }
 
     @Override
     public Void visit(AssignmentStmt assignmentStmt) {
-        Type lType = assignmentStmt.getlValue().accept(this.expressionTypeChecker);
-        Type rType = assignmentStmt.getrValue().accept(this.expressionTypeChecker);
-        // TODO
+        int position = errorReporter.mark();
+        Type lType = expressionTypeChecker.typeOf(assignmentStmt.getlValue());
+        Type rType = expressionTypeChecker.typeOf(assignmentStmt.getrValue());
+        expressionTypeChecker.checkAssignment(position, assignmentStmt, assignmentStmt.getlValue(), lType, rType);
         return null;
     }
 
@@ -205,13 +250,13 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ConditionalStmt conditionalStmt) {
-
+        int position = errorReporter.mark();
         if (conditionalStmt.getCondition() != null) {
-            Type conditionType = conditionalStmt.getCondition().accept(this.expressionTypeChecker);
+            Type conditionType = expressionTypeChecker.typeOf(conditionalStmt.getCondition());
             if (!(conditionType instanceof BoolType) && !(conditionType instanceof NoType))
-                conditionalStmt.addError(new ConditionNotBool(conditionalStmt.getLine()));
+                errorReporter.report(position, conditionalStmt, new ConditionNotBool(conditionalStmt.getLine()));
         } else
-            conditionalStmt.addError(new ConditionNotBool(conditionalStmt.getLine()));
+            errorReporter.report(position, conditionalStmt, new ConditionNotBool(conditionalStmt.getLine()));
 
         conditionalStmt.getThenBody().accept(this);
         if (conditionalStmt.getElseBody() != null)
@@ -221,7 +266,7 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MethodCallStmt methodCallStmt) {
-        methodCallStmt.getMethodCall().accept(this.expressionTypeChecker);
+        expressionTypeChecker.typeOfEffect(methodCallStmt.getMethodCall());
         return null;
     }
 
@@ -229,26 +274,27 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(PrintStmt print) {
-        Type argType = print.getArg().accept(this.expressionTypeChecker);
-        if (!(argType instanceof IntType) && !(argType instanceof BoolType) && !(argType instanceof StringType))
-            print.addError(new UnsupportedTypeForPrint(print.getLine()));
+        int position = errorReporter.mark();
+        Type argType = expressionTypeChecker.typeOf(print.getArg());
+        if (!(argType instanceof IntType) && !(argType instanceof BoolType) && !(argType instanceof StringType) && !(argType instanceof NoType))
+            errorReporter.report(position, print, new UnsupportedTypeForPrint(print.getLine()));
         return null;
     }
 
     @Override
     public Void visit(ReturnStmt returnStmt) {
-        Type returnType = returnStmt.getReturnedExpr().accept(this.expressionTypeChecker);
-        try {
-            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) SymbolTable.top.getItem(MethodSymbolTableItem.START_KEY + currentMethod.getMethodName().getName(), true);
+        int position = errorReporter.mark();
+        Type returnType = expressionTypeChecker.typeOf(returnStmt.getReturnedExpr());
+        MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) context.getTop().lookup(SymbolKind.METHOD, currentMethod.getMethodName().getSymbol(), true);
+        if (methodSymbolTableItem != null) {
             if (methodSymbolTableItem.getReturnType() instanceof NullType || methodSymbolTableItem.getReturnType() instanceof NoType){
                 if(!(returnType instanceof NullType))
-                    returnStmt.addError(new ReturnValueNotMatchMethodReturnType(returnStmt));
+                    errorReporter.report(position, returnStmt, new ReturnValueNotMatchMethodReturnType(returnStmt));
             }
             else {
-                if (!isSame(returnType, methodSymbolTableItem.getReturnType()))
-                    returnStmt.addError(new ReturnValueNotMatchMethodReturnType(returnStmt));
+                if (!isSame(returnType, context.getTypeInterner().intern(methodSymbolTableItem.getReturnType())))
+                    errorReporter.report(position, returnStmt, new ReturnValueNotMatchMethodReturnType(returnStmt));
             }
-        } catch (ItemNotFoundException ignored) {
         }
         return null;
     }
@@ -256,39 +302,41 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(BreakStmt breakStmt) {
         if (loopCnt <= 0)
-            breakStmt.addError(new ContinueBreakNotInLoop(breakStmt.getLine(), 0));
+            errorReporter.report(breakStmt, new ContinueBreakNotInLoop(breakStmt.getLine(), 0));
         return null;
     }
 
     @Override
     public Void visit(ContinueStmt continueStmt) {
         if (loopCnt <= 0)
-            continueStmt.addError(new ContinueBreakNotInLoop(continueStmt.getLine(), 1));
+            errorReporter.report(continueStmt, new ContinueBreakNotInLoop(continueStmt.getLine(), 1));
         return null;
     }
 
     @Override
     public Void visit(ForeachStmt foreachStmt) {
-        Type identifierType = foreachStmt.getVariable().accept(this.expressionTypeChecker);
-        Type expressionType = foreachStmt.getList().accept(this.expressionTypeChecker);
+        int position = errorReporter.mark();
+        Type identifierType = expressionTypeChecker.typeOf(foreachStmt.getVariable());
+        Type expressionType = expressionTypeChecker.typeOf(foreachStmt.getList());
 
         if (!(expressionType instanceof ListType) && !(expressionType instanceof NoType))
-            foreachStmt.addError(new ForeachCantIterateNoneList(foreachStmt.getLine()));
+            errorReporter.report(position, foreachStmt, new ForeachCantIterateNoneList(foreachStmt.getLine()));
         else if (expressionType instanceof ListType) {
             boolean allSame = true;
             ListType listType = (ListType) expressionType;
-            Type firstType = listType.getElementsTypes().get(0).getType();
-            for (ListNameType listNameType : listType.getElementsTypes())
-                if (!isSame(firstType, listNameType.getType())) {
-                    allSame = false;
-                    break;
-                }
+            Type firstType = listType.getElementType(0).getType();
+            if (!listType.isRepeated())
+                for (int i = 1; i < listType.getSize(); i++)
+                    if (!isSame(firstType, listType.getElementType(i).getType())) {
+                        allSame = false;
+                        break;
+                    }
 
             if (!allSame)
-                foreachStmt.addError(new ForeachListElementsNotSameType(foreachStmt.getLine()));
+                errorReporter.report(position, foreachStmt, new ForeachListElementsNotSameType(foreachStmt.getLine()));
 
             if (!isSame(firstType, identifierType))
-                foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
+                errorReporter.report(position, foreachStmt, new ForeachVarNotMatchList(foreachStmt));
         }
         loopCnt += 1;
         foreachStmt.getBody().accept(this);
@@ -298,13 +346,14 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ForStmt forStmt) {
+        int position = errorReporter.mark();
         if (forStmt.getInitialize() != null)
             forStmt.getInitialize().accept(this);
         if (forStmt.getCondition() != null) {
-            Type conditionType = forStmt.getCondition().accept(this.expressionTypeChecker);
+            Type conditionType = expressionTypeChecker.typeOf(forStmt.getCondition());
 
             if (!(conditionType instanceof BoolType))
-                forStmt.addError(new ConditionNotBool(forStmt.getLine()));
+                errorReporter.report(position, forStmt, new ConditionNotBool(forStmt.getLine()));
         }
         if (forStmt.getUpdate() != null)
             forStmt.getUpdate().accept(this);
@@ -315,6 +364,8 @@ public class TypeChecker extends Visitor<Void> {
     }
 
     public boolean isSame(Type a, Type b) {
+        if (a == b)
+            return true;
         if (a instanceof NoType || b instanceof NoType)
             return true;
         if (a instanceof BoolType && b instanceof BoolType)
@@ -326,12 +377,13 @@ public class TypeChecker extends Visitor<Void> {
         if (a instanceof ClassType && b instanceof ClassType && ((ClassType) a).getClassName().getName().equals(((ClassType) b).getClassName().getName()))
             return true;
         if (a instanceof ListType && b instanceof ListType) {
-            ArrayList<ListNameType> aList = ((ListType) a).getElementsTypes();
-            ArrayList<ListNameType> bList = ((ListType) b).getElementsTypes();
-            if (aList.size() != bList.size())
+            ListType aList = (ListType) a;
+            ListType bList = (ListType) b;
+            if (aList.getSize() != bList.getSize())
                 return false;
-            for (int i = 0; i < aList.size(); i += 1)
-                if (!isSame(aList.get(i).getType(), bList.get(i).getType()))
+            int comparedSize = aList.getComparedSize(bList);
+            for (int i = 0; i < comparedSize; i += 1)
+                if (!isSame(aList.getElementType(i).getType(), bList.getElementType(i).getType()))
                     return false;
             return true;
         }
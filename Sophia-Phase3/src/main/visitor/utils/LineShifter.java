@@ -0,0 +1,217 @@
+package main.visitor.utils;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.visitor.Visitor;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+//moves every node of a tree by the same number of lines, so the tree of a class that only moved in the source can be reused
+//some nodes are shared (a list element's name is its declaration's name), so each node is moved once
+public class LineShifter extends Visitor<Void> {
+    private final int delta;
+    private final Set<Node> shiftedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public LineShifter(int delta) {
+        this.delta = delta;
+    }
+
+    public void shift(Node node) {
+        if(node == null || !shiftedNodes.add(node))
+            return;
+        node.setLine(node.getLine() + delta);
+        node.accept(this);
+    }
+
+    private void shift(Type type) {
+        if(type instanceof ClassType) {
+            shift(((ClassType) type).getClassName());
+        } else if(type instanceof ListType) {
+            ListType listType = (ListType) type;
+            int size = listType.isRepeated() ? Math.min(listType.getSize(), 1) : listType.getSize();
+            for(int i = 0; i < size; i++) {
+                ListNameType element = listType.getElementType(i);
+                shift(element.getName());
+                shift(element.getType());
+            }
+        } else if(type instanceof FptrType) {
+            for(Type argumentType : ((FptrType) type).getArgumentsTypes())
+                shift(argumentType);
+            shift(((FptrType) type).getReturnType());
+        }
+    }
+
+    @Override
+    public Void visit(Program program) {
+        for(ClassDeclaration classDeclaration : program.getClasses())
+            shift(classDeclaration);
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        shift(classDeclaration.getClassName());
+        shift(classDeclaration.getParentClassName());
+        for(FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+            shift(fieldDeclaration);
+        shift(classDeclaration.getConstructor());
+        for(MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+            shift(methodDeclaration);
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        return this.visit((MethodDeclaration) constructorDeclaration);
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        shift(methodDeclaration.getMethodName());
+        shift(methodDeclaration.getReturnType());
+        for(VarDeclaration varDeclaration : methodDeclaration.getArgs())
+            shift(varDeclaration);
+        for(VarDeclaration varDeclaration : methodDeclaration.getLocalVars())
+            shift(varDeclaration);
+        for(Statement statement : methodDeclaration.getBody())
+            shift(statement);
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        shift(fieldDeclaration.getVarDeclaration());
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDeclaration varDeclaration) {
+        shift(varDeclaration.getVarName());
+        shift(varDeclaration.getType());
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        shift(assignmentStmt.getlValue());
+        shift(assignmentStmt.getrValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        for(Statement statement : blockStmt.getStatements())
+            shift(statement);
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        shift(conditionalStmt.getCondition());
+        shift(conditionalStmt.getThenBody());
+        shift(conditionalStmt.getElseBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        shift(methodCallStmt.getMethodCall());
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        shift(print.getArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        shift(returnStmt.getReturnedExpr());
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        shift(foreachStmt.getVariable());
+        shift(foreachStmt.getList());
+        shift(foreachStmt.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        shift(forStmt.getInitialize());
+        shift(forStmt.getCondition());
+        shift(forStmt.getUpdate());
+        shift(forStmt.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        shift(binaryExpression.getFirstOperand());
+        shift(binaryExpression.getSecondOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        shift(unaryExpression.getOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        shift(objectOrListMemberAccess.getInstance());
+        shift(objectOrListMemberAccess.getMemberName());
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        shift(listAccessByIndex.getInstance());
+        shift(listAccessByIndex.getIndex());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        shift(methodCall.getInstance());
+        for(Expression expression : methodCall.getArgs())
+            shift(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        shift(newClassInstance.getClassType());
+        for(Expression expression : newClassInstance.getArgs())
+            shift(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        for(Expression expression : listValue.getElements())
+            shift(expression);
+        return null;
+    }
+}
@@ -0,0 +1,93 @@
+package main.vm;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.symbolTable.utils.symbol.Symbol;
+
+//the inline cache of one call in the code of VirtualMachine. a call of a method by name is keyed by the class of the
+//object it is called on, a call through a function pointer by the method the pointer is bound to. a key seen before
+//takes its method from the cache; a new one is looked up in the vtables of VirtualMachine and added, until
+//POLYMORPHIC_LIMIT keys are cached. a key after that makes the site megamorphic: the cache is no longer searched
+//and every call looks its method up
+public final class CallSite {
+    public enum State {
+        UNINITIALIZED,
+        MONOMORPHIC,
+        POLYMORPHIC,
+        MEGAMORPHIC
+    }
+
+    static final int POLYMORPHIC_LIMIT = 4;
+
+    private final VirtualMachine virtualMachine;
+    //null for a call through a function pointer
+    private final Symbol methodName;
+    //the vtable slot of the method, -1 for a call through a function pointer
+    private final int slot;
+    private final MethodDeclaration caller;
+    private final int line;
+    private final Object[] keys = new Object[POLYMORPHIC_LIMIT];
+    private final VmMethod[] targets = new VmMethod[POLYMORPHIC_LIMIT];
+    private int size;
+    private boolean megamorphic;
+    private long hits;
+    private long misses;
+
+    CallSite(VirtualMachine virtualMachine, Symbol methodName, int slot, MethodDeclaration caller, int line) {
+        this.virtualMachine = virtualMachine;
+        this.methodName = methodName;
+        this.slot = slot;
+        this.caller = caller;
+        this.line = line;
+    }
+
+    //the method a call with key runs: the class of the receiver, or the method of a function pointer
+    VmMethod target(Object key) {
+        if (!megamorphic)
+            for (int i = 0; i < size; i++)
+                if (keys[i] == key) {
+                    hits++;
+                    return targets[i];
+                }
+        misses++;
+        VmMethod target = slot == -1 ? virtualMachine.getMethod((MethodDeclaration) key)
+                : virtualMachine.findMethod((ClassDeclaration) key, slot);
+        if (megamorphic)
+            return target;
+        if (size < POLYMORPHIC_LIMIT) {
+            keys[size] = key;
+            targets[size] = target;
+            size++;
+        } else
+            megamorphic = true;
+        return target;
+    }
+
+    public State getState() {
+        if (megamorphic)
+            return State.MEGAMORPHIC;
+        return size == 0 ? State.UNINITIALIZED : size == 1 ? State.MONOMORPHIC : State.POLYMORPHIC;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public MethodDeclaration getCaller() {
+        return caller;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        return "Line:" + line + ":" + (methodName == null ? "function pointer" : methodName.getName()) + " in "
+                + caller.getMethodName().getName() + " " + getState().name().toLowerCase() + ", " + hits + " hits, " + misses + " misses";
+    }
+}
@@ -0,0 +1,15 @@
+package main.vm;
+
+//the registers of one call: ints and bools in ints, everything else in objects, whose register 0 is this.
+//a frame is made at the size its method was compiled to and used again by later calls of the method
+final class Frame {
+    final long[] ints;
+    final Object[] objects;
+    //the next free frame of the same method
+    Frame next;
+
+    Frame(int intRegisters, int objectRegisters) {
+        this.ints = new long[intRegisters];
+        this.objects = new Object[objectRegisters];
+    }
+}
@@ -0,0 +1,109 @@
+package main.vm;
+
+//the instructions of VirtualMachine. an instruction is its opcode followed by its operands in the int[] code of a
+//method. i, j and k name int registers, which hold ints and bools (a bool as 0 or 1); r, s and t name object
+//registers; c is an index into the constant pool of the method, n a count, v an int operand and @ a position in code
+public final class Instructions {
+    private Instructions() {
+    }
+
+    //i v
+    public static final int ICONST = 0;
+    //i j
+    public static final int IMOVE = 1;
+    //r
+    public static final int NULL = 2;
+    //r c
+    public static final int CONST = 3;
+    //r s
+    public static final int MOVE = 4;
+    //r s: a list in s is copied, anything else is moved
+    public static final int COPY = 5;
+    //r c: what a variable of the type at c starts as
+    public static final int DEFAULT = 6;
+
+    //i j k: i = j op k
+    public static final int ADD = 7;
+    public static final int SUB = 8;
+    public static final int MUL = 9;
+    public static final int DIV = 10;
+    public static final int MOD = 11;
+    //i j v: i = j + v
+    public static final int ADD_CONST = 12;
+    //i j
+    public static final int NEG = 13;
+    public static final int NOT = 14;
+    //i j k: i = 1 when j op k, 0 otherwise
+    public static final int LT = 15;
+    public static final int GT = 16;
+    public static final int EQ = 17;
+    public static final int NE = 18;
+    //i r s: i = 1 when r and s are equal as Sophia compares them, 0 otherwise
+    public static final int REF_EQ = 19;
+    public static final int REF_NE = 20;
+
+    //@
+    public static final int JUMP = 21;
+    //i @: jumps when i is 1, or 0
+    public static final int JUMP_TRUE = 22;
+    public static final int JUMP_FALSE = 23;
+    //i j @: jumps when i op j
+    public static final int JUMP_LT = 24;
+    public static final int JUMP_GE = 25;
+    public static final int JUMP_GT = 26;
+    public static final int JUMP_LE = 27;
+    public static final int JUMP_EQ = 28;
+    public static final int JUMP_NE = 29;
+
+    //i r: the size of the list in r
+    public static final int LENGTH = 30;
+    //i r j / r s j: element j of the list in r (in s), unboxed from an Integer or a Boolean, or as it is
+    public static final int GET_INT = 31;
+    public static final int GET_BOOL = 32;
+    public static final int GET = 33;
+    //r j k / r j s: stores k (boxed as an Integer or a Boolean) or s as element j of the list in r
+    public static final int SET_INT = 34;
+    public static final int SET_BOOL = 35;
+    public static final int SET = 36;
+    //r n (kind register)*n: a list of n elements, each boxed by its kind, INT, BOOL or OBJECT
+    public static final int NEW_LIST = 37;
+
+    //i s v / r s v: the field in slot v of the object in s, as the ClassLayout of its class numbers fields
+    public static final int GET_FIELD_INT = 38;
+    public static final int GET_FIELD_BOOL = 39;
+    public static final int GET_FIELD = 40;
+    //r v j / r v s: stores j or s to the field in slot v of the object in r
+    public static final int SET_FIELD_INT = 41;
+    public static final int SET_FIELD_BOOL = 42;
+    public static final int SET_FIELD = 43;
+    //r s c: the method declaration at c bound to the object in s
+    public static final int BIND = 44;
+    //r c: an object of the class declaration at c, every field at its default; constructors are called separately
+    public static final int NEW = 45;
+
+    //d c r n registers*n: calls a method on the object in r with the arguments in registers and puts what it returns
+    //in register d of the kind it returns, or drops it when d is -1. c is the CallSite of the call, which finds the
+    //method in the vtable of the class of the object
+    public static final int CALL = 46;
+    //d c r n registers*n: the same with the method at c, for calls that can only run one method
+    public static final int CALL_DIRECT = 47;
+    //d c r n registers*n: the same through the bound method in r, with the CallSite at c
+    public static final int CALL_POINTER = 48;
+    public static final int RETURN = 49;
+    //i
+    public static final int RETURN_INT = 50;
+    //r
+    public static final int RETURN_OBJECT = 51;
+
+    //i / i / r
+    public static final int PRINT_INT = 52;
+    public static final int PRINT_BOOL = 53;
+    public static final int PRINT = 54;
+
+    //the kinds of values, as NEW_LIST and VmMethod tell them apart; the GET, SET, GET_FIELD, SET_FIELD and PRINT
+    //instructions come in threes, in this order of kinds
+    public static final int INT = 0;
+    public static final int BOOL = 1;
+    public static final int OBJECT = 2;
+    public static final int VOID = 3;
+}
@@ -0,0 +1,817 @@
+package main.vm;
+
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.Visitor;
+import main.visitor.classLayout.ClassLayout;
+
+import java.util.*;
+
+import static main.vm.Instructions.*;
+
+//compiles one method of a program that passed type checking to the code of VirtualMachine. object register 0 is
+//this; the arguments and then the local variables take the registers after it, each in the registers of its kind,
+//and temporaries are above them. an expression is compiled to the register its value ends up in: a variable is its
+//own register, anything else a temporary, whose registers are free again once the statement is compiled
+final class MethodCompiler extends Visitor<Integer> {
+    private final VirtualMachine virtualMachine;
+    private final ClassDeclaration owner;
+    private final MethodDeclaration methodDeclaration;
+    private final VmMethod method;
+    private final Map<Symbol, Integer> variables = new HashMap<>();
+    //the first temporary of each kind
+    private int intTemporaries;
+    private int objectTemporaries = 1;
+    private int intTop;
+    private int objectTop;
+    private int intRegisters;
+    private int objectRegisters;
+
+    private int[] code = new int[64];
+    private int size;
+    private final List<Object> constants = new ArrayList<>();
+    private final Map<Object, Integer> constantIndexes = new HashMap<>();
+    //the position of each label, -1 until it is marked; a jump holds its label until compile puts positions in
+    private final List<Integer> labels = new ArrayList<>();
+    private final List<Integer> jumps = new ArrayList<>();
+    //the break and continue labels of the loops the statement being compiled is in
+    private final Deque<int[]> loops = new ArrayDeque<>();
+    //where the last instruction put its value, while nothing else has been emitted or marked since; assigning that
+    //value to a variable puts the variable there instead of adding a move
+    private int lastResultOperand = -1;
+    private int lastResultEnd = -1;
+    private boolean lastResultObject;
+
+    MethodCompiler(VirtualMachine virtualMachine, ClassDeclaration owner, VmMethod method) {
+        this.virtualMachine = virtualMachine;
+        this.owner = owner;
+        this.method = method;
+        this.methodDeclaration = method.getMethodDeclaration();
+    }
+
+    static int kindOf(Type type) {
+        if (type instanceof IntType)
+            return INT;
+        if (type instanceof BoolType)
+            return BOOL;
+        return OBJECT;
+    }
+
+    private static int resultKindOf(MethodDeclaration methodDeclaration) {
+        if (methodDeclaration instanceof ConstructorDeclaration || methodDeclaration.getReturnType() instanceof NullType)
+            return VOID;
+        return kindOf(methodDeclaration.getReturnType());
+    }
+
+    void compile() {
+        List<VarDeclaration> args = methodDeclaration.getArgs();
+        method.argumentKinds = new int[args.size()];
+        method.argumentRegisters = new int[args.size()];
+        for (int i = 0; i < args.size(); i++) {
+            method.argumentKinds[i] = kindOf(args.get(i).getType());
+            method.argumentRegisters[i] = allocate(args.get(i));
+        }
+        method.resultKind = resultKindOf(methodDeclaration);
+        //ints are zeroed and strings and lists made here; other objects are null in a frame from acquire
+        for (VarDeclaration localVar : methodDeclaration.getLocalVars()) {
+            int register = allocate(localVar);
+            Type type = localVar.getType();
+            if (kindOf(type) != OBJECT)
+                emit(ICONST, register, 0);
+            else if (type instanceof StringType || type instanceof ListType)
+                emit(DEFAULT, register, constant(type));
+        }
+        intTop = intRegisters = intTemporaries;
+        objectTop = objectRegisters = objectTemporaries;
+        for (Statement statement : methodDeclaration.getBody())
+            statement(statement);
+        //a method that ends without a return returns what its variables would start as
+        switch (method.resultKind) {
+            case VOID:
+                emit(RETURN);
+                break;
+            case OBJECT:
+                emit(RETURN_OBJECT, objectResult(DEFAULT, constant(methodDeclaration.getReturnType())));
+                break;
+            default:
+                emit(RETURN_INT, intResult(ICONST, 0));
+        }
+        for (int jump : jumps)
+            code[jump] = labels.get(code[jump]);
+        method.code = Arrays.copyOf(code, size);
+        method.constants = constants.toArray();
+        method.intRegisters = intRegisters;
+        method.objectRegisters = objectRegisters;
+    }
+
+    private int allocate(VarDeclaration varDeclaration) {
+        int register = kindOf(varDeclaration.getType()) == OBJECT ? objectTemporaries++ : intTemporaries++;
+        variables.put(varDeclaration.getVarName().getSymbol(), register);
+        return register;
+    }
+
+    private int intTemporary() {
+        intRegisters = Math.max(intRegisters, intTop + 1);
+        return intTop++;
+    }
+
+    private int objectTemporary() {
+        objectRegisters = Math.max(objectRegisters, objectTop + 1);
+        return objectTop++;
+    }
+
+    private boolean isVariable(int register, boolean object) {
+        return object ? register > 0 && register < objectTemporaries : register < intTemporaries;
+    }
+
+    private void emit(int... words) {
+        if (size + words.length > code.length)
+            code = Arrays.copyOf(code, Math.max(code.length * 2, size + words.length));
+        System.arraycopy(words, 0, code, size, words.length);
+        size += words.length;
+    }
+
+    //emits opcode, a new temporary of the kind of object and operands, and returns the temporary
+    private int result(boolean object, int opcode, int... operands) {
+        int register = object ? objectTemporary() : intTemporary();
+        emit(opcode, register);
+        emit(operands);
+        lastResultOperand = size - operands.length - 1;
+        lastResultEnd = size;
+        lastResultObject = object;
+        return register;
+    }
+
+    private int intResult(int opcode, int... operands) {
+        return result(false, opcode, operands);
+    }
+
+    private int objectResult(int opcode, int... operands) {
+        return result(true, opcode, operands);
+    }
+
+    private int result(int kind, int opcode, int... operands) {
+        return result(kind == OBJECT, opcode, operands);
+    }
+
+    private int constant(Object value) {
+        Integer index = constantIndexes.get(value);
+        if (index == null) {
+            index = constants.size();
+            constants.add(value);
+            constantIndexes.put(value, index);
+        }
+        return index;
+    }
+
+    private int newLabel() {
+        labels.add(-1);
+        return labels.size() - 1;
+    }
+
+    //code may jump here, so the value of the instruction before is no longer the only one that can be here
+    private void mark(int label) {
+        labels.set(label, size);
+        lastResultEnd = -1;
+    }
+
+    private void jump(int opcode, int label, int... operands) {
+        emit(opcode);
+        emit(operands);
+        jumps.add(size);
+        emit(label);
+    }
+
+    private void statement(Statement statement) {
+        int intMark = intTop;
+        int objectMark = objectTop;
+        statement.accept(this);
+        intTop = intMark;
+        objectTop = objectMark;
+    }
+
+    //jumps to label when condition is when; what the condition leaves in temporaries is not needed afterwards
+    private void condition(Expression condition, boolean when, int label) {
+        int intMark = intTop;
+        int objectMark = objectTop;
+        branch(condition, when, label);
+        intTop = intMark;
+        objectTop = objectMark;
+    }
+
+    private void branch(Expression condition, boolean when, int label) {
+        if (condition instanceof BoolValue) {
+            if (((BoolValue) condition).getConstant() == when)
+                jump(JUMP, label);
+            return;
+        }
+        if (condition instanceof UnaryExpression && ((UnaryExpression) condition).getOperator() == UnaryOperator.not) {
+            branch(((UnaryExpression) condition).getOperand(), !when, label);
+            return;
+        }
+        if (condition instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) condition;
+            Expression first = binaryExpression.getFirstOperand();
+            Expression second = binaryExpression.getSecondOperand();
+            BinaryOperator operator = binaryExpression.getBinaryOperator();
+            //and jumps when both are true or either is false, or the other way around
+            if (operator == BinaryOperator.and || operator == BinaryOperator.or) {
+                boolean shortCircuit = operator == BinaryOperator.or;
+                if (when == shortCircuit) {
+                    branch(first, when, label);
+                    branch(second, when, label);
+                } else {
+                    int skip = newLabel();
+                    branch(first, !when, skip);
+                    branch(second, when, label);
+                    mark(skip);
+                }
+                return;
+            }
+            int opcode = -1;
+            if (operator == BinaryOperator.lt)
+                opcode = when ? JUMP_LT : JUMP_GE;
+            else if (operator == BinaryOperator.gt)
+                opcode = when ? JUMP_GT : JUMP_LE;
+            else if ((operator == BinaryOperator.eq || operator == BinaryOperator.neq) && kindOf(comparedType(binaryExpression)) != OBJECT)
+                opcode = (operator == BinaryOperator.eq) == when ? JUMP_EQ : JUMP_NE;
+            if (opcode >= 0) {
+                int left = keep(first.accept(this), false, second);
+                jump(opcode, label, left, second.accept(this));
+                return;
+            }
+        }
+        jump(when ? JUMP_TRUE : JUMP_FALSE, label, condition.accept(this));
+    }
+
+    //the type the checker gave the expression; registers are allocated by it, so an untyped one cannot be compiled
+    private Type typeOf(Expression expression) {
+        Type type = expression.getType();
+        if (type == null || type instanceof NoType)
+            throw new IllegalStateException("Line:" + expression.getLine() + ":cannot compile " + expression);
+        return type;
+    }
+
+    private int kindOf(Expression expression) {
+        return kindOf(typeOf(expression));
+    }
+
+    //the operand that is not the literal null tells what eq and neq compare
+    private Type comparedType(BinaryExpression binaryExpression) {
+        Type type = typeOf(binaryExpression.getFirstOperand());
+        return type instanceof NullType ? typeOf(binaryExpression.getSecondOperand()) : type;
+    }
+
+    //lists are values: one that lives somewhere else is copied when it is stored or passed on
+    private boolean copies(Expression expression) {
+        return !(expression instanceof ListValue) && typeOf(expression) instanceof ListType;
+    }
+
+    private ClassLayout layoutOf(Type classType) {
+        return virtualMachine.getClassTable().getClass(((ClassType) classType).getClassName().getSymbol()).getLayout();
+    }
+
+    //the slot of a field in objects of a class, or -1 when name is a method
+    private int fieldSlot(ClassLayout layout, Symbol name) {
+        return layout.getFieldSlot(name);
+    }
+
+    //a variable an operand is read from still has to hold that value once the operands after it are evaluated;
+    //when one of them may assign to it, the value is moved to a temporary first
+    private int keep(int register, boolean object, Expression... later) {
+        if (!isVariable(register, object))
+            return register;
+        for (Expression expression : later)
+            if (mayAssign(expression))
+                return object ? objectResult(MOVE, register) : intResult(IMOVE, register);
+        return register;
+    }
+
+    private int keep(int register, boolean object, List<Expression> later) {
+        return keep(register, object, later.toArray(new Expression[0]));
+    }
+
+    //calls cannot assign to the variables of the caller, only assignments, ++ and -- in the expression itself can
+    private static boolean mayAssign(Expression expression) {
+        if (expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            return binaryExpression.getBinaryOperator() == BinaryOperator.assign
+                    || mayAssign(binaryExpression.getFirstOperand()) || mayAssign(binaryExpression.getSecondOperand());
+        }
+        if (expression instanceof UnaryExpression) {
+            UnaryOperator operator = ((UnaryExpression) expression).getOperator();
+            return (operator != UnaryOperator.minus && operator != UnaryOperator.not) || mayAssign(((UnaryExpression) expression).getOperand());
+        }
+        if (expression instanceof ObjectOrListMemberAccess)
+            return mayAssign(((ObjectOrListMemberAccess) expression).getInstance());
+        if (expression instanceof ListAccessByIndex)
+            return mayAssign(((ListAccessByIndex) expression).getInstance()) || mayAssign(((ListAccessByIndex) expression).getIndex());
+        if (expression instanceof MethodCall)
+            return mayAssign(((MethodCall) expression).getInstance()) || mayAssign(((MethodCall) expression).getArgs());
+        if (expression instanceof NewClassInstance)
+            return mayAssign(((NewClassInstance) expression).getArgs());
+        if (expression instanceof ListValue)
+            return mayAssign(((ListValue) expression).getElements());
+        return false;
+    }
+
+    private static boolean mayAssign(List<Expression> expressions) {
+        for (Expression expression : expressions)
+            if (mayAssign(expression))
+                return true;
+        return false;
+    }
+
+    //the registers of values that are stored or passed on, each copied if it is a list and kept from the ones after it
+    private int[] values(List<Expression> expressions) {
+        int[] registers = new int[expressions.size()];
+        for (int i = 0; i < registers.length; i++) {
+            Expression expression = expressions.get(i);
+            registers[i] = value(expression);
+            if (!copies(expression))
+                registers[i] = keep(registers[i], kindOf(expression) == OBJECT, expressions.subList(i + 1, registers.length));
+        }
+        return registers;
+    }
+
+    private int value(Expression expression) {
+        int register = expression.accept(this);
+        return copies(expression) ? objectResult(COPY, register) : register;
+    }
+
+    //puts value in the register of a variable
+    private void move(int variable, int value, boolean object) {
+        if (value == variable)
+            return;
+        if (lastResultEnd == size && lastResultObject == object && code[lastResultOperand] == value && !isVariable(value, object)) {
+            code[lastResultOperand] = variable;
+            lastResultEnd = -1;
+            return;
+        }
+        emit(object ? MOVE : IMOVE, variable, value);
+    }
+
+    //stores the value of rvalue to lvalue and returns the register it is in; whatever lvalue is inside is evaluated first
+    private int assign(Expression lvalue, Expression rvalue) {
+        Type type = typeOf(lvalue);
+        Type valueType = typeOf(rvalue);
+        //the checker only lets through values that fit the place; anything else would land in a register of the wrong kind
+        if (kindOf(valueType) != kindOf(type) || !(valueType instanceof NullType || valueType.getClass() == type.getClass()))
+            throw new IllegalStateException("Line:" + lvalue.getLine() + ":cannot assign " + rvalue + " to " + lvalue);
+        int kind = kindOf(type);
+        boolean object = kind == OBJECT;
+        if (lvalue instanceof Identifier) {
+            Symbol name = ((Identifier) lvalue).getSymbol();
+            Integer variable = variables.get(name);
+            if (variable != null) {
+                int value = rvalue.accept(this);
+                if (copies(rvalue))
+                    emit(COPY, variable, value);
+                else
+                    move(variable, value, object);
+                return variable;
+            }
+            int value = value(rvalue);
+            emit(SET_FIELD_INT + kind, 0, fieldSlot(owner.getLayout(), name), value);
+            return value;
+        }
+        if (lvalue instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) lvalue;
+            Type instanceType = typeOf(access.getInstance());
+            int instance = keep(access.getInstance().accept(this), true, rvalue);
+            if (instanceType instanceof ListType) {
+                int index = intResult(ICONST, memberIndex(access, (ListType) instanceType));
+                int value = value(rvalue);
+                emit(SET_INT + kind, instance, index, value);
+                return value;
+            }
+            int value = value(rvalue);
+            emit(SET_FIELD_INT + kind, instance, fieldSlot(layoutOf(instanceType), access.getMemberName().getSymbol()), value);
+            return value;
+        }
+        if (lvalue instanceof ListAccessByIndex) {
+            ListAccessByIndex access = (ListAccessByIndex) lvalue;
+            int list = keep(access.getInstance().accept(this), true, access.getIndex(), rvalue);
+            int index = keep(access.getIndex().accept(this), false, rvalue);
+            int value = value(rvalue);
+            emit(SET_INT + kind, list, index, value);
+            return value;
+        }
+        throw new IllegalStateException("Line:" + lvalue.getLine() + ":cannot assign to " + lvalue);
+    }
+
+    private static int memberIndex(ObjectOrListMemberAccess access, ListType listType) {
+        return listType.indexOf(access.getMemberName().getSymbol());
+    }
+
+    //a method named directly, or through an object, is called by name; anything else is a function pointer.
+    //returns the register of the result, or -1 when there is none or it is not needed
+    private int call(MethodCall methodCall, boolean needed) {
+        Expression instance = methodCall.getInstance();
+        List<Expression> arguments = methodCall.getArgs();
+        int receiver = -1;
+        Symbol methodName = null;
+        //the vtable slot of the method in the static type of the receiver, which every class below it keeps
+        int slot = -1;
+        if (instance instanceof Identifier && !variables.containsKey(((Identifier) instance).getSymbol())
+                && fieldSlot(owner.getLayout(), ((Identifier) instance).getSymbol()) == -1) {
+            receiver = 0;
+            methodName = ((Identifier) instance).getSymbol();
+            slot = owner.getLayout().getMethodSlot(methodName);
+        } else if (instance instanceof ObjectOrListMemberAccess) {
+            ObjectOrListMemberAccess access = (ObjectOrListMemberAccess) instance;
+            Type instanceType = typeOf(access.getInstance());
+            if (instanceType instanceof ClassType) {
+                ClassLayout layout = layoutOf(instanceType);
+                if (fieldSlot(layout, access.getMemberName().getSymbol()) == -1) {
+                    receiver = keep(access.getInstance().accept(this), true, arguments);
+                    methodName = access.getMemberName().getSymbol();
+                    slot = layout.getMethodSlot(methodName);
+                }
+            }
+        }
+        if (slot == -1)
+            receiver = keep(instance.accept(this), true, arguments);
+        int[] values = values(arguments);
+        Type resultType = typeOf(methodCall);
+        int result = -1;
+        if (needed && !(resultType instanceof NullType))
+            result = kindOf(resultType) == OBJECT ? objectTemporary() : intTemporary();
+        int start = size;
+        CallSite callSite = virtualMachine.newCallSite(methodName, slot, methodDeclaration, methodCall.getLine());
+        emit(slot == -1 ? CALL_POINTER : CALL, result, constant(callSite), receiver, values.length);
+        emit(values);
+        if (result >= 0) {
+            lastResultOperand = start + 1;
+            lastResultEnd = size;
+            lastResultObject = kindOf(resultType) == OBJECT;
+        }
+        return result;
+    }
+
+    @Override
+    public Integer visit(AssignmentStmt assignmentStmt) {
+        assign(assignmentStmt.getlValue(), assignmentStmt.getrValue());
+        return null;
+    }
+
+    @Override
+    public Integer visit(BlockStmt blockStmt) {
+        for (Statement statement : blockStmt.getStatements())
+            statement(statement);
+        return null;
+    }
+
+    @Override
+    public Integer visit(ConditionalStmt conditionalStmt) {
+        int otherwise = newLabel();
+        condition(conditionalStmt.getCondition(), false, otherwise);
+        statement(conditionalStmt.getThenBody());
+        if (conditionalStmt.getElseBody() == null) {
+            mark(otherwise);
+            return null;
+        }
+        int end = newLabel();
+        jump(JUMP, end);
+        mark(otherwise);
+        statement(conditionalStmt.getElseBody());
+        mark(end);
+        return null;
+    }
+
+    @Override
+    public Integer visit(MethodCallStmt methodCallStmt) {
+        call(methodCallStmt.getMethodCall(), false);
+        return null;
+    }
+
+    @Override
+    public Integer visit(PrintStmt print) {
+        emit(PRINT_INT + kindOf(print.getArg()), print.getArg().accept(this));
+        return null;
+    }
+
+    @Override
+    public Integer visit(ReturnStmt returnStmt) {
+        switch (method.resultKind) {
+            case VOID:
+                emit(RETURN);
+                break;
+            case OBJECT:
+                emit(RETURN_OBJECT, value(returnStmt.getReturnedExpr()));
+                break;
+            default:
+                emit(RETURN_INT, returnStmt.getReturnedExpr().accept(this));
+        }
+        return null;
+    }
+
+    @Override
+    public Integer visit(BreakStmt breakStmt) {
+        jump(JUMP, loops.peek()[0]);
+        return null;
+    }
+
+    @Override
+    public Integer visit(ContinueStmt continueStmt) {
+        jump(JUMP, loops.peek()[1]);
+        return null;
+    }
+
+    //the condition is tested at the bottom, so an iteration takes one jump
+    @Override
+    public Integer visit(ForStmt forStmt) {
+        if (forStmt.getInitialize() != null)
+            statement(forStmt.getInitialize());
+        int body = newLabel();
+        int update = newLabel();
+        int test = newLabel();
+        int end = newLabel();
+        jump(JUMP, test);
+        mark(body);
+        loops.push(new int[]{end, update});
+        statement(forStmt.getBody());
+        loops.pop();
+        mark(update);
+        if (forStmt.getUpdate() != null)
+            statement(forStmt.getUpdate());
+        mark(test);
+        if (forStmt.getCondition() == null)
+            jump(JUMP, body);
+        else
+            condition(forStmt.getCondition(), true, body);
+        mark(end);
+        return null;
+    }
+
+    //the list and the position in it are held in temporaries for the whole loop
+    @Override
+    public Integer visit(ForeachStmt foreachStmt) {
+        int list = foreachStmt.getList().accept(this);
+        //the loop goes over the list it started with even if the variable it came from is assigned another
+        if (isVariable(list, true))
+            list = objectResult(MOVE, list);
+        int index = intResult(ICONST, 0);
+        int length = intResult(LENGTH, list);
+        int body = newLabel();
+        int next = newLabel();
+        int test = newLabel();
+        int end = newLabel();
+        jump(JUMP, test);
+        mark(body);
+        int intMark = intTop;
+        int objectMark = objectTop;
+        Symbol name = foreachStmt.getVariable().getSymbol();
+        Type type = typeOf(foreachStmt.getVariable());
+        int kind = kindOf(type);
+        Integer variable = variables.get(name);
+        if (variable != null && !(type instanceof ListType))
+            emit(GET_INT + kind, variable, list, index);
+        else {
+            int element = result(kind, GET_INT + kind, list, index);
+            if (type instanceof ListType)
+                element = objectResult(COPY, element);
+            if (variable != null)
+                move(variable, element, true);
+            else
+                emit(SET_FIELD_INT + kind, 0, fieldSlot(owner.getLayout(), name), element);
+        }
+        intTop = intMark;
+        objectTop = objectMark;
+        loops.push(new int[]{end, next});
+        statement(foreachStmt.getBody());
+        loops.pop();
+        mark(next);
+        emit(ADD_CONST, index, index, 1);
+        mark(test);
+        jump(JUMP_LT, body, index, length);
+        mark(end);
+        return null;
+    }
+
+    @Override
+    public Integer visit(BinaryExpression binaryExpression) {
+        Expression first = binaryExpression.getFirstOperand();
+        Expression second = binaryExpression.getSecondOperand();
+        BinaryOperator operator = binaryExpression.getBinaryOperator();
+        switch (operator) {
+            case assign:
+                return assign(first, second);
+            case and:
+            case or: {
+                int result = intTemporary();
+                int end = newLabel();
+                emit(IMOVE, result, first.accept(this));
+                jump(operator == BinaryOperator.and ? JUMP_FALSE : JUMP_TRUE, end, result);
+                emit(IMOVE, result, second.accept(this));
+                mark(end);
+                return result;
+            }
+            case eq:
+            case neq:
+                if (kindOf(comparedType(binaryExpression)) == OBJECT) {
+                    int left = keep(first.accept(this), true, second);
+                    return intResult(operator == BinaryOperator.eq ? REF_EQ : REF_NE, left, second.accept(this));
+                }
+                break;
+            case add:
+            case sub:
+                if (second instanceof IntValue) {
+                    int constant = ((IntValue) second).getConstant();
+                    return intResult(ADD_CONST, first.accept(this), operator == BinaryOperator.add ? constant : -constant);
+                }
+        }
+        int left = keep(first.accept(this), false, second);
+        int right = second.accept(this);
+        switch (operator) {
+            case add:
+                return intResult(ADD, left, right);
+            case sub:
+                return intResult(SUB, left, right);
+            case mult:
+                return intResult(MUL, left, right);
+            case div:
+                return intResult(DIV, left, right);
+            case mod:
+                return intResult(MOD, left, right);
+            case lt:
+                return intResult(LT, left, right);
+            case gt:
+                return intResult(GT, left, right);
+            case eq:
+                return intResult(EQ, left, right);
+            default:
+                return intResult(NE, left, right);
+        }
+    }
+
+    @Override
+    public Integer visit(UnaryExpression unaryExpression) {
+        UnaryOperator operator = unaryExpression.getOperator();
+        Expression operand = unaryExpression.getOperand();
+        if (operator == UnaryOperator.minus)
+            return intResult(NEG, operand.accept(this));
+        if (operator == UnaryOperator.not)
+            return intResult(NOT, operand.accept(this));
+        int change = operator == UnaryOperator.preinc || operator == UnaryOperator.postinc ? 1 : -1;
+        boolean post = operator == UnaryOperator.postinc || operator == UnaryOperator.postdec;
+        if (operand instanceof Identifier && variables.containsKey(((Identifier) operand).getSymbol())) {
+            int variable = variables.get(((Identifier) operand).getSymbol());
+            int old = post ? intResult(IMOVE, variable) : variable;
+            emit(ADD_CONST, variable, variable, change);
+            return post ? old : variable;
+        }
+        //a field or an element: read, changed and stored back, with whatever holds it found once
+        int holder;
+        int key;
+        int get;
+        int set;
+        if (operand instanceof Identifier || operand instanceof ObjectOrListMemberAccess) {
+            Symbol name = operand instanceof Identifier ? ((Identifier) operand).getSymbol() : ((ObjectOrListMemberAccess) operand).getMemberName().getSymbol();
+            holder = operand instanceof Identifier ? 0 : ((ObjectOrListMemberAccess) operand).getInstance().accept(this);
+            Type instanceType = operand instanceof Identifier ? null : typeOf(((ObjectOrListMemberAccess) operand).getInstance());
+            if (instanceType instanceof ListType) {
+                key = intResult(ICONST, memberIndex((ObjectOrListMemberAccess) operand, (ListType) instanceType));
+                get = GET_INT;
+                set = SET_INT;
+            } else {
+                key = fieldSlot(operand instanceof Identifier ? owner.getLayout() : layoutOf(instanceType), name);
+                get = GET_FIELD_INT;
+                set = SET_FIELD_INT;
+            }
+        } else if (operand instanceof ListAccessByIndex) {
+            ListAccessByIndex access = (ListAccessByIndex) operand;
+            holder = keep(access.getInstance().accept(this), true, access.getIndex());
+            key = access.getIndex().accept(this);
+            get = GET_INT;
+            set = SET_INT;
+        } else
+            throw new IllegalStateException("Line:" + operand.getLine() + ":cannot assign to " + operand);
+        int old = intResult(get, holder, key);
+        int updated = intResult(ADD_CONST, old, change);
+        emit(set, holder, key, updated);
+        return post ? old : updated;
+    }
+
+    @Override
+    public Integer visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        Expression instance = objectOrListMemberAccess.getInstance();
+        Symbol name = objectOrListMemberAccess.getMemberName().getSymbol();
+        Type instanceType = typeOf(instance);
+        int object = instance.accept(this);
+        if (instanceType instanceof ListType) {
+            int index = intResult(ICONST, memberIndex(objectOrListMemberAccess, (ListType) instanceType));
+            int kind = kindOf(objectOrListMemberAccess);
+            return result(kind, GET_INT + kind, object, index);
+        }
+        ClassLayout layout = layoutOf(instanceType);
+        int field = fieldSlot(layout, name);
+        if (field != -1) {
+            int kind = kindOf(objectOrListMemberAccess);
+            return result(kind, GET_FIELD_INT + kind, object, field);
+        }
+        return objectResult(BIND, object, constant(layout.getMethod(layout.getMethodSlot(name))));
+    }
+
+    @Override
+    public Integer visit(Identifier identifier) {
+        Symbol name = identifier.getSymbol();
+        Integer variable = variables.get(name);
+        if (variable != null)
+            return variable;
+        ClassLayout layout = owner.getLayout();
+        int field = fieldSlot(layout, name);
+        if (field != -1) {
+            int kind = kindOf(identifier);
+            return result(kind, GET_FIELD_INT + kind, 0, field);
+        }
+        return objectResult(BIND, 0, constant(layout.getMethod(layout.getMethodSlot(name))));
+    }
+
+    @Override
+    public Integer visit(ListAccessByIndex listAccessByIndex) {
+        int list = keep(listAccessByIndex.getInstance().accept(this), true, listAccessByIndex.getIndex());
+        int index = listAccessByIndex.getIndex().accept(this);
+        int kind = kindOf(listAccessByIndex);
+        return result(kind, GET_INT + kind, list, index);
+    }
+
+    @Override
+    public Integer visit(MethodCall methodCall) {
+        return call(methodCall, true);
+    }
+
+    @Override
+    public Integer visit(NewClassInstance newClassInstance) {
+        ClassDeclaration classDeclaration = virtualMachine.getClassTable().getClass(newClassInstance.getClassType().getClassName().getSymbol());
+        int[] values = values(newClassInstance.getArgs());
+        int object = objectResult(NEW, constant(classDeclaration));
+        if (classDeclaration.getConstructor() != null) {
+            emit(CALL_DIRECT, -1, constant(virtualMachine.getMethod(classDeclaration.getConstructor())), object, values.length);
+            emit(values);
+        }
+        return object;
+    }
+
+    @Override
+    public Integer visit(ThisClass thisClass) {
+        return 0;
+    }
+
+    @Override
+    public Integer visit(ListValue listValue) {
+        List<Expression> elements = listValue.getElements();
+        int[] values = values(elements);
+        int[] operands = new int[1 + 2 * values.length];
+        operands[0] = values.length;
+        for (int i = 0; i < values.length; i++) {
+            operands[1 + 2 * i] = kindOf(elements.get(i));
+            operands[2 + 2 * i] = values[i];
+        }
+        return objectResult(NEW_LIST, operands);
+    }
+
+    @Override
+    public Integer visit(NullValue nullValue) {
+        return objectResult(NULL);
+    }
+
+    @Override
+    public Integer visit(IntValue intValue) {
+        return intResult(ICONST, intValue.getConstant());
+    }
+
+    @Override
+    public Integer visit(BoolValue boolValue) {
+        return intResult(ICONST, boolValue.getConstant() ? 1 : 0);
+    }
+
+    @Override
+    public Integer visit(StringValue stringValue) {
+        return objectResult(CONST, constant(stringValue.getConstant()));
+    }
+}
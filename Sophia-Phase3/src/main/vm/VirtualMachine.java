@@ -0,0 +1,366 @@
+package main.vm;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.types.Type;
+import main.interpreter.BoundMethod;
+import main.interpreter.ClassTable;
+import main.interpreter.SophiaObject;
+import main.interpreter.Values;
+import main.runtime.SophiaList;
+import main.symbolTable.utils.symbol.Symbol;
+import main.visitor.classLayout.ClassLayout;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static main.vm.Instructions.*;
+
+//runs a program that passed type checking as register code. every method is compiled by MethodCompiler before the
+//program starts; a call runs in a frame of a long register for each int or bool and an object register for each other
+//value, so int arithmetic never boxes. values in lists and fields are the ones the interpreters use.
+//a call of a method by name finds it by the class of the object it is called on, through the inline cache of its
+//CallSite and, when that misses, in the vtable of the class at the slot the ClassLayout of the static type gave it
+public class VirtualMachine {
+    private final ClassTable classTable;
+    private final PrintStream out;
+    private final Map<MethodDeclaration, VmMethod> methods = new LinkedHashMap<>();
+    //the vtable of each class, by the index of its ClassLayout
+    private final VmMethod[][] vtables;
+    private final List<CallSite> callSites = new ArrayList<>();
+    //what the last call returned, by the kind of its method's return type
+    private long intResult;
+    private Object objectResult;
+
+    public VirtualMachine(Program program, PrintStream out) {
+        this.classTable = new ClassTable(program);
+        this.out = out;
+        for (ClassDeclaration classDeclaration : program.getClasses()) {
+            if (classDeclaration.getConstructor() != null)
+                methods.put(classDeclaration.getConstructor(), new VmMethod(classDeclaration.getConstructor()));
+            for (MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+                methods.put(methodDeclaration, new VmMethod(methodDeclaration));
+        }
+        int classCount = 0;
+        for (ClassDeclaration classDeclaration : program.getClasses())
+            classCount = Math.max(classCount, classDeclaration.getLayout().getIndex() + 1);
+        vtables = new VmMethod[classCount][];
+        for (ClassDeclaration classDeclaration : program.getClasses()) {
+            ClassLayout layout = classDeclaration.getLayout();
+            VmMethod[] vtable = new VmMethod[layout.getMethodCount()];
+            for (int slot = 0; slot < vtable.length; slot++)
+                vtable[slot] = methods.get(layout.getMethod(slot));
+            vtables[layout.getIndex()] = vtable;
+        }
+        for (VmMethod method : methods.values())
+            new MethodCompiler(this, classTable.getOwner(method.getMethodDeclaration()), method).compile();
+    }
+
+    //runs the constructor of Main
+    public void run() {
+        ClassDeclaration main = classTable.getClass(Symbol.of("Main"));
+        SophiaObject object = classTable.newObject(main);
+        if (main.getConstructor() != null)
+            call(getMethod(main.getConstructor()), object, null, null, 0);
+    }
+
+    public VmMethod getMethod(MethodDeclaration methodDeclaration) {
+        return methods.get(methodDeclaration);
+    }
+
+    VmMethod findMethod(ClassDeclaration classDeclaration, int slot) {
+        return vtables[classDeclaration.getLayout().getIndex()][slot];
+    }
+
+    //the call sites of every method, with the counters of their inline caches
+    public List<CallSite> getCallSites() {
+        return callSites;
+    }
+
+    ClassTable getClassTable() {
+        return classTable;
+    }
+
+    CallSite newCallSite(Symbol methodName, int slot, MethodDeclaration caller, int line) {
+        CallSite callSite = new CallSite(this, methodName, slot, caller, line);
+        callSites.add(callSite);
+        return callSite;
+    }
+
+    //calls method on receiver with the arguments whose count is at code[at] and whose registers in caller follow it
+    private void call(VmMethod method, SophiaObject receiver, Frame caller, int[] code, int at) {
+        if (receiver == null)
+            throw new NullPointerException("call of " + method.getMethodDeclaration().getMethodName().getName() + " on null");
+        Frame frame = method.acquire();
+        frame.objects[0] = receiver;
+        int count = code == null ? 0 : code[at];
+        for (int i = 0; i < count; i++) {
+            int register = code[at + 1 + i];
+            if (method.argumentKinds[i] == OBJECT)
+                frame.objects[method.argumentRegisters[i]] = caller.objects[register];
+            else
+                frame.ints[method.argumentRegisters[i]] = caller.ints[register];
+        }
+        execute(method, frame);
+        method.release(frame);
+    }
+
+    private void storeResult(VmMethod method, Frame frame, int register) {
+        if (register < 0)
+            return;
+        if (method.resultKind == OBJECT)
+            frame.objects[register] = objectResult;
+        else
+            frame.ints[register] = intResult;
+    }
+
+    private Object box(int kind, long value) {
+        return kind == INT ? (Object) (int) value : (Object) (value != 0);
+    }
+
+    private void execute(VmMethod method, Frame frame) {
+        int[] code = method.code;
+        Object[] constants = method.constants;
+        long[] ints = frame.ints;
+        Object[] objects = frame.objects;
+        int pc = 0;
+        while (true) {
+            switch (code[pc]) {
+                case ICONST:
+                    ints[code[pc + 1]] = code[pc + 2];
+                    pc += 3;
+                    break;
+                case IMOVE:
+                    ints[code[pc + 1]] = ints[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case NULL:
+                    objects[code[pc + 1]] = null;
+                    pc += 2;
+                    break;
+                case CONST:
+                    objects[code[pc + 1]] = constants[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case MOVE:
+                    objects[code[pc + 1]] = objects[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case COPY:
+                    objects[code[pc + 1]] = Values.copy(objects[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case DEFAULT:
+                    objects[code[pc + 1]] = Values.defaultValue((Type) constants[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case ADD:
+                    ints[code[pc + 1]] = (int) (ints[code[pc + 2]] + ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case SUB:
+                    ints[code[pc + 1]] = (int) (ints[code[pc + 2]] - ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case MUL:
+                    ints[code[pc + 1]] = (int) (ints[code[pc + 2]] * ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case DIV:
+                    ints[code[pc + 1]] = (int) ints[code[pc + 2]] / (int) ints[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case MOD:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] % ints[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case ADD_CONST:
+                    ints[code[pc + 1]] = (int) (ints[code[pc + 2]] + code[pc + 3]);
+                    pc += 4;
+                    break;
+                case NEG:
+                    ints[code[pc + 1]] = (int) -ints[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case NOT:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] ^ 1;
+                    pc += 3;
+                    break;
+                case LT:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] < ints[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case GT:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] > ints[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case EQ:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] == ints[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case NE:
+                    ints[code[pc + 1]] = ints[code[pc + 2]] != ints[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case REF_EQ:
+                    ints[code[pc + 1]] = Values.equal(objects[code[pc + 2]], objects[code[pc + 3]]) ? 1 : 0;
+                    pc += 4;
+                    break;
+                case REF_NE:
+                    ints[code[pc + 1]] = Values.equal(objects[code[pc + 2]], objects[code[pc + 3]]) ? 0 : 1;
+                    pc += 4;
+                    break;
+                case JUMP:
+                    pc = code[pc + 1];
+                    break;
+                case JUMP_TRUE:
+                    pc = ints[code[pc + 1]] != 0 ? code[pc + 2] : pc + 3;
+                    break;
+                case JUMP_FALSE:
+                    pc = ints[code[pc + 1]] == 0 ? code[pc + 2] : pc + 3;
+                    break;
+                case JUMP_LT:
+                    pc = ints[code[pc + 1]] < ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case JUMP_GE:
+                    pc = ints[code[pc + 1]] >= ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case JUMP_GT:
+                    pc = ints[code[pc + 1]] > ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case JUMP_LE:
+                    pc = ints[code[pc + 1]] <= ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case JUMP_EQ:
+                    pc = ints[code[pc + 1]] == ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case JUMP_NE:
+                    pc = ints[code[pc + 1]] != ints[code[pc + 2]] ? code[pc + 3] : pc + 4;
+                    break;
+                case LENGTH:
+                    ints[code[pc + 1]] = ((SophiaList) objects[code[pc + 2]]).size();
+                    pc += 3;
+                    break;
+                case GET_INT:
+                    ints[code[pc + 1]] = (Integer) ((SophiaList) objects[code[pc + 2]]).get((int) ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case GET_BOOL:
+                    ints[code[pc + 1]] = (Boolean) ((SophiaList) objects[code[pc + 2]]).get((int) ints[code[pc + 3]]) ? 1 : 0;
+                    pc += 4;
+                    break;
+                case GET:
+                    objects[code[pc + 1]] = ((SophiaList) objects[code[pc + 2]]).get((int) ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case SET_INT:
+                    ((SophiaList) objects[code[pc + 1]]).set((int) ints[code[pc + 2]], (int) ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case SET_BOOL:
+                    ((SophiaList) objects[code[pc + 1]]).set((int) ints[code[pc + 2]], ints[code[pc + 3]] != 0);
+                    pc += 4;
+                    break;
+                case SET:
+                    ((SophiaList) objects[code[pc + 1]]).set((int) ints[code[pc + 2]], objects[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case NEW_LIST: {
+                    Object[] elements = new Object[code[pc + 2]];
+                    for (int i = 0; i < elements.length; i++) {
+                        int kind = code[pc + 3 + 2 * i];
+                        int register = code[pc + 4 + 2 * i];
+                        elements[i] = kind == OBJECT ? objects[register] : box(kind, ints[register]);
+                    }
+                    objects[code[pc + 1]] = new SophiaList(elements);
+                    pc += 3 + 2 * elements.length;
+                    break;
+                }
+                case GET_FIELD_INT:
+                    ints[code[pc + 1]] = (Integer) ((SophiaObject) objects[code[pc + 2]]).getField(code[pc + 3]);
+                    pc += 4;
+                    break;
+                case GET_FIELD_BOOL:
+                    ints[code[pc + 1]] = (Boolean) ((SophiaObject) objects[code[pc + 2]]).getField(code[pc + 3]) ? 1 : 0;
+                    pc += 4;
+                    break;
+                case GET_FIELD:
+                    objects[code[pc + 1]] = ((SophiaObject) objects[code[pc + 2]]).getField(code[pc + 3]);
+                    pc += 4;
+                    break;
+                case SET_FIELD_INT:
+                    ((SophiaObject) objects[code[pc + 1]]).setField(code[pc + 2], (int) ints[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case SET_FIELD_BOOL:
+                    ((SophiaObject) objects[code[pc + 1]]).setField(code[pc + 2], ints[code[pc + 3]] != 0);
+                    pc += 4;
+                    break;
+                case SET_FIELD:
+                    ((SophiaObject) objects[code[pc + 1]]).setField(code[pc + 2], objects[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case BIND:
+                    objects[code[pc + 1]] = new BoundMethod((SophiaObject) objects[code[pc + 2]], (MethodDeclaration) constants[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case NEW:
+                    objects[code[pc + 1]] = classTable.newObject((ClassDeclaration) constants[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case CALL: {
+                    CallSite callSite = (CallSite) constants[code[pc + 2]];
+                    SophiaObject receiver = (SophiaObject) objects[code[pc + 3]];
+                    if (receiver == null)
+                        throw new NullPointerException("Line:" + callSite.getLine() + ":call on null");
+                    VmMethod callee = callSite.target(receiver.getClassDeclaration());
+                    call(callee, receiver, frame, code, pc + 4);
+                    storeResult(callee, frame, code[pc + 1]);
+                    pc += 5 + code[pc + 4];
+                    break;
+                }
+                case CALL_DIRECT: {
+                    VmMethod callee = (VmMethod) constants[code[pc + 2]];
+                    call(callee, (SophiaObject) objects[code[pc + 3]], frame, code, pc + 4);
+                    storeResult(callee, frame, code[pc + 1]);
+                    pc += 5 + code[pc + 4];
+                    break;
+                }
+                case CALL_POINTER: {
+                    BoundMethod boundMethod = (BoundMethod) objects[code[pc + 3]];
+                    VmMethod callee = ((CallSite) constants[code[pc + 2]]).target(boundMethod.getMethod());
+                    call(callee, boundMethod.getReceiver(), frame, code, pc + 4);
+                    storeResult(callee, frame, code[pc + 1]);
+                    pc += 5 + code[pc + 4];
+                    break;
+                }
+                case RETURN:
+                    return;
+                case RETURN_INT:
+                    intResult = ints[code[pc + 1]];
+                    return;
+                case RETURN_OBJECT:
+                    objectResult = objects[code[pc + 1]];
+                    return;
+                case PRINT_INT:
+                    out.println((int) ints[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case PRINT_BOOL:
+                    out.println(ints[code[pc + 1]] != 0);
+                    pc += 2;
+                    break;
+                case PRINT:
+                    out.println(objects[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                default:
+                    throw new IllegalStateException("bad instruction " + code[pc] + " at " + pc + " in " + method.getMethodDeclaration());
+            }
+        }
+    }
+}
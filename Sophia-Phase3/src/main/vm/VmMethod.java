@@ -0,0 +1,62 @@
+package main.vm;
+
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+
+import java.util.Arrays;
+
+//a method compiled for VirtualMachine: its code, its constant pool, how many registers of each kind its frames have
+//and the registers its arguments arrive in. every method is made before any is compiled, so that a call can name
+//one that is compiled later. a method keeps the frames of calls that returned, so only a call deeper than any before
+//it makes a new frame
+public final class VmMethod {
+    private final MethodDeclaration methodDeclaration;
+    //the kind of each argument and its register
+    int[] argumentKinds;
+    int[] argumentRegisters;
+    int resultKind;
+    int[] code;
+    Object[] constants;
+    int intRegisters;
+    int objectRegisters;
+    private Frame free;
+
+    VmMethod(MethodDeclaration methodDeclaration) {
+        this.methodDeclaration = methodDeclaration;
+    }
+
+    public MethodDeclaration getMethodDeclaration() {
+        return methodDeclaration;
+    }
+
+    public int[] getCode() {
+        return code;
+    }
+
+    public Object[] getConstants() {
+        return constants;
+    }
+
+    public int getIntRegisters() {
+        return intRegisters;
+    }
+
+    public int getObjectRegisters() {
+        return objectRegisters;
+    }
+
+    Frame acquire() {
+        Frame frame = free;
+        if (frame == null)
+            return new Frame(intRegisters, objectRegisters);
+        free = frame.next;
+        return frame;
+    }
+
+    //objects are let go so that a frame kept for reuse does not keep them alive, and so that object variables start
+    //as null in the next call
+    void release(Frame frame) {
+        Arrays.fill(frame.objects, null);
+        frame.next = free;
+        free = frame;
+    }
+}
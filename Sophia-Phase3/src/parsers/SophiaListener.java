@@ -344,66 +344,6 @@ public interface SophiaListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitOrExpression(SophiaParser.OrExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAndExpression(SophiaParser.AndExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAndExpression(SophiaParser.AndExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterEqualityExpression(SophiaParser.EqualityExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitEqualityExpression(SophiaParser.EqualityExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterRelationalExpression(SophiaParser.RelationalExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitRelationalExpression(SophiaParser.RelationalExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAdditiveExpression(SophiaParser.AdditiveExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAdditiveExpression(SophiaParser.AdditiveExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterMultiplicativeExpression(SophiaParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitMultiplicativeExpression(SophiaParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SophiaParser#preUnaryExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterPreUnaryExpression(SophiaParser.PreUnaryExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SophiaParser#preUnaryExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitPreUnaryExpression(SophiaParser.PreUnaryExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SophiaParser#postUnaryExpression}.
 	 * @param ctx the parse tree
@@ -52,11 +52,9 @@ public class SophiaParser extends Parser {
 		RULE_printStatement = 21, RULE_returnStatement = 22, RULE_methodCallStatement = 23, 
 		RULE_methodCall = 24, RULE_methodCallArguments = 25, RULE_continueBreakStatement = 26, 
 		RULE_forStatement = 27, RULE_foreachStatement = 28, RULE_ifStatement = 29, 
-		RULE_expression = 30, RULE_orExpression = 31, RULE_andExpression = 32, 
-		RULE_equalityExpression = 33, RULE_relationalExpression = 34, RULE_additiveExpression = 35, 
-		RULE_multiplicativeExpression = 36, RULE_preUnaryExpression = 37, RULE_postUnaryExpression = 38, 
-		RULE_accessExpression = 39, RULE_otherExpression = 40, RULE_newExpression = 41, 
-		RULE_values = 42, RULE_boolValue = 43, RULE_listValue = 44, RULE_identifier = 45;
+		RULE_expression = 30, RULE_orExpression = 31, RULE_postUnaryExpression = 32, 
+		RULE_accessExpression = 33, RULE_otherExpression = 34, RULE_newExpression = 35, 
+		RULE_values = 36, RULE_boolValue = 37, RULE_listValue = 38, RULE_identifier = 39;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"sophia", "program", "sophiaClass", "varDeclaration", "method", "constructor", 
@@ -65,10 +63,9 @@ public class SophiaParser extends Parser {
 			"primitiveDataType", "methodBody", "statement", "block", "assignmentStatement", 
 			"assignment", "printStatement", "returnStatement", "methodCallStatement", 
 			"methodCall", "methodCallArguments", "continueBreakStatement", "forStatement", 
-			"foreachStatement", "ifStatement", "expression", "orExpression", "andExpression", 
-			"equalityExpression", "relationalExpression", "additiveExpression", "multiplicativeExpression", 
-			"preUnaryExpression", "postUnaryExpression", "accessExpression", "otherExpression", 
-			"newExpression", "values", "boolValue", "listValue", "identifier"
+			"foreachStatement", "ifStatement", "expression", "orExpression", "postUnaryExpression", 
+			"accessExpression", "otherExpression", "newExpression", "values", "boolValue", 
+			"listValue", "identifier"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -179,10 +176,10 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(92);
+			setState(80);
 			((SophiaContext)_localctx).p = program();
 			 ((SophiaContext)_localctx).sophiaProgram =  ((SophiaContext)_localctx).p.programRet; 
-			setState(94);
+			setState(82);
 			match(EOF);
 			}
 		}
@@ -236,18 +233,18 @@ public class SophiaParser extends Parser {
 			        ((ProgramContext)_localctx).programRet =  new Program();
 			        _localctx.programRet.setLine(1);
 			    
-			setState(102);
+			setState(90);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CLASS) {
 				{
 				{
-				setState(97);
+				setState(85);
 				((ProgramContext)_localctx).c = sophiaClass();
 				 _localctx.programRet.addClass(((ProgramContext)_localctx).c.sophiaClassRet); 
 				}
 				}
-				setState(104);
+				setState(92);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -284,9 +281,6 @@ public class SophiaParser extends Parser {
 			return getRuleContext(IdentifierContext.class,i);
 		}
 		public TerminalNode EXTENDS() { return getToken(SophiaParser.EXTENDS, 0); }
-		public ConstructorContext constructor() {
-			return getRuleContext(ConstructorContext.class,0);
-		}
 		public List<VarDeclarationContext> varDeclaration() {
 			return getRuleContexts(VarDeclarationContext.class);
 		}
@@ -299,6 +293,9 @@ public class SophiaParser extends Parser {
 		public MethodContext method(int i) {
 			return getRuleContext(MethodContext.class,i);
 		}
+		public ConstructorContext constructor() {
+			return getRuleContext(ConstructorContext.class,0);
+		}
 		public SophiaClassContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -326,155 +323,124 @@ public class SophiaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(105);
+			setState(93);
 			((SophiaClassContext)_localctx).cl = match(CLASS);
-			setState(106);
+			setState(94);
 			((SophiaClassContext)_localctx).name = identifier();
 
 			        ((SophiaClassContext)_localctx).sophiaClassRet =  new ClassDeclaration(((SophiaClassContext)_localctx).name.idRet);
 			        _localctx.sophiaClassRet.setLine(((SophiaClassContext)_localctx).cl.getLine());
 			    
-			setState(112);
+			setState(100);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(108);
+				setState(96);
 				match(EXTENDS);
-				setState(109);
+				setState(97);
 				((SophiaClassContext)_localctx).parentName = identifier();
 				 _localctx.sophiaClassRet.setParentClassName(((SophiaClassContext)_localctx).parentName.idRet); 
 				}
 			}
 
-			setState(114);
+			setState(102);
 			match(LBRACE);
-			setState(151);
+			setState(111);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
-			case 1:
-				{
-				{
-				setState(123);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
-				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-					if ( _alt==1 ) {
-						{
-						setState(121);
-						_errHandler.sync(this);
-						switch (_input.LA(1)) {
-						case IDENTIFIER:
-							{
-							setState(115);
-							((SophiaClassContext)_localctx).v1 = varDeclaration();
-
-							        FieldDeclaration f1 = new FieldDeclaration(((SophiaClassContext)_localctx).v1.varDeclarationRet);
-							        f1.setLine(((SophiaClassContext)_localctx).v1.line);
-							        _localctx.sophiaClassRet.addField(f1);
-							    
-							}
-							break;
-						case DEF:
-							{
-							setState(118);
-							((SophiaClassContext)_localctx).m1 = method();
-							 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m1.methodRet); 
-							}
-							break;
-						default:
-							throw new NoViableAltException(this);
-						}
-						} 
-					}
-					setState(125);
-					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
-				}
-				{
-				setState(126);
-				((SophiaClassContext)_localctx).c = constructor();
-				 _localctx.sophiaClassRet.setConstructor(((SophiaClassContext)_localctx).c.constructorRet); 
-				}
-				setState(137);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				while (_la==DEF || _la==IDENTIFIER) {
+			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
 					{
-					setState(135);
+					setState(109);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case IDENTIFIER:
 						{
-						setState(129);
-						((SophiaClassContext)_localctx).v2 = varDeclaration();
-
-						        FieldDeclaration f2 = new FieldDeclaration(((SophiaClassContext)_localctx).v2.varDeclarationRet);
-						        f2.setLine(((SophiaClassContext)_localctx).v2.line);
-						        _localctx.sophiaClassRet.addField(f2);
+						setState(103);
+						((SophiaClassContext)_localctx).v1 = varDeclaration();
+
+						        if(((SophiaClassContext)_localctx).v1.varDeclarationRet != null) {
+						            FieldDeclaration f1 = new FieldDeclaration(((SophiaClassContext)_localctx).v1.varDeclarationRet);
+						            f1.setLine(((SophiaClassContext)_localctx).v1.line);
+						            _localctx.sophiaClassRet.addField(f1);
+						        }
 						    
 						}
 						break;
 					case DEF:
 						{
-						setState(132);
-						((SophiaClassContext)_localctx).m2 = method();
-						 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m2.methodRet); 
+						setState(106);
+						((SophiaClassContext)_localctx).m1 = method();
+
+						        if(((SophiaClassContext)_localctx).m1.methodRet != null)
+						            _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m1.methodRet);
+						    
 						}
 						break;
 					default:
 						throw new NoViableAltException(this);
 					}
-					}
-					setState(139);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-				}
-				}
+					} 
 				}
-				break;
-			case 2:
-				{
+				setState(113);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			}
+			setState(127);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==DEF) {
 				{
-				setState(148);
+				setState(114);
+				((SophiaClassContext)_localctx).c = constructor();
+
+				        if(((SophiaClassContext)_localctx).c.constructorRet != null)
+				            _localctx.sophiaClassRet.setConstructor(((SophiaClassContext)_localctx).c.constructorRet);
+				    
+				setState(124);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DEF || _la==IDENTIFIER) {
 					{
-					setState(146);
+					setState(122);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case IDENTIFIER:
 						{
-						setState(140);
+						setState(116);
 						((SophiaClassContext)_localctx).v2 = varDeclaration();
 
-						        FieldDeclaration f2 = new FieldDeclaration(((SophiaClassContext)_localctx).v2.varDeclarationRet);
-						        f2.setLine(((SophiaClassContext)_localctx).v2.line);
-						        _localctx.sophiaClassRet.addField(f2);
+						        if(((SophiaClassContext)_localctx).v2.varDeclarationRet != null) {
+						            FieldDeclaration f2 = new FieldDeclaration(((SophiaClassContext)_localctx).v2.varDeclarationRet);
+						            f2.setLine(((SophiaClassContext)_localctx).v2.line);
+						            _localctx.sophiaClassRet.addField(f2);
+						        }
 						    
 						}
 						break;
 					case DEF:
 						{
-						setState(143);
+						setState(119);
 						((SophiaClassContext)_localctx).m2 = method();
-						 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m2.methodRet); 
+
+						        if(((SophiaClassContext)_localctx).m2.methodRet != null)
+						            _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m2.methodRet);
+						    
 						}
 						break;
 					default:
 						throw new NoViableAltException(this);
 					}
 					}
-					setState(150);
+					setState(126);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
-				}
-				break;
 			}
-			setState(153);
+
+			setState(129);
 			match(RBRACE);
 			}
 		}
@@ -527,18 +493,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(155);
+			setState(131);
 			((VarDeclarationContext)_localctx).id = identifier();
-			setState(156);
+			setState(132);
 			match(COLON);
-			setState(157);
+			setState(133);
 			((VarDeclarationContext)_localctx).t = type();
 
 			        ((VarDeclarationContext)_localctx).varDeclarationRet =  new VarDeclaration(((VarDeclarationContext)_localctx).id.idRet, ((VarDeclarationContext)_localctx).t.typeRet);
 			        _localctx.varDeclarationRet.setLine(((VarDeclarationContext)_localctx).id.line);
 			        ((VarDeclarationContext)_localctx).line =  ((VarDeclarationContext)_localctx).id.line;
 			    
-			setState(159);
+			setState(135);
 			match(SEMICOLLON);
 			}
 		}
@@ -604,9 +570,9 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161);
+			setState(137);
 			((MethodContext)_localctx).d = match(DEF);
-			setState(167);
+			setState(143);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -617,7 +583,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				{
 				{
-				setState(162);
+				setState(138);
 				((MethodContext)_localctx).t = type();
 				 ((MethodContext)_localctx).returnType =  ((MethodContext)_localctx).t.typeRet; 
 				}
@@ -626,37 +592,37 @@ public class SophiaParser extends Parser {
 			case VOID:
 				{
 				{
-				setState(165);
+				setState(141);
 				match(VOID);
-				 ((MethodContext)_localctx).returnType =  new NullType(); 
+				 ((MethodContext)_localctx).returnType =  NullType.INSTANCE; 
 				}
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(169);
+			setState(145);
 			((MethodContext)_localctx).name = identifier();
 
 			        ((MethodContext)_localctx).methodRet =  new MethodDeclaration(((MethodContext)_localctx).name.idRet, _localctx.returnType);
 			        _localctx.methodRet.setLine(((MethodContext)_localctx).d.getLine());
 			    
-			setState(171);
+			setState(147);
 			match(LPAR);
-			setState(172);
+			setState(148);
 			((MethodContext)_localctx).args = methodArguments();
 			 _localctx.methodRet.setArgs(((MethodContext)_localctx).args.argsRet); 
-			setState(174);
+			setState(150);
 			match(RPAR);
-			setState(175);
+			setState(151);
 			match(LBRACE);
-			setState(176);
+			setState(152);
 			((MethodContext)_localctx).body = methodBody();
 
 			        _localctx.methodRet.setLocalVars(((MethodContext)_localctx).body.localVars);
 			        _localctx.methodRet.setBody(((MethodContext)_localctx).body.statements);
 			    
-			setState(178);
+			setState(154);
 			match(RBRACE);
 			}
 		}
@@ -716,30 +682,30 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
+			setState(156);
 			((ConstructorContext)_localctx).d = match(DEF);
-			setState(181);
+			setState(157);
 			((ConstructorContext)_localctx).name = identifier();
 
 			        ((ConstructorContext)_localctx).constructorRet =  new ConstructorDeclaration(((ConstructorContext)_localctx).name.idRet);
 			        _localctx.constructorRet.setLine(((ConstructorContext)_localctx).d.getLine());
 			    
-			setState(183);
+			setState(159);
 			match(LPAR);
-			setState(184);
+			setState(160);
 			((ConstructorContext)_localctx).args = methodArguments();
 			 _localctx.constructorRet.setArgs(((ConstructorContext)_localctx).args.argsRet); 
-			setState(186);
+			setState(162);
 			match(RPAR);
-			setState(187);
+			setState(163);
 			match(LBRACE);
-			setState(188);
+			setState(164);
 			((ConstructorContext)_localctx).body = methodBody();
 
 			        _localctx.constructorRet.setLocalVars(((ConstructorContext)_localctx).body.localVars);
 			        _localctx.constructorRet.setBody(((ConstructorContext)_localctx).body.statements);
 			    
-			setState(190);
+			setState(166);
 			match(RBRACE);
 			}
 		}
@@ -795,28 +761,28 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((MethodArgumentsContext)_localctx).argsRet =  new ArrayList<>(); 
-			setState(204);
+			setState(180);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==IDENTIFIER) {
 				{
-				setState(193);
+				setState(169);
 				((MethodArgumentsContext)_localctx).v1 = variableWithType();
 				 _localctx.argsRet.add(((MethodArgumentsContext)_localctx).v1.varWithTypeRet); 
-				setState(201);
+				setState(177);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(195);
+					setState(171);
 					match(COMMA);
-					setState(196);
+					setState(172);
 					((MethodArgumentsContext)_localctx).v2 = variableWithType();
 					 _localctx.argsRet.add(((MethodArgumentsContext)_localctx).v2.varWithTypeRet); 
 					}
 					}
-					setState(203);
+					setState(179);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -872,11 +838,11 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(206);
+			setState(182);
 			((VariableWithTypeContext)_localctx).id = identifier();
-			setState(207);
+			setState(183);
 			match(COLON);
-			setState(208);
+			setState(184);
 			((VariableWithTypeContext)_localctx).t = type();
 
 			        ((VariableWithTypeContext)_localctx).varWithTypeRet =  new VarDeclaration(((VariableWithTypeContext)_localctx).id.idRet, ((VariableWithTypeContext)_localctx).t.typeRet);
@@ -936,7 +902,7 @@ public class SophiaParser extends Parser {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_type);
 		try {
-			setState(223);
+			setState(199);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
@@ -944,7 +910,7 @@ public class SophiaParser extends Parser {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(211);
+				setState(187);
 				((TypeContext)_localctx).p = primitiveDataType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).p.primitiveTypeRet; 
 				}
@@ -952,7 +918,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(214);
+				setState(190);
 				((TypeContext)_localctx).l = listType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).l.listTypeRet; 
 				}
@@ -960,7 +926,7 @@ public class SophiaParser extends Parser {
 			case FUNC:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(217);
+				setState(193);
 				((TypeContext)_localctx).f = functionPointerType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet; 
 				}
@@ -968,7 +934,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(220);
+				setState(196);
 				((TypeContext)_localctx).c = classType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).c.classTypeRet; 
 				}
@@ -1019,7 +985,7 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(225);
+			setState(201);
 			((ClassTypeContext)_localctx).id = identifier();
 			 ((ClassTypeContext)_localctx).classTypeRet =  new ClassType(((ClassTypeContext)_localctx).id.idRet); 
 			}
@@ -1077,21 +1043,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(228);
+			setState(204);
 			((ListTypeContext)_localctx).l = match(LIST);
-			setState(229);
+			setState(205);
 			match(LPAR);
-			setState(238);
+			setState(214);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT_VALUE:
 				{
 				{
-				setState(230);
+				setState(206);
 				((ListTypeContext)_localctx).num = match(INT_VALUE);
-				setState(231);
+				setState(207);
 				match(SHARP);
-				setState(232);
+				setState(208);
 				((ListTypeContext)_localctx).t = type();
 				 ((ListTypeContext)_localctx).listTypeRet =  new ListType((((ListTypeContext)_localctx).num!=null?Integer.valueOf(((ListTypeContext)_localctx).num.getText()):0), new ListNameType(((ListTypeContext)_localctx).t.typeRet)); 
 				}
@@ -1105,7 +1071,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				{
 				{
-				setState(235);
+				setState(211);
 				((ListTypeContext)_localctx).typesList = listItemsTypes();
 				 ((ListTypeContext)_localctx).listTypeRet =  new ListType(((ListTypeContext)_localctx).typesList.listItemsTypesRet); 
 				}
@@ -1114,7 +1080,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(240);
+			setState(216);
 			match(RPAR);
 			}
 		}
@@ -1170,23 +1136,23 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((ListItemsTypesContext)_localctx).listItemsTypesRet =  new ArrayList<>(); 
-			setState(243);
+			setState(219);
 			((ListItemsTypesContext)_localctx).l1 = listItemType();
 			 _localctx.listItemsTypesRet.add(((ListItemsTypesContext)_localctx).l1.listItemTypeRet); 
-			setState(251);
+			setState(227);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(245);
+				setState(221);
 				match(COMMA);
-				setState(246);
+				setState(222);
 				((ListItemsTypesContext)_localctx).l2 = listItemType();
 				 _localctx.listItemsTypesRet.add(((ListItemsTypesContext)_localctx).l2.listItemTypeRet); 
 				}
 				}
-				setState(253);
+				setState(229);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1236,13 +1202,13 @@ public class SophiaParser extends Parser {
 		ListItemTypeContext _localctx = new ListItemTypeContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_listItemType);
 		try {
-			setState(260);
+			setState(236);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(254);
+				setState(230);
 				((ListItemTypeContext)_localctx).v = variableWithType();
 				 ((ListItemTypeContext)_localctx).listItemTypeRet =  new ListNameType(((ListItemTypeContext)_localctx).v.varWithTypeRet); 
 				}
@@ -1250,7 +1216,7 @@ public class SophiaParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(257);
+				setState(233);
 				((ListItemTypeContext)_localctx).t = type();
 				 ((ListItemTypeContext)_localctx).listItemTypeRet =  new ListNameType(((ListItemTypeContext)_localctx).t.typeRet); 
 				}
@@ -1311,17 +1277,17 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(238);
 			match(FUNC);
 			 ((FunctionPointerTypeContext)_localctx).fptrTypeRet =  new FptrType(); 
-			setState(264);
+			setState(240);
 			match(LESS_THAN);
-			setState(270);
+			setState(246);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(265);
+				setState(241);
 				match(VOID);
 				 _localctx.fptrTypeRet.setArgumentsTypes(new ArrayList<Type>()); 
 				}
@@ -1333,7 +1299,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 			case IDENTIFIER:
 				{
-				setState(267);
+				setState(243);
 				((FunctionPointerTypeContext)_localctx).types = typesWithComma();
 				 _localctx.fptrTypeRet.setArgumentsTypes(((FunctionPointerTypeContext)_localctx).types.typesWithCommaRet); 
 				}
@@ -1341,16 +1307,16 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(272);
+			setState(248);
 			match(ARROW);
-			setState(278);
+			setState(254);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(273);
+				setState(249);
 				match(VOID);
-				 _localctx.fptrTypeRet.setReturnType(new NullType()); 
+				 _localctx.fptrTypeRet.setReturnType(NullType.INSTANCE); 
 				}
 				break;
 			case FUNC:
@@ -1360,7 +1326,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 			case IDENTIFIER:
 				{
-				setState(275);
+				setState(251);
 				((FunctionPointerTypeContext)_localctx).t = type();
 				 _localctx.fptrTypeRet.setReturnType(((FunctionPointerTypeContext)_localctx).t.typeRet); 
 				}
@@ -1368,7 +1334,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(280);
+			setState(256);
 			match(GREATER_THAN);
 			}
 		}
@@ -1424,23 +1390,23 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((TypesWithCommaContext)_localctx).typesWithCommaRet =  new ArrayList<>(); 
-			setState(283);
+			setState(259);
 			((TypesWithCommaContext)_localctx).t1 = type();
 			 _localctx.typesWithCommaRet.add(((TypesWithCommaContext)_localctx).t1.typeRet); 
-			setState(291);
+			setState(267);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(285);
+				setState(261);
 				match(COMMA);
-				setState(286);
+				setState(262);
 				((TypesWithCommaContext)_localctx).t2 = type();
 				 _localctx.typesWithCommaRet.add(((TypesWithCommaContext)_localctx).t2.typeRet); 
 				}
 				}
-				setState(293);
+				setState(269);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1485,31 +1451,31 @@ public class SophiaParser extends Parser {
 		PrimitiveDataTypeContext _localctx = new PrimitiveDataTypeContext(_ctx, getState());
 		enterRule(_localctx, 30, RULE_primitiveDataType);
 		try {
-			setState(300);
+			setState(276);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(294);
+				setState(270);
 				match(INT);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new IntType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  IntType.INSTANCE; 
 				}
 				break;
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(296);
+				setState(272);
 				match(STRING);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new StringType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  StringType.INSTANCE; 
 				}
 				break;
 			case BOOLEAN:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(298);
+				setState(274);
 				match(BOOLEAN);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new BoolType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  BoolType.INSTANCE; 
 				}
 				break;
 			default:
@@ -1575,35 +1541,35 @@ public class SophiaParser extends Parser {
 			        ((MethodBodyContext)_localctx).localVars =  new ArrayList<>();
 			        ((MethodBodyContext)_localctx).statements =  new ArrayList<>();
 			    
-			setState(308);
+			setState(284);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(303);
+					setState(279);
 					((MethodBodyContext)_localctx).v = varDeclaration();
 					 _localctx.localVars.add(((MethodBodyContext)_localctx).v.varDeclarationRet); 
 					}
 					} 
 				}
-				setState(310);
+				setState(286);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
 			}
-			setState(316);
+			setState(292);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PRINT) | (1L << NEW) | (1L << CONTINUE) | (1L << BREAK) | (1L << RETURN) | (1L << FOREACH) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << LBRACE) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
 				{
-				setState(311);
+				setState(287);
 				((MethodBodyContext)_localctx).s = statement();
 				 _localctx.statements.add(((MethodBodyContext)_localctx).s.sRet); 
 				}
 				}
-				setState(318);
+				setState(294);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1681,13 +1647,13 @@ public class SophiaParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 34, RULE_statement);
 		try {
-			setState(346);
+			setState(322);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(319);
+				setState(295);
 				((StatementContext)_localctx).f1 = forStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).f1.forStmtRet; 
 				}
@@ -1695,7 +1661,7 @@ public class SophiaParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(322);
+				setState(298);
 				((StatementContext)_localctx).f2 = foreachStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).f2.foreachStmtRet; 
 				}
@@ -1703,7 +1669,7 @@ public class SophiaParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(325);
+				setState(301);
 				((StatementContext)_localctx).i = ifStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).i.ifStmtRet; 
 				}
@@ -1711,7 +1677,7 @@ public class SophiaParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(328);
+				setState(304);
 				((StatementContext)_localctx).a = assignmentStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).a.assignStmtRet; 
 				}
@@ -1719,7 +1685,7 @@ public class SophiaParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(331);
+				setState(307);
 				((StatementContext)_localctx).p = printStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).p.printStmtRet; 
 				}
@@ -1727,7 +1693,7 @@ public class SophiaParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(334);
+				setState(310);
 				((StatementContext)_localctx).c = continueBreakStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).c.continueBreakRet; 
 				}
@@ -1735,7 +1701,7 @@ public class SophiaParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(337);
+				setState(313);
 				((StatementContext)_localctx).m = methodCallStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).m.methodCallStmtRet; 
 				}
@@ -1743,7 +1709,7 @@ public class SophiaParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(340);
+				setState(316);
 				((StatementContext)_localctx).r = returnStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).r.returnStmtRet; 
 				}
@@ -1751,7 +1717,7 @@ public class SophiaParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(343);
+				setState(319);
 				((StatementContext)_localctx).b = block();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).b.blockRet; 
 				}
@@ -1807,28 +1773,28 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(348);
+			setState(324);
 			((BlockContext)_localctx).l = match(LBRACE);
 
 			        ((BlockContext)_localctx).blockRet =  new BlockStmt();
 			        _localctx.blockRet.setLine(((BlockContext)_localctx).l.getLine());
 			    
-			setState(355);
+			setState(331);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PRINT) | (1L << NEW) | (1L << CONTINUE) | (1L << BREAK) | (1L << RETURN) | (1L << FOREACH) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << LBRACE) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
 				{
-				setState(350);
+				setState(326);
 				((BlockContext)_localctx).s = statement();
 				 _localctx.blockRet.addStatement(((BlockContext)_localctx).s.sRet); 
 				}
 				}
-				setState(357);
+				setState(333);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(358);
+			setState(334);
 			match(RBRACE);
 			}
 		}
@@ -1875,10 +1841,10 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(336);
 			((AssignmentStatementContext)_localctx).a = assignment();
 			 ((AssignmentStatementContext)_localctx).assignStmtRet =  ((AssignmentStatementContext)_localctx).a.assignmentRet; 
-			setState(362);
+			setState(338);
 			match(SEMICOLLON);
 			}
 		}
@@ -1930,11 +1896,11 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(364);
-			((AssignmentContext)_localctx).left = orExpression();
-			setState(365);
+			setState(340);
+			((AssignmentContext)_localctx).left = orExpression(0);
+			setState(341);
 			((AssignmentContext)_localctx).a = match(ASSIGN);
-			setState(366);
+			setState(342);
 			((AssignmentContext)_localctx).right = expression();
 
 			        ((AssignmentContext)_localctx).assignmentRet =  new AssignmentStmt(((AssignmentContext)_localctx).left.orExprRet, ((AssignmentContext)_localctx).right.exprRet);
@@ -1989,19 +1955,19 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(369);
+			setState(345);
 			((PrintStatementContext)_localctx).p = match(PRINT);
-			setState(370);
+			setState(346);
 			match(LPAR);
-			setState(371);
+			setState(347);
 			((PrintStatementContext)_localctx).e = expression();
 
 			        ((PrintStatementContext)_localctx).printStmtRet =  new PrintStmt(((PrintStatementContext)_localctx).e.exprRet);
 			        _localctx.printStmtRet.setLine(((PrintStatementContext)_localctx).p.getLine());
 			    
-			setState(373);
+			setState(349);
 			match(RPAR);
-			setState(374);
+			setState(350);
 			match(SEMICOLLON);
 			}
 		}
@@ -2051,18 +2017,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(376);
+			setState(352);
 			((ReturnStatementContext)_localctx).r = match(RETURN);
 
 			        ((ReturnStatementContext)_localctx).returnStmtRet =  new ReturnStmt();
 			        _localctx.returnStmtRet.setLine(((ReturnStatementContext)_localctx).r.getLine());
 			    
-			setState(381);
+			setState(357);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(378);
+				setState(354);
 				((ReturnStatementContext)_localctx).e = expression();
 				 _localctx.returnStmtRet.setReturnedExpr(((ReturnStatementContext)_localctx).e.exprRet); 
 				}
@@ -2075,7 +2041,7 @@ public class SophiaParser extends Parser {
 			            _localctx.returnStmtRet.setReturnedExpr(newNullValue);
 			        }
 			    
-			setState(384);
+			setState(360);
 			match(SEMICOLLON);
 			}
 		}
@@ -2122,10 +2088,10 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(386);
+			setState(362);
 			((MethodCallStatementContext)_localctx).m = methodCall();
 			 ((MethodCallStatementContext)_localctx).methodCallStmtRet =  ((MethodCallStatementContext)_localctx).m.methodCallRet; 
-			setState(388);
+			setState(364);
 			match(SEMICOLLON);
 			}
 		}
@@ -2178,12 +2144,12 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(390);
+			setState(366);
 			((MethodCallContext)_localctx).ae = accessExpression();
 			{
-			setState(391);
+			setState(367);
 			((MethodCallContext)_localctx).l = match(LPAR);
-			setState(392);
+			setState(368);
 			((MethodCallContext)_localctx).m2 = methodCallArguments();
 
 			        MethodCall methodCall = new MethodCall(((MethodCallContext)_localctx).ae.accessExprRet, ((MethodCallContext)_localctx).m2.methodCallArgsRet);
@@ -2191,7 +2157,7 @@ public class SophiaParser extends Parser {
 			        ((MethodCallContext)_localctx).methodCallRet =  new MethodCallStmt(methodCall);
 			        _localctx.methodCallRet.setLine((((MethodCallContext)_localctx).l!=null?((MethodCallContext)_localctx).l.getLine():0));
 			    
-			setState(394);
+			setState(370);
 			match(RPAR);
 			}
 			}
@@ -2248,28 +2214,28 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((MethodCallArgumentsContext)_localctx).methodCallArgsRet =  new ArrayList<>(); 
-			setState(408);
+			setState(384);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(397);
+				setState(373);
 				((MethodCallArgumentsContext)_localctx).e1 = expression();
 				 _localctx.methodCallArgsRet.add(((MethodCallArgumentsContext)_localctx).e1.exprRet); 
-				setState(405);
+				setState(381);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(399);
+					setState(375);
 					match(COMMA);
-					setState(400);
+					setState(376);
 					((MethodCallArgumentsContext)_localctx).e2 = expression();
 					 _localctx.methodCallArgsRet.add(((MethodCallArgumentsContext)_localctx).e2.exprRet); 
 					}
 					}
-					setState(407);
+					setState(383);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -2321,12 +2287,12 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(414);
+			setState(390);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BREAK:
 				{
-				setState(410);
+				setState(386);
 				((ContinueBreakStatementContext)_localctx).b = match(BREAK);
 
 				        ((ContinueBreakStatementContext)_localctx).continueBreakRet =  new BreakStmt();
@@ -2336,7 +2302,7 @@ public class SophiaParser extends Parser {
 				break;
 			case CONTINUE:
 				{
-				setState(412);
+				setState(388);
 				((ContinueBreakStatementContext)_localctx).c = match(CONTINUE);
 
 				        ((ContinueBreakStatementContext)_localctx).continueBreakRet =  new ContinueStmt();
@@ -2347,7 +2313,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(416);
+			setState(392);
 			match(SEMICOLLON);
 			}
 		}
@@ -2414,54 +2380,54 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(418);
+			setState(394);
 			((ForStatementContext)_localctx).f = match(FOR);
 
 			        ((ForStatementContext)_localctx).forStmtRet =  new ForStmt();
 			        _localctx.forStmtRet.setLine(((ForStatementContext)_localctx).f.getLine());
 			    
-			setState(420);
+			setState(396);
 			match(LPAR);
-			setState(424);
+			setState(400);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(421);
+				setState(397);
 				((ForStatementContext)_localctx).init = assignment();
 				 _localctx.forStmtRet.setInitialize(((ForStatementContext)_localctx).init.assignmentRet); 
 				}
 			}
 
-			setState(426);
+			setState(402);
 			match(SEMICOLLON);
-			setState(430);
+			setState(406);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(427);
+				setState(403);
 				((ForStatementContext)_localctx).cond = expression();
 				 _localctx.forStmtRet.setCondition(((ForStatementContext)_localctx).cond.exprRet); 
 				}
 			}
 
-			setState(432);
+			setState(408);
 			match(SEMICOLLON);
-			setState(436);
+			setState(412);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(433);
+				setState(409);
 				((ForStatementContext)_localctx).update = assignment();
 				 _localctx.forStmtRet.setUpdate(((ForStatementContext)_localctx).update.assignmentRet); 
 				}
 			}
 
-			setState(438);
+			setState(414);
 			match(RPAR);
-			setState(439);
+			setState(415);
 			((ForStatementContext)_localctx).body = statement();
 			 _localctx.forStmtRet.setBody(((ForStatementContext)_localctx).body.sRet); 
 			}
@@ -2521,23 +2487,23 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(418);
 			((ForeachStatementContext)_localctx).f = match(FOREACH);
-			setState(443);
+			setState(419);
 			match(LPAR);
-			setState(444);
+			setState(420);
 			((ForeachStatementContext)_localctx).id = identifier();
-			setState(445);
+			setState(421);
 			match(IN);
-			setState(446);
+			setState(422);
 			((ForeachStatementContext)_localctx).list = expression();
 
 			        ((ForeachStatementContext)_localctx).foreachStmtRet =  new ForeachStmt(((ForeachStatementContext)_localctx).id.idRet, ((ForeachStatementContext)_localctx).list.exprRet);
 			        _localctx.foreachStmtRet.setLine(((ForeachStatementContext)_localctx).f.getLine());
 			    
-			setState(448);
+			setState(424);
 			match(RPAR);
-			setState(449);
+			setState(425);
 			((ForeachStatementContext)_localctx).body = statement();
 			 _localctx.foreachStmtRet.setBody(((ForeachStatementContext)_localctx).body.sRet); 
 			}
@@ -2597,28 +2563,28 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(452);
+			setState(428);
 			((IfStatementContext)_localctx).i = match(IF);
-			setState(453);
+			setState(429);
 			match(LPAR);
-			setState(454);
+			setState(430);
 			((IfStatementContext)_localctx).e = expression();
-			setState(455);
+			setState(431);
 			match(RPAR);
-			setState(456);
+			setState(432);
 			((IfStatementContext)_localctx).thenBody = statement();
 
 			        ((IfStatementContext)_localctx).ifStmtRet =  new ConditionalStmt(((IfStatementContext)_localctx).e.exprRet, ((IfStatementContext)_localctx).thenBody.sRet);
 			        _localctx.ifStmtRet.setLine(((IfStatementContext)_localctx).i.getLine());
 			    
-			setState(462);
+			setState(438);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 			case 1:
 				{
-				setState(458);
+				setState(434);
 				match(ELSE);
-				setState(459);
+				setState(435);
 				((IfStatementContext)_localctx).elseBody = statement();
 				 _localctx.ifStmtRet.setElseBody(((IfStatementContext)_localctx).elseBody.sRet); 
 				}
@@ -2675,17 +2641,17 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(464);
-			((ExpressionContext)_localctx).oe = orExpression();
+			setState(440);
+			((ExpressionContext)_localctx).oe = orExpression(0);
 			 ((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).oe.orExprRet; 
-			setState(470);
+			setState(446);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(466);
+				setState(442);
 				((ExpressionContext)_localctx).a = match(ASSIGN);
-				setState(467);
+				setState(443);
 				((ExpressionContext)_localctx).e = expression();
 
 				        BinaryOperator op = BinaryOperator.assign;
@@ -2710,19 +2676,51 @@ public class SophiaParser extends Parser {
 
 	public static class OrExpressionContext extends ParserRuleContext {
 		public Expression orExprRet;
-		public AndExpressionContext ael;
+		public UnaryOperator uop;
+		public BinaryOperator op;
+		public int line;
+		public OrExpressionContext l;
+		public Token not;
+		public Token minus;
+		public Token preinc;
+		public Token predec;
+		public OrExpressionContext pre;
+		public PostUnaryExpressionContext post;
+		public Token mult;
+		public Token div;
+		public Token mod;
+		public OrExpressionContext r;
+		public Token add;
+		public Token sub;
+		public Token gt;
+		public Token lt;
+		public Token eq;
+		public Token neq;
+		public Token a;
 		public Token o;
-		public AndExpressionContext aer;
-		public List<AndExpressionContext> andExpression() {
-			return getRuleContexts(AndExpressionContext.class);
+		public List<OrExpressionContext> orExpression() {
+			return getRuleContexts(OrExpressionContext.class);
 		}
-		public AndExpressionContext andExpression(int i) {
-			return getRuleContext(AndExpressionContext.class,i);
+		public OrExpressionContext orExpression(int i) {
+			return getRuleContext(OrExpressionContext.class,i);
 		}
-		public List<TerminalNode> OR() { return getTokens(SophiaParser.OR); }
-		public TerminalNode OR(int i) {
-			return getToken(SophiaParser.OR, i);
+		public TerminalNode NOT() { return getToken(SophiaParser.NOT, 0); }
+		public TerminalNode MINUS() { return getToken(SophiaParser.MINUS, 0); }
+		public TerminalNode INCREMENT() { return getToken(SophiaParser.INCREMENT, 0); }
+		public TerminalNode DECREMENT() { return getToken(SophiaParser.DECREMENT, 0); }
+		public PostUnaryExpressionContext postUnaryExpression() {
+			return getRuleContext(PostUnaryExpressionContext.class,0);
 		}
+		public TerminalNode MULT() { return getToken(SophiaParser.MULT, 0); }
+		public TerminalNode DIVIDE() { return getToken(SophiaParser.DIVIDE, 0); }
+		public TerminalNode MOD() { return getToken(SophiaParser.MOD, 0); }
+		public TerminalNode PLUS() { return getToken(SophiaParser.PLUS, 0); }
+		public TerminalNode GREATER_THAN() { return getToken(SophiaParser.GREATER_THAN, 0); }
+		public TerminalNode LESS_THAN() { return getToken(SophiaParser.LESS_THAN, 0); }
+		public TerminalNode EQUAL() { return getToken(SophiaParser.EQUAL, 0); }
+		public TerminalNode NOT_EQUAL() { return getToken(SophiaParser.NOT_EQUAL, 0); }
+		public TerminalNode AND() { return getToken(SophiaParser.AND, 0); }
+		public TerminalNode OR() { return getToken(SophiaParser.OR, 0); }
 		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2743,699 +2741,334 @@ public class SophiaParser extends Parser {
 	}
 
 	public final OrExpressionContext orExpression() throws RecognitionException {
-		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_orExpression);
-		int _la;
+		return orExpression(0);
+	}
+
+	private OrExpressionContext orExpression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		OrExpressionContext _localctx = new OrExpressionContext(_ctx, _parentState);
+		OrExpressionContext _prevctx = _localctx;
+		int _startState = 62;
+		enterRecursionRule(_localctx, 62, RULE_orExpression, _p);
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(472);
-			((OrExpressionContext)_localctx).ael = andExpression();
-			 ((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).ael.andExprRet; 
-			setState(480);
+			setState(465);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==OR) {
-				{
+			switch (_input.LA(1)) {
+			case MINUS:
+			case NOT:
+			case INCREMENT:
+			case DECREMENT:
 				{
-				setState(474);
-				((OrExpressionContext)_localctx).o = match(OR);
-				setState(475);
-				((OrExpressionContext)_localctx).aer = andExpression();
-
-				        BinaryOperator op = BinaryOperator.or;
-				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(_localctx.orExprRet, ((OrExpressionContext)_localctx).aer.andExprRet, op);
-				        _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).o.getLine());
-				    
-				}
-				}
-				setState(482);
+				setState(457);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
+				switch (_input.LA(1)) {
+				case NOT:
+					{
+					setState(449);
+					((OrExpressionContext)_localctx).not = match(NOT);
 
-	public static class AndExpressionContext extends ParserRuleContext {
-		public Expression andExprRet;
-		public EqualityExpressionContext eel;
-		public Token a;
-		public EqualityExpressionContext ee2;
-		public List<EqualityExpressionContext> equalityExpression() {
-			return getRuleContexts(EqualityExpressionContext.class);
-		}
-		public EqualityExpressionContext equalityExpression(int i) {
-			return getRuleContext(EqualityExpressionContext.class,i);
-		}
-		public List<TerminalNode> AND() { return getTokens(SophiaParser.AND); }
-		public TerminalNode AND(int i) {
-			return getToken(SophiaParser.AND, i);
-		}
-		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_andExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterAndExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitAndExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitAndExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
+					        ((OrExpressionContext)_localctx).uop =  UnaryOperator.not;
+					        ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).not.getLine();
+					    
+					}
+					break;
+				case MINUS:
+					{
+					setState(451);
+					((OrExpressionContext)_localctx).minus = match(MINUS);
 
-	public final AndExpressionContext andExpression() throws RecognitionException {
-		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_andExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(483);
-			((AndExpressionContext)_localctx).eel = equalityExpression();
-			 ((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).eel.eqExprRet; 
-			setState(491);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==AND) {
-				{
-				{
-				setState(485);
-				((AndExpressionContext)_localctx).a = match(AND);
-				setState(486);
-				((AndExpressionContext)_localctx).ee2 = equalityExpression();
-
-				        BinaryOperator op = BinaryOperator.and;
-				        ((AndExpressionContext)_localctx).andExprRet =  new BinaryExpression(_localctx.andExprRet, ((AndExpressionContext)_localctx).ee2.eqExprRet, op);
-				        _localctx.andExprRet.setLine(((AndExpressionContext)_localctx).a.getLine());
-				    
+					        ((OrExpressionContext)_localctx).uop =  UnaryOperator.minus;
+					        ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).minus.getLine();
+					    
+					}
+					break;
+				case INCREMENT:
+					{
+					setState(453);
+					((OrExpressionContext)_localctx).preinc = match(INCREMENT);
+
+					        ((OrExpressionContext)_localctx).uop =  UnaryOperator.preinc;
+					        ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).preinc.getLine();
+					    
+					}
+					break;
+				case DECREMENT:
+					{
+					setState(455);
+					((OrExpressionContext)_localctx).predec = match(DECREMENT);
+
+					        ((OrExpressionContext)_localctx).uop =  UnaryOperator.predec;
+					        ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).predec.getLine();
+					    
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
+				setState(459);
+				((OrExpressionContext)_localctx).pre = orExpression(8);
+
+				        ((OrExpressionContext)_localctx).orExprRet =  new UnaryExpression(((OrExpressionContext)_localctx).pre.orExprRet, _localctx.uop);
+				        _localctx.orExprRet.setLine(_localctx.line);
+				    
 				}
-				setState(493);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class EqualityExpressionContext extends ParserRuleContext {
-		public Expression eqExprRet;
-		public BinaryOperator op;
-		public int line;
-		public RelationalExpressionContext rel;
-		public Token eq;
-		public Token neq;
-		public RelationalExpressionContext rer;
-		public List<RelationalExpressionContext> relationalExpression() {
-			return getRuleContexts(RelationalExpressionContext.class);
-		}
-		public RelationalExpressionContext relationalExpression(int i) {
-			return getRuleContext(RelationalExpressionContext.class,i);
-		}
-		public List<TerminalNode> EQUAL() { return getTokens(SophiaParser.EQUAL); }
-		public TerminalNode EQUAL(int i) {
-			return getToken(SophiaParser.EQUAL, i);
-		}
-		public List<TerminalNode> NOT_EQUAL() { return getTokens(SophiaParser.NOT_EQUAL); }
-		public TerminalNode NOT_EQUAL(int i) {
-			return getToken(SophiaParser.NOT_EQUAL, i);
-		}
-		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_equalityExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterEqualityExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitEqualityExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitEqualityExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
-		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_equalityExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(494);
-			((EqualityExpressionContext)_localctx).rel = relationalExpression();
-			 ((EqualityExpressionContext)_localctx).eqExprRet =  ((EqualityExpressionContext)_localctx).rel.relExprRet; 
-			setState(507);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==NOT_EQUAL || _la==EQUAL) {
-				{
+				break;
+			case NEW:
+			case NULL:
+			case TRUE:
+			case FALSE:
+			case THIS:
+			case LPAR:
+			case LBRACK:
+			case INT_VALUE:
+			case IDENTIFIER:
+			case STRING_VALUE:
 				{
-				setState(500);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case EQUAL:
-					{
-					setState(496);
-					((EqualityExpressionContext)_localctx).eq = match(EQUAL);
-
-					        ((EqualityExpressionContext)_localctx).op =  BinaryOperator.eq;
-					        ((EqualityExpressionContext)_localctx).line =  ((EqualityExpressionContext)_localctx).eq.getLine();
-					    
-					}
-					break;
-				case NOT_EQUAL:
-					{
-					setState(498);
-					((EqualityExpressionContext)_localctx).neq = match(NOT_EQUAL);
-
-					        ((EqualityExpressionContext)_localctx).op =  BinaryOperator.neq;
-					        ((EqualityExpressionContext)_localctx).line =  ((EqualityExpressionContext)_localctx).neq.getLine();
-					    
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(502);
-				((EqualityExpressionContext)_localctx).rer = relationalExpression();
-
-				        ((EqualityExpressionContext)_localctx).eqExprRet =  new BinaryExpression(_localctx.eqExprRet, ((EqualityExpressionContext)_localctx).rer.relExprRet, _localctx.op);
-				        _localctx.eqExprRet.setLine(_localctx.line);
-				    
-				}
+				setState(462);
+				((OrExpressionContext)_localctx).post = postUnaryExpression();
+				 ((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).post.postUnaryExprRet; 
 				}
-				setState(509);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class RelationalExpressionContext extends ParserRuleContext {
-		public Expression relExprRet;
-		public BinaryOperator op;
-		public int line;
-		public AdditiveExpressionContext ael;
-		public Token gt;
-		public Token lt;
-		public AdditiveExpressionContext aer;
-		public List<AdditiveExpressionContext> additiveExpression() {
-			return getRuleContexts(AdditiveExpressionContext.class);
-		}
-		public AdditiveExpressionContext additiveExpression(int i) {
-			return getRuleContext(AdditiveExpressionContext.class,i);
-		}
-		public List<TerminalNode> GREATER_THAN() { return getTokens(SophiaParser.GREATER_THAN); }
-		public TerminalNode GREATER_THAN(int i) {
-			return getToken(SophiaParser.GREATER_THAN, i);
-		}
-		public List<TerminalNode> LESS_THAN() { return getTokens(SophiaParser.LESS_THAN); }
-		public TerminalNode LESS_THAN(int i) {
-			return getToken(SophiaParser.LESS_THAN, i);
-		}
-		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_relationalExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterRelationalExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitRelationalExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitRelationalExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
-		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_relationalExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(510);
-			((RelationalExpressionContext)_localctx).ael = additiveExpression();
-			 ((RelationalExpressionContext)_localctx).relExprRet =  ((RelationalExpressionContext)_localctx).ael.addExprRet; 
-			setState(523);
+			_ctx.stop = _input.LT(-1);
+			setState(521);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==GREATER_THAN || _la==LESS_THAN) {
-				{
-				{
-				setState(516);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case GREATER_THAN:
+			_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
 					{
-					setState(512);
-					((RelationalExpressionContext)_localctx).gt = match(GREATER_THAN);
+					setState(519);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+					case 1:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(467);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(474);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case MULT:
+							{
+							setState(468);
+							((OrExpressionContext)_localctx).mult = match(MULT);
 
-					        ((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
-					        ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).gt.getLine();
-					    
-					}
-					break;
-				case LESS_THAN:
-					{
-					setState(514);
-					((RelationalExpressionContext)_localctx).lt = match(LESS_THAN);
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.mult;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).mult.getLine();
+							              
+							}
+							break;
+						case DIVIDE:
+							{
+							setState(470);
+							((OrExpressionContext)_localctx).div = match(DIVIDE);
 
-					        ((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
-					        ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).lt.getLine();
-					    
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(518);
-				((RelationalExpressionContext)_localctx).aer = additiveExpression();
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.div;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).div.getLine();
+							              
+							}
+							break;
+						case MOD:
+							{
+							setState(472);
+							((OrExpressionContext)_localctx).mod = match(MOD);
 
-				        ((RelationalExpressionContext)_localctx).relExprRet =  new BinaryExpression(_localctx.relExprRet, ((RelationalExpressionContext)_localctx).aer.addExprRet, _localctx.op);
-				        _localctx.relExprRet.setLine(_localctx.line);
-				    
-				}
-				}
-				setState(525);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.mod;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).mod.getLine();
+							              
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(476);
+						((OrExpressionContext)_localctx).r = orExpression(7);
 
-	public static class AdditiveExpressionContext extends ParserRuleContext {
-		public Expression addExprRet;
-		public BinaryOperator op;
-		public int line;
-		public MultiplicativeExpressionContext mel;
-		public Token add;
-		public Token sub;
-		public MultiplicativeExpressionContext mer;
-		public List<MultiplicativeExpressionContext> multiplicativeExpression() {
-			return getRuleContexts(MultiplicativeExpressionContext.class);
-		}
-		public MultiplicativeExpressionContext multiplicativeExpression(int i) {
-			return getRuleContext(MultiplicativeExpressionContext.class,i);
-		}
-		public List<TerminalNode> PLUS() { return getTokens(SophiaParser.PLUS); }
-		public TerminalNode PLUS(int i) {
-			return getToken(SophiaParser.PLUS, i);
-		}
-		public List<TerminalNode> MINUS() { return getTokens(SophiaParser.MINUS); }
-		public TerminalNode MINUS(int i) {
-			return getToken(SophiaParser.MINUS, i);
-		}
-		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_additiveExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterAdditiveExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitAdditiveExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitAdditiveExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, _localctx.op);
+						                  _localctx.orExprRet.setLine(_localctx.line);
+						              
+						}
+						break;
+					case 2:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(479);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(484);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case PLUS:
+							{
+							setState(480);
+							((OrExpressionContext)_localctx).add = match(PLUS);
 
-	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
-		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_additiveExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(526);
-			((AdditiveExpressionContext)_localctx).mel = multiplicativeExpression();
-			 ((AdditiveExpressionContext)_localctx).addExprRet =  ((AdditiveExpressionContext)_localctx).mel.multExprRet; 
-			setState(539);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==PLUS || _la==MINUS) {
-				{
-				{
-				setState(532);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case PLUS:
-					{
-					setState(528);
-					((AdditiveExpressionContext)_localctx).add = match(PLUS);
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.add;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).add.getLine();
+							              
+							}
+							break;
+						case MINUS:
+							{
+							setState(482);
+							((OrExpressionContext)_localctx).sub = match(MINUS);
 
-					        ((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
-					        ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).add.getLine();
-					    
-					}
-					break;
-				case MINUS:
-					{
-					setState(530);
-					((AdditiveExpressionContext)_localctx).sub = match(MINUS);
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.sub;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).sub.getLine();
+							              
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(486);
+						((OrExpressionContext)_localctx).r = orExpression(6);
 
-					        ((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
-					        ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).sub.getLine();
-					    
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(534);
-				((AdditiveExpressionContext)_localctx).mer = multiplicativeExpression();
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, _localctx.op);
+						                  _localctx.orExprRet.setLine(_localctx.line);
+						              
+						}
+						break;
+					case 3:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(489);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(494);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case GREATER_THAN:
+							{
+							setState(490);
+							((OrExpressionContext)_localctx).gt = match(GREATER_THAN);
 
-				        ((AdditiveExpressionContext)_localctx).addExprRet =  new BinaryExpression(_localctx.addExprRet, ((AdditiveExpressionContext)_localctx).mer.multExprRet, _localctx.op);
-				        _localctx.addExprRet.setLine(_localctx.line);
-				    
-				}
-				}
-				setState(541);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.gt;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).gt.getLine();
+							              
+							}
+							break;
+						case LESS_THAN:
+							{
+							setState(492);
+							((OrExpressionContext)_localctx).lt = match(LESS_THAN);
 
-	public static class MultiplicativeExpressionContext extends ParserRuleContext {
-		public Expression multExprRet;
-		public BinaryOperator op;
-		public int line;
-		public PreUnaryExpressionContext pel;
-		public Token mult;
-		public Token div;
-		public Token mod;
-		public PreUnaryExpressionContext per;
-		public List<PreUnaryExpressionContext> preUnaryExpression() {
-			return getRuleContexts(PreUnaryExpressionContext.class);
-		}
-		public PreUnaryExpressionContext preUnaryExpression(int i) {
-			return getRuleContext(PreUnaryExpressionContext.class,i);
-		}
-		public List<TerminalNode> MULT() { return getTokens(SophiaParser.MULT); }
-		public TerminalNode MULT(int i) {
-			return getToken(SophiaParser.MULT, i);
-		}
-		public List<TerminalNode> DIVIDE() { return getTokens(SophiaParser.DIVIDE); }
-		public TerminalNode DIVIDE(int i) {
-			return getToken(SophiaParser.DIVIDE, i);
-		}
-		public List<TerminalNode> MOD() { return getTokens(SophiaParser.MOD); }
-		public TerminalNode MOD(int i) {
-			return getToken(SophiaParser.MOD, i);
-		}
-		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterMultiplicativeExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitMultiplicativeExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.lt;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).lt.getLine();
+							              
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(496);
+						((OrExpressionContext)_localctx).r = orExpression(5);
 
-	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
-		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_multiplicativeExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(542);
-			((MultiplicativeExpressionContext)_localctx).pel = preUnaryExpression();
-			 ((MultiplicativeExpressionContext)_localctx).multExprRet =  ((MultiplicativeExpressionContext)_localctx).pel.preUnaryExprRet; 
-			setState(557);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MULT) | (1L << DIVIDE) | (1L << MOD))) != 0)) {
-				{
-				{
-				setState(550);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case MULT:
-					{
-					setState(544);
-					((MultiplicativeExpressionContext)_localctx).mult = match(MULT);
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, _localctx.op);
+						                  _localctx.orExprRet.setLine(_localctx.line);
+						              
+						}
+						break;
+					case 4:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(499);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(504);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case EQUAL:
+							{
+							setState(500);
+							((OrExpressionContext)_localctx).eq = match(EQUAL);
 
-					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
-					        ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).mult.getLine();
-					    
-					}
-					break;
-				case DIVIDE:
-					{
-					setState(546);
-					((MultiplicativeExpressionContext)_localctx).div = match(DIVIDE);
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.eq;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).eq.getLine();
+							              
+							}
+							break;
+						case NOT_EQUAL:
+							{
+							setState(502);
+							((OrExpressionContext)_localctx).neq = match(NOT_EQUAL);
 
-					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
-					        ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).div.getLine();
-					    
-					}
-					break;
-				case MOD:
-					{
-					setState(548);
-					((MultiplicativeExpressionContext)_localctx).mod = match(MOD);
+							                  ((OrExpressionContext)_localctx).op =  BinaryOperator.neq;
+							                  ((OrExpressionContext)_localctx).line =  ((OrExpressionContext)_localctx).neq.getLine();
+							              
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(506);
+						((OrExpressionContext)_localctx).r = orExpression(4);
 
-					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mod;
-					        ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).mod.getLine();
-					    
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, _localctx.op);
+						                  _localctx.orExprRet.setLine(_localctx.line);
+						              
+						}
+						break;
+					case 5:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(509);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(510);
+						((OrExpressionContext)_localctx).a = match(AND);
+						setState(511);
+						((OrExpressionContext)_localctx).r = orExpression(3);
+
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, BinaryOperator.and);
+						                  _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).a.getLine());
+						              
+						}
+						break;
+					case 6:
+						{
+						_localctx = new OrExpressionContext(_parentctx, _parentState);
+						_localctx.l = _prevctx;
+						_localctx.l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_orExpression);
+						setState(514);
+						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+						setState(515);
+						((OrExpressionContext)_localctx).o = match(OR);
+						setState(516);
+						((OrExpressionContext)_localctx).r = orExpression(2);
+
+						                  ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).l.orExprRet, ((OrExpressionContext)_localctx).r.orExprRet, BinaryOperator.or);
+						                  _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).o.getLine());
+						              
+						}
+						break;
 					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(552);
-				((MultiplicativeExpressionContext)_localctx).per = preUnaryExpression();
-
-				        ((MultiplicativeExpressionContext)_localctx).multExprRet =  new BinaryExpression(_localctx.multExprRet, ((MultiplicativeExpressionContext)_localctx).per.preUnaryExprRet, _localctx.op);
-				        _localctx.multExprRet.setLine(_localctx.line);
-				    
-				}
+					} 
 				}
-				setState(559);
+				setState(523);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
+				_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class PreUnaryExpressionContext extends ParserRuleContext {
-		public Expression preUnaryExprRet;
-		public UnaryOperator op;
-		public int line;
-		public Token not;
-		public Token minus;
-		public Token preinc;
-		public Token predec;
-		public PreUnaryExpressionContext pre;
-		public PostUnaryExpressionContext post;
-		public PreUnaryExpressionContext preUnaryExpression() {
-			return getRuleContext(PreUnaryExpressionContext.class,0);
-		}
-		public TerminalNode NOT() { return getToken(SophiaParser.NOT, 0); }
-		public TerminalNode MINUS() { return getToken(SophiaParser.MINUS, 0); }
-		public TerminalNode INCREMENT() { return getToken(SophiaParser.INCREMENT, 0); }
-		public TerminalNode DECREMENT() { return getToken(SophiaParser.DECREMENT, 0); }
-		public PostUnaryExpressionContext postUnaryExpression() {
-			return getRuleContext(PostUnaryExpressionContext.class,0);
-		}
-		public PreUnaryExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_preUnaryExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).enterPreUnaryExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SophiaListener ) ((SophiaListener)listener).exitPreUnaryExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SophiaVisitor ) return ((SophiaVisitor<? extends T>)visitor).visitPreUnaryExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final PreUnaryExpressionContext preUnaryExpression() throws RecognitionException {
-		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_preUnaryExpression);
-		try {
-			setState(576);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case MINUS:
-			case NOT:
-			case INCREMENT:
-			case DECREMENT:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(568);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case NOT:
-					{
-					setState(560);
-					((PreUnaryExpressionContext)_localctx).not = match(NOT);
-
-					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
-					        ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).not.getLine();
-					    
-					}
-					break;
-				case MINUS:
-					{
-					setState(562);
-					((PreUnaryExpressionContext)_localctx).minus = match(MINUS);
-
-					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
-					        ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).minus.getLine();
-					    
-					}
-					break;
-				case INCREMENT:
-					{
-					setState(564);
-					((PreUnaryExpressionContext)_localctx).preinc = match(INCREMENT);
-
-					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.preinc;
-					        ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).preinc.getLine();
-					    
-					}
-					break;
-				case DECREMENT:
-					{
-					setState(566);
-					((PreUnaryExpressionContext)_localctx).predec = match(DECREMENT);
-
-					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.predec;
-					        ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).predec.getLine();
-					    
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(570);
-				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
-
-				        ((PreUnaryExpressionContext)_localctx).preUnaryExprRet =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.preUnaryExprRet, _localctx.op);
-				        _localctx.preUnaryExprRet.setLine(_localctx.line);
-				    
-				}
-				break;
-			case NEW:
-			case NULL:
-			case TRUE:
-			case FALSE:
-			case THIS:
-			case LPAR:
-			case LBRACK:
-			case INT_VALUE:
-			case IDENTIFIER:
-			case STRING_VALUE:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(573);
-				((PreUnaryExpressionContext)_localctx).post = postUnaryExpression();
-				 ((PreUnaryExpressionContext)_localctx).preUnaryExprRet =  ((PreUnaryExpressionContext)_localctx).post.postUnaryExprRet; 
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3444,7 +3077,7 @@ public class SophiaParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
@@ -3480,19 +3113,19 @@ public class SophiaParser extends Parser {
 
 	public final PostUnaryExpressionContext postUnaryExpression() throws RecognitionException {
 		PostUnaryExpressionContext _localctx = new PostUnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_postUnaryExpression);
+		enterRule(_localctx, 64, RULE_postUnaryExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(578);
+			setState(524);
 			((PostUnaryExpressionContext)_localctx).ae = accessExpression();
 			 ((PostUnaryExpressionContext)_localctx).postUnaryExprRet =  ((PostUnaryExpressionContext)_localctx).ae.accessExprRet; 
-			setState(584);
+			setState(530);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case INCREMENT:
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			case 1:
 				{
-				setState(580);
+				setState(526);
 				((PostUnaryExpressionContext)_localctx).postinc = match(INCREMENT);
 
 				        UnaryOperator op = UnaryOperator.postinc;
@@ -3501,9 +3134,9 @@ public class SophiaParser extends Parser {
 				    
 				}
 				break;
-			case DECREMENT:
+			case 2:
 				{
-				setState(582);
+				setState(528);
 				((PostUnaryExpressionContext)_localctx).postdec = match(DECREMENT);
 
 				        UnaryOperator op = UnaryOperator.postdec;
@@ -3512,25 +3145,6 @@ public class SophiaParser extends Parser {
 				    
 				}
 				break;
-			case GREATER_THAN:
-			case LESS_THAN:
-			case NOT_EQUAL:
-			case EQUAL:
-			case MULT:
-			case DIVIDE:
-			case MOD:
-			case PLUS:
-			case MINUS:
-			case AND:
-			case OR:
-			case ASSIGN:
-			case RPAR:
-			case RBRACK:
-			case COMMA:
-			case SEMICOLLON:
-				break;
-			default:
-				break;
 			}
 			}
 		}
@@ -3614,35 +3228,35 @@ public class SophiaParser extends Parser {
 
 	public final AccessExpressionContext accessExpression() throws RecognitionException {
 		AccessExpressionContext _localctx = new AccessExpressionContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_accessExpression);
+		enterRule(_localctx, 66, RULE_accessExpression);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(586);
+			setState(532);
 			((AccessExpressionContext)_localctx).oe = otherExpression();
 			 ((AccessExpressionContext)_localctx).accessExprRet =  ((AccessExpressionContext)_localctx).oe.otherExprRet; 
-			setState(606);
+			setState(552);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(604);
+					setState(550);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case LPAR:
 						{
 						{
-						setState(588);
+						setState(534);
 						((AccessExpressionContext)_localctx).l = match(LPAR);
-						setState(589);
+						setState(535);
 						((AccessExpressionContext)_localctx).m = methodCallArguments();
 
 						        ((AccessExpressionContext)_localctx).accessExprRet =  new MethodCall(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).m.methodCallArgsRet);
 						        _localctx.accessExprRet.setLine((((AccessExpressionContext)_localctx).l!=null?((AccessExpressionContext)_localctx).l.getLine():0));
 						    
-						setState(591);
+						setState(537);
 						match(RPAR);
 						}
 						}
@@ -3650,9 +3264,9 @@ public class SophiaParser extends Parser {
 					case DOT:
 						{
 						{
-						setState(593);
+						setState(539);
 						match(DOT);
-						setState(594);
+						setState(540);
 						((AccessExpressionContext)_localctx).i = identifier();
 						}
 
@@ -3664,11 +3278,11 @@ public class SophiaParser extends Parser {
 					case LBRACK:
 						{
 						{
-						setState(598);
+						setState(544);
 						((AccessExpressionContext)_localctx).l = match(LBRACK);
-						setState(599);
+						setState(545);
 						((AccessExpressionContext)_localctx).index = expression();
-						setState(600);
+						setState(546);
 						match(RBRACK);
 						}
 
@@ -3682,9 +3296,9 @@ public class SophiaParser extends Parser {
 					}
 					} 
 				}
-				setState(608);
+				setState(554);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,41,_ctx);
 			}
 			}
 		}
@@ -3742,15 +3356,15 @@ public class SophiaParser extends Parser {
 
 	public final OtherExpressionContext otherExpression() throws RecognitionException {
 		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_otherExpression);
+		enterRule(_localctx, 68, RULE_otherExpression);
 		try {
-			setState(625);
+			setState(571);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case THIS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(609);
+				setState(555);
 				((OtherExpressionContext)_localctx).t = match(THIS);
 
 				        ((OtherExpressionContext)_localctx).otherExprRet =  new ThisClass();
@@ -3761,7 +3375,7 @@ public class SophiaParser extends Parser {
 			case NEW:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(611);
+				setState(557);
 				((OtherExpressionContext)_localctx).n = newExpression();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).n.newExprRet; 
 				}
@@ -3774,7 +3388,7 @@ public class SophiaParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(614);
+				setState(560);
 				((OtherExpressionContext)_localctx).v = values();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).v.valuesRet; 
 				}
@@ -3782,7 +3396,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(617);
+				setState(563);
 				((OtherExpressionContext)_localctx).id = identifier();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).id.idRet; 
 				}
@@ -3790,13 +3404,13 @@ public class SophiaParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(620);
+				setState(566);
 				match(LPAR);
 				{
-				setState(621);
+				setState(567);
 				((OtherExpressionContext)_localctx).e = expression();
 				}
-				setState(622);
+				setState(568);
 				match(RPAR);
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).e.exprRet; 
 				}
@@ -3851,19 +3465,19 @@ public class SophiaParser extends Parser {
 
 	public final NewExpressionContext newExpression() throws RecognitionException {
 		NewExpressionContext _localctx = new NewExpressionContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_newExpression);
+		enterRule(_localctx, 70, RULE_newExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(627);
+			setState(573);
 			((NewExpressionContext)_localctx).n = match(NEW);
-			setState(628);
+			setState(574);
 			((NewExpressionContext)_localctx).c = classType();
-			setState(629);
+			setState(575);
 			match(LPAR);
-			setState(630);
+			setState(576);
 			((NewExpressionContext)_localctx).m = methodCallArguments();
-			setState(631);
+			setState(577);
 			match(RPAR);
 
 			        ((NewExpressionContext)_localctx).newExprRet =  new NewClassInstance(((NewExpressionContext)_localctx).c.classTypeRet, ((NewExpressionContext)_localctx).m.methodCallArgsRet);
@@ -3919,16 +3533,16 @@ public class SophiaParser extends Parser {
 
 	public final ValuesContext values() throws RecognitionException {
 		ValuesContext _localctx = new ValuesContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_values);
+		enterRule(_localctx, 72, RULE_values);
 		try {
-			setState(646);
+			setState(592);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(634);
+				setState(580);
 				((ValuesContext)_localctx).b = boolValue();
 
 				        ((ValuesContext)_localctx).valuesRet =  new BoolValue(((ValuesContext)_localctx).b.boolValueRet);
@@ -3939,7 +3553,7 @@ public class SophiaParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(637);
+				setState(583);
 				((ValuesContext)_localctx).s = match(STRING_VALUE);
 
 				        ((ValuesContext)_localctx).valuesRet =  new StringValue(((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)).substring(1, ((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)).length()-1));
@@ -3950,7 +3564,7 @@ public class SophiaParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(639);
+				setState(585);
 				((ValuesContext)_localctx).i = match(INT_VALUE);
 
 				        ((ValuesContext)_localctx).valuesRet =  new IntValue((((ValuesContext)_localctx).i!=null?Integer.valueOf(((ValuesContext)_localctx).i.getText()):0));
@@ -3961,7 +3575,7 @@ public class SophiaParser extends Parser {
 			case NULL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(641);
+				setState(587);
 				((ValuesContext)_localctx).n = match(NULL);
 
 				        ((ValuesContext)_localctx).valuesRet =  new NullValue();
@@ -3972,7 +3586,7 @@ public class SophiaParser extends Parser {
 			case LBRACK:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(643);
+				setState(589);
 				((ValuesContext)_localctx).l = listValue();
 				 ((ValuesContext)_localctx).valuesRet =  ((ValuesContext)_localctx).l.listValueRet; 
 				}
@@ -4020,15 +3634,15 @@ public class SophiaParser extends Parser {
 
 	public final BoolValueContext boolValue() throws RecognitionException {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_boolValue);
+		enterRule(_localctx, 74, RULE_boolValue);
 		try {
-			setState(652);
+			setState(598);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(648);
+				setState(594);
 				((BoolValueContext)_localctx).t = match(TRUE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  true;
@@ -4039,7 +3653,7 @@ public class SophiaParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(650);
+				setState(596);
 				((BoolValueContext)_localctx).f = match(FALSE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  false;
@@ -4092,19 +3706,19 @@ public class SophiaParser extends Parser {
 
 	public final ListValueContext listValue() throws RecognitionException {
 		ListValueContext _localctx = new ListValueContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_listValue);
+		enterRule(_localctx, 76, RULE_listValue);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(654);
+			setState(600);
 			((ListValueContext)_localctx).l = match(LBRACK);
-			setState(655);
+			setState(601);
 			((ListValueContext)_localctx).m = methodCallArguments();
 
 			        ((ListValueContext)_localctx).listValueRet =  new ListValue(((ListValueContext)_localctx).m.methodCallArgsRet);
 			        _localctx.listValueRet.setLine(((ListValueContext)_localctx).l.getLine());
 			    
-			setState(657);
+			setState(603);
 			match(RBRACK);
 			}
 		}
@@ -4145,11 +3759,11 @@ public class SophiaParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_identifier);
+		enterRule(_localctx, 78, RULE_identifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(659);
+			setState(605);
 			((IdentifierContext)_localctx).id = match(IDENTIFIER);
 
 			        ((IdentifierContext)_localctx).idRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
@@ -4169,242 +3783,247 @@ public class SophiaParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 31:
+			return orExpression_sempred((OrExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean orExpression_sempred(OrExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 6);
+		case 1:
+			return precpred(_ctx, 5);
+		case 2:
+			return precpred(_ctx, 4);
+		case 3:
+			return precpred(_ctx, 3);
+		case 4:
+			return precpred(_ctx, 2);
+		case 5:
+			return precpred(_ctx, 1);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\39\u0299\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\39\u0263\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\4-\t-\4.\t.\4/\t/\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\7\3g\n\3\f\3\16"+
-		"\3j\13\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4s\n\4\3\4\3\4\3\4\3\4\3\4\3\4"+
-		"\3\4\7\4|\n\4\f\4\16\4\177\13\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\7"+
-		"\4\u008a\n\4\f\4\16\4\u008d\13\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4\u0095\n\4"+
-		"\f\4\16\4\u0098\13\4\5\4\u009a\n\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6"+
-		"\3\6\3\6\3\6\3\6\3\6\5\6\u00aa\n\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
-		"\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3"+
-		"\b\3\b\3\b\3\b\7\b\u00ca\n\b\f\b\16\b\u00cd\13\b\5\b\u00cf\n\b\3\t\3\t"+
-		"\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u00e2"+
-		"\n\n\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u00f1"+
-		"\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u00fc\n\r\f\r\16\r\u00ff"+
-		"\13\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u0107\n\16\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\17\3\17\5\17\u0111\n\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17"+
-		"\u0119\n\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\7\20\u0124\n"+
-		"\20\f\20\16\20\u0127\13\20\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u012f\n"+
-		"\21\3\22\3\22\3\22\3\22\7\22\u0135\n\22\f\22\16\22\u0138\13\22\3\22\3"+
-		"\22\3\22\7\22\u013d\n\22\f\22\16\22\u0140\13\22\3\23\3\23\3\23\3\23\3"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\3\2\3\2\3\2\3"+
+		"\2\3\3\3\3\3\3\3\3\7\3[\n\3\f\3\16\3^\13\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
+		"\5\4g\n\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4p\n\4\f\4\16\4s\13\4\3\4\3\4"+
+		"\3\4\3\4\3\4\3\4\3\4\3\4\7\4}\n\4\f\4\16\4\u0080\13\4\5\4\u0082\n\4\3"+
+		"\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u0092\n\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
+		"\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\7\b\u00b2\n\b\f\b\16"+
+		"\b\u00b5\13\b\5\b\u00b7\n\b\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3"+
+		"\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u00ca\n\n\3\13\3\13\3\13\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u00d9\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3"+
+		"\r\3\r\7\r\u00e4\n\r\f\r\16\r\u00e7\13\r\3\16\3\16\3\16\3\16\3\16\3\16"+
+		"\5\16\u00ef\n\16\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u00f9\n"+
+		"\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0101\n\17\3\17\3\17\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\3\20\7\20\u010c\n\20\f\20\16\20\u010f\13\20\3\21"+
+		"\3\21\3\21\3\21\3\21\3\21\5\21\u0117\n\21\3\22\3\22\3\22\3\22\7\22\u011d"+
+		"\n\22\f\22\16\22\u0120\13\22\3\22\3\22\3\22\7\22\u0125\n\22\f\22\16\22"+
+		"\u0128\13\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3"+
 		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u015d\n\23\3\24\3\24"+
-		"\3\24\3\24\3\24\7\24\u0164\n\24\f\24\16\24\u0167\13\24\3\24\3\24\3\25"+
-		"\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\27\3\30\3\30\3\30\3\30\3\30\5\30\u0180\n\30\3\30\3\30\3\30\3\31\3\31"+
-		"\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33"+
-		"\3\33\7\33\u0196\n\33\f\33\16\33\u0199\13\33\5\33\u019b\n\33\3\34\3\34"+
-		"\3\34\3\34\5\34\u01a1\n\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\5\35"+
-		"\u01ab\n\35\3\35\3\35\3\35\3\35\5\35\u01b1\n\35\3\35\3\35\3\35\3\35\5"+
-		"\35\u01b7\n\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36"+
-		"\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37"+
-		"\u01d1\n\37\3 \3 \3 \3 \3 \3 \5 \u01d9\n \3!\3!\3!\3!\3!\3!\7!\u01e1\n"+
-		"!\f!\16!\u01e4\13!\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u01ec\n\"\f\"\16\"\u01ef"+
-		"\13\"\3#\3#\3#\3#\3#\3#\5#\u01f7\n#\3#\3#\3#\7#\u01fc\n#\f#\16#\u01ff"+
-		"\13#\3$\3$\3$\3$\3$\3$\5$\u0207\n$\3$\3$\3$\7$\u020c\n$\f$\16$\u020f\13"+
-		"$\3%\3%\3%\3%\3%\3%\5%\u0217\n%\3%\3%\3%\7%\u021c\n%\f%\16%\u021f\13%"+
-		"\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0229\n&\3&\3&\3&\7&\u022e\n&\f&\16&\u0231"+
-		"\13&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u023b\n\'\3\'\3\'\3\'\3\'\3\'"+
-		"\3\'\5\'\u0243\n\'\3(\3(\3(\3(\3(\3(\5(\u024b\n(\3)\3)\3)\3)\3)\3)\3)"+
-		"\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\7)\u025f\n)\f)\16)\u0262\13)\3*\3*\3"+
-		"*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\5*\u0274\n*\3+\3+\3+\3+\3+\3"+
-		"+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\5,\u0289\n,\3-\3-\3-\3-\5-\u028f"+
-		"\n-\3.\3.\3.\3.\3.\3/\3/\3/\3/\2\2\60\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\\2\2\2\u02b2\2^\3\2\2\2"+
-		"\4b\3\2\2\2\6k\3\2\2\2\b\u009d\3\2\2\2\n\u00a3\3\2\2\2\f\u00b6\3\2\2\2"+
-		"\16\u00c2\3\2\2\2\20\u00d0\3\2\2\2\22\u00e1\3\2\2\2\24\u00e3\3\2\2\2\26"+
-		"\u00e6\3\2\2\2\30\u00f4\3\2\2\2\32\u0106\3\2\2\2\34\u0108\3\2\2\2\36\u011c"+
-		"\3\2\2\2 \u012e\3\2\2\2\"\u0130\3\2\2\2$\u015c\3\2\2\2&\u015e\3\2\2\2"+
-		"(\u016a\3\2\2\2*\u016e\3\2\2\2,\u0173\3\2\2\2.\u017a\3\2\2\2\60\u0184"+
-		"\3\2\2\2\62\u0188\3\2\2\2\64\u018e\3\2\2\2\66\u01a0\3\2\2\28\u01a4\3\2"+
-		"\2\2:\u01bc\3\2\2\2<\u01c6\3\2\2\2>\u01d2\3\2\2\2@\u01da\3\2\2\2B\u01e5"+
-		"\3\2\2\2D\u01f0\3\2\2\2F\u0200\3\2\2\2H\u0210\3\2\2\2J\u0220\3\2\2\2L"+
-		"\u0242\3\2\2\2N\u0244\3\2\2\2P\u024c\3\2\2\2R\u0273\3\2\2\2T\u0275\3\2"+
-		"\2\2V\u0288\3\2\2\2X\u028e\3\2\2\2Z\u0290\3\2\2\2\\\u0295\3\2\2\2^_\5"+
-		"\4\3\2_`\b\2\1\2`a\7\2\2\3a\3\3\2\2\2bh\b\3\1\2cd\5\6\4\2de\b\3\1\2eg"+
-		"\3\2\2\2fc\3\2\2\2gj\3\2\2\2hf\3\2\2\2hi\3\2\2\2i\5\3\2\2\2jh\3\2\2\2"+
-		"kl\7\5\2\2lm\5\\/\2mr\b\4\1\2no\7\4\2\2op\5\\/\2pq\b\4\1\2qs\3\2\2\2r"+
-		"n\3\2\2\2rs\3\2\2\2st\3\2\2\2t\u0099\7.\2\2uv\5\b\5\2vw\b\4\1\2w|\3\2"+
-		"\2\2xy\5\n\6\2yz\b\4\1\2z|\3\2\2\2{u\3\2\2\2{x\3\2\2\2|\177\3\2\2\2}{"+
-		"\3\2\2\2}~\3\2\2\2~\u0080\3\2\2\2\177}\3\2\2\2\u0080\u0081\5\f\7\2\u0081"+
-		"\u0082\b\4\1\2\u0082\u008b\3\2\2\2\u0083\u0084\5\b\5\2\u0084\u0085\b\4"+
-		"\1\2\u0085\u008a\3\2\2\2\u0086\u0087\5\n\6\2\u0087\u0088\b\4\1\2\u0088"+
-		"\u008a\3\2\2\2\u0089\u0083\3\2\2\2\u0089\u0086\3\2\2\2\u008a\u008d\3\2"+
-		"\2\2\u008b\u0089\3\2\2\2\u008b\u008c\3\2\2\2\u008c\u009a\3\2\2\2\u008d"+
-		"\u008b\3\2\2\2\u008e\u008f\5\b\5\2\u008f\u0090\b\4\1\2\u0090\u0095\3\2"+
-		"\2\2\u0091\u0092\5\n\6\2\u0092\u0093\b\4\1\2\u0093\u0095\3\2\2\2\u0094"+
-		"\u008e\3\2\2\2\u0094\u0091\3\2\2\2\u0095\u0098\3\2\2\2\u0096\u0094\3\2"+
-		"\2\2\u0096\u0097\3\2\2\2\u0097\u009a\3\2\2\2\u0098\u0096\3\2\2\2\u0099"+
-		"}\3\2\2\2\u0099\u0096\3\2\2\2\u009a\u009b\3\2\2\2\u009b\u009c\7/\2\2\u009c"+
-		"\7\3\2\2\2\u009d\u009e\5\\/\2\u009e\u009f\7\63\2\2\u009f\u00a0\5\22\n"+
-		"\2\u00a0\u00a1\b\5\1\2\u00a1\u00a2\7\64\2\2\u00a2\t\3\2\2\2\u00a3\u00a9"+
-		"\7\3\2\2\u00a4\u00a5\5\22\n\2\u00a5\u00a6\b\6\1\2\u00a6\u00aa\3\2\2\2"+
-		"\u00a7\u00a8\7\24\2\2\u00a8\u00aa\b\6\1\2\u00a9\u00a4\3\2\2\2\u00a9\u00a7"+
-		"\3\2\2\2\u00aa\u00ab\3\2\2\2\u00ab\u00ac\5\\/\2\u00ac\u00ad\b\6\1\2\u00ad"+
-		"\u00ae\7*\2\2\u00ae\u00af\5\16\b\2\u00af\u00b0\b\6\1\2\u00b0\u00b1\7+"+
-		"\2\2\u00b1\u00b2\7.\2\2\u00b2\u00b3\5\"\22\2\u00b3\u00b4\b\6\1\2\u00b4"+
-		"\u00b5\7/\2\2\u00b5\13\3\2\2\2\u00b6\u00b7\7\3\2\2\u00b7\u00b8\5\\/\2"+
-		"\u00b8\u00b9\b\7\1\2\u00b9\u00ba\7*\2\2\u00ba\u00bb\5\16\b\2\u00bb\u00bc"+
-		"\b\7\1\2\u00bc\u00bd\7+\2\2\u00bd\u00be\7.\2\2\u00be\u00bf\5\"\22\2\u00bf"+
-		"\u00c0\b\7\1\2\u00c0\u00c1\7/\2\2\u00c1\r\3\2\2\2\u00c2\u00ce\b\b\1\2"+
-		"\u00c3\u00c4\5\20\t\2\u00c4\u00cb\b\b\1\2\u00c5\u00c6\7\61\2\2\u00c6\u00c7"+
-		"\5\20\t\2\u00c7\u00c8\b\b\1\2\u00c8\u00ca\3\2\2\2\u00c9\u00c5\3\2\2\2"+
-		"\u00ca\u00cd\3\2\2\2\u00cb\u00c9\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00cf"+
-		"\3\2\2\2\u00cd\u00cb\3\2\2\2\u00ce\u00c3\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf"+
-		"\17\3\2\2\2\u00d0\u00d1\5\\/\2\u00d1\u00d2\7\63\2\2\u00d2\u00d3\5\22\n"+
-		"\2\u00d3\u00d4\b\t\1\2\u00d4\21\3\2\2\2\u00d5\u00d6\5 \21\2\u00d6\u00d7"+
-		"\b\n\1\2\u00d7\u00e2\3\2\2\2\u00d8\u00d9\5\26\f\2\u00d9\u00da\b\n\1\2"+
-		"\u00da\u00e2\3\2\2\2\u00db\u00dc\5\34\17\2\u00dc\u00dd\b\n\1\2\u00dd\u00e2"+
-		"\3\2\2\2\u00de\u00df\5\24\13\2\u00df\u00e0\b\n\1\2\u00e0\u00e2\3\2\2\2"+
-		"\u00e1\u00d5\3\2\2\2\u00e1\u00d8\3\2\2\2\u00e1\u00db\3\2\2\2\u00e1\u00de"+
-		"\3\2\2\2\u00e2\23\3\2\2\2\u00e3\u00e4\5\\/\2\u00e4\u00e5\b\13\1\2\u00e5"+
-		"\25\3\2\2\2\u00e6\u00e7\7\26\2\2\u00e7\u00f0\7*\2\2\u00e8\u00e9\7\65\2"+
-		"\2\u00e9\u00ea\7\60\2\2\u00ea\u00eb\5\22\n\2\u00eb\u00ec\b\f\1\2\u00ec"+
-		"\u00f1\3\2\2\2\u00ed\u00ee\5\30\r\2\u00ee\u00ef\b\f\1\2\u00ef\u00f1\3"+
-		"\2\2\2\u00f0\u00e8\3\2\2\2\u00f0\u00ed\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2"+
-		"\u00f3\7+\2\2\u00f3\27\3\2\2\2\u00f4\u00f5\b\r\1\2\u00f5\u00f6\5\32\16"+
-		"\2\u00f6\u00fd\b\r\1\2\u00f7\u00f8\7\61\2\2\u00f8\u00f9\5\32\16\2\u00f9"+
-		"\u00fa\b\r\1\2\u00fa\u00fc\3\2\2\2\u00fb\u00f7\3\2\2\2\u00fc\u00ff\3\2"+
-		"\2\2\u00fd\u00fb\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\31\3\2\2\2\u00ff\u00fd"+
-		"\3\2\2\2\u0100\u0101\5\20\t\2\u0101\u0102\b\16\1\2\u0102\u0107\3\2\2\2"+
-		"\u0103\u0104\5\22\n\2\u0104\u0105\b\16\1\2\u0105\u0107\3\2\2\2\u0106\u0100"+
-		"\3\2\2\2\u0106\u0103\3\2\2\2\u0107\33\3\2\2\2\u0108\u0109\7\7\2\2\u0109"+
-		"\u010a\b\17\1\2\u010a\u0110\7\34\2\2\u010b\u010c\7\24\2\2\u010c\u0111"+
-		"\b\17\1\2\u010d\u010e\5\36\20\2\u010e\u010f\b\17\1\2\u010f\u0111\3\2\2"+
-		"\2\u0110\u010b\3\2\2\2\u0110\u010d\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0118"+
-		"\7\32\2\2\u0113\u0114\7\24\2\2\u0114\u0119\b\17\1\2\u0115\u0116\5\22\n"+
-		"\2\u0116\u0117\b\17\1\2\u0117\u0119\3\2\2\2\u0118\u0113\3\2\2\2\u0118"+
-		"\u0115\3\2\2\2\u0119\u011a\3\2\2\2\u011a\u011b\7\33\2\2\u011b\35\3\2\2"+
-		"\2\u011c\u011d\b\20\1\2\u011d\u011e\5\22\n\2\u011e\u0125\b\20\1\2\u011f"+
-		"\u0120\7\61\2\2\u0120\u0121\5\22\n\2\u0121\u0122\b\20\1\2\u0122\u0124"+
-		"\3\2\2\2\u0123\u011f\3\2\2\2\u0124\u0127\3\2\2\2\u0125\u0123\3\2\2\2\u0125"+
-		"\u0126\3\2\2\2\u0126\37\3\2\2\2\u0127\u0125\3\2\2\2\u0128\u0129\7\23\2"+
-		"\2\u0129\u012f\b\21\1\2\u012a\u012b\7\22\2\2\u012b\u012f\b\21\1\2\u012c"+
-		"\u012d\7\21\2\2\u012d\u012f\b\21\1\2\u012e\u0128\3\2\2\2\u012e\u012a\3"+
-		"\2\2\2\u012e\u012c\3\2\2\2\u012f!\3\2\2\2\u0130\u0136\b\22\1\2\u0131\u0132"+
-		"\5\b\5\2\u0132\u0133\b\22\1\2\u0133\u0135\3\2\2\2\u0134\u0131\3\2\2\2"+
-		"\u0135\u0138\3\2\2\2\u0136\u0134\3\2\2\2\u0136\u0137\3\2\2\2\u0137\u013e"+
-		"\3\2\2\2\u0138\u0136\3\2\2\2\u0139\u013a\5$\23\2\u013a\u013b\b\22\1\2"+
-		"\u013b\u013d\3\2\2\2\u013c\u0139\3\2\2\2\u013d\u0140\3\2\2\2\u013e\u013c"+
-		"\3\2\2\2\u013e\u013f\3\2\2\2\u013f#\3\2\2\2\u0140\u013e\3\2\2\2\u0141"+
-		"\u0142\58\35\2\u0142\u0143\b\23\1\2\u0143\u015d\3\2\2\2\u0144\u0145\5"+
-		":\36\2\u0145\u0146\b\23\1\2\u0146\u015d\3\2\2\2\u0147\u0148\5<\37\2\u0148"+
-		"\u0149\b\23\1\2\u0149\u015d\3\2\2\2\u014a\u014b\5(\25\2\u014b\u014c\b"+
-		"\23\1\2\u014c\u015d\3\2\2\2\u014d\u014e\5,\27\2\u014e\u014f\b\23\1\2\u014f"+
-		"\u015d\3\2\2\2\u0150\u0151\5\66\34\2\u0151\u0152\b\23\1\2\u0152\u015d"+
-		"\3\2\2\2\u0153\u0154\5\60\31\2\u0154\u0155\b\23\1\2\u0155\u015d\3\2\2"+
-		"\2\u0156\u0157\5.\30\2\u0157\u0158\b\23\1\2\u0158\u015d\3\2\2\2\u0159"+
-		"\u015a\5&\24\2\u015a\u015b\b\23\1\2\u015b\u015d\3\2\2\2\u015c\u0141\3"+
-		"\2\2\2\u015c\u0144\3\2\2\2\u015c\u0147\3\2\2\2\u015c\u014a\3\2\2\2\u015c"+
-		"\u014d\3\2\2\2\u015c\u0150\3\2\2\2\u015c\u0153\3\2\2\2\u015c\u0156\3\2"+
-		"\2\2\u015c\u0159\3\2\2\2\u015d%\3\2\2\2\u015e\u015f\7.\2\2\u015f\u0165"+
-		"\b\24\1\2\u0160\u0161\5$\23\2\u0161\u0162\b\24\1\2\u0162\u0164\3\2\2\2"+
-		"\u0163\u0160\3\2\2\2\u0164\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166"+
-		"\3\2\2\2\u0166\u0168\3\2\2\2\u0167\u0165\3\2\2\2\u0168\u0169\7/\2\2\u0169"+
-		"\'\3\2\2\2\u016a\u016b\5*\26\2\u016b\u016c\b\25\1\2\u016c\u016d\7\64\2"+
-		"\2\u016d)\3\2\2\2\u016e\u016f\5@!\2\u016f\u0170\7\'\2\2\u0170\u0171\5"+
-		"> \2\u0171\u0172\b\26\1\2\u0172+\3\2\2\2\u0173\u0174\7\6\2\2\u0174\u0175"+
-		"\7*\2\2\u0175\u0176\5> \2\u0176\u0177\b\27\1\2\u0177\u0178\7+\2\2\u0178"+
-		"\u0179\7\64\2\2\u0179-\3\2\2\2\u017a\u017b\7\13\2\2\u017b\u017f\b\30\1"+
-		"\2\u017c\u017d\5> \2\u017d\u017e\b\30\1\2\u017e\u0180\3\2\2\2\u017f\u017c"+
-		"\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0181\3\2\2\2\u0181\u0182\b\30\1\2"+
-		"\u0182\u0183\7\64\2\2\u0183/\3\2\2\2\u0184\u0185\5\62\32\2\u0185\u0186"+
-		"\b\31\1\2\u0186\u0187\7\64\2\2\u0187\61\3\2\2\2\u0188\u0189\5P)\2\u0189"+
-		"\u018a\7*\2\2\u018a\u018b\5\64\33\2\u018b\u018c\b\32\1\2\u018c\u018d\7"+
-		"+\2\2\u018d\63\3\2\2\2\u018e\u019a\b\33\1\2\u018f\u0190\5> \2\u0190\u0197"+
-		"\b\33\1\2\u0191\u0192\7\61\2\2\u0192\u0193\5> \2\u0193\u0194\b\33\1\2"+
-		"\u0194\u0196\3\2\2\2\u0195\u0191\3\2\2\2\u0196\u0199\3\2\2\2\u0197\u0195"+
-		"\3\2\2\2\u0197\u0198\3\2\2\2\u0198\u019b\3\2\2\2\u0199\u0197\3\2\2\2\u019a"+
-		"\u018f\3\2\2\2\u019a\u019b\3\2\2\2\u019b\65\3\2\2\2\u019c\u019d\7\n\2"+
-		"\2\u019d\u01a1\b\34\1\2\u019e\u019f\7\t\2\2\u019f\u01a1\b\34\1\2\u01a0"+
-		"\u019c\3\2\2\2\u01a0\u019e\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a3\7\64"+
-		"\2\2\u01a3\67\3\2\2\2\u01a4\u01a5\7\16\2\2\u01a5\u01a6\b\35\1\2\u01a6"+
-		"\u01aa\7*\2\2\u01a7\u01a8\5*\26\2\u01a8\u01a9\b\35\1\2\u01a9\u01ab\3\2"+
-		"\2\2\u01aa\u01a7\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab\u01ac\3\2\2\2\u01ac"+
-		"\u01b0\7\64\2\2\u01ad\u01ae\5> \2\u01ae\u01af\b\35\1\2\u01af\u01b1\3\2"+
-		"\2\2\u01b0\u01ad\3\2\2\2\u01b0\u01b1\3\2\2\2\u01b1\u01b2\3\2\2\2\u01b2"+
-		"\u01b6\7\64\2\2\u01b3\u01b4\5*\26\2\u01b4\u01b5\b\35\1\2\u01b5\u01b7\3"+
-		"\2\2\2\u01b6\u01b3\3\2\2\2\u01b6\u01b7\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8"+
-		"\u01b9\7+\2\2\u01b9\u01ba\5$\23\2\u01ba\u01bb\b\35\1\2\u01bb9\3\2\2\2"+
-		"\u01bc\u01bd\7\f\2\2\u01bd\u01be\7*\2\2\u01be\u01bf\5\\/\2\u01bf\u01c0"+
-		"\7\r\2\2\u01c0\u01c1\5> \2\u01c1\u01c2\b\36\1\2\u01c2\u01c3\7+\2\2\u01c3"+
-		"\u01c4\5$\23\2\u01c4\u01c5\b\36\1\2\u01c5;\3\2\2\2\u01c6\u01c7\7\17\2"+
-		"\2\u01c7\u01c8\7*\2\2\u01c8\u01c9\5> \2\u01c9\u01ca\7+\2\2\u01ca\u01cb"+
-		"\5$\23\2\u01cb\u01d0\b\37\1\2\u01cc\u01cd\7\20\2\2\u01cd\u01ce\5$\23\2"+
-		"\u01ce\u01cf\b\37\1\2\u01cf\u01d1\3\2\2\2\u01d0\u01cc\3\2\2\2\u01d0\u01d1"+
-		"\3\2\2\2\u01d1=\3\2\2\2\u01d2\u01d3\5@!\2\u01d3\u01d8\b \1\2\u01d4\u01d5"+
-		"\7\'\2\2\u01d5\u01d6\5> \2\u01d6\u01d7\b \1\2\u01d7\u01d9\3\2\2\2\u01d8"+
-		"\u01d4\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9?\3\2\2\2\u01da\u01db\5B\"\2\u01db"+
-		"\u01e2\b!\1\2\u01dc\u01dd\7%\2\2\u01dd\u01de\5B\"\2\u01de\u01df\b!\1\2"+
-		"\u01df\u01e1\3\2\2\2\u01e0\u01dc\3\2\2\2\u01e1\u01e4\3\2\2\2\u01e2\u01e0"+
-		"\3\2\2\2\u01e2\u01e3\3\2\2\2\u01e3A\3\2\2\2\u01e4\u01e2\3\2\2\2\u01e5"+
-		"\u01e6\5D#\2\u01e6\u01ed\b\"\1\2\u01e7\u01e8\7$\2\2\u01e8\u01e9\5D#\2"+
-		"\u01e9\u01ea\b\"\1\2\u01ea\u01ec\3\2\2\2\u01eb\u01e7\3\2\2\2\u01ec\u01ef"+
-		"\3\2\2\2\u01ed\u01eb\3\2\2\2\u01ed\u01ee\3\2\2\2\u01eeC\3\2\2\2\u01ef"+
-		"\u01ed\3\2\2\2\u01f0\u01f1\5F$\2\u01f1\u01fd\b#\1\2\u01f2\u01f3\7\36\2"+
-		"\2\u01f3\u01f7\b#\1\2\u01f4\u01f5\7\35\2\2\u01f5\u01f7\b#\1\2\u01f6\u01f2"+
-		"\3\2\2\2\u01f6\u01f4\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8\u01f9\5F$\2\u01f9"+
-		"\u01fa\b#\1\2\u01fa\u01fc\3\2\2\2\u01fb\u01f6\3\2\2\2\u01fc\u01ff\3\2"+
-		"\2\2\u01fd\u01fb\3\2\2\2\u01fd\u01fe\3\2\2\2\u01feE\3\2\2\2\u01ff\u01fd"+
-		"\3\2\2\2\u0200\u0201\5H%\2\u0201\u020d\b$\1\2\u0202\u0203\7\33\2\2\u0203"+
-		"\u0207\b$\1\2\u0204\u0205\7\34\2\2\u0205\u0207\b$\1\2\u0206\u0202\3\2"+
-		"\2\2\u0206\u0204\3\2\2\2\u0207\u0208\3\2\2\2\u0208\u0209\5H%\2\u0209\u020a"+
-		"\b$\1\2\u020a\u020c\3\2\2\2\u020b\u0206\3\2\2\2\u020c\u020f\3\2\2\2\u020d"+
-		"\u020b\3\2\2\2\u020d\u020e\3\2\2\2\u020eG\3\2\2\2\u020f\u020d\3\2\2\2"+
-		"\u0210\u0211\5J&\2\u0211\u021d\b%\1\2\u0212\u0213\7\"\2\2\u0213\u0217"+
-		"\b%\1\2\u0214\u0215\7#\2\2\u0215\u0217\b%\1\2\u0216\u0212\3\2\2\2\u0216"+
-		"\u0214\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u0219\5J&\2\u0219\u021a\b%\1"+
-		"\2\u021a\u021c\3\2\2\2\u021b\u0216\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b"+
-		"\3\2\2\2\u021d\u021e\3\2\2\2\u021eI\3\2\2\2\u021f\u021d\3\2\2\2\u0220"+
-		"\u0221\5L\'\2\u0221\u022f\b&\1\2\u0222\u0223\7\37\2\2\u0223\u0229\b&\1"+
-		"\2\u0224\u0225\7 \2\2\u0225\u0229\b&\1\2\u0226\u0227\7!\2\2\u0227\u0229"+
-		"\b&\1\2\u0228\u0222\3\2\2\2\u0228\u0224\3\2\2\2\u0228\u0226\3\2\2\2\u0229"+
-		"\u022a\3\2\2\2\u022a\u022b\5L\'\2\u022b\u022c\b&\1\2\u022c\u022e\3\2\2"+
-		"\2\u022d\u0228\3\2\2\2\u022e\u0231\3\2\2\2\u022f\u022d\3\2\2\2\u022f\u0230"+
-		"\3\2\2\2\u0230K\3\2\2\2\u0231\u022f\3\2\2\2\u0232\u0233\7&\2\2\u0233\u023b"+
-		"\b\'\1\2\u0234\u0235\7#\2\2\u0235\u023b\b\'\1\2\u0236\u0237\7(\2\2\u0237"+
-		"\u023b\b\'\1\2\u0238\u0239\7)\2\2\u0239\u023b\b\'\1\2\u023a\u0232\3\2"+
-		"\2\2\u023a\u0234\3\2\2\2\u023a\u0236\3\2\2\2\u023a\u0238\3\2\2\2\u023b"+
-		"\u023c\3\2\2\2\u023c\u023d\5L\'\2\u023d\u023e\b\'\1\2\u023e\u0243\3\2"+
-		"\2\2\u023f\u0240\5N(\2\u0240\u0241\b\'\1\2\u0241\u0243\3\2\2\2\u0242\u023a"+
-		"\3\2\2\2\u0242\u023f\3\2\2\2\u0243M\3\2\2\2\u0244\u0245\5P)\2\u0245\u024a"+
-		"\b(\1\2\u0246\u0247\7(\2\2\u0247\u024b\b(\1\2\u0248\u0249\7)\2\2\u0249"+
-		"\u024b\b(\1\2\u024a\u0246\3\2\2\2\u024a\u0248\3\2\2\2\u024a\u024b\3\2"+
-		"\2\2\u024bO\3\2\2\2\u024c\u024d\5R*\2\u024d\u0260\b)\1\2\u024e\u024f\7"+
-		"*\2\2\u024f\u0250\5\64\33\2\u0250\u0251\b)\1\2\u0251\u0252\7+\2\2\u0252"+
-		"\u025f\3\2\2\2\u0253\u0254\7\62\2\2\u0254\u0255\5\\/\2\u0255\u0256\3\2"+
-		"\2\2\u0256\u0257\b)\1\2\u0257\u025f\3\2\2\2\u0258\u0259\7,\2\2\u0259\u025a"+
-		"\5> \2\u025a\u025b\7-\2\2\u025b\u025c\3\2\2\2\u025c\u025d\b)\1\2\u025d"+
-		"\u025f\3\2\2\2\u025e\u024e\3\2\2\2\u025e\u0253\3\2\2\2\u025e\u0258\3\2"+
-		"\2\2\u025f\u0262\3\2\2\2\u0260\u025e\3\2\2\2\u0260\u0261\3\2\2\2\u0261"+
-		"Q\3\2\2\2\u0262\u0260\3\2\2\2\u0263\u0264\7\31\2\2\u0264\u0274\b*\1\2"+
-		"\u0265\u0266\5T+\2\u0266\u0267\b*\1\2\u0267\u0274\3\2\2\2\u0268\u0269"+
-		"\5V,\2\u0269\u026a\b*\1\2\u026a\u0274\3\2\2\2\u026b\u026c\5\\/\2\u026c"+
-		"\u026d\b*\1\2\u026d\u0274\3\2\2\2\u026e\u026f\7*\2\2\u026f\u0270\5> \2"+
-		"\u0270\u0271\7+\2\2\u0271\u0272\b*\1\2\u0272\u0274\3\2\2\2\u0273\u0263"+
-		"\3\2\2\2\u0273\u0265\3\2\2\2\u0273\u0268\3\2\2\2\u0273\u026b\3\2\2\2\u0273"+
-		"\u026e\3\2\2\2\u0274S\3\2\2\2\u0275\u0276\7\b\2\2\u0276\u0277\5\24\13"+
-		"\2\u0277\u0278\7*\2\2\u0278\u0279\5\64\33\2\u0279\u027a\7+\2\2\u027a\u027b"+
-		"\b+\1\2\u027bU\3\2\2\2\u027c\u027d\5X-\2\u027d\u027e\b,\1\2\u027e\u0289"+
-		"\3\2\2\2\u027f\u0280\7\67\2\2\u0280\u0289\b,\1\2\u0281\u0282\7\65\2\2"+
-		"\u0282\u0289\b,\1\2\u0283\u0284\7\25\2\2\u0284\u0289\b,\1\2\u0285\u0286"+
-		"\5Z.\2\u0286\u0287\b,\1\2\u0287\u0289\3\2\2\2\u0288\u027c\3\2\2\2\u0288"+
-		"\u027f\3\2\2\2\u0288\u0281\3\2\2\2\u0288\u0283\3\2\2\2\u0288\u0285\3\2"+
-		"\2\2\u0289W\3\2\2\2\u028a\u028b\7\27\2\2\u028b\u028f\b-\1\2\u028c\u028d"+
-		"\7\30\2\2\u028d\u028f\b-\1\2\u028e\u028a\3\2\2\2\u028e\u028c\3\2\2\2\u028f"+
-		"Y\3\2\2\2\u0290\u0291\7,\2\2\u0291\u0292\5\64\33\2\u0292\u0293\b.\1\2"+
-		"\u0293\u0294\7-\2\2\u0294[\3\2\2\2\u0295\u0296\7\66\2\2\u0296\u0297\b"+
-		"/\1\2\u0297]\3\2\2\2\65hr{}\u0089\u008b\u0094\u0096\u0099\u00a9\u00cb"+
-		"\u00ce\u00e1\u00f0\u00fd\u0106\u0110\u0118\u0125\u012e\u0136\u013e\u015c"+
-		"\u0165\u017f\u0197\u019a\u01a0\u01aa\u01b0\u01b6\u01d0\u01d8\u01e2\u01ed"+
-		"\u01f6\u01fd\u0206\u020d\u0216\u021d\u0228\u022f\u023a\u0242\u024a\u025e"+
-		"\u0260\u0273\u0288\u028e";
+		"\23\3\23\5\23\u0145\n\23\3\24\3\24\3\24\3\24\3\24\7\24\u014c\n\24\f\24"+
+		"\16\24\u014f\13\24\3\24\3\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3"+
+		"\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\5\30\u0168"+
+		"\n\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\7\33\u017e\n\33\f\33\16\33\u0181\13"+
+		"\33\5\33\u0183\n\33\3\34\3\34\3\34\3\34\5\34\u0189\n\34\3\34\3\34\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\5\35\u0193\n\35\3\35\3\35\3\35\3\35\5\35\u0199"+
+		"\n\35\3\35\3\35\3\35\3\35\5\35\u019f\n\35\3\35\3\35\3\35\3\35\3\36\3\36"+
+		"\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\5\37\u01b9\n\37\3 \3 \3 \3 \3 \3 \5 \u01c1\n \3!"+
+		"\3!\3!\3!\3!\3!\3!\3!\3!\5!\u01cc\n!\3!\3!\3!\3!\3!\3!\5!\u01d4\n!\3!"+
+		"\3!\3!\3!\3!\3!\3!\5!\u01dd\n!\3!\3!\3!\3!\3!\3!\3!\3!\5!\u01e7\n!\3!"+
+		"\3!\3!\3!\3!\3!\3!\3!\5!\u01f1\n!\3!\3!\3!\3!\3!\3!\3!\3!\5!\u01fb\n!"+
+		"\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\7!\u020a\n!\f!\16!\u020d\13!\3"+
+		"\"\3\"\3\"\3\"\3\"\3\"\5\"\u0215\n\"\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#"+
+		"\3#\3#\3#\3#\3#\3#\3#\7#\u0229\n#\f#\16#\u022c\13#\3$\3$\3$\3$\3$\3$\3"+
+		"$\3$\3$\3$\3$\3$\3$\3$\3$\3$\5$\u023e\n$\3%\3%\3%\3%\3%\3%\3%\3&\3&\3"+
+		"&\3&\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0253\n&\3\'\3\'\3\'\3\'\5\'\u0259\n\'"+
+		"\3(\3(\3(\3(\3(\3)\3)\3)\3)\2\3@*\2\4\6\b\n\f\16\20\22\24\26\30\32\34"+
+		"\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNP\2\2\2\u0280\2R\3\2\2\2\4V\3\2\2"+
+		"\2\6_\3\2\2\2\b\u0085\3\2\2\2\n\u008b\3\2\2\2\f\u009e\3\2\2\2\16\u00aa"+
+		"\3\2\2\2\20\u00b8\3\2\2\2\22\u00c9\3\2\2\2\24\u00cb\3\2\2\2\26\u00ce\3"+
+		"\2\2\2\30\u00dc\3\2\2\2\32\u00ee\3\2\2\2\34\u00f0\3\2\2\2\36\u0104\3\2"+
+		"\2\2 \u0116\3\2\2\2\"\u0118\3\2\2\2$\u0144\3\2\2\2&\u0146\3\2\2\2(\u0152"+
+		"\3\2\2\2*\u0156\3\2\2\2,\u015b\3\2\2\2.\u0162\3\2\2\2\60\u016c\3\2\2\2"+
+		"\62\u0170\3\2\2\2\64\u0176\3\2\2\2\66\u0188\3\2\2\28\u018c\3\2\2\2:\u01a4"+
+		"\3\2\2\2<\u01ae\3\2\2\2>\u01ba\3\2\2\2@\u01d3\3\2\2\2B\u020e\3\2\2\2D"+
+		"\u0216\3\2\2\2F\u023d\3\2\2\2H\u023f\3\2\2\2J\u0252\3\2\2\2L\u0258\3\2"+
+		"\2\2N\u025a\3\2\2\2P\u025f\3\2\2\2RS\5\4\3\2ST\b\2\1\2TU\7\2\2\3U\3\3"+
+		"\2\2\2V\\\b\3\1\2WX\5\6\4\2XY\b\3\1\2Y[\3\2\2\2ZW\3\2\2\2[^\3\2\2\2\\"+
+		"Z\3\2\2\2\\]\3\2\2\2]\5\3\2\2\2^\\\3\2\2\2_`\7\5\2\2`a\5P)\2af\b\4\1\2"+
+		"bc\7\4\2\2cd\5P)\2de\b\4\1\2eg\3\2\2\2fb\3\2\2\2fg\3\2\2\2gh\3\2\2\2h"+
+		"q\7.\2\2ij\5\b\5\2jk\b\4\1\2kp\3\2\2\2lm\5\n\6\2mn\b\4\1\2np\3\2\2\2o"+
+		"i\3\2\2\2ol\3\2\2\2ps\3\2\2\2qo\3\2\2\2qr\3\2\2\2r\u0081\3\2\2\2sq\3\2"+
+		"\2\2tu\5\f\7\2u~\b\4\1\2vw\5\b\5\2wx\b\4\1\2x}\3\2\2\2yz\5\n\6\2z{\b\4"+
+		"\1\2{}\3\2\2\2|v\3\2\2\2|y\3\2\2\2}\u0080\3\2\2\2~|\3\2\2\2~\177\3\2\2"+
+		"\2\177\u0082\3\2\2\2\u0080~\3\2\2\2\u0081t\3\2\2\2\u0081\u0082\3\2\2\2"+
+		"\u0082\u0083\3\2\2\2\u0083\u0084\7/\2\2\u0084\7\3\2\2\2\u0085\u0086\5"+
+		"P)\2\u0086\u0087\7\63\2\2\u0087\u0088\5\22\n\2\u0088\u0089\b\5\1\2\u0089"+
+		"\u008a\7\64\2\2\u008a\t\3\2\2\2\u008b\u0091\7\3\2\2\u008c\u008d\5\22\n"+
+		"\2\u008d\u008e\b\6\1\2\u008e\u0092\3\2\2\2\u008f\u0090\7\24\2\2\u0090"+
+		"\u0092\b\6\1\2\u0091\u008c\3\2\2\2\u0091\u008f\3\2\2\2\u0092\u0093\3\2"+
+		"\2\2\u0093\u0094\5P)\2\u0094\u0095\b\6\1\2\u0095\u0096\7*\2\2\u0096\u0097"+
+		"\5\16\b\2\u0097\u0098\b\6\1\2\u0098\u0099\7+\2\2\u0099\u009a\7.\2\2\u009a"+
+		"\u009b\5\"\22\2\u009b\u009c\b\6\1\2\u009c\u009d\7/\2\2\u009d\13\3\2\2"+
+		"\2\u009e\u009f\7\3\2\2\u009f\u00a0\5P)\2\u00a0\u00a1\b\7\1\2\u00a1\u00a2"+
+		"\7*\2\2\u00a2\u00a3\5\16\b\2\u00a3\u00a4\b\7\1\2\u00a4\u00a5\7+\2\2\u00a5"+
+		"\u00a6\7.\2\2\u00a6\u00a7\5\"\22\2\u00a7\u00a8\b\7\1\2\u00a8\u00a9\7/"+
+		"\2\2\u00a9\r\3\2\2\2\u00aa\u00b6\b\b\1\2\u00ab\u00ac\5\20\t\2\u00ac\u00b3"+
+		"\b\b\1\2\u00ad\u00ae\7\61\2\2\u00ae\u00af\5\20\t\2\u00af\u00b0\b\b\1\2"+
+		"\u00b0\u00b2\3\2\2\2\u00b1\u00ad\3\2\2\2\u00b2\u00b5\3\2\2\2\u00b3\u00b1"+
+		"\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00b7\3\2\2\2\u00b5\u00b3\3\2\2\2\u00b6"+
+		"\u00ab\3\2\2\2\u00b6\u00b7\3\2\2\2\u00b7\17\3\2\2\2\u00b8\u00b9\5P)\2"+
+		"\u00b9\u00ba\7\63\2\2\u00ba\u00bb\5\22\n\2\u00bb\u00bc\b\t\1\2\u00bc\21"+
+		"\3\2\2\2\u00bd\u00be\5 \21\2\u00be\u00bf\b\n\1\2\u00bf\u00ca\3\2\2\2\u00c0"+
+		"\u00c1\5\26\f\2\u00c1\u00c2\b\n\1\2\u00c2\u00ca\3\2\2\2\u00c3\u00c4\5"+
+		"\34\17\2\u00c4\u00c5\b\n\1\2\u00c5\u00ca\3\2\2\2\u00c6\u00c7\5\24\13\2"+
+		"\u00c7\u00c8\b\n\1\2\u00c8\u00ca\3\2\2\2\u00c9\u00bd\3\2\2\2\u00c9\u00c0"+
+		"\3\2\2\2\u00c9\u00c3\3\2\2\2\u00c9\u00c6\3\2\2\2\u00ca\23\3\2\2\2\u00cb"+
+		"\u00cc\5P)\2\u00cc\u00cd\b\13\1\2\u00cd\25\3\2\2\2\u00ce\u00cf\7\26\2"+
+		"\2\u00cf\u00d8\7*\2\2\u00d0\u00d1\7\65\2\2\u00d1\u00d2\7\60\2\2\u00d2"+
+		"\u00d3\5\22\n\2\u00d3\u00d4\b\f\1\2\u00d4\u00d9\3\2\2\2\u00d5\u00d6\5"+
+		"\30\r\2\u00d6\u00d7\b\f\1\2\u00d7\u00d9\3\2\2\2\u00d8\u00d0\3\2\2\2\u00d8"+
+		"\u00d5\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\u00db\7+\2\2\u00db\27\3\2\2\2"+
+		"\u00dc\u00dd\b\r\1\2\u00dd\u00de\5\32\16\2\u00de\u00e5\b\r\1\2\u00df\u00e0"+
+		"\7\61\2\2\u00e0\u00e1\5\32\16\2\u00e1\u00e2\b\r\1\2\u00e2\u00e4\3\2\2"+
+		"\2\u00e3\u00df\3\2\2\2\u00e4\u00e7\3\2\2\2\u00e5\u00e3\3\2\2\2\u00e5\u00e6"+
+		"\3\2\2\2\u00e6\31\3\2\2\2\u00e7\u00e5\3\2\2\2\u00e8\u00e9\5\20\t\2\u00e9"+
+		"\u00ea\b\16\1\2\u00ea\u00ef\3\2\2\2\u00eb\u00ec\5\22\n\2\u00ec\u00ed\b"+
+		"\16\1\2\u00ed\u00ef\3\2\2\2\u00ee\u00e8\3\2\2\2\u00ee\u00eb\3\2\2\2\u00ef"+
+		"\33\3\2\2\2\u00f0\u00f1\7\7\2\2\u00f1\u00f2\b\17\1\2\u00f2\u00f8\7\34"+
+		"\2\2\u00f3\u00f4\7\24\2\2\u00f4\u00f9\b\17\1\2\u00f5\u00f6\5\36\20\2\u00f6"+
+		"\u00f7\b\17\1\2\u00f7\u00f9\3\2\2\2\u00f8\u00f3\3\2\2\2\u00f8\u00f5\3"+
+		"\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\u0100\7\32\2\2\u00fb\u00fc\7\24\2\2\u00fc"+
+		"\u0101\b\17\1\2\u00fd\u00fe\5\22\n\2\u00fe\u00ff\b\17\1\2\u00ff\u0101"+
+		"\3\2\2\2\u0100\u00fb\3\2\2\2\u0100\u00fd\3\2\2\2\u0101\u0102\3\2\2\2\u0102"+
+		"\u0103\7\33\2\2\u0103\35\3\2\2\2\u0104\u0105\b\20\1\2\u0105\u0106\5\22"+
+		"\n\2\u0106\u010d\b\20\1\2\u0107\u0108\7\61\2\2\u0108\u0109\5\22\n\2\u0109"+
+		"\u010a\b\20\1\2\u010a\u010c\3\2\2\2\u010b\u0107\3\2\2\2\u010c\u010f\3"+
+		"\2\2\2\u010d\u010b\3\2\2\2\u010d\u010e\3\2\2\2\u010e\37\3\2\2\2\u010f"+
+		"\u010d\3\2\2\2\u0110\u0111\7\23\2\2\u0111\u0117\b\21\1\2\u0112\u0113\7"+
+		"\22\2\2\u0113\u0117\b\21\1\2\u0114\u0115\7\21\2\2\u0115\u0117\b\21\1\2"+
+		"\u0116\u0110\3\2\2\2\u0116\u0112\3\2\2\2\u0116\u0114\3\2\2\2\u0117!\3"+
+		"\2\2\2\u0118\u011e\b\22\1\2\u0119\u011a\5\b\5\2\u011a\u011b\b\22\1\2\u011b"+
+		"\u011d\3\2\2\2\u011c\u0119\3\2\2\2\u011d\u0120\3\2\2\2\u011e\u011c\3\2"+
+		"\2\2\u011e\u011f\3\2\2\2\u011f\u0126\3\2\2\2\u0120\u011e\3\2\2\2\u0121"+
+		"\u0122\5$\23\2\u0122\u0123\b\22\1\2\u0123\u0125\3\2\2\2\u0124\u0121\3"+
+		"\2\2\2\u0125\u0128\3\2\2\2\u0126\u0124\3\2\2\2\u0126\u0127\3\2\2\2\u0127"+
+		"#\3\2\2\2\u0128\u0126\3\2\2\2\u0129\u012a\58\35\2\u012a\u012b\b\23\1\2"+
+		"\u012b\u0145\3\2\2\2\u012c\u012d\5:\36\2\u012d\u012e\b\23\1\2\u012e\u0145"+
+		"\3\2\2\2\u012f\u0130\5<\37\2\u0130\u0131\b\23\1\2\u0131\u0145\3\2\2\2"+
+		"\u0132\u0133\5(\25\2\u0133\u0134\b\23\1\2\u0134\u0145\3\2\2\2\u0135\u0136"+
+		"\5,\27\2\u0136\u0137\b\23\1\2\u0137\u0145\3\2\2\2\u0138\u0139\5\66\34"+
+		"\2\u0139\u013a\b\23\1\2\u013a\u0145\3\2\2\2\u013b\u013c\5\60\31\2\u013c"+
+		"\u013d\b\23\1\2\u013d\u0145\3\2\2\2\u013e\u013f\5.\30\2\u013f\u0140\b"+
+		"\23\1\2\u0140\u0145\3\2\2\2\u0141\u0142\5&\24\2\u0142\u0143\b\23\1\2\u0143"+
+		"\u0145\3\2\2\2\u0144\u0129\3\2\2\2\u0144\u012c\3\2\2\2\u0144\u012f\3\2"+
+		"\2\2\u0144\u0132\3\2\2\2\u0144\u0135\3\2\2\2\u0144\u0138\3\2\2\2\u0144"+
+		"\u013b\3\2\2\2\u0144\u013e\3\2\2\2\u0144\u0141\3\2\2\2\u0145%\3\2\2\2"+
+		"\u0146\u0147\7.\2\2\u0147\u014d\b\24\1\2\u0148\u0149\5$\23\2\u0149\u014a"+
+		"\b\24\1\2\u014a\u014c\3\2\2\2\u014b\u0148\3\2\2\2\u014c\u014f\3\2\2\2"+
+		"\u014d\u014b\3\2\2\2\u014d\u014e\3\2\2\2\u014e\u0150\3\2\2\2\u014f\u014d"+
+		"\3\2\2\2\u0150\u0151\7/\2\2\u0151\'\3\2\2\2\u0152\u0153\5*\26\2\u0153"+
+		"\u0154\b\25\1\2\u0154\u0155\7\64\2\2\u0155)\3\2\2\2\u0156\u0157\5@!\2"+
+		"\u0157\u0158\7\'\2\2\u0158\u0159\5> \2\u0159\u015a\b\26\1\2\u015a+\3\2"+
+		"\2\2\u015b\u015c\7\6\2\2\u015c\u015d\7*\2\2\u015d\u015e\5> \2\u015e\u015f"+
+		"\b\27\1\2\u015f\u0160\7+\2\2\u0160\u0161\7\64\2\2\u0161-\3\2\2\2\u0162"+
+		"\u0163\7\13\2\2\u0163\u0167\b\30\1\2\u0164\u0165\5> \2\u0165\u0166\b\30"+
+		"\1\2\u0166\u0168\3\2\2\2\u0167\u0164\3\2\2\2\u0167\u0168\3\2\2\2\u0168"+
+		"\u0169\3\2\2\2\u0169\u016a\b\30\1\2\u016a\u016b\7\64\2\2\u016b/\3\2\2"+
+		"\2\u016c\u016d\5\62\32\2\u016d\u016e\b\31\1\2\u016e\u016f\7\64\2\2\u016f"+
+		"\61\3\2\2\2\u0170\u0171\5D#\2\u0171\u0172\7*\2\2\u0172\u0173\5\64\33\2"+
+		"\u0173\u0174\b\32\1\2\u0174\u0175\7+\2\2\u0175\63\3\2\2\2\u0176\u0182"+
+		"\b\33\1\2\u0177\u0178\5> \2\u0178\u017f\b\33\1\2\u0179\u017a\7\61\2\2"+
+		"\u017a\u017b\5> \2\u017b\u017c\b\33\1\2\u017c\u017e\3\2\2\2\u017d\u0179"+
+		"\3\2\2\2\u017e\u0181\3\2\2\2\u017f\u017d\3\2\2\2\u017f\u0180\3\2\2\2\u0180"+
+		"\u0183\3\2\2\2\u0181\u017f\3\2\2\2\u0182\u0177\3\2\2\2\u0182\u0183\3\2"+
+		"\2\2\u0183\65\3\2\2\2\u0184\u0185\7\n\2\2\u0185\u0189\b\34\1\2\u0186\u0187"+
+		"\7\t\2\2\u0187\u0189\b\34\1\2\u0188\u0184\3\2\2\2\u0188\u0186\3\2\2\2"+
+		"\u0189\u018a\3\2\2\2\u018a\u018b\7\64\2\2\u018b\67\3\2\2\2\u018c\u018d"+
+		"\7\16\2\2\u018d\u018e\b\35\1\2\u018e\u0192\7*\2\2\u018f\u0190\5*\26\2"+
+		"\u0190\u0191\b\35\1\2\u0191\u0193\3\2\2\2\u0192\u018f\3\2\2\2\u0192\u0193"+
+		"\3\2\2\2\u0193\u0194\3\2\2\2\u0194\u0198\7\64\2\2\u0195\u0196\5> \2\u0196"+
+		"\u0197\b\35\1\2\u0197\u0199\3\2\2\2\u0198\u0195\3\2\2\2\u0198\u0199\3"+
+		"\2\2\2\u0199\u019a\3\2\2\2\u019a\u019e\7\64\2\2\u019b\u019c\5*\26\2\u019c"+
+		"\u019d\b\35\1\2\u019d\u019f\3\2\2\2\u019e\u019b\3\2\2\2\u019e\u019f\3"+
+		"\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a1\7+\2\2\u01a1\u01a2\5$\23\2\u01a2"+
+		"\u01a3\b\35\1\2\u01a39\3\2\2\2\u01a4\u01a5\7\f\2\2\u01a5\u01a6\7*\2\2"+
+		"\u01a6\u01a7\5P)\2\u01a7\u01a8\7\r\2\2\u01a8\u01a9\5> \2\u01a9\u01aa\b"+
+		"\36\1\2\u01aa\u01ab\7+\2\2\u01ab\u01ac\5$\23\2\u01ac\u01ad\b\36\1\2\u01ad"+
+		";\3\2\2\2\u01ae\u01af\7\17\2\2\u01af\u01b0\7*\2\2\u01b0\u01b1\5> \2\u01b1"+
+		"\u01b2\7+\2\2\u01b2\u01b3\5$\23\2\u01b3\u01b8\b\37\1\2\u01b4\u01b5\7\20"+
+		"\2\2\u01b5\u01b6\5$\23\2\u01b6\u01b7\b\37\1\2\u01b7\u01b9\3\2\2\2\u01b8"+
+		"\u01b4\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9=\3\2\2\2\u01ba\u01bb\5@!\2\u01bb"+
+		"\u01c0\b \1\2\u01bc\u01bd\7\'\2\2\u01bd\u01be\5> \2\u01be\u01bf\b \1\2"+
+		"\u01bf\u01c1\3\2\2\2\u01c0\u01bc\3\2\2\2\u01c0\u01c1\3\2\2\2\u01c1?\3"+
+		"\2\2\2\u01c2\u01cb\b!\1\2\u01c3\u01c4\7&\2\2\u01c4\u01cc\b!\1\2\u01c5"+
+		"\u01c6\7#\2\2\u01c6\u01cc\b!\1\2\u01c7\u01c8\7(\2\2\u01c8\u01cc\b!\1\2"+
+		"\u01c9\u01ca\7)\2\2\u01ca\u01cc\b!\1\2\u01cb\u01c3\3\2\2\2\u01cb\u01c5"+
+		"\3\2\2\2\u01cb\u01c7\3\2\2\2\u01cb\u01c9\3\2\2\2\u01cc\u01cd\3\2\2\2\u01cd"+
+		"\u01ce\5@!\n\u01ce\u01cf\b!\1\2\u01cf\u01d4\3\2\2\2\u01d0\u01d1\5B\"\2"+
+		"\u01d1\u01d2\b!\1\2\u01d2\u01d4\3\2\2\2\u01d3\u01c2\3\2\2\2\u01d3\u01d0"+
+		"\3\2\2\2\u01d4\u020b\3\2\2\2\u01d5\u01dc\f\b\2\2\u01d6\u01d7\7\37\2\2"+
+		"\u01d7\u01dd\b!\1\2\u01d8\u01d9\7 \2\2\u01d9\u01dd\b!\1\2\u01da\u01db"+
+		"\7!\2\2\u01db\u01dd\b!\1\2\u01dc\u01d6\3\2\2\2\u01dc\u01d8\3\2\2\2\u01dc"+
+		"\u01da\3\2\2\2\u01dd\u01de\3\2\2\2\u01de\u01df\5@!\t\u01df\u01e0\b!\1"+
+		"\2\u01e0\u020a\3\2\2\2\u01e1\u01e6\f\7\2\2\u01e2\u01e3\7\"\2\2\u01e3\u01e7"+
+		"\b!\1\2\u01e4\u01e5\7#\2\2\u01e5\u01e7\b!\1\2\u01e6\u01e2\3\2\2\2\u01e6"+
+		"\u01e4\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01e9\5@!\b\u01e9\u01ea\b!\1"+
+		"\2\u01ea\u020a\3\2\2\2\u01eb\u01f0\f\6\2\2\u01ec\u01ed\7\33\2\2\u01ed"+
+		"\u01f1\b!\1\2\u01ee\u01ef\7\34\2\2\u01ef\u01f1\b!\1\2\u01f0\u01ec\3\2"+
+		"\2\2\u01f0\u01ee\3\2\2\2\u01f1\u01f2\3\2\2\2\u01f2\u01f3\5@!\7\u01f3\u01f4"+
+		"\b!\1\2\u01f4\u020a\3\2\2\2\u01f5\u01fa\f\5\2\2\u01f6\u01f7\7\36\2\2\u01f7"+
+		"\u01fb\b!\1\2\u01f8\u01f9\7\35\2\2\u01f9\u01fb\b!\1\2\u01fa\u01f6\3\2"+
+		"\2\2\u01fa\u01f8\3\2\2\2\u01fb\u01fc\3\2\2\2\u01fc\u01fd\5@!\6\u01fd\u01fe"+
+		"\b!\1\2\u01fe\u020a\3\2\2\2\u01ff\u0200\f\4\2\2\u0200\u0201\7$\2\2\u0201"+
+		"\u0202\5@!\5\u0202\u0203\b!\1\2\u0203\u020a\3\2\2\2\u0204\u0205\f\3\2"+
+		"\2\u0205\u0206\7%\2\2\u0206\u0207\5@!\4\u0207\u0208\b!\1\2\u0208\u020a"+
+		"\3\2\2\2\u0209\u01d5\3\2\2\2\u0209\u01e1\3\2\2\2\u0209\u01eb\3\2\2\2\u0209"+
+		"\u01f5\3\2\2\2\u0209\u01ff\3\2\2\2\u0209\u0204\3\2\2\2\u020a\u020d\3\2"+
+		"\2\2\u020b\u0209\3\2\2\2\u020b\u020c\3\2\2\2\u020cA\3\2\2\2\u020d\u020b"+
+		"\3\2\2\2\u020e\u020f\5D#\2\u020f\u0214\b\"\1\2\u0210\u0211\7(\2\2\u0211"+
+		"\u0215\b\"\1\2\u0212\u0213\7)\2\2\u0213\u0215\b\"\1\2\u0214\u0210\3\2"+
+		"\2\2\u0214\u0212\3\2\2\2\u0214\u0215\3\2\2\2\u0215C\3\2\2\2\u0216\u0217"+
+		"\5F$\2\u0217\u022a\b#\1\2\u0218\u0219\7*\2\2\u0219\u021a\5\64\33\2\u021a"+
+		"\u021b\b#\1\2\u021b\u021c\7+\2\2\u021c\u0229\3\2\2\2\u021d\u021e\7\62"+
+		"\2\2\u021e\u021f\5P)\2\u021f\u0220\3\2\2\2\u0220\u0221\b#\1\2\u0221\u0229"+
+		"\3\2\2\2\u0222\u0223\7,\2\2\u0223\u0224\5> \2\u0224\u0225\7-\2\2\u0225"+
+		"\u0226\3\2\2\2\u0226\u0227\b#\1\2\u0227\u0229\3\2\2\2\u0228\u0218\3\2"+
+		"\2\2\u0228\u021d\3\2\2\2\u0228\u0222\3\2\2\2\u0229\u022c\3\2\2\2\u022a"+
+		"\u0228\3\2\2\2\u022a\u022b\3\2\2\2\u022bE\3\2\2\2\u022c\u022a\3\2\2\2"+
+		"\u022d\u022e\7\31\2\2\u022e\u023e\b$\1\2\u022f\u0230\5H%\2\u0230\u0231"+
+		"\b$\1\2\u0231\u023e\3\2\2\2\u0232\u0233\5J&\2\u0233\u0234\b$\1\2\u0234"+
+		"\u023e\3\2\2\2\u0235\u0236\5P)\2\u0236\u0237\b$\1\2\u0237\u023e\3\2\2"+
+		"\2\u0238\u0239\7*\2\2\u0239\u023a\5> \2\u023a\u023b\7+\2\2\u023b\u023c"+
+		"\b$\1\2\u023c\u023e\3\2\2\2\u023d\u022d\3\2\2\2\u023d\u022f\3\2\2\2\u023d"+
+		"\u0232\3\2\2\2\u023d\u0235\3\2\2\2\u023d\u0238\3\2\2\2\u023eG\3\2\2\2"+
+		"\u023f\u0240\7\b\2\2\u0240\u0241\5\24\13\2\u0241\u0242\7*\2\2\u0242\u0243"+
+		"\5\64\33\2\u0243\u0244\7+\2\2\u0244\u0245\b%\1\2\u0245I\3\2\2\2\u0246"+
+		"\u0247\5L\'\2\u0247\u0248\b&\1\2\u0248\u0253\3\2\2\2\u0249\u024a\7\67"+
+		"\2\2\u024a\u0253\b&\1\2\u024b\u024c\7\65\2\2\u024c\u0253\b&\1\2\u024d"+
+		"\u024e\7\25\2\2\u024e\u0253\b&\1\2\u024f\u0250\5N(\2\u0250\u0251\b&\1"+
+		"\2\u0251\u0253\3\2\2\2\u0252\u0246\3\2\2\2\u0252\u0249\3\2\2\2\u0252\u024b"+
+		"\3\2\2\2\u0252\u024d\3\2\2\2\u0252\u024f\3\2\2\2\u0253K\3\2\2\2\u0254"+
+		"\u0255\7\27\2\2\u0255\u0259\b\'\1\2\u0256\u0257\7\30\2\2\u0257\u0259\b"+
+		"\'\1\2\u0258\u0254\3\2\2\2\u0258\u0256\3\2\2\2\u0259M\3\2\2\2\u025a\u025b"+
+		"\7,\2\2\u025b\u025c\5\64\33\2\u025c\u025d\b(\1\2\u025d\u025e\7-\2\2\u025e"+
+		"O\3\2\2\2\u025f\u0260\7\66\2\2\u0260\u0261\b)\1\2\u0261Q\3\2\2\2/\\fo"+
+		"q|~\u0081\u0091\u00b3\u00b6\u00c9\u00d8\u00e5\u00ee\u00f8\u0100\u010d"+
+		"\u0116\u011e\u0126\u0144\u014d\u0167\u017f\u0182\u0188\u0192\u0198\u019e"+
+		"\u01b8\u01c0\u01cb\u01d3\u01dc\u01e6\u01f0\u01fa\u0209\u020b\u0214\u0228"+
+		"\u022a\u023d\u0252\u0258";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -219,42 +219,6 @@ public interface SophiaVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitOrExpression(SophiaParser.OrExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#andExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAndExpression(SophiaParser.AndExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitEqualityExpression(SophiaParser.EqualityExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitRelationalExpression(SophiaParser.RelationalExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAdditiveExpression(SophiaParser.AdditiveExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitMultiplicativeExpression(SophiaParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SophiaParser#preUnaryExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitPreUnaryExpression(SophiaParser.PreUnaryExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SophiaParser#postUnaryExpression}.
 	 * @param ctx the parse tree